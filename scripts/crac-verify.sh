@@ -0,0 +1,102 @@
+#!/bin/bash
+#
+# Verifies the CRaC checkpoint/restore path against a local PostgreSQL.
+# Needs a CRaC-enabled JDK (for example Azul Zulu or Liberica "CRaC" builds) in JAVA_HOME.
+#
+#   ./start-db.sh
+#   mvn -DskipTests package
+#   JAVA_HOME=/path/to/crac-jdk scripts/crac-verify.sh
+#
+# 1. Cold start: time until /actuator/health/readiness is UP (includes warm-up)
+# 2. Checkpoint run: starts with -XX:CRaCCheckpointTo and checkpoint-after-warmup=true;
+#    the JVM writes the image and exits once warm-up has finished
+# 3. Restore: time until ready again, then smoke requests that need fresh database
+#    connections, Flyway re-validation and a running review-ingestion writer
+# Exits non-zero if any step fails.
+
+set -uo pipefail
+
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:$PORT"
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="$TARGET_DIR/CourseManagement-0.0.1-SNAPSHOT.jar"
+CHECKPOINT_DIR="$TARGET_DIR/crac-checkpoint"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+APP_ARGS=(--server.port="$PORT" --course-management.review-ingestion.enabled=true
+          --course-management.review-ingestion.journal-dir="$TARGET_DIR/crac-journal")
+RUN_ID="$(date +%s)"
+
+fail() {
+    echo "❌ $1"
+    [ -n "${PID:-}" ] && kill "$PID" 2> /dev/null
+    exit 1
+}
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+# Waits for readiness and prints the elapsed milliseconds since $1
+wait_ready() {
+    for _ in $(seq 1 1200); do
+        if curl -sf "$BASE_URL/actuator/health/readiness" > /dev/null; then
+            echo $(( $(now_ms) - $1 ))
+            return 0
+        fi
+        kill -0 "$PID" 2> /dev/null || return 1
+        sleep 0.05
+    done
+    return 1
+}
+
+[ -e "$JAR" ] || fail "Missing $JAR; run mvn -DskipTests package first"
+"$JAVA" -XX:CRaCCheckpointTo="$TARGET_DIR/crac-probe" -version > /dev/null 2>&1 \
+    || fail "$JAVA does not support CRaC; point JAVA_HOME at a CRaC-enabled JDK"
+rm -rf "$CHECKPOINT_DIR" "$TARGET_DIR/crac-probe"
+
+echo "🚀 Cold start"
+START=$(now_ms)
+"$JAVA" -jar "$JAR" "${APP_ARGS[@]}" > "$TARGET_DIR/crac-cold.log" 2>&1 &
+PID=$!
+COLD=$(wait_ready "$START") || fail "Cold start did not become ready; see $TARGET_DIR/crac-cold.log"
+kill "$PID"; wait "$PID" 2> /dev/null
+
+echo "📸 Checkpoint after warm-up"
+"$JAVA" -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" -jar "$JAR" "${APP_ARGS[@]}" \
+    --course-management.crac.checkpoint-after-warmup=true > "$TARGET_DIR/crac-checkpoint.log" 2>&1 &
+PID=$!
+wait "$PID" 2> /dev/null
+[ -n "$(ls -A "$CHECKPOINT_DIR" 2> /dev/null)" ] \
+    || fail "No checkpoint image written; see $TARGET_DIR/crac-checkpoint.log"
+
+echo "♻️  Restore"
+START=$(now_ms)
+"$JAVA" -XX:CRaCRestoreFrom="$CHECKPOINT_DIR" > "$TARGET_DIR/crac-restore.log" 2>&1 &
+PID=$!
+RESTORED=$(wait_ready "$START") || fail "Restored instance did not become ready; see $TARGET_DIR/crac-restore.log"
+
+echo "🧪 Smoke tests after restore"
+json=(-H "Content-Type: application/json")
+INSTRUCTOR=$(curl -sf "${json[@]}" -X POST "$BASE_URL/api/v1/instructors" \
+    -d "{\"firstName\":\"Cora\",\"lastName\":\"Restore\",\"email\":\"cora.$RUN_ID@example.com\"}" \
+    | grep -o '"id":"[^"]*"' | head -1 | cut -d'"' -f4) || fail "Create instructor failed after restore"
+COURSE=$(curl -sf "${json[@]}" -X POST "$BASE_URL/api/v1/courses" \
+    -d "{\"title\":\"Checkpoints $RUN_ID\",\"instructorId\":\"$INSTRUCTOR\"}" \
+    | grep -o '"id":"[^"]*"' | head -1 | cut -d'"' -f4) || fail "Create course failed after restore"
+STUDENT=$(curl -sf "${json[@]}" -X POST "$BASE_URL/api/v1/students" \
+    -d "{\"firstName\":\"Rex\",\"lastName\":\"Store\",\"email\":\"rex.$RUN_ID@example.com\"}" \
+    | grep -o '"id":"[^"]*"' | head -1 | cut -d'"' -f4) || fail "Create student failed after restore"
+curl -sf "${json[@]}" -X POST "$BASE_URL/api/v1/courses/$COURSE/reviews/async" \
+    -d "{\"comment\":\"Restored warm\",\"studentId\":\"$STUDENT\"}" > /dev/null \
+    || fail "Async review ingestion failed after restore"
+curl -sf "$BASE_URL/api/v1/courses" > /dev/null || fail "List courses failed after restore"
+curl -sf "$BASE_URL/actuator/health" | grep -q '"phase":"COMPLETED"' \
+    || fail "Restored instance does not report a completed warm-up"
+
+kill "$PID"; wait "$PID" 2> /dev/null
+
+echo ""
+echo "Time to readiness"
+echo "  cold start (with warm-up):  ${COLD} ms"
+echo "  restore from checkpoint:    ${RESTORED} ms"
+echo "✅ Checkpoint/restore verified"
@@ -0,0 +1,24 @@
+#!/bin/bash
+#
+# Loads a synthetic scale-test dataset into the configured PostgreSQL database and exits.
+# Settings are in src/main/resources/application-datagen.properties; override any of them as
+# arguments, for example:
+#
+#   mvn -DskipTests package
+#   scripts/datagen.sh --course-management.datagen.students=5000000 \
+#       --course-management.datagen.streams=8 --course-management.datagen.truncate=true
+#
+# The same seed, sizes and end date always produce the same rows.
+
+set -euo pipefail
+
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="$TARGET_DIR/CourseManagement-0.0.1-SNAPSHOT.jar"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [[ ! -f "$JAR" ]]; then
+    echo "❌ $JAR not found; build it with: mvn -DskipTests package"
+    exit 1
+fi
+
+exec "$JAVA" ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active=datagen "$@"
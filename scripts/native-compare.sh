@@ -0,0 +1,138 @@
+#!/bin/bash
+#
+# Smoke-tests the native executable and the JVM jar against a local PostgreSQL and compares
+# startup time, resident memory and throughput.
+#
+#   ./start-db.sh
+#   mvn -DskipTests package                         # target/CourseManagement-0.0.1-SNAPSHOT.jar
+#   mvn -Pnative -DskipTests native:compile         # target/course-management
+#   scripts/native-compare.sh [requests] [concurrency]
+#
+# Startup time is measured until /actuator/health/readiness reports UP (warm-up disabled).
+# Throughput is measured with concurrent curl requests against GET /api/v1/courses.
+# Exits non-zero if any smoke check fails.
+
+set -uo pipefail
+
+REQUESTS="${1:-2000}"
+CONCURRENCY="${2:-16}"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:$PORT"
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="$TARGET_DIR/CourseManagement-0.0.1-SNAPSHOT.jar"
+NATIVE="$TARGET_DIR/course-management"
+APP_ARGS=(--server.port="$PORT" --course-management.warmup.enabled=false --logging.level.root=warn)
+RUN_ID="$(date +%s)"
+FAILURES=0
+
+for artifact in "$JAR" "$NATIVE"; do
+    if [ ! -e "$artifact" ]; then
+        echo "❌ Missing $artifact. Build it first (see the header of this script)."
+        exit 1
+    fi
+done
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+rss_mb() {
+    echo $(($(ps -o rss= -p "$1") / 1024))
+}
+
+# check <description> <expected status> <curl args...>; prints the response body
+check() {
+    local description="$1" expected="$2"
+    shift 2
+    local response status
+    response=$(curl -s -w '\n%{http_code}' "$@")
+    status="${response##*$'\n'}"
+    if [ "$status" != "$expected" ]; then
+        echo "  ❌ $description: expected $expected, got $status" >&2
+        FAILURES=$((FAILURES + 1))
+    else
+        echo "  ✅ $description" >&2
+    fi
+    echo "${response%$'\n'*}"
+}
+
+first_id() {
+    grep -o '"id":"[^"]*"' | head -1 | cut -d'"' -f4
+}
+
+smoke() {
+    local mode="$1" json=(-H "Content-Type: application/json")
+    local instructor course student
+    instructor=$(check "create instructor" 201 "${json[@]}" -X POST "$BASE_URL/api/v1/instructors" \
+        -d "{\"firstName\":\"Ada\",\"lastName\":\"Native\",\"email\":\"ada.$mode.$RUN_ID@example.com\",
+             \"instructorDetails\":{\"youtubeChannel\":\"https://youtube.com/@ada\",\"hobby\":\"Compilers\"}}" | first_id)
+    course=$(check "create course" 201 "${json[@]}" -X POST "$BASE_URL/api/v1/courses" \
+        -d "{\"title\":\"Native Images $mode $RUN_ID\",\"instructorId\":\"$instructor\"}" | first_id)
+    student=$(check "create student" 201 "${json[@]}" -X POST "$BASE_URL/api/v1/students" \
+        -d "{\"firstName\":\"Grace\",\"lastName\":\"Smoke\",\"email\":\"grace.$mode.$RUN_ID@example.com\"}" | first_id)
+    check "enroll student" 200 "${json[@]}" -X POST "$BASE_URL/api/v1/students/$student/enroll" \
+        -d "{\"courseId\":\"$course\"}" > /dev/null
+    check "create review" 201 "${json[@]}" -X POST "$BASE_URL/api/v1/courses/$course/reviews" \
+        -d "{\"comment\":\"Starts fast\",\"studentId\":\"$student\"}" > /dev/null
+    check "get course" 200 "$BASE_URL/api/v1/courses/$course" > /dev/null
+    check "list courses" 200 "$BASE_URL/api/v1/courses" > /dev/null
+    check "course students" 200 "$BASE_URL/api/v1/courses/$course/students" > /dev/null
+    check "graphql query" 200 "${json[@]}" -X POST "$BASE_URL/graphql" \
+        -d "{\"query\":\"{ course(id: \\\"$course\\\") { title reviews { comment } } }\"}" > /dev/null
+    check "bulk import (COPY)" 200 -H "Content-Type: text/csv" -X POST "$BASE_URL/api/v1/import/students" \
+        --data-binary $'firstName,lastName,email\nLin,Copy,lin.'"$mode.$RUN_ID"$'@example.com\n' > /dev/null
+    check "openapi docs" 200 "$BASE_URL/api-docs" > /dev/null
+    check "not found mapping" 404 "$BASE_URL/api/v1/courses/00000000-0000-0000-0000-000000000000" > /dev/null
+}
+
+run() {
+    local mode="$1"
+    shift
+    echo "🚀 Starting $mode build"
+    local start pid ready=""
+    start=$(now_ms)
+    "$@" "${APP_ARGS[@]}" > "$TARGET_DIR/native-compare-$mode.log" 2>&1 &
+    pid=$!
+    for _ in $(seq 1 600); do
+        if curl -sf "$BASE_URL/actuator/health/readiness" > /dev/null; then
+            ready=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.1
+    done
+    if [ -z "$ready" ]; then
+        echo "❌ $mode build did not become ready; see $TARGET_DIR/native-compare-$mode.log"
+        kill "$pid" 2> /dev/null
+        exit 1
+    fi
+    local idle_rss
+    idle_rss=$(rss_mb "$pid")
+
+    echo "🧪 Smoke tests ($mode)"
+    smoke "$mode"
+
+    echo "⏱️  Throughput ($REQUESTS requests, concurrency $CONCURRENCY)"
+    local load_start elapsed
+    load_start=$(now_ms)
+    seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null "$BASE_URL/api/v1/courses"
+    elapsed=$(( $(now_ms) - load_start ))
+
+    RESULTS+=("$(printf '%-8s %10s ms %10s MB %10s MB %10s req/s' "$mode" "$ready" "$idle_rss" \
+        "$(rss_mb "$pid")" "$((REQUESTS * 1000 / (elapsed > 0 ? elapsed : 1)))")")
+    kill "$pid"
+    wait "$pid" 2> /dev/null
+}
+
+RESULTS=()
+run jvm java -jar "$JAR"
+run native "$NATIVE"
+
+echo ""
+printf '%-8s %13s %13s %13s %16s\n' "build" "startup" "idle RSS" "loaded RSS" "throughput"
+printf '%s\n' "${RESULTS[@]}"
+
+if [ "$FAILURES" -gt 0 ]; then
+    echo "❌ $FAILURES smoke checks failed"
+    exit 1
+fi
+echo "✅ All smoke checks passed"
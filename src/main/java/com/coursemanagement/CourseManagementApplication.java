@@ -1,7 +1,10 @@
 package com.coursemanagement;
 
+import com.coursemanagement.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -21,6 +24,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  */
 @SpringBootApplication(scanBasePackages = "com.coursemanagement")
 @EnableTransactionManagement
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class CourseManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,131 @@
+package com.coursemanagement.concurrency;
+
+import com.coursemanagement.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limiter in front of the API.
+ * Requests to {@code /api/**} and {@code /graphql} are classified by {@link RequestPriorityClassifier}
+ * and admitted only while the number in flight is below their priority's share of the adaptive
+ * limit. Rejected requests get an immediate 503 with {@code Retry-After} instead of queueing for a
+ * database connection; enrollment writes and single-entity reads keep capacity the longest.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimit limit;
+    private final RequestPriorityClassifier classifier = new RequestPriorityClassifier();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int retryAfterSeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  @Value("${course-management.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${course-management.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${course-management.concurrency-limit.min-limit:5}") int minLimit,
+                                  @Value("${course-management.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${course-management.concurrency-limit.window-ms:100}") long windowMillis,
+                                  @Value("${course-management.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this(objectMapper, enabled, new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, windowMillis),
+                retryAfterSeconds);
+    }
+
+    ConcurrencyLimitFilter(ObjectMapper objectMapper, boolean enabled, GradientConcurrencyLimit limit,
+                           int retryAfterSeconds) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") && !path.equals("/graphql");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestPriority priority = classifier.classify(request);
+        int current = tryAcquire(priority);
+        if (current < 0) {
+            reject(request, response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            inFlight.decrementAndGet();
+            // Long-lived async responses (streams) say nothing about service latency
+            if (!request.isAsyncStarted()) {
+                limit.onSample(System.nanoTime() - start, current, dropped);
+            }
+        }
+    }
+
+    /**
+     * Take a slot if the priority's share of the limit allows it.
+     *
+     * @return requests in flight including this one, or -1 if rejected
+     */
+    private int tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) Math.ceil(limit.getLimit() * priority.getShare()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority)
+            throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_UNAVAILABLE",
+                String.format("Server is at capacity for %s priority requests, retry later", priority),
+                request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
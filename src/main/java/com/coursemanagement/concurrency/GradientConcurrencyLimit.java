@@ -0,0 +1,116 @@
+package com.coursemanagement.concurrency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency (a gradient algorithm in the style of
+ * Netflix's Gradient2).
+ * Request latencies are averaged over short windows. A slow exponential average of those
+ * window averages is the baseline; when recent latency rises above the tolerated multiple of the
+ * baseline the limit shrinks in proportion, otherwise it grows by about its square root. Dropped
+ * requests (rejected downstream or failed) cut the limit multiplicatively. The limit only grows
+ * while at least half of it is actually in use.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final Logger log = LoggerFactory.getLogger(GradientConcurrencyLimit.class);
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    // Baseline EMA over roughly 600 windows
+    private static final double LONG_RTT_ALPHA = 2.0 / 601;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowMillis) {
+        this(initialLimit, minLimit, maxLimit, windowMillis, System::nanoTime);
+    }
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowMillis, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowMillis * 1_000_000;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Record a completed request.
+     *
+     * @param rttNanos  time the request spent inside the limiter
+     * @param inFlight  requests in flight when it started, including itself
+     * @param dropped   whether the request was rejected downstream or failed
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        windowDropped |= dropped;
+
+        long now = nanoClock.getAsLong();
+        if (now - windowStart < windowNanos || (windowSamples < MIN_WINDOW_SAMPLES && !windowDropped)) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        update(shortRtt);
+
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void update(double shortRtt) {
+        double previous = estimatedLimit;
+        if (windowDropped) {
+            estimatedLimit *= BACKOFF_RATIO;
+        } else {
+            longRtt = longRtt == 0 ? shortRtt : longRtt + LONG_RTT_ALPHA * (shortRtt - longRtt);
+            // Let the baseline follow quickly when latency drops well below it
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            if (windowMaxInFlight < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+        if ((int) previous != limit) {
+            log.debug("Concurrency limit {} -> {} (window latency {} ms)", (int) previous, limit,
+                    String.format("%.1f", shortRtt / 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.coursemanagement.concurrency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing for service reads.
+ * Concurrent callers asking for the same key share one in-flight computation: the first caller
+ * runs the loader in a read-only transaction, later callers wait for its result (or exception)
+ * without opening a transaction of their own, so a hot key costs one query per node at a time.
+ * Nothing is cached once the computation finishes. Waiting callers that exceed the timeout get a
+ * {@link RejectedExecutionException} (503). Callers already inside a transaction bypass
+ * coalescing so they keep seeing their own uncommitted changes.
+ * <p>
+ * Results are shared between callers and must not be modified.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionOperations readOnlyTransactions;
+    private final boolean enabled;
+    private final long timeoutMillis;
+
+    @Autowired
+    public RequestCoalescer(PlatformTransactionManager transactionManager,
+                            @Value("${course-management.coalescing.enabled:true}") boolean enabled,
+                            @Value("${course-management.coalescing.timeout-ms:5000}") long timeoutMillis) {
+        this(readOnly(transactionManager), enabled, timeoutMillis);
+    }
+
+    public RequestCoalescer(TransactionOperations readOnlyTransactions, boolean enabled, long timeoutMillis) {
+        this.readOnlyTransactions = readOnlyTransactions;
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * Run {@code loader} in a read-only transaction, sharing the result with concurrent callers
+     * of the same key.
+     *
+     * @param key    identifies the read, including the kind of result (e.g. {@code "course:<id>"})
+     * @param loader computes the result; its exceptions are rethrown to every waiting caller
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Supplier<T> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readOnlyTransactions.execute(status -> loader.get());
+        }
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return (T) await(key, existing);
+        }
+
+        try {
+            T result = readOnlyTransactions.execute(status -> loader.get());
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Number of keys with a computation currently in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(String key, CompletableFuture<Object> call) {
+        try {
+            return call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Coalesced read failed for " + key, cause);
+        } catch (TimeoutException e) {
+            throw new RejectedExecutionException(String.format(
+                    "Timed out after %d ms waiting for in-flight read of %s, retry later", timeoutMillis, key));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for in-flight read of " + key);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.coursemanagement.concurrency;
+
+/**
+ * Admission priority of a request. Each priority may only use its share of the current
+ * concurrency limit, so as the limit shrinks under load lower priorities are shed first
+ * and the remaining capacity is kept for more important work.
+ */
+public enum RequestPriority {
+
+    /** Enrollment writes. */
+    CRITICAL(1.0),
+
+    /** Other writes and single-entity reads. */
+    HIGH(0.9),
+
+    /** Counts, nested collections and multi-gets. */
+    NORMAL(0.75),
+
+    /** Full listings, searches, joined listings, bulk import and GraphQL. */
+    LOW(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    /**
+     * Fraction of the concurrency limit requests of this priority may occupy.
+     */
+    public double getShare() {
+        return share;
+    }
+}
@@ -0,0 +1,70 @@
+package com.coursemanagement.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Maps a request to its {@link RequestPriority} from the HTTP method and path.
+ */
+public class RequestPriorityClassifier {
+
+    private static final Pattern UUID_SEGMENT = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private static final List<String> ENROLLMENT_WRITES = List.of(
+            "/api/v1/students/*/enroll",
+            "/api/v1/students/*/unenroll");
+
+    private static final List<String> EXPENSIVE = List.of(
+            "/api/v1/import/**",
+            "/graphql",
+            "/api/v1/**/with-reviews",
+            "/api/v1/**/with-details",
+            "/api/v1/**/without-details",
+            "/api/v1/**/no-courses",
+            "/api/v1/**/orphaned",
+            "/api/v1/**/search",
+            "/api/v1/**/search/**");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestPriority classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+
+        if (!read && matchesAny(ENROLLMENT_WRITES, path)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (matchesAny(EXPENSIVE, path)) {
+            return RequestPriority.LOW;
+        }
+        if (!read) {
+            return RequestPriority.HIGH;
+        }
+
+        String[] segments = path.split("/");
+        // segments: "", "api", "v1", resource, id, ...
+        if (segments.length == 4) {
+            // Full collection listing, unless it is a multi-get by IDs
+            return request.getParameter("ids") != null ? RequestPriority.NORMAL : RequestPriority.LOW;
+        }
+        if (segments.length >= 5 && UUID_SEGMENT.matcher(segments[4]).matches()
+                && (segments.length == 5 || (segments.length == 6 && "exists".equals(segments[5])))) {
+            return RequestPriority.HIGH;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
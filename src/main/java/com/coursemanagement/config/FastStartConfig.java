@@ -0,0 +1,63 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.datasource.PoolSizeController;
+import com.coursemanagement.deletion.InstructorDeletionWorker;
+import com.coursemanagement.feed.LatestReviewsFeed;
+import com.coursemanagement.outbox.OutboxRelay;
+import com.coursemanagement.partition.ReviewPartitionMaintainer;
+import com.coursemanagement.roster.InstructorRosterRefresher;
+import com.coursemanagement.service.ReviewIngestionService;
+import com.coursemanagement.warmup.StartupWarmup;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Locale;
+
+/**
+ * Configuration for the "faststart" profile (see {@code application-faststart.properties}).
+ * The profile turns on lazy bean initialization; the beans excluded here still start eagerly
+ * because they check the schema or do background work that nothing else would trigger.
+ * Flyway can be limited to validating the schema (migrations are applied by a separate job)
+ * or skipped entirely for the class-data-sharing training run, which must not need a database.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FastStartConfig.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FlywayMigrationInitializer.class, OutboxRelay.class, InstructorDeletionWorker.class,
+                ReviewIngestionService.class, StartupWarmup.class, ReviewPartitionMaintainer.class,
+                PoolSizeController.class, InstructorRosterRefresher.class, LatestReviewsFeed.class);
+    }
+
+    /**
+     * Flyway behaviour at startup: {@code migrate}, {@code validate} or {@code skip}.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${course-management.faststart.flyway-mode:validate}") String mode) {
+        return flyway -> runFlyway(flyway, mode.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static void runFlyway(Flyway flyway, String mode) {
+        switch (mode) {
+            case "migrate" -> flyway.migrate();
+            case "validate" -> flyway.validate();
+            case "skip" -> log.info("Skipping Flyway at startup");
+            default -> throw new IllegalArgumentException(String.format(
+                    "Unsupported Flyway mode '%s'. Allowed modes: migrate, validate, skip", mode));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.coursemanagement.config;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL configuration.
+ * Rejects queries that are too deep or too complex before any data is fetched,
+ * protecting the connection pool from expensive nested queries.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Value("${course-management.graphql.max-query-depth:8}")
+    private int maxQueryDepth;
+
+    @Value("${course-management.graphql.max-query-complexity:200}")
+    private int maxQueryComplexity;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(maxQueryDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        return new MaxQueryComplexityInstrumentation(maxQueryComplexity);
+    }
+}
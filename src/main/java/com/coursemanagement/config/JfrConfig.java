@@ -0,0 +1,51 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.jfr.JfrEventIntegrator;
+import com.coursemanagement.jfr.JfrProperties;
+import com.coursemanagement.jfr.ServiceCallRecorder;
+import com.coursemanagement.metrics.ServiceInterfacePointcut;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * JFR events for service calls, entity loads and lazy initializations (see
+ * {@link ServiceCallRecorder} and {@link JfrEventIntegrator}), recorded alongside the JVM's own
+ * events by any flight recording that enables them: one started at launch with
+ * {@code -XX:StartFlightRecording}, or one started through
+ * {@link com.coursemanagement.jfr.JfrRecordingEndpoint}.
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    private static final String EVENTS_ENABLED = JfrProperties.PREFIX + ".events.enabled";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = EVENTS_ENABLED, havingValue = "true", matchIfMissing = true)
+    public static Advisor serviceCallRecordingAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ServiceInterfacePointcut(),
+                new ServiceCallRecorder());
+        // Inside the service timer and span, outside the transaction
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return advisor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = EVENTS_ENABLED, havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer jfrEventIntegratorCustomizer() {
+        IntegratorProvider integrators = () -> List.of(new JfrEventIntegrator());
+        return properties -> properties.put("hibernate.integrator_provider", integrators);
+    }
+}
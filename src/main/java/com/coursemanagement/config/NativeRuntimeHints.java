@@ -0,0 +1,62 @@
+package com.coursemanagement.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for the GraalVM native image (see the "native" Maven profile).
+ * Spring AOT already covers controller request/response types, JPA managed types, springdoc
+ * and the GraphQL schema; this registers what it cannot see: every entity, DTO and GraphQL node
+ * (including Lombok-generated accessors and nested types reached only through Jackson or
+ * Hibernate), records that are serialized directly with the {@code ObjectMapper}, and the
+ * Flyway migration scripts.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> BINDING_PACKAGES = List.of(
+            "com.coursemanagement.dto",
+            "com.coursemanagement.entity",
+            "com.coursemanagement.graphql");
+
+    static final List<String> BINDING_TYPES = List.of(
+            "com.coursemanagement.exception.ErrorResponse",
+            "com.coursemanagement.outbox.DomainChangeEvent",
+            "com.coursemanagement.service.impl.ReviewJournal$Entry");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+
+        for (String basePackage : BINDING_PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                register(hints, candidate.getBeanClassName(), classLoader);
+            }
+        }
+        for (String typeName : BINDING_TYPES) {
+            register(hints, typeName, classLoader);
+        }
+
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+
+    private void register(RuntimeHints hints, String className, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ClassUtils.resolveClassName(className, classLoader));
+    }
+}
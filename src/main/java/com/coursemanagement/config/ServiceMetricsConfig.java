@@ -0,0 +1,32 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.metrics.ServiceInterfacePointcut;
+import com.coursemanagement.metrics.ServiceTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Timers for every method of the {@code com.coursemanagement.service} interfaces, exported with
+ * the other metrics at {@code /actuator/prometheus}. The advice runs outside the transaction
+ * interceptor, so the time includes opening and committing the transaction.
+ */
+@Configuration
+public class ServiceMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ServiceInterfacePointcut(),
+                new ServiceTimingInterceptor(meterRegistry));
+        // Just inside the workload advice, which must be first
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,54 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.datagen.SyntheticDataGenerator;
+import com.coursemanagement.datagen.SyntheticDataProperties;
+import com.coursemanagement.datagen.SyntheticDataReport;
+import com.coursemanagement.repository.ReviewPartitionRepository;
+import com.coursemanagement.repository.SyntheticDataRepository;
+import com.coursemanagement.service.InstructorRosterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Clock;
+
+/**
+ * Synthetic data generation, active with the {@code datagen} profile (application-datagen.properties).
+ * The application loads the dataset on startup and, unless {@code exit-when-done} is false, exits.
+ * Run it through scripts/datagen.sh.
+ */
+@Configuration
+@Profile("datagen")
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticDataConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataConfig.class);
+
+    @Bean
+    public SyntheticDataGenerator syntheticDataGenerator(SyntheticDataRepository dataRepository,
+                                                         ReviewPartitionRepository partitionRepository,
+                                                         InstructorRosterService rosterService,
+                                                         SyntheticDataProperties properties) {
+        return new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService, properties,
+                Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public ApplicationRunner syntheticDataRunner(SyntheticDataGenerator generator, SyntheticDataProperties properties,
+                                                 ConfigurableApplicationContext context) {
+        return args -> {
+            SyntheticDataReport report = generator.generate();
+            log.info("Generated {} rows with seed {} in {} ms: {}", report.totalRows(), report.seed(),
+                    report.durationMillis(), report.rows());
+            if (properties.isExitWhenDone()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.tracing.FileSpanExporter;
+import com.coursemanagement.tracing.JdbcObservationPredicate;
+import com.coursemanagement.tracing.LayerTracingInterceptor;
+import com.coursemanagement.tracing.TracedLayer;
+import com.coursemanagement.tracing.TracedLayerPointcut;
+import com.coursemanagement.tracing.TracingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.contextpropagation.ObservationAwareSpanThreadLocalAccessor;
+import net.ttddyy.observation.tracing.ConnectionTracingObservationHandler;
+import net.ttddyy.observation.tracing.QueryTracingObservationHandler;
+import net.ttddyy.observation.tracing.ResultSetTracingObservationHandler;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.nio.file.Path;
+
+/**
+ * Spans for each layer of a request. The HTTP server span comes from Spring Boot; inside it
+ * every controller, service and repository method gets a span (see {@link TracedLayer}), and
+ * every connection, statement and result set of the workload pools gets one from the JDBC
+ * observations (see {@link com.coursemanagement.tracing.JdbcObservationDecorator}). Spans are
+ * exported over OTLP when {@code management.otlp.tracing.endpoint} is set, and to a local file
+ * when {@code course-management.tracing.file-exporter.enabled} is.
+ * <p>
+ * Executors that run work for a request hand the trace context to their threads with
+ * {@link io.micrometer.context.ContextExecutorService}; the span accessor registered here lets
+ * that carry the spans started by the layer advice as well as the observations.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    private static final String LAYERS_ENABLED = TracingProperties.PREFIX + ".layers.enabled";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = LAYERS_ENABLED, havingValue = "true", matchIfMissing = true)
+    public static Advisor controllerTracingAdvisor(ObjectProvider<Tracer> tracer) {
+        return layerAdvisor(TracedLayer.CONTROLLER, tracer);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = LAYERS_ENABLED, havingValue = "true", matchIfMissing = true)
+    public static Advisor serviceTracingAdvisor(ObjectProvider<Tracer> tracer) {
+        return layerAdvisor(TracedLayer.SERVICE, tracer);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = LAYERS_ENABLED, havingValue = "true", matchIfMissing = true)
+    public static Advisor repositoryTracingAdvisor(ObjectProvider<Tracer> tracer) {
+        return layerAdvisor(TracedLayer.REPOSITORY, tracer);
+    }
+
+    private static Advisor layerAdvisor(TracedLayer layer, ObjectProvider<Tracer> tracer) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new TracedLayerPointcut(layer),
+                new LayerTracingInterceptor(layer, tracer));
+        // Inside the workload advice and the service timer, outside the transaction
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+
+    @Bean
+    public JdbcObservationPredicate jdbcObservationPredicate(ObjectProvider<Tracer> tracer) {
+        return new JdbcObservationPredicate(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    // The JDBC handlers must come before Spring Boot's sender handler, which also accepts their contexts
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnEnabledTracing
+    public ConnectionTracingObservationHandler jdbcConnectionTracingObservationHandler(Tracer tracer) {
+        return new ConnectionTracingObservationHandler(tracer);
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnEnabledTracing
+    public QueryTracingObservationHandler jdbcQueryTracingObservationHandler(Tracer tracer) {
+        return new QueryTracingObservationHandler(tracer);
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnEnabledTracing
+    public ResultSetTracingObservationHandler jdbcResultSetTracingObservationHandler(Tracer tracer) {
+        return new ResultSetTracingObservationHandler(tracer);
+    }
+
+    @Bean
+    @ConditionalOnEnabledTracing
+    public ObservationAwareSpanThreadLocalAccessor spanThreadLocalAccessor(Tracer tracer) {
+        ObservationAwareSpanThreadLocalAccessor accessor = new ObservationAwareSpanThreadLocalAccessor(tracer);
+        ContextRegistry.getInstance().registerThreadLocalAccessor(accessor);
+        return accessor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TracingProperties.PREFIX + ".file-exporter.enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(ObjectMapper objectMapper, TracingProperties properties) {
+        return new FileSpanExporter(objectMapper, Path.of(properties.getFileExporter().getPath()));
+    }
+}
@@ -0,0 +1,155 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.datasource.PoolSizingProperties;
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadDataSourcePostProcessor;
+import com.coursemanagement.datasource.WorkloadInterceptor;
+import com.coursemanagement.datasource.WorkloadRoutingDataSource;
+import com.coursemanagement.datasource.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separate connection pools for OLTP, reporting and bulk work (see {@link WorkloadType}).
+ * {@link Workload} on a bean method or class selects the pool; the advice runs before the
+ * transaction interceptor so the transaction's connection comes from that pool.
+ */
+@Configuration
+@EnableConfigurationProperties(PoolSizingProperties.class)
+public class WorkloadDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadDataSourceConfig.class);
+
+    @Bean
+    public static WorkloadDataSourcePostProcessor workloadDataSourcePostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new WorkloadDataSourcePostProcessor(observationRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor workloadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                .union(new AnnotationMatchingPointcut(null, Workload.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new WorkloadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Hikari metrics for the reporting and bulk pools, tagged with their pool names. The OLTP
+     * pool is the data source bean and gets its metrics from the actuator auto-configuration.
+     */
+    @Bean
+    public MeterBinder workloadPoolMetrics(DataSource dataSource) {
+        return registry -> {
+            for (HikariDataSource pool : workloadPools(dataSource)) {
+                if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                    try {
+                        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                    } catch (IllegalStateException ex) {
+                        log.warn("Could not bind metrics for connection pool {}", pool.getPoolName(), ex);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Migrations run on the bulk pool, away from the OLTP statement timeout.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer workloadFlywayDataSource() {
+        return configuration -> {
+            if (configuration.getDataSource() instanceof WorkloadRoutingDataSource routing) {
+                configuration.dataSource(routing.getPool(WorkloadType.BULK));
+            }
+        };
+    }
+
+    /**
+     * Suspends and resumes the reporting and bulk pools around a CRaC checkpoint, as the
+     * auto-configured lifecycle does for the OLTP pool.
+     */
+    @Bean
+    @ConditionalOnClass(name = "org.crac.Resource")
+    public WorkloadPoolsCheckpointRestoreLifecycle workloadPoolsCheckpointRestoreLifecycle(
+            DataSource dataSource, ConfigurableApplicationContext context) {
+        List<HikariCheckpointRestoreLifecycle> lifecycles = new ArrayList<>();
+        for (HikariDataSource pool : workloadPools(dataSource)) {
+            lifecycles.add(new HikariCheckpointRestoreLifecycle(pool, context));
+        }
+        return new WorkloadPoolsCheckpointRestoreLifecycle(lifecycles);
+    }
+
+    private static List<HikariDataSource> workloadPools(DataSource dataSource) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        if (dataSource instanceof WorkloadRoutingDataSource routing) {
+            for (WorkloadType workload : WorkloadType.values()) {
+                if (workload != WorkloadType.OLTP && routing.getPool(workload) instanceof HikariDataSource pool) {
+                    pools.add(pool);
+                }
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * Only pools that were running at the checkpoint are resumed; the others start lazily on
+     * their first connection as before.
+     */
+    public static class WorkloadPoolsCheckpointRestoreLifecycle implements Lifecycle {
+
+        private final List<HikariCheckpointRestoreLifecycle> lifecycles;
+        private final List<HikariCheckpointRestoreLifecycle> stopped = new ArrayList<>();
+
+        WorkloadPoolsCheckpointRestoreLifecycle(List<HikariCheckpointRestoreLifecycle> lifecycles) {
+            this.lifecycles = lifecycles;
+        }
+
+        @Override
+        public synchronized void start() {
+            stopped.forEach(HikariCheckpointRestoreLifecycle::start);
+            stopped.clear();
+        }
+
+        @Override
+        public synchronized void stop() {
+            for (HikariCheckpointRestoreLifecycle lifecycle : lifecycles) {
+                if (lifecycle.isRunning()) {
+                    lifecycle.stop();
+                    stopped.add(lifecycle);
+                }
+            }
+        }
+
+        @Override
+        public boolean isRunning() {
+            return lifecycles.stream().anyMatch(HikariCheckpointRestoreLifecycle::isRunning);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.coursemanagement.dto.CountResponse;
 import com.coursemanagement.dto.CourseRequest;
 import com.coursemanagement.dto.CourseResponse;
 import com.coursemanagement.dto.DeletionResponse;
+import com.coursemanagement.dto.IdsRequest;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.exception.ErrorResponse;
 import com.coursemanagement.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -74,6 +76,36 @@ public class CourseController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get courses by IDs", description = "Retrieves several courses by ID in one query. " +
+            "Results are returned in request order; missing IDs are marked as not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid UUID format or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<CourseResponse>> getCoursesByIds(
+            @Parameter(description = "Comma-separated course IDs", example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam List<UUID> ids) {
+        
+        MultiGetResponse<CourseResponse> response = courseService.getCoursesByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Look up courses by IDs", description = "Same as GET with ids, for ID lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResponse<CourseResponse>> lookupCoursesByIds(
+            @Valid @RequestBody IdsRequest request) {
+        
+        MultiGetResponse<CourseResponse> response = courseService.getCoursesByIds(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Get all courses", description = "Retrieves a list of all courses")
     @ApiResponse(responseCode = "200", description = "List of courses retrieved successfully")
     @GetMapping
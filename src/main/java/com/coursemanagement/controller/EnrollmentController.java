@@ -3,9 +3,12 @@ package com.coursemanagement.controller;
 import com.coursemanagement.dto.CountResponse;
 import com.coursemanagement.dto.EnrollmentRequest;
 import com.coursemanagement.dto.EnrollmentResponse;
+import com.coursemanagement.dto.InstructorRosterResponse;
+import com.coursemanagement.dto.RosterRefreshResponse;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.dto.UnenrollmentResponse;
 import com.coursemanagement.exception.ErrorResponse;
+import com.coursemanagement.service.InstructorRosterService;
 import com.coursemanagement.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,10 +34,12 @@ import java.util.UUID;
 public class EnrollmentController {
 
     private final StudentService studentService;
+    private final InstructorRosterService instructorRosterService;
 
     @Autowired
-    public EnrollmentController(StudentService studentService) {
+    public EnrollmentController(StudentService studentService, InstructorRosterService instructorRosterService) {
         this.studentService = studentService;
+        this.instructorRosterService = instructorRosterService;
     }
 
     @Operation(summary = "Enroll student in course", description = "Enrolls a student in a specific course")
@@ -128,18 +133,35 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get students by instructor", description = "Retrieves students enrolled in courses taught by a specific instructor")
+    @Operation(summary = "Get students by instructor",
+            description = "Retrieves one page of the students enrolled in courses taught by a specific instructor, "
+                    + "ordered by student ID. The roster is refreshed periodically; refreshedAt says how current it is")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Students retrieved successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid UUID format",
+            @ApiResponse(responseCode = "200", description = "Students retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = InstructorRosterResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid UUID format, page or page size",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/instructors/{id}/students")
-    public ResponseEntity<List<StudentResponse>> getStudentsByInstructor(
+    public ResponseEntity<InstructorRosterResponse> getStudentsByInstructor(
             @Parameter(description = "Instructor ID", example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "Zero-based page number", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
         
-        List<StudentResponse> response = studentService.getStudentsByInstructor(id);
+        InstructorRosterResponse response = instructorRosterService.getRoster(id, page, size);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Refresh instructor rosters", description = "Recomputes every instructor roster from the current enrollments without blocking roster reads")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rosters refreshed",
+                    content = @Content(schema = @Schema(implementation = RosterRefreshResponse.class)))
+    })
+    @PostMapping("/instructors/rosters/refresh")
+    public ResponseEntity<RosterRefreshResponse> refreshInstructorRosters() {
+        return ResponseEntity.ok(new RosterRefreshResponse(instructorRosterService.refreshRosters()));
+    }
+}
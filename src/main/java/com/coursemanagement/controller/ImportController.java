@@ -0,0 +1,55 @@
+package com.coursemanagement.controller;
+
+import com.coursemanagement.dto.ImportResponse;
+import com.coursemanagement.exception.ErrorResponse;
+import com.coursemanagement.service.BulkImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * REST Controller for bulk import operations.
+ */
+@RestController
+@RequestMapping("/api/v1/import")
+@Tag(name = "Import API", description = "API for bulk loading students, instructors, courses and reviews")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @Autowired
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    @Operation(summary = "Bulk import resources", description = "Streams a CSV (with header row) or NDJSON body " +
+            "and loads valid rows in chunks. Invalid or conflicting rows are skipped and reported by row number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished (check failedRows for skipped rows)",
+                    content = @Content(schema = @Schema(implementation = ImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown resource type or content type",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "501", description = "Bulk import is not supported by the configured database",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/{resourceType}", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importData(
+            @Parameter(description = "Resource type: students, instructors, courses or reviews", example = "students")
+            @PathVariable String resourceType,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        ImportResponse response = bulkImportService.importData(resourceType, contentType, body);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,9 +1,12 @@
 package com.coursemanagement.controller;
 
-import com.coursemanagement.dto.DeletionResponse;
+import com.coursemanagement.dto.IdsRequest;
+import com.coursemanagement.dto.InstructorDeletionResponse;
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.exception.ErrorResponse;
+import com.coursemanagement.service.InstructorDeletionService;
 import com.coursemanagement.service.InstructorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,10 +34,13 @@ import java.util.UUID;
 public class InstructorController {
 
     private final InstructorService instructorService;
+    private final InstructorDeletionService instructorDeletionService;
 
     @Autowired
-    public InstructorController(InstructorService instructorService) {
+    public InstructorController(InstructorService instructorService,
+                                InstructorDeletionService instructorDeletionService) {
         this.instructorService = instructorService;
+        this.instructorDeletionService = instructorDeletionService;
     }
 
     @Operation(summary = "Create new instructor", description = "Creates a new instructor with optional instructor details")
@@ -71,6 +78,36 @@ public class InstructorController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get instructors by IDs", description = "Retrieves several instructors by ID in one query. " +
+            "Results are returned in request order; missing IDs are marked as not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Instructors retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid UUID format or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<InstructorResponse>> getInstructorsByIds(
+            @Parameter(description = "Comma-separated instructor IDs", example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam List<UUID> ids) {
+        
+        MultiGetResponse<InstructorResponse> response = instructorService.getInstructorsByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Look up instructors by IDs", description = "Same as GET with ids, for ID lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Instructors retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResponse<InstructorResponse>> lookupInstructorsByIds(
+            @Valid @RequestBody IdsRequest request) {
+        
+        MultiGetResponse<InstructorResponse> response = instructorService.getInstructorsByIds(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Get all instructors", description = "Retrieves a list of all instructors")
     @ApiResponse(responseCode = "200", description = "List of instructors retrieved successfully")
     @GetMapping
@@ -100,20 +137,40 @@ public class InstructorController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Delete instructor", description = "Deletes an instructor by ID")
+    @Operation(summary = "Delete instructor", description = "Hides the instructor immediately and deletes them " +
+            "with their courses, reviews and enrollments in the background. Progress is available from the " +
+            "deletion status endpoint")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Instructor deleted successfully",
-                    content = @Content(schema = @Schema(implementation = DeletionResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Instructor deletion accepted",
+                    content = @Content(schema = @Schema(implementation = InstructorDeletionResponse.class))),
             @ApiResponse(responseCode = "404", description = "Instructor not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<DeletionResponse> deleteInstructor(
+    public ResponseEntity<InstructorDeletionResponse> deleteInstructor(
+            @Parameter(description = "Instructor ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        
+        InstructorDeletionResponse response = instructorDeletionService.requestDeletion(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/instructors/" + id + "/deletion"))
+                .body(response);
+    }
+
+    @Operation(summary = "Get instructor deletion status", description = "Retrieves the progress of an instructor's " +
+            "background deletion")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deletion status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = InstructorDeletionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No deletion requested for this instructor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<InstructorDeletionResponse> getDeletionStatus(
             @Parameter(description = "Instructor ID", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id) {
         
-        instructorService.deleteInstructor(id);
-        DeletionResponse response = DeletionResponse.success(id, "Instructor");
+        InstructorDeletionResponse response = instructorDeletionService.getDeletionStatus(id);
         return ResponseEntity.ok(response);
     }
 
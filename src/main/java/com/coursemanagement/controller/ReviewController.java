@@ -2,10 +2,13 @@ package com.coursemanagement.controller;
 
 import com.coursemanagement.dto.CountResponse;
 import com.coursemanagement.dto.DeletionResponse;
+import com.coursemanagement.dto.ReviewAcceptedResponse;
 import com.coursemanagement.dto.ReviewExistsResponse;
 import com.coursemanagement.dto.ReviewRequest;
 import com.coursemanagement.dto.ReviewResponse;
 import com.coursemanagement.exception.ErrorResponse;
+import com.coursemanagement.feed.LatestReviewsFeed;
+import com.coursemanagement.service.ReviewIngestionService;
 import com.coursemanagement.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,9 +20,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,10 +38,15 @@ import java.util.UUID;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewIngestionService reviewIngestionService;
+    private final LatestReviewsFeed latestReviewsFeed;
 
     @Autowired
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ReviewIngestionService reviewIngestionService,
+                            LatestReviewsFeed latestReviewsFeed) {
         this.reviewService = reviewService;
+        this.reviewIngestionService = reviewIngestionService;
+        this.latestReviewsFeed = latestReviewsFeed;
     }
 
     // Nested endpoints under courses
@@ -58,7 +69,33 @@ public class ReviewController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Get reviews for course", description = "Retrieves all reviews for a specific course")
+    @Operation(summary = "Add review to course asynchronously", description = "Validates the review, journals it and " +
+            "queues it for a batched insert. The review is readable under the returned ID once it has been written")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Review accepted for ingestion",
+                    content = @Content(schema = @Schema(implementation = ReviewAcceptedResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Course or student not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "501", description = "Asynchronous ingestion is not enabled",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Ingestion queue is full",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/courses/{courseId}/reviews/async")
+    public ResponseEntity<ReviewAcceptedResponse> addReviewToCourseAsync(
+            @Parameter(description = "Course ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID courseId,
+            @Valid @RequestBody ReviewRequest request) {
+        
+        ReviewAcceptedResponse response = reviewIngestionService.submitReview(courseId, request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/reviews/" + response.getId()))
+                .body(response);
+    }
+
+    @Operation(summary = "Get reviews for course", description = "Retrieves all reviews for a specific course, newest first")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Course not found",
@@ -67,9 +104,11 @@ public class ReviewController {
     @GetMapping("/courses/{courseId}/reviews")
     public ResponseEntity<List<ReviewResponse>> getReviewsForCourse(
             @Parameter(description = "Course ID", example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable UUID courseId) {
+            @PathVariable UUID courseId,
+            @Parameter(description = "Also return reviews from archived partitions", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
-        List<ReviewResponse> response = reviewService.getReviewsByCourseIdOrderedByDate(courseId);
+        List<ReviewResponse> response = reviewService.getReviewsByCourseIdOrderedByDate(courseId, includeArchived);
         return ResponseEntity.ok(response);
     }
 
@@ -129,10 +168,21 @@ public class ReviewController {
     }
 
     // Additional query endpoints
-    @Operation(summary = "Get all reviews", description = "Retrieves a list of all reviews")
-    @ApiResponse(responseCode = "200", description = "List of reviews retrieved successfully")
+    @Operation(summary = "Get all reviews", description = "Retrieves a list of all reviews, optionally limited to the requested fields " +
+            "(nested fields use dot notation, e.g. course.title)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of reviews retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
     @GetMapping("/reviews")
-    public ResponseEntity<List<ReviewResponse>> getAllReviews() {
+    public ResponseEntity<List<?>> getAllReviews(
+            @Parameter(description = "Comma-separated list of fields to return", example = "id,comment,student.email")
+            @RequestParam(required = false) String fields) {
+        
+        if (fields != null && !fields.isBlank()) {
+            return ResponseEntity.ok(reviewService.getAllReviews(fields));
+        }
         List<ReviewResponse> response = reviewService.getAllReviews();
         return ResponseEntity.ok(response);
     }
@@ -170,14 +220,33 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get latest reviews", description = "Retrieves the most recent reviews (ordered by creation date, newest first)")
-    @ApiResponse(responseCode = "200", description = "Latest reviews retrieved successfully")
+    @Operation(summary = "Get latest reviews", description = "Retrieves one page of the most recent reviews (newest first) " +
+            "from the in-memory latest reviews feed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Latest reviews retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
     @GetMapping("/reviews/latest")
-    public ResponseEntity<List<ReviewResponse>> getLatestReviews() {
-        List<ReviewResponse> response = reviewService.getLatestReviews();
+    public ResponseEntity<List<ReviewResponse>> getLatestReviews(
+            @Parameter(description = "Zero-based page number", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most the feed capacity", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        List<ReviewResponse> response = latestReviewsFeed.getLatest(page, size);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Stream latest reviews", description = "Server-Sent Events stream of the latest reviews feed: " +
+            "a 'snapshot' event with the current reviews, then 'review' events for new or changed reviews and " +
+            "'review-deleted' events for removed ones")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @GetMapping(path = "/reviews/latest/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLatestReviews() {
+        return latestReviewsFeed.subscribe();
+    }
+
     @Operation(summary = "Check if review exists by ID", description = "Checks if a review exists by its ID")
     @ApiResponse(responseCode = "200", description = "Existence check completed",
             content = @Content(schema = @Schema(implementation = ReviewExistsResponse.class)))
@@ -208,7 +277,7 @@ public class ReviewController {
     }
 
     // Student-related endpoints
-    @Operation(summary = "Get reviews by student", description = "Retrieves all reviews written by a specific student")
+    @Operation(summary = "Get reviews by student", description = "Retrieves all reviews written by a specific student, newest first")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Student not found",
@@ -217,9 +286,11 @@ public class ReviewController {
     @GetMapping("/students/{studentId}/reviews")
     public ResponseEntity<List<ReviewResponse>> getReviewsByStudent(
             @Parameter(description = "Student ID", example = "987fcdeb-51a2-43d1-9b12-345678901234")
-            @PathVariable UUID studentId) {
+            @PathVariable UUID studentId,
+            @Parameter(description = "Also return reviews from archived partitions", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
-        List<ReviewResponse> response = reviewService.getReviewsByStudentIdOrderedByDate(studentId);
+        List<ReviewResponse> response = reviewService.getReviewsByStudentIdOrderedByDate(studentId, includeArchived);
         return ResponseEntity.ok(response);
     }
 
@@ -1,6 +1,8 @@
 package com.coursemanagement.controller;
 
 import com.coursemanagement.dto.DeletionResponse;
+import com.coursemanagement.dto.IdsRequest;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.StudentRequest;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.exception.ErrorResponse;
@@ -71,10 +73,50 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all students", description = "Retrieves a list of all students")
-    @ApiResponse(responseCode = "200", description = "List of students retrieved successfully")
+    @Operation(summary = "Get students by IDs", description = "Retrieves several students by ID in one query. " +
+            "Results are returned in request order; missing IDs are marked as not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid UUID format or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<StudentResponse>> getStudentsByIds(
+            @Parameter(description = "Comma-separated student IDs", example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam List<UUID> ids) {
+        
+        MultiGetResponse<StudentResponse> response = studentService.getStudentsByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Look up students by IDs", description = "Same as GET with ids, for ID lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResponse<StudentResponse>> lookupStudentsByIds(
+            @Valid @RequestBody IdsRequest request) {
+        
+        MultiGetResponse<StudentResponse> response = studentService.getStudentsByIds(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get all students", description = "Retrieves a list of all students, optionally limited to the requested fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
     @GetMapping
-    public ResponseEntity<List<StudentResponse>> getAllStudents() {
+    public ResponseEntity<List<?>> getAllStudents(
+            @Parameter(description = "Comma-separated list of fields to return", example = "id,email")
+            @RequestParam(required = false) String fields) {
+        
+        if (fields != null && !fields.isBlank()) {
+            return ResponseEntity.ok(studentService.getAllStudents(fields));
+        }
         List<StudentResponse> response = studentService.getAllStudents();
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,72 @@
+package com.coursemanagement.crac;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-runs Flyway when the application is restored from a CRaC checkpoint.
+ * The image may be restored against a different database (or a schema that moved on since the
+ * checkpoint), so the startup Flyway step (the configured {@link FlywayMigrationStrategy}, or a
+ * plain migrate) is repeated before the web server accepts requests again.
+ */
+@Component
+public class FlywayRestoreLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayRestoreLifecycle.class);
+
+    // After the connection pool (phase 0) resumes, before the web server starts
+    static final int PHASE = 5;
+
+    private final ObjectProvider<Flyway> flyway;
+    private final ObjectProvider<FlywayMigrationStrategy> migrationStrategy;
+    private volatile boolean running;
+    private volatile boolean restarted;
+
+    @Autowired
+    public FlywayRestoreLifecycle(ObjectProvider<Flyway> flyway,
+                                  ObjectProvider<FlywayMigrationStrategy> migrationStrategy) {
+        this.flyway = flyway;
+        this.migrationStrategy = migrationStrategy;
+    }
+
+    @Override
+    public void start() {
+        // Flyway already ran while the context was refreshed; only restarts need it again
+        if (restarted) {
+            flyway.ifAvailable(this::runFlyway);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        restarted = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runFlyway(Flyway flyway) {
+        log.info("Re-running Flyway after restore");
+        FlywayMigrationStrategy strategy = migrationStrategy.getIfAvailable();
+        if (strategy != null) {
+            strategy.migrate(flyway);
+        } else {
+            flyway.migrate();
+        }
+    }
+}
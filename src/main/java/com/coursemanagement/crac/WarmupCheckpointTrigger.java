@@ -0,0 +1,40 @@
+package com.coursemanagement.crac;
+
+import com.coursemanagement.warmup.StartupWarmup.Phase;
+import com.coursemanagement.warmup.WarmupFinishedEvent;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes a CRaC checkpoint as soon as startup warm-up has finished, so a restored instance
+ * starts with a primed pool history, loaded classes and JIT-compiled hot paths.
+ * The JVM must be started with {@code -XX:CRaCCheckpointTo=<dir>}; by default the process exits
+ * once the checkpoint is written. Enabled with {@code course-management.crac.checkpoint-after-warmup=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "course-management.crac.checkpoint-after-warmup", havingValue = "true")
+public class WarmupCheckpointTrigger {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupCheckpointTrigger.class);
+
+    @EventListener
+    public void onWarmupFinished(WarmupFinishedEvent event) {
+        if (event.phase() == Phase.FAILED) {
+            log.warn("Not taking a checkpoint because startup warm-up failed");
+            return;
+        }
+        log.info("Warm-up {} after {} ms, taking checkpoint", event.phase(), event.durationMillis());
+        try {
+            Core.checkpointRestore();
+            log.info("Restored from checkpoint");
+        } catch (CheckpointException | RestoreException | UnsupportedOperationException ex) {
+            log.warn("Checkpoint/restore failed; continuing without it", ex);
+        }
+    }
+}
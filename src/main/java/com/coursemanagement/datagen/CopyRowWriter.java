@@ -0,0 +1,61 @@
+package com.coursemanagement.datagen;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes rows in COPY's text format: tab-separated, {@code \N} for NULL, backslash escapes.
+ * Values are written with {@code toString()}, which is what PostgreSQL expects for UUIDs,
+ * numbers and ISO-8601 timestamps.
+ */
+public class CopyRowWriter implements Flushable {
+
+    private final Writer out;
+    private long rows;
+
+    public CopyRowWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    public void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            if (values[i] == null) {
+                out.write("\\N");
+            } else {
+                writeEscaped(values[i].toString());
+            }
+        }
+        out.write('\n');
+        rows++;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+}
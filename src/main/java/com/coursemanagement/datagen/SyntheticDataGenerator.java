@@ -0,0 +1,144 @@
+package com.coursemanagement.datagen;
+
+import com.coursemanagement.datagen.SyntheticDataModel.Table;
+import com.coursemanagement.datasource.WorkloadContext;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.repository.ReviewPartitionRepository;
+import com.coursemanagement.repository.SyntheticDataRepository;
+import com.coursemanagement.service.InstructorRosterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a {@link SyntheticDataModel} dataset for scale testing.
+ * Tables are loaded in foreign-key order; within that order every block of every table that can
+ * load is a separate COPY on one of {@code streams} parallel connections from the bulk pool.
+ * Monthly review partitions are created for the whole history first, so no review lands in the
+ * default partition. Afterwards the tables are analyzed and the instructor rosters refreshed.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /**
+     * Tables in each phase only reference tables loaded in earlier phases.
+     */
+    private static final List<List<Table>> PHASES = List.of(
+            List.of(Table.INSTRUCTOR_DETAILS),
+            List.of(Table.INSTRUCTOR),
+            List.of(Table.COURSE, Table.STUDENT),
+            List.of(Table.COURSE_STUDENT, Table.REVIEWS));
+
+    private final SyntheticDataRepository dataRepository;
+    private final ReviewPartitionRepository partitionRepository;
+    private final InstructorRosterService rosterService;
+    private final SyntheticDataProperties properties;
+    private final Clock clock;
+
+    public SyntheticDataGenerator(SyntheticDataRepository dataRepository,
+                                  ReviewPartitionRepository partitionRepository,
+                                  InstructorRosterService rosterService,
+                                  SyntheticDataProperties properties,
+                                  Clock clock) {
+        this.dataRepository = dataRepository;
+        this.partitionRepository = partitionRepository;
+        this.rosterService = rosterService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public SyntheticDataReport generate() {
+        properties.validate();
+        if (!dataRepository.isCopySupported()) {
+            throw new UnsupportedOperationException("Synthetic data generation requires a PostgreSQL database");
+        }
+        if (properties.isTruncate()) {
+            dataRepository.truncate();
+        } else if (!dataRepository.isEmpty()) {
+            throw new IllegalStateException("The database already holds instructors, courses or students; "
+                    + "set course-management.datagen.truncate=true to replace them");
+        }
+
+        long start = System.nanoTime();
+        LocalDate endDate = properties.getEndDate() != null ? properties.getEndDate() : LocalDate.now(clock);
+        SyntheticDataModel model = new SyntheticDataModel(properties, endDate);
+        createReviewPartitions(model);
+
+        Map<String, Long> rows = new LinkedHashMap<>();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService streams = Executors.newFixedThreadPool(properties.getStreams(),
+                task -> new Thread(task, "datagen-copy-" + threads.incrementAndGet()));
+        try {
+            for (List<Table> phase : PHASES) {
+                Map<Table, List<Future<Long>>> loads = new LinkedHashMap<>();
+                for (Table table : phase) {
+                    List<Future<Long>> blocks = new ArrayList<>();
+                    for (int block = 0; block < model.blocks(table); block++) {
+                        int toLoad = block;
+                        blocks.add(streams.submit(() -> WorkloadContext.call(WorkloadType.BULK,
+                                () -> loadBlock(model, table, toLoad))));
+                    }
+                    loads.put(table, blocks);
+                }
+                for (Map.Entry<Table, List<Future<Long>>> load : loads.entrySet()) {
+                    long loaded = 0;
+                    for (Future<Long> block : load.getValue()) {
+                        loaded += await(load.getKey(), block);
+                    }
+                    rows.put(load.getKey().getTableName(), loaded);
+                    log.info("Loaded {} rows into {} after {} ms", loaded, load.getKey().getTableName(),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        } finally {
+            streams.shutdownNow();
+        }
+
+        WorkloadContext.run(WorkloadType.BULK, dataRepository::analyze);
+        rosterService.refreshRosters();
+        return new SyntheticDataReport(properties.getSeed(), rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void createReviewPartitions(SyntheticDataModel model) {
+        if (!partitionRepository.isPartitioned()) {
+            return;
+        }
+        for (YearMonth month = model.firstMonth(); !month.isAfter(model.lastMonth()); month = month.plusMonths(1)) {
+            partitionRepository.createPartition(month);
+        }
+    }
+
+    private long loadBlock(SyntheticDataModel model, Table table, int block) {
+        long[] written = new long[1];
+        dataRepository.copyIn(table.getTableName(), table.getColumns(), out -> {
+            CopyRowWriter writer = new CopyRowWriter(out);
+            written[0] = model.writeBlock(table, block, writer);
+            writer.flush();
+        });
+        return written[0];
+    }
+
+    private static long await(Table table, Future<Long> block) {
+        try {
+            return block.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + table.getTableName(), ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Loading " + table.getTableName() + " failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.coursemanagement.datagen;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic rows for every table behind {@code com.coursemanagement.entity}.
+ * Each table is cut into blocks of {@code block-rows} generation units (one instructor, course,
+ * student or review; one student's enrollments for {@code course_student}) and every block draws
+ * from its own generator seeded by (seed, table, block). IDs are a hash of (seed, table, index),
+ * so foreign keys are computed rather than looked up. A block therefore produces the same rows no
+ * matter which stream loads it or in what order, and the whole dataset only depends on the seed,
+ * the sizes and the end date.
+ * <p>
+ * Popularity is skewed with Zipf distributions: a few courses get most enrollments and reviews,
+ * and a few students write most reviews. Popularity ranks are scattered over the indexes, so the
+ * popular rows are not simply the first ones inserted.
+ */
+public class SyntheticDataModel {
+
+    /**
+     * Tables in load order, with the columns each COPY fills.
+     */
+    public enum Table {
+        INSTRUCTOR_DETAILS("instructor_details", "id, youtube_channel, hobby, created_at, updated_at"),
+        INSTRUCTOR("instructor", "id, first_name, last_name, email, instructor_details_id, created_at, updated_at"),
+        COURSE("course", "id, title, instructor_id, created_at, updated_at"),
+        STUDENT("student", "id, first_name, last_name, email, created_at, updated_at"),
+        COURSE_STUDENT("course_student", "course_id, student_id"),
+        REVIEWS("reviews", "id, comment, course_id, student_id, created_at, updated_at");
+
+        private final String tableName;
+        private final String columns;
+
+        Table(String tableName, String columns) {
+            this.tableName = tableName;
+            this.columns = columns;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public String getColumns() {
+            return columns;
+        }
+    }
+
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Grace", "Linus", "Barbara", "Ken",
+            "Margaret", "Dennis", "Frances", "Edsger", "Radia", "Tim", "Katherine", "John", "Sophie", "Donald",
+            "Hedy", "Niklaus", "Lynn", "Bjarne", "Shafi", "Guido", "Anita", "James");
+    private static final List<String> LAST_NAMES = List.of("Lovelace", "Turing", "Hopper", "Torvalds", "Liskov",
+            "Thompson", "Hamilton", "Ritchie", "Allen", "Dijkstra", "Perlman", "Berners-Lee", "Johnson", "Backus",
+            "Wilson", "Knuth", "Lamarr", "Wirth", "Conway", "Stroustrup", "Goldwasser", "van Rossum", "Borg", "Gosling");
+    private static final List<String> TOPICS = List.of("Java", "Spring", "PostgreSQL", "Kotlin", "Python", "Cloud",
+            "Security", "Testing", "Design", "Algorithms", "Networks", "Databases", "Kubernetes", "React",
+            "Distributed Systems", "Machine Learning", "Compilers", "Operating Systems");
+    private static final List<String> LEVELS = List.of("Fundamentals", "in Practice", "Advanced", "Masterclass",
+            "for Beginners", "Deep Dive");
+    private static final List<String> HOBBIES = List.of("Chess", "Climbing", "Cooking", "Cycling", "Gardening",
+            "Painting", "Photography", "Running", "Sailing", "Woodworking");
+    private static final List<String> OPENINGS = List.of("Great course", "Clear explanations", "Well structured",
+            "Too fast in places", "Solid material", "Very practical", "A bit outdated", "Excellent instructor");
+    private static final List<String> CLOSINGS = List.of("would recommend.", "the exercises helped a lot.",
+            "needs more examples.", "worth the time.", "learned a lot.", "some videos could be shorter.");
+
+    private final long seed;
+    private final int instructors;
+    private final int courses;
+    private final int students;
+    private final long reviews;
+    private final int blockRows;
+    private final double enrollmentsPerStudent;
+    private final int maxEnrollmentsPerStudent;
+    private final LocalDateTime historyStart;
+    private final long historySeconds;
+    private final Popularity coursePopularity;
+    private final Popularity reviewerPopularity;
+
+    public SyntheticDataModel(SyntheticDataProperties properties, LocalDate endDate) {
+        properties.validate();
+        this.seed = properties.getSeed();
+        this.instructors = properties.getInstructors();
+        this.courses = properties.getCourses();
+        this.students = properties.getStudents();
+        this.reviews = properties.getReviews();
+        this.blockRows = properties.getBlockRows();
+        this.enrollmentsPerStudent = properties.getEnrollmentsPerStudent();
+        this.maxEnrollmentsPerStudent = (int) Math.min(courses, Math.max(1, Math.ceil(enrollmentsPerStudent * 10)));
+        LocalDateTime historyEnd = endDate.atStartOfDay();
+        this.historyStart = historyEnd.minusMonths(properties.getHistoryMonths());
+        this.historySeconds = ChronoUnit.SECONDS.between(historyStart, historyEnd);
+        this.coursePopularity = new Popularity(courses, properties.getCourseSkew(), hash(seed, 101));
+        this.reviewerPopularity = new Popularity(students, properties.getReviewerSkew(), hash(seed, 102));
+    }
+
+    /**
+     * Generation units of the table: rows, except for {@code course_student}, which has one unit per student.
+     */
+    public long units(Table table) {
+        return switch (table) {
+            case INSTRUCTOR_DETAILS, INSTRUCTOR -> instructors;
+            case COURSE -> courses;
+            case STUDENT, COURSE_STUDENT -> students;
+            case REVIEWS -> reviews;
+        };
+    }
+
+    public int blocks(Table table) {
+        return (int) ((units(table) + blockRows - 1) / blockRows);
+    }
+
+    /**
+     * First month a generated timestamp can fall in.
+     */
+    public YearMonth firstMonth() {
+        return YearMonth.from(historyStart);
+    }
+
+    /**
+     * Last month a generated timestamp can fall in.
+     */
+    public YearMonth lastMonth() {
+        return YearMonth.from(historyStart.plusSeconds(historySeconds - 1));
+    }
+
+    /**
+     * Write the block's rows.
+     *
+     * @return the number of rows written
+     */
+    public long writeBlock(Table table, int block, CopyRowWriter out) throws IOException {
+        long from = (long) block * blockRows;
+        long to = Math.min(units(table), from + blockRows);
+        if (from >= to) {
+            throw new IllegalArgumentException(String.format("Block %d is out of range for %s", block, table));
+        }
+        SplittableRandom random = new SplittableRandom(hash(hash(seed, table.ordinal()), block));
+        long before = out.getRows();
+        for (long i = from; i < to; i++) {
+            writeUnit(table, i, random, out);
+        }
+        return out.getRows() - before;
+    }
+
+    /**
+     * ID of the table's row at the index; a version 4 UUID that only depends on the seed.
+     */
+    public UUID id(Table table, long index) {
+        long most = hash(hash(seed, table.ordinal() + 1), index);
+        long least = hash(most, index);
+        return new UUID((most & ~0xF000L) | 0x4000L, (least & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    private void writeUnit(Table table, long i, SplittableRandom random, CopyRowWriter out) throws IOException {
+        switch (table) {
+            case INSTRUCTOR_DETAILS -> {
+                LocalDateTime createdAt = timestamp(random);
+                out.row(id(table, i), "https://www.youtube.com/@instructor" + i,
+                        random.nextInt(5) == 0 ? null : pick(HOBBIES, random), createdAt, createdAt);
+            }
+            case INSTRUCTOR -> {
+                LocalDateTime createdAt = timestamp(random);
+                out.row(id(table, i), pick(FIRST_NAMES, random), pick(LAST_NAMES, random),
+                        "instructor" + i + "@datagen.example.com", id(Table.INSTRUCTOR_DETAILS, i), createdAt, createdAt);
+            }
+            case COURSE -> {
+                LocalDateTime createdAt = timestamp(random);
+                out.row(id(table, i), pick(TOPICS, random) + " " + pick(LEVELS, random) + " " + i,
+                        id(Table.INSTRUCTOR, random.nextInt(instructors)), createdAt, createdAt);
+            }
+            case STUDENT -> {
+                LocalDateTime createdAt = timestamp(random);
+                out.row(id(table, i), pick(FIRST_NAMES, random), pick(LAST_NAMES, random),
+                        "student" + i + "@datagen.example.com", createdAt, createdAt);
+            }
+            case COURSE_STUDENT -> {
+                UUID studentId = id(Table.STUDENT, i);
+                for (int course : enrolledCourses(random)) {
+                    out.row(id(Table.COURSE, course), studentId);
+                }
+            }
+            case REVIEWS -> {
+                LocalDateTime createdAt = timestamp(random);
+                out.row(id(table, i), pick(OPENINGS, random) + ", " + pick(CLOSINGS, random),
+                        id(Table.COURSE, coursePopularity.next(random)),
+                        id(Table.STUDENT, reviewerPopularity.next(random)), createdAt, createdAt);
+            }
+        }
+    }
+
+    /**
+     * Distinct courses for one student: a geometrically distributed count with the configured
+     * mean, drawn by course popularity.
+     */
+    private int[] enrolledCourses(SplittableRandom random) {
+        int count = 0;
+        if (enrollmentsPerStudent > 0) {
+            double p = 1 / (1 + enrollmentsPerStudent);
+            double failures = Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+            count = (int) Math.min(maxEnrollmentsPerStudent, failures);
+        }
+        int[] chosen = new int[count];
+        int found = 0;
+        for (int attempt = 0; found < count && attempt < count * 20; attempt++) {
+            found = addIfAbsent(chosen, found, coursePopularity.next(random));
+        }
+        // Popular courses collide when a student takes many; fill the rest from a random start
+        for (int course = random.nextInt(courses); found < count; course = (course + 1) % courses) {
+            found = addIfAbsent(chosen, found, course);
+        }
+        Arrays.sort(chosen);
+        return chosen;
+    }
+
+    private static int addIfAbsent(int[] chosen, int found, int course) {
+        for (int j = 0; j < found; j++) {
+            if (chosen[j] == course) {
+                return found;
+            }
+        }
+        chosen[found] = course;
+        return found + 1;
+    }
+
+    private LocalDateTime timestamp(SplittableRandom random) {
+        return historyStart.plusSeconds(random.nextLong(historySeconds));
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * SplitMix64 finalizer over the combined inputs.
+     */
+    static long hash(long a, long b) {
+        long z = a * 0x9E3779B97F4A7C15L + b;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Zipf-ranked picks over {@code 0..n-1}. Rank r maps to index {@code (r - 1) * stride mod n}
+     * with the stride coprime to n, which is a permutation.
+     */
+    static final class Popularity {
+
+        private final int n;
+        private final ZipfSampler sampler;
+        private final long stride;
+
+        Popularity(int n, double exponent, long salt) {
+            this.n = n;
+            this.sampler = new ZipfSampler(n, exponent);
+            long candidate = n == 1 ? 1 : 1 + Math.floorMod(salt, n - 1);
+            while (gcd(candidate, n) != 1) {
+                candidate = candidate % (n - 1) + 1;
+            }
+            this.stride = candidate;
+        }
+
+        int next(SplittableRandom random) {
+            return (int) (((sampler.sample(random) - 1) * stride) % n);
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+}
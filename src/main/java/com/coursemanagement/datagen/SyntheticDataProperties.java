@@ -0,0 +1,53 @@
+package com.coursemanagement.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Settings for {@link SyntheticDataGenerator} under {@code course-management.datagen}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "course-management.datagen")
+public class SyntheticDataProperties {
+
+    private long seed = 42;
+    private int instructors = 20_000;
+    private int courses = 200_000;
+    private int students = 2_000_000;
+    /** Mean enrollments per student; the per-student count is geometrically distributed. */
+    private double enrollmentsPerStudent = 10;
+    private long reviews = 10_000_000;
+    /** Zipf exponent of course popularity, for enrollments and reviews. 0 is uniform. */
+    private double courseSkew = 1.1;
+    /** Zipf exponent of how many reviews a student writes. 0 is uniform. */
+    private double reviewerSkew = 1.2;
+    private int historyMonths = 24;
+    /** Day the generated history ends (exclusive); today when not set. Fix it to reproduce a dataset exactly. */
+    private LocalDate endDate;
+    private int streams = 4;
+    private int blockRows = 100_000;
+    private boolean truncate = false;
+    private boolean exitWhenDone = true;
+
+    void validate() {
+        if (instructors < 1 || courses < 1 || students < 1) {
+            throw new IllegalArgumentException("The dataset needs at least one instructor, course and student");
+        }
+        if (enrollmentsPerStudent < 0 || reviews < 0) {
+            throw new IllegalArgumentException("Enrollments per student and reviews must not be negative");
+        }
+        if (courseSkew < 0 || reviewerSkew < 0) {
+            throw new IllegalArgumentException("Skew exponents must not be negative");
+        }
+        if (historyMonths < 1) {
+            throw new IllegalArgumentException("History must cover at least one month, was " + historyMonths);
+        }
+        if (streams < 1 || blockRows < 1) {
+            throw new IllegalArgumentException("Streams and block rows must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.coursemanagement.datagen;
+
+import java.util.Map;
+
+/**
+ * What a {@link SyntheticDataGenerator} run loaded.
+ *
+ * @param rows rows loaded per table
+ */
+public record SyntheticDataReport(long seed, Map<String, Long> rows, long durationMillis) {
+
+    public long totalRows() {
+        return rows.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,19 @@
+package com.coursemanagement.datasource;
+
+/**
+ * One observation of a connection pool over a sampling interval.
+ *
+ * @param maximumPoolSize the pool's current maximum size
+ * @param active          connections in use when sampled
+ * @param idle            idle connections when sampled
+ * @param pending         threads waiting for a connection when sampled
+ * @param checkouts       connections returned to the pool during the interval
+ * @param usageNanos      total time those connections were held
+ * @param acquireNanos    total time spent waiting to acquire connections during the interval
+ * @param intervalNanos   length of the interval
+ * @param contendedShare  share of active database sessions waiting on locks, buffers or I/O,
+ *                        or {@code null} when the database does not report wait events
+ */
+public record PoolSample(int maximumPoolSize, int active, int idle, int pending, long checkouts, long usageNanos,
+                         long acquireNanos, long intervalNanos, Double contendedShare) {
+}
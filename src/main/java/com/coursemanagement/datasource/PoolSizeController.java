@@ -0,0 +1,171 @@
+package com.coursemanagement.datasource;
+
+import com.coursemanagement.repository.DatabaseWaitRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Resizes the workload connection pools from what they are observed doing.
+ * Every {@code interval-ms} each started pool is sampled (active, idle and waiting connections
+ * from Hikari, checkout, usage and acquire times from its {@code hikaricp.connections.*} timers)
+ * together with the database's wait events, and {@link PoolSizeModel} picks a new maximum size
+ * within the pool's bounds. Each decision is logged (resizes at INFO) and the recent ones are
+ * kept for the {@code poolsizing} actuator endpoint.
+ */
+@Component
+public class PoolSizeController {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolSizeController.class);
+
+    private record TimerTotals(long nanoTime, long checkouts, long usageNanos, long acquireNanos) {
+    }
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final DatabaseWaitRepository waitRepository;
+    private final PoolSizingProperties properties;
+    private final PoolSizeModel model;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final Map<WorkloadType, TimerTotals> lastTotals = new EnumMap<>(WorkloadType.class);
+    private final Map<WorkloadType, Deque<PoolSizingDecision>> history = new EnumMap<>(WorkloadType.class);
+
+    @Autowired
+    public PoolSizeController(DataSource dataSource, MeterRegistry meterRegistry,
+                              DatabaseWaitRepository waitRepository, PoolSizingProperties properties) {
+        this(dataSource, meterRegistry, waitRepository, properties, Clock.systemUTC(), System::nanoTime);
+    }
+
+    PoolSizeController(DataSource dataSource, MeterRegistry meterRegistry, DatabaseWaitRepository waitRepository,
+                       PoolSizingProperties properties, Clock clock, LongSupplier nanoClock) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.waitRepository = waitRepository;
+        this.properties = properties;
+        this.model = new PoolSizeModel(properties.getTargetUtilization(), properties.getMaxStep(),
+                properties.getContendedShareLimit(), properties.getSlowAcquireMs());
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+    }
+
+    @Scheduled(initialDelayString = "${course-management.pool-sizing.interval-ms:15000}",
+            fixedDelayString = "${course-management.pool-sizing.interval-ms:15000}")
+    public void run() {
+        if (properties.isEnabled()) {
+            tune();
+        }
+    }
+
+    /**
+     * Sample every started pool and apply one sizing decision to each. The first sample of a
+     * pool only sets the baseline for its timers.
+     */
+    synchronized void tune() {
+        Double contendedShare = sampleContendedShare();
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = pool(workload);
+            HikariPoolMXBean mxBean = pool == null ? null : pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                // Not started yet; nothing to learn from
+                continue;
+            }
+            TimerTotals totals = timerTotals(pool.getPoolName());
+            TimerTotals previous = lastTotals.put(workload, totals);
+            if (previous == null) {
+                continue;
+            }
+            PoolSample sample = new PoolSample(pool.getMaximumPoolSize(), mxBean.getActiveConnections(),
+                    mxBean.getIdleConnections(), mxBean.getThreadsAwaitingConnection(),
+                    totals.checkouts() - previous.checkouts(), totals.usageNanos() - previous.usageNanos(),
+                    totals.acquireNanos() - previous.acquireNanos(), totals.nanoTime() - previous.nanoTime(),
+                    contendedShare);
+            PoolSizingProperties.Bounds bounds = properties.get(workload);
+            PoolSizingDecision decision = model.decide(pool.getPoolName(), sample, bounds.getMinSize(),
+                    bounds.getMaxSize(), clock.instant());
+            apply(pool, decision);
+            record(workload, decision);
+        }
+    }
+
+    /**
+     * Recent decisions per pool, newest first.
+     */
+    public synchronized Map<WorkloadType, List<PoolSizingDecision>> getDecisions() {
+        Map<WorkloadType, List<PoolSizingDecision>> decisions = new EnumMap<>(WorkloadType.class);
+        history.forEach((workload, recent) -> decisions.put(workload, new ArrayList<>(recent)));
+        return decisions;
+    }
+
+    /**
+     * The pool serving the workload, or {@code null} if it has none of its own.
+     */
+    HikariDataSource pool(WorkloadType workload) {
+        DataSource pool;
+        if (dataSource instanceof WorkloadRoutingDataSource routing) {
+            pool = routing.getPool(workload);
+            if (workload != WorkloadType.OLTP && pool == routing.getPool(WorkloadType.OLTP)) {
+                return null;
+            }
+        } else {
+            pool = workload == WorkloadType.OLTP ? dataSource : null;
+        }
+        return pool instanceof HikariDataSource hikari ? hikari : null;
+    }
+
+    private Double sampleContendedShare() {
+        try {
+            return waitRepository.sampleWaits().map(DatabaseWaitRepository.DatabaseWaits::contendedShare).orElse(null);
+        } catch (RuntimeException ex) {
+            log.debug("Could not sample database wait events", ex);
+            return null;
+        }
+    }
+
+    private TimerTotals timerTotals(String poolName) {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+        return new TimerTotals(nanoClock.getAsLong(),
+                usage == null ? 0 : usage.count(),
+                usage == null ? 0 : (long) usage.totalTime(TimeUnit.NANOSECONDS),
+                acquire == null ? 0 : (long) acquire.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    private static void apply(HikariDataSource pool, PoolSizingDecision decision) {
+        if (!decision.isResize()) {
+            log.debug("Connection pool {} at {}: {}", decision.pool(), decision.newSize(), decision.reason());
+            return;
+        }
+        if (pool.getMinimumIdle() > decision.newSize()) {
+            pool.setMinimumIdle(decision.newSize());
+        }
+        pool.setMaximumPoolSize(decision.newSize());
+        log.info("Connection pool {} {} -> {}: {}", decision.pool(), decision.previousSize(),
+                decision.newSize(), decision.reason());
+    }
+
+    private void record(WorkloadType workload, PoolSizingDecision decision) {
+        Deque<PoolSizingDecision> recent = history.computeIfAbsent(workload, key -> new ArrayDeque<>());
+        recent.addFirst(decision);
+        while (recent.size() > properties.getHistorySize()) {
+            recent.removeLast();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.coursemanagement.datasource;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Queueing model that turns a {@link PoolSample} into a pool size.
+ * By Little's law the connections busy on average are the checkout rate times the mean time a
+ * connection is held; the pool is sized so that load keeps it at the target utilization, which
+ * leaves headroom for bursts. Threads queueing for a connection, or slow acquisition, grow it
+ * further. The pool grows by at most {@code maxStep} per decision and shrinks by one, so a
+ * single quiet interval cannot drain it. Growth is held back while most active database sessions
+ * wait on locks, buffers or I/O, since more connections would only join the same queue.
+ */
+public class PoolSizeModel {
+
+    private final double targetUtilization;
+    private final int maxStep;
+    private final double contendedShareLimit;
+    private final double slowAcquireMillis;
+
+    public PoolSizeModel(double targetUtilization, int maxStep, double contendedShareLimit, double slowAcquireMillis) {
+        if (targetUtilization <= 0 || targetUtilization > 1) {
+            throw new IllegalArgumentException("Target utilization must be in (0, 1], was " + targetUtilization);
+        }
+        if (maxStep < 1) {
+            throw new IllegalArgumentException("Max step must be at least 1, was " + maxStep);
+        }
+        this.targetUtilization = targetUtilization;
+        this.maxStep = maxStep;
+        this.contendedShareLimit = contendedShareLimit;
+        this.slowAcquireMillis = slowAcquireMillis;
+    }
+
+    public PoolSizingDecision decide(String pool, PoolSample sample, int minSize, int maxSize, Instant now) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Pool %s size bounds must satisfy 1 <= min-size <= max-size, were %d and %d", pool, minSize, maxSize));
+        }
+        double seconds = sample.intervalNanos() / 1e9;
+        double throughput = seconds > 0 ? sample.checkouts() / seconds : 0;
+        double meanUsageMillis = sample.checkouts() > 0 ? sample.usageNanos() / 1e6 / sample.checkouts() : 0;
+        double meanAcquireMillis = sample.checkouts() > 0 ? sample.acquireNanos() / 1e6 / sample.checkouts() : 0;
+        // Connections held past the end of the interval are not in the usage timer yet
+        double offered = Math.max(throughput * meanUsageMillis / 1000, sample.active());
+
+        int current = sample.maximumPoolSize();
+        int required = (int) Math.ceil(offered / targetUtilization);
+        String cause = String.format(Locale.ROOT, "%.1f connections busy (%.1f/s x %.1f ms) need %d at %.0f%% utilization",
+                offered, throughput, meanUsageMillis, required, targetUtilization * 100);
+        if (sample.pending() > 0 && current + sample.pending() > required) {
+            required = current + sample.pending();
+            cause = sample.pending() + " threads waiting for a connection";
+        } else if (meanAcquireMillis > slowAcquireMillis && current + 1 > required) {
+            required = current + 1;
+            cause = String.format(Locale.ROOT, "acquiring a connection took %.1f ms on average", meanAcquireMillis);
+        }
+        required = Math.max(minSize, Math.min(maxSize, required));
+
+        int target;
+        String reason;
+        if (current < minSize || current > maxSize) {
+            target = Math.max(minSize, Math.min(maxSize, current));
+            reason = String.format("moved into the configured bounds %d..%d", minSize, maxSize);
+        } else if (required > current && sample.contendedShare() != null
+                && sample.contendedShare() >= contendedShareLimit) {
+            target = current;
+            reason = String.format(Locale.ROOT, "held: %s, but %.0f%% of active sessions wait on locks, buffers or I/O",
+                    cause, sample.contendedShare() * 100);
+        } else if (required > current) {
+            target = Math.min(required, current + maxStep);
+            reason = "grown: " + cause;
+        } else if (required < current) {
+            target = current - 1;
+            reason = "shrunk: " + cause;
+        } else {
+            target = current;
+            reason = "kept: " + cause;
+        }
+        return new PoolSizingDecision(pool, now, current, target, sample.active(), sample.idle(), sample.pending(),
+                throughput, meanUsageMillis, meanAcquireMillis, offered, sample.contendedShare(), reason);
+    }
+}
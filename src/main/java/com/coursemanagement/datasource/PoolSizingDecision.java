@@ -0,0 +1,19 @@
+package com.coursemanagement.datasource;
+
+import java.time.Instant;
+
+/**
+ * A pool sizing decision together with the observations it was based on.
+ *
+ * @param offeredConnections connections busy on average over the interval (throughput times
+ *                           mean usage time, by Little's law, but at least the active count)
+ */
+public record PoolSizingDecision(String pool, Instant decidedAt, int previousSize, int newSize, int active, int idle,
+                                 int pending, double throughputPerSecond, double meanUsageMillis,
+                                 double meanAcquireMillis, double offeredConnections, Double contendedShare,
+                                 String reason) {
+
+    public boolean isResize() {
+        return newSize != previousSize;
+    }
+}
@@ -0,0 +1,53 @@
+package com.coursemanagement.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/poolsizing}: each workload pool's current size, its bounds and the recent
+ * {@link PoolSizeController} decisions with the observations behind them, newest first.
+ */
+@Component
+@Endpoint(id = "poolsizing")
+public class PoolSizingEndpoint {
+
+    /**
+     * One pool's sizing state.
+     */
+    public record PoolSizing(boolean started, int maximumPoolSize, int minimumIdle, int minSize, int maxSize,
+                             List<PoolSizingDecision> decisions) {
+    }
+
+    private final PoolSizeController controller;
+    private final PoolSizingProperties properties;
+
+    @Autowired
+    public PoolSizingEndpoint(PoolSizeController controller, PoolSizingProperties properties) {
+        this.controller = controller;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, PoolSizing> poolSizing() {
+        Map<WorkloadType, List<PoolSizingDecision>> decisions = controller.getDecisions();
+        Map<String, PoolSizing> pools = new LinkedHashMap<>();
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = controller.pool(workload);
+            if (pool == null) {
+                continue;
+            }
+            PoolSizingProperties.Bounds bounds = properties.get(workload);
+            pools.put(pool.getPoolName(), new PoolSizing(pool.getHikariPoolMXBean() != null,
+                    pool.getMaximumPoolSize(), pool.getMinimumIdle(), bounds.getMinSize(), bounds.getMaxSize(),
+                    decisions.getOrDefault(workload, List.of())));
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,53 @@
+package com.coursemanagement.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@link PoolSizeController} under {@code course-management.pool-sizing}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "course-management.pool-sizing")
+public class PoolSizingProperties {
+
+    private boolean enabled = true;
+    private long intervalMs = 15_000;
+    private double targetUtilization = 0.75;
+    private int maxStep = 2;
+    private double contendedShareLimit = 0.5;
+    private double slowAcquireMs = 10;
+    private int historySize = 20;
+
+    private Bounds oltp = new Bounds(5, 30);
+    private Bounds reporting = new Bounds(1, 6);
+    private Bounds bulk = new Bounds(1, 4);
+
+    public Bounds get(WorkloadType workload) {
+        return switch (workload) {
+            case OLTP -> oltp;
+            case REPORTING -> reporting;
+            case BULK -> bulk;
+        };
+    }
+
+    /**
+     * The range the controller may move a pool's maximum size in.
+     */
+    @Getter
+    @Setter
+    public static class Bounds {
+
+        private int minSize;
+        private int maxSize;
+
+        public Bounds() {
+        }
+
+        Bounds(int minSize, int maxSize) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.coursemanagement.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a bean method (or every method of a bean) on the connection pool of the given workload.
+ * The pool is chosen when a connection is first taken, so the annotation only has an effect
+ * where a transaction or connection starts; a method called inside an existing transaction
+ * keeps using that transaction's connection. Unannotated code uses {@link WorkloadType#OLTP}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadType value();
+}
@@ -0,0 +1,62 @@
+package com.coursemanagement.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * The workload of the current thread. Set by {@link Workload} for bean methods; background
+ * threads that are not started from an annotated method set it with {@link #call} or {@link #run}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * The current thread's workload, {@link WorkloadType#OLTP} unless one was set.
+     */
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload == null ? WorkloadType.OLTP : workload;
+    }
+
+    /**
+     * Run the action as the given workload, then restore the previous one.
+     */
+    public static <T> T call(WorkloadType workload, Supplier<T> action) {
+        WorkloadType previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Run the action as the given workload, then restore the previous one.
+     */
+    public static void run(WorkloadType workload, Runnable action) {
+        call(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Set the current thread's workload and return the one it replaces, for {@link #restore}.
+     */
+    static WorkloadType enter(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(WorkloadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.coursemanagement.datasource;
+
+import com.coursemanagement.tracing.JdbcObservationDecorator;
+import com.coursemanagement.tracing.TracingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Replaces the auto-configured {@code dataSource} with a {@link WorkloadRoutingDataSource}.
+ * The auto-configured Hikari pool becomes the OLTP pool, so everything Spring Boot configures
+ * around it (health, metrics, CRaC, Flyway) keeps working; the reporting and bulk pools are
+ * copies of its configuration with their own sizes, timeouts, leak detection and session settings. The extra
+ * pools are not beans, since another {@link DataSource} bean would switch off the data source
+ * auto-configuration.
+ * <p>
+ * Given an {@link ObservationRegistry}, connections are handed out through a
+ * {@link JdbcObservationDecorator} of each pool unless {@code course-management.tracing.jdbc.enabled}
+ * is false.
+ */
+public class WorkloadDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadDataSourcePostProcessor.class);
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private WorkloadPoolProperties properties = new WorkloadPoolProperties();
+    private TracingProperties tracing = new TracingProperties();
+
+    public WorkloadDataSourcePostProcessor() {
+        this(null);
+    }
+
+    public WorkloadDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        Binder binder = Binder.get(environment);
+        this.properties = binder.bindOrCreate(WorkloadPoolProperties.PREFIX, WorkloadPoolProperties.class);
+        this.tracing = binder.bindOrCreate(TracingProperties.PREFIX, TracingProperties.class);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof HikariDataSource oltp)) {
+            return bean;
+        }
+        return route(oltp, properties, connectionSource());
+    }
+
+    private UnaryOperator<DataSource> connectionSource() {
+        if (observationRegistry == null || !tracing.getJdbc().isEnabled()) {
+            return UnaryOperator.identity();
+        }
+        return new JdbcObservationDecorator(
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)),
+                tracing.getJdbc().isResultSets());
+    }
+
+    static WorkloadRoutingDataSource route(HikariDataSource oltp, WorkloadPoolProperties properties) {
+        return route(oltp, properties, UnaryOperator.identity());
+    }
+
+    static WorkloadRoutingDataSource route(HikariDataSource oltp, WorkloadPoolProperties properties,
+                                           UnaryOperator<DataSource> connectionSource) {
+        String baseInitSql = oltp.getConnectionInitSql();
+        Map<WorkloadType, DataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            if (workload != WorkloadType.OLTP) {
+                HikariDataSource pool = new HikariDataSource();
+                oltp.copyStateTo(pool);
+                pool.setPoolName(workload.getPoolName());
+                configure(pool, workload, properties.get(workload), baseInitSql);
+                pools.put(workload, pool);
+            }
+        }
+        if (oltp.getPoolName() == null) {
+            oltp.setPoolName(WorkloadType.OLTP.getPoolName());
+        }
+        configure(oltp, WorkloadType.OLTP, properties.getOltp(), baseInitSql);
+        return new WorkloadRoutingDataSource(oltp, pools, connectionSource);
+    }
+
+    private static void configure(HikariDataSource pool, WorkloadType workload, WorkloadPoolProperties.Pool settings,
+                                  String baseInitSql) {
+        if (settings.getMaximumPoolSize() != null) {
+            pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+        }
+        if (settings.getMinimumIdle() != null) {
+            pool.setMinimumIdle(settings.getMinimumIdle());
+        }
+        if (settings.getConnectionTimeoutMs() != null) {
+            pool.setConnectionTimeout(settings.getConnectionTimeoutMs());
+        }
+        if (settings.getLeakDetectionThresholdMs() != null) {
+            pool.setLeakDetectionThreshold(settings.getLeakDetectionThresholdMs());
+        }
+        String sessionSql = settings.sessionSql();
+        if (!sessionSql.isEmpty() && isPostgreSql(pool.getJdbcUrl())) {
+            pool.setConnectionInitSql(baseInitSql == null || baseInitSql.isBlank()
+                    ? sessionSql : baseInitSql + "; " + sessionSql);
+        }
+        log.debug("Connection pool {}: max {}, min idle {}, leak detection {} ms, session '{}'", workload.getPoolName(),
+                pool.getMaximumPoolSize(), pool.getMinimumIdle(), pool.getLeakDetectionThreshold(),
+                pool.getConnectionInitSql());
+    }
+
+    private static boolean isPostgreSql(String jdbcUrl) {
+        return jdbcUrl != null && jdbcUrl.startsWith("jdbc:postgresql:");
+    }
+}
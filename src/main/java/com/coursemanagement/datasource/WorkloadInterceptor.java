@@ -0,0 +1,41 @@
+package com.coursemanagement.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Runs {@link Workload} methods with their workload set on the calling thread. Must be ordered
+ * before the transaction interceptor, which takes the connection when the transaction begins.
+ */
+public class WorkloadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Workload workload = findWorkload(invocation);
+        if (workload == null) {
+            return invocation.proceed();
+        }
+        WorkloadType previous = WorkloadContext.enter(workload.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    /**
+     * The method's annotation, falling back to the class's.
+     */
+    static Workload findWorkload(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        return workload != null ? workload : AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+    }
+}
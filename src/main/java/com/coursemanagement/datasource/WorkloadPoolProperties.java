@@ -0,0 +1,94 @@
+package com.coursemanagement.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Per-workload pool settings under {@code course-management.datasource.<workload>}.
+ * Unset pool sizes and timeouts are inherited from {@code spring.datasource.hikari}. Reporting
+ * queries and bulk jobs hold a connection far longer than an API request, so their pools raise or
+ * switch off ({@code 0}) the leak detection threshold instead of logging every run as a leak. The session
+ * settings are applied to every connection of a PostgreSQL pool; {@code 0} or an empty value
+ * leaves the server default.
+ */
+@Getter
+@Setter
+public class WorkloadPoolProperties {
+
+    public static final String PREFIX = "course-management.datasource";
+
+    private static final Pattern WORK_MEM = Pattern.compile("\\d+\\s*(kB|MB|GB)?");
+
+    private Pool oltp = new Pool(null, null, null, null, 30_000, "4MB");
+    private Pool reporting = new Pool(3, 0, 60_000L, 600_000L, 300_000, "64MB");
+    private Pool bulk = new Pool(2, 0, 120_000L, 0L, 0, "32MB");
+
+    public Pool get(WorkloadType workload) {
+        return switch (workload) {
+            case OLTP -> oltp;
+            case REPORTING -> reporting;
+            case BULK -> bulk;
+        };
+    }
+
+    public Map<WorkloadType, Pool> asMap() {
+        Map<WorkloadType, Pool> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            pools.put(workload, get(workload));
+        }
+        return pools;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private Integer maximumPoolSize;
+        private Integer minimumIdle;
+        private Long connectionTimeoutMs;
+        private Long leakDetectionThresholdMs;
+        private long statementTimeoutMs;
+        private String workMem;
+
+        public Pool() {
+        }
+
+        Pool(Integer maximumPoolSize, Integer minimumIdle, Long connectionTimeoutMs, Long leakDetectionThresholdMs,
+             long statementTimeoutMs, String workMem) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeoutMs = connectionTimeoutMs;
+            this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+            this.statementTimeoutMs = statementTimeoutMs;
+            this.workMem = workMem;
+        }
+
+        /**
+         * The {@code SET} statements for this pool's sessions, or an empty string if there are none.
+         */
+        public String sessionSql() {
+            if (statementTimeoutMs < 0) {
+                throw new IllegalArgumentException("statement-timeout-ms must not be negative, was " + statementTimeoutMs);
+            }
+            StringBuilder sql = new StringBuilder();
+            if (statementTimeoutMs > 0) {
+                sql.append("SET statement_timeout = ").append(statementTimeoutMs);
+            }
+            if (workMem != null && !workMem.isBlank() && !"0".equals(workMem.trim())) {
+                if (!WORK_MEM.matcher(workMem.trim()).matches()) {
+                    throw new IllegalArgumentException(String.format(
+                            "Unsupported work-mem '%s'. Use a number with an optional kB, MB or GB unit", workMem));
+                }
+                if (!sql.isEmpty()) {
+                    sql.append("; ");
+                }
+                sql.append("SET work_mem = '").append(workMem.trim()).append('\'');
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.coursemanagement.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Hands out connections from the pool of the current thread's {@link WorkloadContext workload}.
+ * The OLTP pool is the default target, so unwrapping this data source (as health checks,
+ * metrics and the CRaC lifecycle do) reaches the main pool. Closing it closes every pool.
+ * <p>
+ * Connections can be handed out through a decorator of each pool (the JDBC observations wrap
+ * them in a proxy); {@link #getPool} still returns the pools themselves.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadRoutingDataSource.class);
+
+    private final Map<WorkloadType, DataSource> pools = new EnumMap<>(WorkloadType.class);
+
+    public WorkloadRoutingDataSource(DataSource oltp, Map<WorkloadType, DataSource> pools) {
+        this(oltp, pools, UnaryOperator.identity());
+    }
+
+    public WorkloadRoutingDataSource(DataSource oltp, Map<WorkloadType, DataSource> pools,
+                                     UnaryOperator<DataSource> connectionSource) {
+        this.pools.putAll(pools);
+        this.pools.put(WorkloadType.OLTP, oltp);
+        Map<Object, Object> targets = new HashMap<>();
+        this.pools.forEach((workload, pool) -> targets.put(workload, connectionSource.apply(pool)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(targets.get(WorkloadType.OLTP));
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    /**
+     * The pool serving the given workload; the OLTP pool for workloads without one of their own.
+     */
+    public DataSource getPool(WorkloadType workload) {
+        return pools.getOrDefault(workload, pools.get(WorkloadType.OLTP));
+    }
+
+    @Override
+    public void close() {
+        for (Map.Entry<WorkloadType, DataSource> pool : pools.entrySet()) {
+            if (pool.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Could not close the {} connection pool", pool.getKey().getPoolName(), ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.coursemanagement.datasource;
+
+import java.util.Locale;
+
+/**
+ * Kind of database work, each with its own connection pool so one kind cannot starve another.
+ */
+public enum WorkloadType {
+
+    /** Short lookups and writes behind the API. Uses the main {@code spring.datasource} pool. */
+    OLTP,
+
+    /** Full listings, scans and searches that may run long and use more memory per query. */
+    REPORTING,
+
+    /** Imports, deletion jobs, ingestion and maintenance running in the background. */
+    BULK;
+
+    /**
+     * Pool name, also used as the configuration key under {@code course-management.datasource}.
+     */
+    public String getPoolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
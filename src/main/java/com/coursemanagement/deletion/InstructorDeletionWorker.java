@@ -0,0 +1,149 @@
+package com.coursemanagement.deletion;
+
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.entity.InstructorDeletionJob;
+import com.coursemanagement.entity.InstructorDeletionJob.Status;
+import com.coursemanagement.repository.InstructorDeletionJobRepository;
+import com.coursemanagement.repository.InstructorDeletionRepository;
+import com.coursemanagement.service.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Works through pending instructor deletion jobs in bounded chunks.
+ * Each chunk is its own short transaction: it locks the job row, deletes at most
+ * {@code chunk-size} reviews, then enrollments, then courses of the instructor, and records
+ * the progress. When nothing is left the instructor and their details are deleted and an
+ * {@code InstructorDeleted} event is written to the outbox. A run stops after
+ * {@code chunks-per-run} chunks so deletions never monopolize the scheduler or the database.
+ * Jobs survive restarts because their state lives in the database.
+ */
+@Component
+public class InstructorDeletionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(InstructorDeletionWorker.class);
+
+    static final int MAX_FAILURES = 5;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final InstructorDeletionJobRepository jobRepository;
+    private final InstructorDeletionRepository deletionRepository;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int chunksPerRun;
+
+    @Autowired
+    public InstructorDeletionWorker(InstructorDeletionJobRepository jobRepository,
+                                    InstructorDeletionRepository deletionRepository,
+                                    OutboxService outboxService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${course-management.instructor-deletion.enabled:true}") boolean enabled,
+                                    @Value("${course-management.instructor-deletion.chunk-size:500}") int chunkSize,
+                                    @Value("${course-management.instructor-deletion.chunks-per-run:20}") int chunksPerRun) {
+        this.jobRepository = jobRepository;
+        this.deletionRepository = deletionRepository;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.chunksPerRun = chunksPerRun;
+    }
+
+    /**
+     * Process pending jobs, oldest first, until they are done or the chunk budget is spent.
+     */
+    @Scheduled(initialDelayString = "${course-management.instructor-deletion.interval-ms:1000}",
+            fixedDelayString = "${course-management.instructor-deletion.interval-ms:1000}")
+    @Workload(WorkloadType.BULK)
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        int budget = chunksPerRun;
+        for (UUID instructorId : jobRepository.findIdsByStatusIn(List.of(Status.PENDING, Status.RUNNING))) {
+            while (budget > 0) {
+                budget--;
+                Boolean more;
+                try {
+                    more = transactionTemplate.execute(status -> processChunk(instructorId));
+                } catch (RuntimeException ex) {
+                    recordFailure(instructorId, ex);
+                    break;
+                }
+                if (!Boolean.TRUE.equals(more)) {
+                    break;
+                }
+            }
+            if (budget == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delete one chunk for the job inside the current transaction.
+     *
+     * @return whether the job has more work left
+     */
+    boolean processChunk(UUID instructorId) {
+        InstructorDeletionJob job = jobRepository.findByIdForUpdate(instructorId).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return false;
+        }
+        job.setStatus(Status.RUNNING);
+        job.setFailures(0);
+
+        int deleted = deletionRepository.deleteReviews(instructorId, chunkSize);
+        if (deleted > 0) {
+            job.setReviewsDeleted(job.getReviewsDeleted() + deleted);
+            return true;
+        }
+        deleted = deletionRepository.deleteEnrollments(instructorId, chunkSize);
+        if (deleted > 0) {
+            job.setEnrollmentsDeleted(job.getEnrollmentsDeleted() + deleted);
+            return true;
+        }
+        deleted = deletionRepository.deleteCourses(instructorId, chunkSize);
+        if (deleted > 0) {
+            job.setCoursesDeleted(job.getCoursesDeleted() + deleted);
+            return true;
+        }
+
+        deletionRepository.deleteInstructor(instructorId);
+        outboxService.record(OutboxService.INSTRUCTOR, instructorId, "InstructorDeleted", Map.of("id", instructorId));
+        job.setStatus(Status.COMPLETED);
+        job.setLastError(null);
+        job.setCompletedAt(LocalDateTime.now());
+        log.info("Deleted instructor {} with {} courses, {} reviews and {} enrollments", instructorId,
+                job.getCoursesDeleted(), job.getReviewsDeleted(), job.getEnrollmentsDeleted());
+        return false;
+    }
+
+    private void recordFailure(UUID instructorId, RuntimeException ex) {
+        log.warn("Deletion chunk for instructor {} failed, will retry", instructorId, ex);
+        String error = ex.toString();
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(instructorId).ifPresent(job -> {
+            job.setFailures(job.getFailures() + 1);
+            job.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (job.getFailures() >= MAX_FAILURES) {
+                log.error("Giving up deletion of instructor {} after {} failed chunks", instructorId, job.getFailures());
+                job.setStatus(Status.FAILED);
+                job.setCompletedAt(LocalDateTime.now());
+            }
+        }));
+    }
+}
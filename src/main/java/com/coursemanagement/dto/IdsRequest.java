@@ -0,0 +1,27 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for multi-get requests that carry a list of IDs in the body.
+ */
+@Schema(description = "Request DTO for fetching several resources by ID")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class IdsRequest {
+
+    @NotEmpty(message = "At least one ID is required")
+    @Schema(description = "IDs to fetch; results are returned in the same order",
+            example = "[\"123e4567-e89b-12d3-a456-426614174000\"]", required = true)
+    private List<@NotNull(message = "IDs must not be null") UUID> ids;
+}
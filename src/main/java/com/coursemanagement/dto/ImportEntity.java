@@ -0,0 +1,39 @@
+package com.coursemanagement.dto;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Resource types supported by the bulk import endpoint.
+ */
+public enum ImportEntity {
+
+    STUDENTS("students"),
+    INSTRUCTORS("instructors"),
+    COURSES("courses"),
+    REVIEWS("reviews");
+
+    private final String path;
+
+    ImportEntity(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Resolve an import entity from its URL path segment (e.g. "students").
+     */
+    public static ImportEntity fromPath(String path) {
+        String normalized = path == null ? "" : path.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(entity -> entity.path.equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                        "Unsupported import type '%s'. Supported types: %s", path,
+                        Arrays.stream(values()).map(ImportEntity::getPath).collect(Collectors.joining(", ")))));
+    }
+}
@@ -0,0 +1,59 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk import operations.
+ */
+@Schema(description = "Summary of a bulk import")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ImportResponse {
+
+    @Schema(description = "Type of resource imported", example = "students")
+    private String resourceType;
+
+    @Schema(description = "Number of data rows read", example = "50000")
+    private long totalRows;
+
+    @Schema(description = "Number of rows inserted", example = "49998")
+    private long importedRows;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private long failedRows;
+
+    @Schema(description = "Total import time in milliseconds", example = "812")
+    private long durationMillis;
+
+    @Schema(description = "Throughput in rows per second", example = "61576")
+    private long rowsPerSecond;
+
+    @Schema(description = "Row-level errors (capped, see errorsTruncated)")
+    private List<RowError> errors;
+
+    @Schema(description = "True when more rows failed than are listed in errors", example = "false")
+    private boolean errorsTruncated;
+
+    // Nested class for a single rejected row
+    @Schema(description = "Error for a single import row")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    @EqualsAndHashCode
+    public static class RowError {
+        @Schema(description = "1-based data row number (header excluded)", example = "42")
+        private long row;
+
+        @Schema(description = "Why the row was rejected", example = "Student already exists with email: jane@example.com")
+        private String message;
+    }
+}
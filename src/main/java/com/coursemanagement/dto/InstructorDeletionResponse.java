@@ -0,0 +1,50 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for the status of an asynchronous instructor deletion.
+ */
+@Schema(description = "Progress of an asynchronous instructor deletion")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class InstructorDeletionResponse {
+
+    @Schema(description = "ID of the instructor being deleted", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID instructorId;
+
+    @Schema(description = "Job status: PENDING, RUNNING, COMPLETED or FAILED", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Courses the instructor had when deletion was requested", example = "120")
+    private int totalCourses;
+
+    @Schema(description = "Courses deleted so far", example = "40")
+    private int coursesDeleted;
+
+    @Schema(description = "Reviews deleted so far", example = "5200")
+    private long reviewsDeleted;
+
+    @Schema(description = "Enrollments deleted so far", example = "3100")
+    private long enrollmentsDeleted;
+
+    @Schema(description = "Last error, if a chunk failed", example = "null")
+    private String lastError;
+
+    @Schema(description = "Time deletion was requested", example = "2023-12-01T10:30:00")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "Time of the last progress update", example = "2023-12-01T10:30:05")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "Time the job finished", example = "2023-12-01T10:31:00")
+    private LocalDateTime completedAt;
+}
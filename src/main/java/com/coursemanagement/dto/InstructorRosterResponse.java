@@ -0,0 +1,62 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for one page of an instructor's student roster.
+ */
+@Schema(description = "One page of the students enrolled in an instructor's courses")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class InstructorRosterResponse {
+
+    @Schema(description = "ID of the instructor", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID instructorId;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "Page size", example = "20")
+    private int size;
+
+    @Schema(description = "Students on the whole roster", example = "245")
+    private long totalStudents;
+
+    @Schema(description = "Time the roster data was computed; changes after it are not reflected yet",
+            example = "2023-12-01T10:30:00")
+    private LocalDateTime refreshedAt;
+
+    @Schema(description = "Students on this page, ordered by student ID")
+    private List<RosterStudent> students;
+
+    // Nested class for roster entries
+    @Schema(description = "Student on an instructor's roster")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    @EqualsAndHashCode
+    public static class RosterStudent {
+        @Schema(description = "Student ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        private UUID id;
+
+        @Schema(description = "Student full name", example = "John Doe")
+        private String fullName;
+
+        @Schema(description = "Student email", example = "john.doe@example.com")
+        private String email;
+
+        @Schema(description = "Number of the instructor's courses the student is enrolled in", example = "2")
+        private long courseCount;
+    }
+}
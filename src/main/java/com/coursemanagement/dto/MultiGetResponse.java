@@ -0,0 +1,81 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Generic response DTO for multi-get operations.
+ * Items are returned in request order; IDs that do not exist get an item with found=false.
+ */
+@Schema(description = "Response for multi-get operations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class MultiGetResponse<T> {
+
+    // Upper bound on IDs per request, keeps a single array-bound query reasonably sized
+    public static final int MAX_IDS = 1000;
+
+    @Schema(description = "One item per requested ID, in request order")
+    private List<Item<T>> items;
+
+    @Schema(description = "Number of requested IDs that were found", example = "2")
+    private int foundCount;
+
+    @Schema(description = "Requested IDs that were not found")
+    private List<UUID> notFoundIds;
+
+    // Validate the number of requested IDs
+    public static void checkSize(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException(String.format(
+                    "Too many IDs requested: %d (maximum is %d)", ids.size(), MAX_IDS));
+        }
+    }
+
+    // Static factory pairing requested IDs with results in the same order (null = not found)
+    public static <T> MultiGetResponse<T> of(List<UUID> ids, List<T> results) {
+        List<Item<T>> items = new ArrayList<>(ids.size());
+        List<UUID> notFoundIds = new ArrayList<>();
+        int foundCount = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            T result = results.get(i);
+            if (result != null) {
+                foundCount++;
+            } else {
+                notFoundIds.add(ids.get(i));
+            }
+            items.add(new Item<>(ids.get(i), result != null, result));
+        }
+        return new MultiGetResponse<>(items, foundCount, notFoundIds);
+    }
+
+    // Nested class for a single multi-get result
+    @Schema(description = "Result for a single requested ID")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    @EqualsAndHashCode
+    public static class Item<T> {
+        @Schema(description = "Requested ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        private UUID id;
+
+        @Schema(description = "Whether the resource exists", example = "true")
+        private boolean found;
+
+        @Schema(description = "The resource, or null when not found")
+        private T data;
+    }
+}
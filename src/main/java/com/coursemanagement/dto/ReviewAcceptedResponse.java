@@ -0,0 +1,35 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for a review accepted for asynchronous ingestion.
+ */
+@Schema(description = "Review accepted for asynchronous ingestion")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ReviewAcceptedResponse {
+
+    @Schema(description = "ID the review will be stored under", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "ID of the reviewed course", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID courseId;
+
+    @Schema(description = "ID of the student writing the review", example = "987fcdeb-51a2-43d1-9b12-345678901234")
+    private UUID studentId;
+
+    @Schema(description = "Ingestion status", example = "PENDING")
+    private String status;
+
+    @Schema(description = "Time the review was accepted; becomes its creation timestamp", example = "2023-12-01T10:30:00")
+    private LocalDateTime acceptedAt;
+}
@@ -0,0 +1,22 @@
+package com.coursemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for an on-demand roster refresh.
+ */
+@Schema(description = "Result of refreshing instructor rosters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class RosterRefreshResponse {
+
+    @Schema(description = "Time the refreshed roster data was computed", example = "2023-12-01T10:30:00")
+    private LocalDateTime refreshedAt;
+}
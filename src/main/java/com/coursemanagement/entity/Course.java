@@ -3,6 +3,8 @@ package com.coursemanagement.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -57,6 +59,7 @@ public class Course {
     // No cascade operations - removing a course doesn't delete students, and vice versa
     // Only the join table entries are managed
     @ManyToMany(mappedBy = "courses", fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private List<Student> students = new ArrayList<>();
 
     // Constructor with required fields (excluding id and timestamps)
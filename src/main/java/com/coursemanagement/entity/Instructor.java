@@ -3,6 +3,8 @@ package com.coursemanagement.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -47,9 +49,14 @@ public class Instructor {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set once asynchronous deletion has been requested; the instructor is hidden from reads from then on
+    @Column(name = "deletion_requested_at")
+    private LocalDateTime deletionRequestedAt;
+
     // One-to-one relationship with InstructorDetails (optional)
     @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "instructor_details_id", referencedColumnName = "id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
     private InstructorDetails instructorDetails;
 
     // One-to-many relationship with Course
@@ -96,4 +103,9 @@ public class Instructor {
     public String getFullName() {
         return firstName + " " + lastName;
     }
+
+    // Helper method to check whether the instructor is being deleted (and must be hidden)
+    public boolean isDeletionRequested() {
+        return deletionRequestedAt != null;
+    }
 }
\ No newline at end of file
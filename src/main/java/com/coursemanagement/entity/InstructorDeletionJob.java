@@ -0,0 +1,82 @@
+package com.coursemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity class tracking the asynchronous deletion of an instructor and everything under it.
+ * The deletion worker removes reviews, enrollments and courses in bounded chunks, updating the
+ * counters in the same transaction as each chunk, and finally removes the instructor itself.
+ * The row is kept after completion so the outcome can still be queried.
+ */
+@Entity
+@Table(name = "instructor_deletion_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class InstructorDeletionJob {
+
+    /**
+     * Lifecycle of a deletion job.
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    @Id
+    @Column(name = "instructor_id", updatable = false, nullable = false)
+    @EqualsAndHashCode.Include
+    private UUID instructorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "total_courses", nullable = false)
+    private int totalCourses;
+
+    @Column(name = "courses_deleted", nullable = false)
+    private int coursesDeleted;
+
+    @Column(name = "reviews_deleted", nullable = false)
+    private long reviewsDeleted;
+
+    @Column(name = "enrollments_deleted", nullable = false)
+    private long enrollmentsDeleted;
+
+    // Consecutive failed chunks; the job is marked FAILED after too many
+    @Column(name = "failures", nullable = false)
+    private int failures;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "requested_at", updatable = false)
+    private LocalDateTime requestedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Constructor for a newly requested deletion
+    public InstructorDeletionJob(UUID instructorId, int totalCourses) {
+        this.instructorId = instructorId;
+        this.totalCourses = totalCourses;
+        this.status = Status.PENDING;
+    }
+}
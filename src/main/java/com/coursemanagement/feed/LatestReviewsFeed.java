@@ -0,0 +1,261 @@
+package com.coursemanagement.feed;
+
+import com.coursemanagement.dto.ReviewResponse;
+import com.coursemanagement.outbox.DomainChangeEvent;
+import com.coursemanagement.service.OutboxService;
+import com.coursemanagement.service.ReviewService;
+import com.coursemanagement.service.ReviewsIngestedEvent;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The latest reviews, served from memory as a paged snapshot and as a Server-Sent Events stream.
+ * A {@link ReviewRingBuffer} is seeded with one {@code LIMIT} query when the application starts
+ * and then kept current from review change events: outbox events for API writes and
+ * {@link ReviewsIngestedEvent} for write-behind ingestion. Course, student and instructor
+ * changes alter or remove reviews without review events of their own, so they reseed the ring.
+ * Those events are only published on the node that made the change, so every node also re-runs
+ * the seed query on a fixed delay and replaces the ring when the result differs, which picks up
+ * writes made through other nodes. Stream events are sent from a single background thread, so a slow subscriber never holds up
+ * the outbox relay.
+ */
+@Component
+public class LatestReviewsFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LatestReviewsFeed.class);
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String REVIEW_EVENT = "review";
+    static final String REVIEW_DELETED_EVENT = "review-deleted";
+
+    private static final Set<String> RESEED_EVENT_TYPES = Set.of(
+            "CourseUpdated", "CourseDeleted", "StudentUpdated", "StudentDeleted", "InstructorUpdated", "InstructorDeleted");
+
+    private final ReviewService reviewService;
+    private final ReviewRingBuffer buffer;
+    private final long streamTimeoutMillis;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService streamSender;
+    private volatile boolean seeded;
+
+    @Autowired
+    public LatestReviewsFeed(ReviewService reviewService,
+                             @Value("${course-management.latest-reviews.capacity:100}") int capacity,
+                             @Value("${course-management.latest-reviews.stream-timeout-ms:1800000}") long streamTimeoutMillis) {
+        this.reviewService = reviewService;
+        this.buffer = new ReviewRingBuffer(capacity);
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.streamSender = ContextExecutorService.wrap(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latest-reviews-stream");
+            thread.setDaemon(true);
+            return thread;
+        }), ContextSnapshotFactory.builder().build());
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        ensureSeeded();
+    }
+
+    /**
+     * One page of the latest reviews, newest first.
+     */
+    public List<ReviewResponse> getLatest(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative, was " + page);
+        }
+        if (size < 1 || size > buffer.getCapacity()) {
+            throw new IllegalArgumentException(String.format(
+                    "Page size must be between 1 and %d, was %d", buffer.getCapacity(), size));
+        }
+        ensureSeeded();
+        List<ReviewResponse> reviews = buffer.snapshot();
+        long from = (long) page * size;
+        if (from >= reviews.size()) {
+            return List.of();
+        }
+        return List.copyOf(reviews.subList((int) from, (int) Math.min(reviews.size(), from + size)));
+    }
+
+    /**
+     * Open a stream that starts with a {@value #SNAPSHOT_EVENT} event holding every review in the
+     * feed, followed by {@value #REVIEW_EVENT} events for new or changed reviews and
+     * {@value #REVIEW_DELETED_EVENT} events for removed ones. A new snapshot is sent whenever the
+     * feed is reseeded.
+     */
+    public SseEmitter subscribe() {
+        ensureSeeded();
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(ex -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        List<ReviewResponse> snapshot = buffer.snapshot();
+        streamSender.execute(() -> send(emitter, SNAPSHOT_EVENT, snapshot));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onDomainChange(DomainChangeEvent event) {
+        if (!seeded) {
+            // The seed query will see this change
+            return;
+        }
+        try {
+            if (OutboxService.REVIEW.equals(event.aggregateType())) {
+                switch (event.eventType()) {
+                    case "ReviewCreated" -> refresh(List.of(event.aggregateId()), true);
+                    case "ReviewUpdated" -> refresh(List.of(event.aggregateId()), false);
+                    case "ReviewDeleted" -> removed(event.aggregateId());
+                    default -> { }
+                }
+            } else if (RESEED_EVENT_TYPES.contains(event.eventType())) {
+                reseed();
+            }
+        } catch (RuntimeException ex) {
+            // The feed is best effort; never hold up outbox delivery for it
+            log.warn("Could not apply {} for {} to the latest reviews feed", event.eventType(), event.aggregateId(), ex);
+        }
+    }
+
+    @EventListener
+    public void onReviewsIngested(ReviewsIngestedEvent event) {
+        if (!seeded) {
+            return;
+        }
+        try {
+            refresh(event.reviewIds(), true);
+        } catch (RuntimeException ex) {
+            log.warn("Could not add {} ingested reviews to the latest reviews feed", event.reviewIds().size(), ex);
+        }
+    }
+
+    /**
+     * Reload the feed from the database if it no longer matches the newest reviews, for example
+     * after a review was written through another node.
+     */
+    @Scheduled(initialDelayString = "${course-management.latest-reviews.sync-interval-ms:5000}",
+            fixedDelayString = "${course-management.latest-reviews.sync-interval-ms:5000}")
+    public void sync() {
+        if (!seeded) {
+            return;
+        }
+        try {
+            List<ReviewResponse> latest = reviewService.getLatestReviews(buffer.getCapacity());
+            if (!fingerprints(latest).equals(fingerprints(buffer.snapshot()))) {
+                buffer.reset(latest);
+                broadcast(SNAPSHOT_EVENT, latest);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not sync the latest reviews feed, will retry", ex);
+        }
+    }
+
+    /**
+     * Reload the feed from the database.
+     */
+    public void reseed() {
+        List<ReviewResponse> latest = reviewService.getLatestReviews(buffer.getCapacity());
+        buffer.reset(latest);
+        seeded = true;
+        broadcast(SNAPSHOT_EVENT, latest);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamSender.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    private void ensureSeeded() {
+        if (!seeded) {
+            synchronized (this) {
+                if (!seeded) {
+                    reseed();
+                }
+            }
+        }
+    }
+
+    private void refresh(Collection<UUID> reviewIds, boolean created) {
+        Set<UUID> missing = new HashSet<>(reviewIds);
+        for (ReviewResponse review : reviewService.getReviewsByIds(reviewIds)) {
+            missing.remove(review.getId());
+            if (created) {
+                buffer.add(review);
+            } else if (!buffer.replace(review)) {
+                continue;
+            }
+            broadcast(REVIEW_EVENT, review);
+        }
+        // Deleted again before this event was handled
+        missing.forEach(this::removed);
+    }
+
+    private void removed(UUID reviewId) {
+        if (buffer.remove(reviewId)) {
+            broadcast(REVIEW_DELETED_EVENT, Map.of("id", reviewId));
+        }
+    }
+
+    /**
+     * What a subscriber sees of each review, so a sync only sends a snapshot when something changed.
+     */
+    private static List<List<Object>> fingerprints(List<ReviewResponse> reviews) {
+        return reviews.stream()
+                .map(review -> {
+                    ReviewResponse.CourseInfo course = review.getCourse();
+                    ReviewResponse.StudentInfo student = review.getStudent();
+                    return Arrays.<Object>asList(review.getId(), review.getComment(), review.getUpdatedAt(),
+                            course == null ? null : course.getTitle(),
+                            course == null ? null : course.getInstructorName(),
+                            student == null ? null : student.getFullName(),
+                            student == null ? null : student.getEmail());
+                })
+                .toList();
+    }
+
+    private void broadcast(String eventName, Object data) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        streamSender.execute(() -> subscribers.forEach(emitter -> send(emitter, eventName, data)));
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away; the emitter's completion callback removes it
+            subscribers.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+}
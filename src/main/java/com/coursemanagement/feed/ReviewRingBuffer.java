@@ -0,0 +1,158 @@
+package com.coursemanagement.feed;
+
+import com.coursemanagement.dto.ReviewResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size, lock-free ring of the most recently added reviews.
+ * Adding claims the next sequence number and writes slot {@code sequence % capacity}, evicting
+ * the oldest review; replacing and removing swap a single slot with compare-and-set. Readers
+ * never block writers: a snapshot walks back from the newest sequence and skips slots that
+ * have been overwritten or not written yet. {@link #reset(List)} swaps in a whole new ring.
+ */
+public final class ReviewRingBuffer {
+
+    private record Slot(long sequence, ReviewResponse review) {
+    }
+
+    private static final class Ring {
+        final AtomicReferenceArray<Slot> slots;
+        final AtomicLong nextSequence = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private final int capacity;
+    private final AtomicReference<Ring> ring;
+
+    public ReviewRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, was " + capacity);
+        }
+        this.capacity = capacity;
+        this.ring = new AtomicReference<>(new Ring(capacity));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Replace the contents with the given reviews (newest first); extra reviews are ignored.
+     */
+    public void reset(List<ReviewResponse> newestFirst) {
+        Ring fresh = new Ring(capacity);
+        for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+            append(fresh, newestFirst.get(i));
+        }
+        ring.set(fresh);
+    }
+
+    /**
+     * Add a review as the newest one, or replace it in place if it is already in the ring.
+     */
+    public void add(ReviewResponse review) {
+        Ring current = ring.get();
+        if (!replace(current, review)) {
+            append(current, review);
+        }
+    }
+
+    /**
+     * Replace a review that is in the ring, keeping its position.
+     *
+     * @return whether the review was in the ring
+     */
+    public boolean replace(ReviewResponse review) {
+        return replace(ring.get(), review);
+    }
+
+    /**
+     * Remove the review with the given ID.
+     *
+     * @return whether the review was in the ring
+     */
+    public boolean remove(UUID reviewId) {
+        return removeIf(review -> review.getId().equals(reviewId)) > 0;
+    }
+
+    /**
+     * Remove every review that matches the filter.
+     *
+     * @return number of reviews removed
+     */
+    public int removeIf(Predicate<ReviewResponse> filter) {
+        AtomicReferenceArray<Slot> slots = ring.get().slots;
+        int removed = 0;
+        for (int i = 0; i < capacity; i++) {
+            Slot slot = slots.get(i);
+            while (slot != null && slot.review() != null && filter.test(slot.review())) {
+                if (slots.compareAndSet(i, slot, new Slot(slot.sequence(), null))) {
+                    removed++;
+                    break;
+                }
+                slot = slots.get(i);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * The reviews currently in the ring, newest first.
+     */
+    public List<ReviewResponse> snapshot() {
+        Ring current = ring.get();
+        long newest = current.nextSequence.get() - 1;
+        List<ReviewResponse> reviews = new ArrayList<>(capacity);
+        for (long sequence = newest; sequence >= 0 && sequence > newest - capacity; sequence--) {
+            Slot slot = current.slots.get(index(sequence));
+            if (slot != null && slot.sequence() == sequence && slot.review() != null) {
+                reviews.add(slot.review());
+            }
+        }
+        return reviews;
+    }
+
+    private boolean replace(Ring current, ReviewResponse review) {
+        AtomicReferenceArray<Slot> slots = current.slots;
+        for (int i = 0; i < capacity; i++) {
+            Slot slot = slots.get(i);
+            while (slot != null && slot.review() != null && slot.review().getId().equals(review.getId())) {
+                if (slots.compareAndSet(i, slot, new Slot(slot.sequence(), review))) {
+                    return true;
+                }
+                slot = slots.get(i);
+            }
+        }
+        return false;
+    }
+
+    private void append(Ring current, ReviewResponse review) {
+        long sequence = current.nextSequence.getAndIncrement();
+        int index = index(sequence);
+        Slot next = new Slot(sequence, review);
+        while (true) {
+            Slot slot = current.slots.get(index);
+            // A writer that lapped this one already stored a newer review here
+            if (slot != null && slot.sequence() > sequence) {
+                return;
+            }
+            if (current.slots.compareAndSet(index, slot, next)) {
+                return;
+            }
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
@@ -0,0 +1,20 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.entity.Course;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GraphQL view of a course.
+ * Keeps the instructor ID so the instructor field can be resolved in a batch.
+ */
+public record CourseNode(UUID id, String title, LocalDateTime createdAt, LocalDateTime updatedAt,
+                         UUID instructorId) {
+
+    public static CourseNode from(Course course) {
+        // Reading the ID of a lazy proxy does not initialize it
+        return new CourseNode(course.getId(), course.getTitle(), course.getCreatedAt(), course.getUpdatedAt(),
+                course.getInstructor().getId());
+    }
+}
@@ -0,0 +1,154 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.dto.InstructorDetailsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL controller for courses, instructors, instructor details, students and reviews.
+ * Nested fields are resolved with {@link BatchMapping}, which registers a per-request
+ * DataLoader so all parents at one level are resolved with a single lookup.
+ */
+@Controller
+public class GraphQlController {
+
+    private final GraphQlDataService dataService;
+
+    @Autowired
+    public GraphQlController(GraphQlDataService dataService) {
+        this.dataService = dataService;
+    }
+
+    // Root queries
+
+    @QueryMapping
+    public CourseNode course(@Argument UUID id) {
+        return dataService.findCourse(id);
+    }
+
+    @QueryMapping
+    public List<CourseNode> courses() {
+        return dataService.findAllCourses();
+    }
+
+    @QueryMapping
+    public InstructorNode instructor(@Argument UUID id) {
+        return dataService.findInstructor(id);
+    }
+
+    @QueryMapping
+    public List<InstructorNode> instructors() {
+        return dataService.findAllInstructors();
+    }
+
+    @QueryMapping
+    public StudentNode student(@Argument UUID id) {
+        return dataService.findStudent(id);
+    }
+
+    @QueryMapping
+    public List<StudentNode> students() {
+        return dataService.findAllStudents();
+    }
+
+    @QueryMapping
+    public ReviewNode review(@Argument UUID id) {
+        return dataService.findReview(id);
+    }
+
+    // Course fields
+
+    @BatchMapping(typeName = "Course")
+    public Map<CourseNode, InstructorNode> instructor(List<CourseNode> courses) {
+        Map<UUID, InstructorNode> instructors = dataService.findInstructorsByIds(ids(courses, CourseNode::instructorId));
+        return byParent(courses, course -> instructors.get(course.instructorId()));
+    }
+
+    @BatchMapping(typeName = "Course")
+    public Map<CourseNode, List<ReviewNode>> reviews(List<CourseNode> courses) {
+        Map<UUID, List<ReviewNode>> reviews = dataService.findReviewsByCourseIds(ids(courses, CourseNode::id));
+        return byParent(courses, course -> reviews.getOrDefault(course.id(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Course")
+    public Map<CourseNode, List<StudentNode>> students(List<CourseNode> courses) {
+        Map<UUID, List<StudentNode>> students = dataService.findStudentsByCourseIds(ids(courses, CourseNode::id));
+        return byParent(courses, course -> students.getOrDefault(course.id(), List.of()));
+    }
+
+    // Instructor fields
+
+    @BatchMapping(typeName = "Instructor")
+    public Map<InstructorNode, InstructorDetailsResponse> details(List<InstructorNode> instructors) {
+        Map<UUID, InstructorDetailsResponse> details =
+                dataService.findInstructorDetailsByInstructorIds(ids(instructors, InstructorNode::id));
+        return byParent(instructors, instructor -> details.get(instructor.id()));
+    }
+
+    @BatchMapping(typeName = "Instructor")
+    public Map<InstructorNode, List<CourseNode>> courses(List<InstructorNode> instructors) {
+        Map<UUID, List<CourseNode>> courses = dataService.findCoursesByInstructorIds(ids(instructors, InstructorNode::id));
+        return byParent(instructors, instructor -> courses.getOrDefault(instructor.id(), List.of()));
+    }
+
+    // Student fields
+
+    @BatchMapping(typeName = "Student", field = "courses")
+    public Map<StudentNode, List<CourseNode>> studentCourses(List<StudentNode> students) {
+        Map<UUID, List<CourseNode>> courses = dataService.findCoursesByStudentIds(ids(students, StudentNode::id));
+        return byParent(students, student -> courses.getOrDefault(student.id(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Student", field = "reviews")
+    public Map<StudentNode, List<ReviewNode>> studentReviews(List<StudentNode> students) {
+        Map<UUID, List<ReviewNode>> reviews = dataService.findReviewsByStudentIds(ids(students, StudentNode::id));
+        return byParent(students, student -> reviews.getOrDefault(student.id(), List.of()));
+    }
+
+    // Review fields
+
+    @BatchMapping(typeName = "Review", field = "course")
+    public Map<ReviewNode, CourseNode> reviewCourse(List<ReviewNode> reviews) {
+        Map<UUID, CourseNode> courses = dataService.findCoursesByIds(ids(reviews, ReviewNode::courseId));
+        return byParent(reviews, review -> courses.get(review.courseId()));
+    }
+
+    @BatchMapping(typeName = "Review", field = "student")
+    public Map<ReviewNode, StudentNode> reviewStudent(List<ReviewNode> reviews) {
+        Map<UUID, StudentNode> students = dataService.findStudentsByIds(ids(reviews, ReviewNode::studentId));
+        return byParent(reviews, review -> students.get(review.studentId()));
+    }
+
+    /**
+     * Collect the distinct non-null keys of a batch.
+     */
+    private static <T> Collection<UUID> ids(List<T> parents, Function<T, UUID> key) {
+        return parents.stream().map(key).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    /**
+     * Map each parent to its value, skipping parents without one (resolved as null).
+     */
+    private static <P, V> Map<P, V> byParent(List<P> parents, Function<P, V> value) {
+        Map<P, V> result = new LinkedHashMap<>();
+        for (P parent : parents) {
+            V resolved = value.apply(parent);
+            if (resolved != null) {
+                result.put(parent, resolved);
+            }
+        }
+        return result;
+    }
+}
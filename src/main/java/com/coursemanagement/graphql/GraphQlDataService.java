@@ -0,0 +1,143 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.dto.InstructorDetailsResponse;
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Student;
+import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.InstructorRepository;
+import com.coursemanagement.repository.ReviewRepository;
+import com.coursemanagement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only lookups backing the GraphQL API.
+ * Every batch method issues a single IN (...) query for all of the given keys,
+ * so each entity type costs one round trip per level of a GraphQL query.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GraphQlDataService {
+
+    private final CourseRepository courseRepository;
+    private final InstructorRepository instructorRepository;
+    private final StudentRepository studentRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Autowired
+    public GraphQlDataService(CourseRepository courseRepository, InstructorRepository instructorRepository,
+                              StudentRepository studentRepository, ReviewRepository reviewRepository) {
+        this.courseRepository = courseRepository;
+        this.instructorRepository = instructorRepository;
+        this.studentRepository = studentRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    // Root lookups
+
+    public CourseNode findCourse(UUID id) {
+        return courseRepository.findById(id).map(CourseNode::from).orElse(null);
+    }
+
+    public List<CourseNode> findAllCourses() {
+        return courseRepository.findAll().stream().map(CourseNode::from).collect(Collectors.toList());
+    }
+
+    public InstructorNode findInstructor(UUID id) {
+        return instructorRepository.findByIdAndDeletionRequestedAtIsNull(id).map(InstructorNode::from).orElse(null);
+    }
+
+    public List<InstructorNode> findAllInstructors() {
+        return instructorRepository.findByDeletionRequestedAtIsNull().stream()
+                .map(InstructorNode::from)
+                .collect(Collectors.toList());
+    }
+
+    public StudentNode findStudent(UUID id) {
+        return studentRepository.findById(id).map(StudentNode::from).orElse(null);
+    }
+
+    public List<StudentNode> findAllStudents() {
+        return studentRepository.findAll().stream().map(StudentNode::from).collect(Collectors.toList());
+    }
+
+    public ReviewNode findReview(UUID id) {
+        return reviewRepository.findById(id).map(ReviewNode::from).orElse(null);
+    }
+
+    // Batch lookups by ID
+
+    public Map<UUID, CourseNode> findCoursesByIds(Collection<UUID> ids) {
+        return courseRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Course::getId, CourseNode::from));
+    }
+
+    public Map<UUID, InstructorNode> findInstructorsByIds(Collection<UUID> ids) {
+        return instructorRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Instructor::getId, InstructorNode::from));
+    }
+
+    public Map<UUID, StudentNode> findStudentsByIds(Collection<UUID> ids) {
+        return studentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getId, StudentNode::from));
+    }
+
+    public Map<UUID, InstructorDetailsResponse> findInstructorDetailsByInstructorIds(Collection<UUID> instructorIds) {
+        Map<UUID, InstructorDetailsResponse> result = new HashMap<>();
+        for (Object[] row : instructorRepository.findInstructorDetailsByInstructorIds(instructorIds)) {
+            result.put((UUID) row[0], new InstructorDetailsResponse(
+                    (UUID) row[1], (String) row[2], (String) row[3],
+                    (LocalDateTime) row[4], (LocalDateTime) row[5]));
+        }
+        return result;
+    }
+
+    // Batch lookups of child collections by parent ID
+
+    public Map<UUID, List<CourseNode>> findCoursesByInstructorIds(Collection<UUID> instructorIds) {
+        return group(courseRepository.findByInstructorIdIn(instructorIds).stream().map(CourseNode::from)
+                .collect(Collectors.toList()), CourseNode::instructorId);
+    }
+
+    public Map<UUID, List<ReviewNode>> findReviewsByCourseIds(Collection<UUID> courseIds) {
+        return group(reviewRepository.findByCourseIdIn(courseIds).stream().map(ReviewNode::from)
+                .collect(Collectors.toList()), ReviewNode::courseId);
+    }
+
+    public Map<UUID, List<ReviewNode>> findReviewsByStudentIds(Collection<UUID> studentIds) {
+        return group(reviewRepository.findByStudentIdIn(studentIds).stream().map(ReviewNode::from)
+                .collect(Collectors.toList()), ReviewNode::studentId);
+    }
+
+    public Map<UUID, List<StudentNode>> findStudentsByCourseIds(Collection<UUID> courseIds) {
+        Map<UUID, List<StudentNode>> result = new HashMap<>();
+        for (Object[] row : studentRepository.findStudentsByCourseIds(courseIds)) {
+            result.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(StudentNode.from((Student) row[1]));
+        }
+        return result;
+    }
+
+    public Map<UUID, List<CourseNode>> findCoursesByStudentIds(Collection<UUID> studentIds) {
+        Map<UUID, List<CourseNode>> result = new HashMap<>();
+        for (Object[] row : courseRepository.findCoursesByStudentIds(studentIds)) {
+            result.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(CourseNode.from((Course) row[1]));
+        }
+        return result;
+    }
+
+    private static <T> Map<UUID, List<T>> group(List<T> items, Function<T, UUID> key) {
+        return items.stream().collect(Collectors.groupingBy(key));
+    }
+}
@@ -0,0 +1,22 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.entity.Instructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GraphQL view of an instructor.
+ */
+public record InstructorNode(UUID id, String firstName, String lastName, String email,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+
+    public static InstructorNode from(Instructor instructor) {
+        return new InstructorNode(instructor.getId(), instructor.getFirstName(), instructor.getLastName(),
+                instructor.getEmail(), instructor.getCreatedAt(), instructor.getUpdatedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.entity.Review;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GraphQL view of a review.
+ * Keeps the course and student IDs so those fields can be resolved in a batch.
+ */
+public record ReviewNode(UUID id, String comment, LocalDateTime createdAt, LocalDateTime updatedAt,
+                         UUID courseId, UUID studentId) {
+
+    public static ReviewNode from(Review review) {
+        return new ReviewNode(review.getId(), review.getComment(), review.getCreatedAt(), review.getUpdatedAt(),
+                review.getCourse().getId(),
+                review.getStudent() != null ? review.getStudent().getId() : null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.entity.Student;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GraphQL view of a student.
+ */
+public record StudentNode(UUID id, String firstName, String lastName, String email,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+
+    public static StudentNode from(Student student) {
+        return new StudentNode(student.getId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), student.getCreatedAt(), student.getUpdatedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package com.coursemanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Hibernate loading one entity by its ID ({@code find}, {@code getReference} resolution,
+ * association loads). Lookups that only hand out an uninitialized proxy are not recorded;
+ * initializing such a proxy later is a {@link LazyInitializationEvent}.
+ */
+@Name("com.coursemanagement.EntityLoad")
+@Label("Entity Load")
+@Category({"Course Management", "Hibernate"})
+@Description("An entity loaded by ID")
+@StackTrace(false)
+public class EntityLoadEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Entity ID")
+    String entityId;
+
+    @Label("Load Type")
+    String loadType;
+}
@@ -0,0 +1,150 @@
+package com.coursemanagement.jfr;
+
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.internal.util.StringHelper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps Hibernate's load and collection initialization listeners to emit
+ * {@link EntityLoadEvent}s and {@link LazyInitializationEvent}s timed around them. Initializing
+ * an entity proxy reaches Hibernate as an {@link LoadEventListener#IMMEDIATE_LOAD}, so that load
+ * type is recorded as a lazy initialization rather than an entity load.
+ */
+final class HibernateEventRecorder {
+
+    private HibernateEventRecorder() {
+    }
+
+    static final class Load implements LoadEventListener {
+
+        private final List<LoadEventListener> delegates;
+
+        Load(List<LoadEventListener> delegates) {
+            this.delegates = List.copyOf(delegates);
+        }
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            if (loadType == IMMEDIATE_LOAD) {
+                initializeProxy(event, loadType);
+            } else {
+                load(event, loadType);
+            }
+        }
+
+        private void load(LoadEvent event, LoadType loadType) {
+            EntityLoadEvent jfrEvent = new EntityLoadEvent();
+            if (!jfrEvent.isEnabled()) {
+                delegate(event, loadType);
+                return;
+            }
+            jfrEvent.begin();
+            try {
+                delegate(event, loadType);
+            } finally {
+                jfrEvent.end();
+                // A lookup that only handed out a proxy did not load anything
+                if (Hibernate.isInitialized(event.getResult()) && jfrEvent.shouldCommit()) {
+                    jfrEvent.entityType = StringHelper.unqualify(event.getEntityClassName());
+                    jfrEvent.entityId = String.valueOf(event.getEntityId());
+                    jfrEvent.loadType = loadType.getName();
+                    jfrEvent.commit();
+                }
+            }
+        }
+
+        private void initializeProxy(LoadEvent event, LoadType loadType) {
+            LazyInitializationEvent jfrEvent = new LazyInitializationEvent();
+            if (!jfrEvent.isEnabled()) {
+                delegate(event, loadType);
+                return;
+            }
+            jfrEvent.begin();
+            try {
+                delegate(event, loadType);
+            } finally {
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.kind = LazyInitializationEvent.PROXY;
+                    jfrEvent.role = StringHelper.unqualify(event.getEntityClassName());
+                    jfrEvent.ownerId = String.valueOf(event.getEntityId());
+                    jfrEvent.size = -1;
+                    jfrEvent.commit();
+                }
+            }
+        }
+
+        private void delegate(LoadEvent event, LoadType loadType) {
+            for (LoadEventListener delegate : delegates) {
+                delegate.onLoad(event, loadType);
+            }
+        }
+    }
+
+    static final class InitializeCollection implements InitializeCollectionEventListener {
+
+        private final List<InitializeCollectionEventListener> delegates;
+
+        InitializeCollection(List<InitializeCollectionEventListener> delegates) {
+            this.delegates = List.copyOf(delegates);
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            LazyInitializationEvent jfrEvent = new LazyInitializationEvent();
+            if (!jfrEvent.isEnabled()) {
+                delegate(event);
+                return;
+            }
+            jfrEvent.begin();
+            try {
+                delegate(event);
+            } finally {
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    PersistentCollection<?> collection = event.getCollection();
+                    jfrEvent.kind = LazyInitializationEvent.COLLECTION;
+                    jfrEvent.role = role(collection.getRole());
+                    jfrEvent.ownerId = String.valueOf(event.getAffectedOwnerIdOrNull());
+                    jfrEvent.size = collection.wasInitialized() ? size(collection) : -1;
+                    jfrEvent.commit();
+                }
+            }
+        }
+
+        private void delegate(InitializeCollectionEvent event) {
+            for (InitializeCollectionEventListener delegate : delegates) {
+                delegate.onInitializeCollection(event);
+            }
+        }
+    }
+
+    /**
+     * {@code com.coursemanagement.entity.Course.reviews} becomes {@code Course.reviews}.
+     */
+    static String role(String role) {
+        if (role == null) {
+            return null;
+        }
+        int property = role.lastIndexOf('.');
+        return property < 0 ? role : StringHelper.unqualify(role.substring(0, property)) + role.substring(property);
+    }
+
+    private static int size(PersistentCollection<?> collection) {
+        if (collection instanceof Collection<?> elements) {
+            return elements.size();
+        }
+        if (collection instanceof Map<?, ?> entries) {
+            return entries.size();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.coursemanagement.jfr;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Replaces the session factory's load and collection initialization listeners with
+ * {@link HibernateEventRecorder}s delegating to them, so the JFR events time the whole of each
+ * load, including a failed one.
+ */
+public class JfrEventIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        wrap(registry.getEventListenerGroup(EventType.LOAD), HibernateEventRecorder.Load::new);
+        wrap(registry.getEventListenerGroup(EventType.INIT_COLLECTION), HibernateEventRecorder.InitializeCollection::new);
+    }
+
+    private static <T> void wrap(EventListenerGroup<T> group, Function<List<T>, T> recorder) {
+        List<T> delegates = new ArrayList<>();
+        // Visits each listener in order; listeners() is deprecated
+        group.fireEventOnEachListener(delegates, (listener, collected) -> collected.add(listener));
+        group.clearListeners();
+        group.appendListener(recorder.apply(delegates));
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
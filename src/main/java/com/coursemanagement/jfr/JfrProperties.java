@@ -0,0 +1,57 @@
+package com.coursemanagement.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the application's JFR events and the {@link JfrRecordingEndpoint} under
+ * {@code course-management.jfr}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = JfrProperties.PREFIX)
+public class JfrProperties {
+
+    public static final String PREFIX = "course-management.jfr";
+
+    private Events events = new Events();
+    private Recording recording = new Recording();
+
+    /**
+     * Service call, entity load and lazy initialization events. Without a recording that
+     * enables them they cost a flag check per call.
+     */
+    @Getter
+    @Setter
+    public static class Events {
+
+        private boolean enabled = true;
+    }
+
+    /**
+     * Defaults for recordings started through the endpoint.
+     */
+    @Getter
+    @Setter
+    public static class Recording {
+
+        /**
+         * A JDK event configuration: {@code default} or {@code profile}.
+         */
+        private String settings = "profile";
+
+        /**
+         * The recording stops by itself after this long.
+         */
+        private Duration maxDuration = Duration.ofMinutes(10);
+
+        /**
+         * Older chunks are dropped beyond this size.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(100);
+    }
+}
@@ -0,0 +1,131 @@
+package com.coursemanagement.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@code /actuator/jfr}: one flight recording at a time. {@code POST} starts it, optionally with
+ * {@code settings}, {@code maxDuration} and {@code maxSize}; {@code GET} shows it,
+ * {@code DELETE} stops it and {@code GET /actuator/jfr/{id}} downloads what it has recorded so
+ * far as a {@code .jfr} file for JDK Mission Control or {@code jfr print}. A stopped recording
+ * stays downloadable until the next one starts.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    static final String RECORDING_NAME = "course-management";
+
+    /**
+     * The current recording. {@code settings} is the configuration it was started with.
+     */
+    public record RecordingStatus(long id, String name, RecordingState state, String settings, Instant startTime,
+                                  Instant stopTime, Duration maxDuration, long maxSizeBytes, long sizeBytes) {
+    }
+
+    private final JfrProperties properties;
+    private Recording recording;
+    private String settings;
+
+    @Autowired
+    public JfrRecordingEndpoint(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus recording() {
+        return recording != null ? status() : null;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable String settings,
+                                                                   @Nullable Duration maxDuration,
+                                                                   @Nullable DataSize maxSize) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        JfrProperties.Recording defaults = properties.getRecording();
+        String name = settings != null ? settings : defaults.getSettings();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException ex) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        close();
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(maxDuration != null ? maxDuration : defaults.getMaxDuration());
+        started.setMaxSize((maxSize != null ? maxSize : defaults.getMaxSize()).toBytes());
+        started.start();
+        this.recording = started;
+        this.settings = name;
+        return new WebEndpointResponse<>(status());
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> stop() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return new WebEndpointResponse<>(status());
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        if (recording == null || recording.getId() != id || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("course-management-", ".jfr");
+        try {
+            recording.dump(file);
+            // The copy goes away once the response has been written
+            return new WebEndpointResponse<>(new InputStreamResource(
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private RecordingStatus status() {
+        return new RecordingStatus(recording.getId(), recording.getName(), recording.getState(), settings,
+                recording.getStartTime(), recording.getStopTime(), recording.getDuration(), recording.getMaxSize(),
+                recording.getSize());
+    }
+}
@@ -0,0 +1,37 @@
+package com.coursemanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Hibernate initializing a lazy collection (role such as {@code Course.reviews}) or a lazy
+ * entity proxy (role is the entity, such as {@code Instructor}). The stack trace shows the code
+ * that touched the lazy association.
+ */
+@Name("com.coursemanagement.LazyInitialization")
+@Label("Lazy Initialization")
+@Category({"Course Management", "Hibernate"})
+@Description("A lazy collection or entity proxy initialized on first access")
+public class LazyInitializationEvent extends Event {
+
+    static final String COLLECTION = "collection";
+    static final String PROXY = "proxy";
+
+    @Label("Kind")
+    @Description("collection or proxy")
+    String kind;
+
+    @Label("Role")
+    String role;
+
+    @Label("Owner ID")
+    @Description("ID of the collection's owner, or of the proxied entity")
+    String ownerId;
+
+    @Label("Size")
+    @Description("Elements loaded into the collection; -1 for proxies")
+    int size;
+}
@@ -0,0 +1,37 @@
+package com.coursemanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call of a {@code com.coursemanagement.service} interface method, with the entity type the
+ * service handles and the IDs it was called with. The event's duration is the call's, including
+ * the transaction.
+ */
+@Name("com.coursemanagement.ServiceCall")
+@Label("Service Call")
+@Category({"Course Management", "Service"})
+@Description("A service interface method invocation")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Entity IDs")
+    @Description("UUID arguments of the call, comma separated")
+    String entityIds;
+
+    @Label("Outcome")
+    String outcome;
+}
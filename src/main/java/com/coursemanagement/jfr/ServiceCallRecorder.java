@@ -0,0 +1,107 @@
+package com.coursemanagement.jfr;
+
+import com.coursemanagement.metrics.ServiceInterfacePointcut;
+import com.coursemanagement.metrics.ServiceOutcome;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits a {@link ServiceCallEvent} for every service interface method. When no recording has
+ * the event enabled this costs one allocation and a flag check; the IDs are only formatted for
+ * calls past the recording's threshold.
+ */
+public class ServiceCallRecorder implements MethodInterceptor {
+
+    static final int MAX_ENTITY_IDS = 10;
+
+    private record CallSite(String service, String method, String entityType) {
+    }
+
+    private final Map<Method, CallSite> callSites = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                CallSite callSite = callSite(invocation);
+                event.service = callSite.service();
+                event.method = callSite.method();
+                event.entityType = callSite.entityType();
+                event.entityIds = entityIds(invocation.getArguments());
+                event.outcome = ServiceOutcome.of(failure).getTagValue();
+                event.commit();
+            }
+        }
+    }
+
+    private CallSite callSite(MethodInvocation invocation) {
+        return callSites.computeIfAbsent(invocation.getMethod(), method -> {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : method.getDeclaringClass();
+            Class<?> service = ServiceInterfacePointcut.findServiceInterface(method, targetClass);
+            String name = (service != null ? service : targetClass).getSimpleName();
+            return new CallSite(name, method.getName(), entityType(name));
+        });
+    }
+
+    /**
+     * {@code CourseService} handles {@code Course}s.
+     */
+    static String entityType(String serviceName) {
+        return serviceName.endsWith("Service") && serviceName.length() > "Service".length()
+                ? serviceName.substring(0, serviceName.length() - "Service".length())
+                : serviceName;
+    }
+
+    /**
+     * The UUID arguments and UUIDs inside collection arguments, comma separated, at most
+     * {@value #MAX_ENTITY_IDS} of them; {@code null} if there are none.
+     */
+    static String entityIds(Object[] arguments) {
+        StringJoiner ids = new StringJoiner(",");
+        int count = 0;
+        for (Object argument : arguments) {
+            if (argument instanceof UUID id) {
+                count = add(ids, count, id);
+            } else if (argument instanceof Collection<?> elements) {
+                for (Object element : elements) {
+                    if (element instanceof UUID id) {
+                        count = add(ids, count, id);
+                    }
+                }
+            }
+        }
+        if (count > MAX_ENTITY_IDS) {
+            ids.add("+" + (count - MAX_ENTITY_IDS) + " more");
+        }
+        return count > 0 ? ids.toString() : null;
+    }
+
+    private static int add(StringJoiner ids, int count, UUID id) {
+        if (count < MAX_ENTITY_IDS) {
+            ids.add(id.toString());
+        }
+        return count + 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.coursemanagement.metrics;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Matches the methods a bean implements from an interface in {@code com.coursemanagement.service}.
+ */
+public class ServiceInterfacePointcut extends StaticMethodMatcherPointcut {
+
+    static final String SERVICE_PACKAGE = "com.coursemanagement.service";
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return findServiceInterface(method, targetClass) != null;
+    }
+
+    /**
+     * The service interface that declares the method, or {@code null} if none does.
+     */
+    public static Class<?> findServiceInterface(Method method, Class<?> targetClass) {
+        Class<?> type = targetClass != null ? targetClass : method.getDeclaringClass();
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (SERVICE_PACKAGE.equals(candidate.getPackageName())
+                    && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
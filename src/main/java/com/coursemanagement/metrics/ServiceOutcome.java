@@ -0,0 +1,44 @@
+package com.coursemanagement.metrics;
+
+import com.coursemanagement.exception.ResourceAlreadyExistsException;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * How a service call ended, as the {@code outcome} tag of its timer. Mirrors the statuses
+ * {@code GlobalExceptionHandler} maps the exceptions to.
+ */
+public enum ServiceOutcome {
+
+    SUCCESS("success"),
+    NOT_FOUND("not-found"),
+    CONFLICT("conflict"),
+    INVALID("invalid"),
+    ERROR("error");
+
+    private final String tagValue;
+
+    ServiceOutcome(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    public static ServiceOutcome of(Throwable failure) {
+        if (failure == null) {
+            return SUCCESS;
+        }
+        if (failure instanceof ResourceNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (failure instanceof ResourceAlreadyExistsException || failure instanceof DataIntegrityViolationException) {
+            return CONFLICT;
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return INVALID;
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,68 @@
+package com.coursemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every service interface method into the {@code service.method} timer, tagged with the
+ * {@code service} interface, the {@code method} and the {@link ServiceOutcome}. Histogram
+ * buckets come from the {@code management.metrics.distribution.*.service.method} properties.
+ * The registry is looked up on first use, since advisors are created before it exists.
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    static final String TIMER_NAME = "service.method";
+
+    private record TimerKey(Method method, ServiceOutcome outcome) {
+    }
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        long start = registry.config().clock().monotonicTime();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            long duration = registry.config().clock().monotonicTime() - start;
+            timer(registry, invocation, ServiceOutcome.of(failure)).record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(MeterRegistry registry, MethodInvocation invocation, ServiceOutcome outcome) {
+        return timers.computeIfAbsent(new TimerKey(invocation.getMethod(), outcome), key -> {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : key.method().getDeclaringClass();
+            Class<?> service = ServiceInterfacePointcut.findServiceInterface(key.method(), targetClass);
+            return Timer.builder(TIMER_NAME)
+                    .description("Time spent in service methods")
+                    .tag("service", service != null ? service.getSimpleName() : targetClass.getSimpleName())
+                    .tag("method", key.method().getName())
+                    .tag("outcome", outcome.getTagValue())
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.coursemanagement.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes outbox events to in-process {@code @EventListener} methods.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    public ApplicationEventOutboxSink(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(DomainChangeEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coursemanagement.outbox;
+
+import com.coursemanagement.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A delivered domain change event, as seen by outbox sinks and in-process listeners.
+ * Delivery is at-least-once, so consumers should use {@code sequence} to drop duplicates.
+ */
+public record DomainChangeEvent(long sequence, String aggregateType, UUID aggregateId, String eventType,
+                                String payload, LocalDateTime occurredAt) {
+
+    public static DomainChangeEvent from(OutboxEvent event) {
+        return new DomainChangeEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
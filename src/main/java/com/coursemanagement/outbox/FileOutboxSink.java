@@ -0,0 +1,82 @@
+package com.coursemanagement.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends outbox events as JSON lines to a local file.
+ * The file is opened on start and closed on stop, including around a CRaC checkpoint;
+ * events published while it is closed fail and are retried by the relay.
+ */
+@Component
+@ConditionalOnProperty(name = "course-management.outbox.file-sink.enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxEventSink, SmartLifecycle {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private BufferedWriter writer;
+
+    @Autowired
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${course-management.outbox.file-sink.path:data/outbox-events.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(path);
+    }
+
+    @Override
+    public synchronized void publish(DomainChangeEvent event) throws IOException {
+        if (writer == null) {
+            throw new IOException("Outbox file sink is stopped");
+        }
+        writer.write(objectMapper.writeValueAsString(event));
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open outbox file " + file, ex);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close outbox file " + file, ex);
+        } finally {
+            writer = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return writer != null;
+    }
+}
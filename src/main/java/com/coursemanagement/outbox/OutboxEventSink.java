@@ -0,0 +1,10 @@
+package com.coursemanagement.outbox;
+
+/**
+ * Destination for outbox events. Every sink bean receives every event, in outbox order.
+ * Throwing stops the current relay batch; the event and everything after it is retried later.
+ */
+public interface OutboxEventSink {
+
+    void publish(DomainChangeEvent event) throws Exception;
+}
@@ -0,0 +1,89 @@
+package com.coursemanagement.outbox;
+
+import com.coursemanagement.entity.OutboxEvent;
+import com.coursemanagement.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delivers outbox events to every {@link OutboxEventSink} in insertion order and deletes them
+ * once delivered. Delivery is at-least-once: if a sink fails or the delete does not commit,
+ * the same events are delivered again on the next run. Because a failed event stops the batch,
+ * no event is ever delivered ahead of an earlier event for the same aggregate.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${course-management.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${course-management.outbox.relay.batch-size:200}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deliver pending events until the outbox is empty or a sink fails.
+     */
+    @Scheduled(fixedDelayString = "${course-management.outbox.relay.interval-ms:500}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        Integer delivered;
+        do {
+            delivered = transactionTemplate.execute(status -> relayBatch());
+        } while (delivered != null && delivered == batchSize);
+    }
+
+    /**
+     * Deliver one batch inside the current transaction.
+     *
+     * @return number of events delivered, or -1 if a sink failed
+     */
+    int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+        List<OutboxEvent> delivered = new ArrayList<>(events.size());
+        boolean failed = false;
+        for (OutboxEvent event : events) {
+            try {
+                DomainChangeEvent change = DomainChangeEvent.from(event);
+                for (OutboxEventSink sink : sinks) {
+                    sink.publish(change);
+                }
+            } catch (Exception ex) {
+                log.warn("Outbox delivery of event {} ({}) failed, will retry", event.getId(), event.getEventType(), ex);
+                failed = true;
+                break;
+            }
+            delivered.add(event);
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(delivered);
+        }
+        return failed ? -1 : delivered.size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.coursemanagement.partition;
+
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.repository.ReviewPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps the monthly partitions of the reviews table in shape.
+ * Each run creates the partitions for the current month and the next {@code months-ahead} months,
+ * so new reviews never land in the default partition, and moves partitions that ended more than
+ * {@code archive-after-months} ago into the archive schema, where regular review queries no longer
+ * scan them. Does nothing unless reviews is a partitioned PostgreSQL table.
+ */
+@Component
+public class ReviewPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewPartitionMaintainer.class);
+
+    private final ReviewPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+
+    @Autowired
+    public ReviewPartitionMaintainer(ReviewPartitionRepository partitionRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${course-management.review-partitions.enabled:true}") boolean enabled,
+                                     @Value("${course-management.review-partitions.months-ahead:3}") int monthsAhead,
+                                     @Value("${course-management.review-partitions.archive-after-months:24}") int archiveAfterMonths) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @Scheduled(initialDelayString = "${course-management.review-partitions.initial-delay-ms:60000}",
+            fixedDelayString = "${course-management.review-partitions.interval-ms:3600000}")
+    @Workload(WorkloadType.BULK)
+    public void run() {
+        if (!enabled || !partitionRepository.isPartitioned()) {
+            return;
+        }
+        maintain(YearMonth.now());
+    }
+
+    void maintain(YearMonth currentMonth) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            try {
+                partitionRepository.createPartition(month);
+            } catch (RuntimeException ex) {
+                log.warn("Could not create the reviews partition for {}", month, ex);
+            }
+        }
+
+        if (archiveAfterMonths <= 0) {
+            return;
+        }
+        YearMonth oldestHotMonth = currentMonth.minusMonths(archiveAfterMonths);
+        for (YearMonth month : partitionRepository.findHotPartitionMonths()) {
+            if (!month.isBefore(oldestHotMonth)) {
+                break;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> partitionRepository.archivePartition(month));
+                log.info("Archived reviews partition for {}", month);
+            } catch (RuntimeException ex) {
+                log.warn("Could not archive the reviews partition for {}, will retry", month, ex);
+            }
+        }
+    }
+}
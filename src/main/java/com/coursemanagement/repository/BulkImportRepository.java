@@ -0,0 +1,198 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.dto.ImportEntity;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC repository for the bulk import pipeline.
+ * Rows are streamed with COPY into a transaction-scoped staging table and then merged
+ * into the target table with a single INSERT ... SELECT, so a chunk of thousands of
+ * rows costs a handful of round trips instead of one insert per row.
+ * Requires PostgreSQL; callers should check {@link #isCopySupported()} first.
+ */
+@Repository
+public class BulkImportRepository {
+
+    private static final String STAGING_TABLE = "import_staging";
+
+    /**
+     * Staging columns (in COPY order) and merge statement per import type.
+     * The merge returns the IDs that were actually inserted; any staged row that is not
+     * returned was skipped because of a conflict that appeared after validation.
+     */
+    private static final Map<ImportEntity, ImportSpec> SPECS = Map.of(
+            ImportEntity.STUDENTS, new ImportSpec(
+                    "id uuid, first_name varchar(100), last_name varchar(100), email varchar(255)",
+                    "INSERT INTO student (id, first_name, last_name, email, created_at, updated_at) "
+                            + "SELECT s.id, s.first_name, s.last_name, s.email, now(), now() FROM import_staging s "
+                            + "ON CONFLICT (email) DO NOTHING RETURNING id"),
+            ImportEntity.INSTRUCTORS, new ImportSpec(
+                    "id uuid, first_name varchar(100), last_name varchar(100), email varchar(255)",
+                    "INSERT INTO instructor (id, first_name, last_name, email, created_at, updated_at) "
+                            + "SELECT s.id, s.first_name, s.last_name, s.email, now(), now() FROM import_staging s "
+                            + "ON CONFLICT (email) DO NOTHING RETURNING id"),
+            ImportEntity.COURSES, new ImportSpec(
+                    "id uuid, title varchar(255), instructor_id uuid",
+                    "INSERT INTO course (id, title, instructor_id, created_at, updated_at) "
+                            + "SELECT s.id, s.title, s.instructor_id, now(), now() FROM import_staging s "
+                            + "JOIN instructor i ON i.id = s.instructor_id "
+                            + "WHERE NOT EXISTS (SELECT 1 FROM course c "
+                            + "WHERE c.instructor_id = s.instructor_id AND c.title = s.title) "
+                            + "RETURNING id"),
+            ImportEntity.REVIEWS, new ImportSpec(
+                    "id uuid, comment text, course_id uuid, student_id uuid",
+                    "INSERT INTO reviews (id, comment, course_id, student_id, created_at, updated_at) "
+                            + "SELECT s.id, s.comment, s.course_id, s.student_id, now(), now() FROM import_staging s "
+                            + "JOIN course c ON c.id = s.course_id "
+                            + "JOIN student st ON st.id = s.student_id "
+                            + "RETURNING id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Autowired
+    public BulkImportRepository(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    /**
+     * Whether the configured database supports COPY (i.e. is PostgreSQL).
+     */
+    public boolean isCopySupported() {
+        return databasePlatform.isPostgreSql();
+    }
+
+    /**
+     * Find which of the given emails already exist in the student or instructor table.
+     */
+    public Set<String> findExistingEmails(ImportEntity entity, Collection<String> emails) {
+        String table = entity == ImportEntity.INSTRUCTORS ? "instructor" : "student";
+        return queryAny("SELECT email FROM " + table + " WHERE email = ANY(?)", "varchar", emails, String.class);
+    }
+
+    /**
+     * Find which of the given IDs exist in the table backing the given import type.
+     */
+    public Set<UUID> findExistingIds(ImportEntity entity, Collection<UUID> ids) {
+        String table = switch (entity) {
+            case STUDENTS -> "student";
+            case INSTRUCTORS -> "instructor";
+            case COURSES -> "course";
+            case REVIEWS -> "reviews";
+        };
+        return queryAny("SELECT id FROM " + table + " WHERE id = ANY(?)", "uuid", ids, UUID.class);
+    }
+
+    /**
+     * Find existing course keys ("instructorId|title") among the given instructors.
+     */
+    public Set<String> findExistingCourseKeys(Collection<UUID> instructorIds) {
+        if (instructorIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(
+                            "SELECT instructor_id, title FROM course WHERE instructor_id = ANY(?)");
+                    statement.setArray(1, connection.createArrayOf("uuid", instructorIds.toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> courseKey(rs.getObject(1, UUID.class), rs.getString(2))));
+    }
+
+    /**
+     * Key used to detect duplicate course titles for the same instructor.
+     */
+    public static String courseKey(UUID instructorId, String title) {
+        return instructorId + "|" + title;
+    }
+
+    /**
+     * COPY the rows into a staging table and merge them into the target table.
+     * Must run inside a transaction; the staging table is dropped on commit.
+     * Each row's values must follow the staging column order, with the new ID first.
+     *
+     * @return IDs of the rows that were inserted
+     */
+    public Set<UUID> copyAndMerge(ImportEntity entity, List<Object[]> rows) {
+        ImportSpec spec = SPECS.get(entity);
+        return jdbcTemplate.execute((ConnectionCallback<Set<UUID>>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE " + STAGING_TABLE + " (" + spec.stagingColumns()
+                        + ") ON COMMIT DROP");
+            }
+
+            copyIn(connection, rows);
+
+            Set<UUID> inserted = new HashSet<>(rows.size() * 2);
+            try (var statement = connection.createStatement();
+                 var rs = statement.executeQuery(spec.mergeSql())) {
+                while (rs.next()) {
+                    inserted.add(rs.getObject(1, UUID.class));
+                }
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + STAGING_TABLE);
+            }
+            return inserted;
+        });
+    }
+
+    private void copyIn(Connection connection, List<Object[]> rows) throws SQLException {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                // Unquoted empty is NULL in COPY csv format; everything else is quoted
+                if (row[i] != null) {
+                    csv.append('"').append(row[i].toString().replace("\"", "\"\"")).append('"');
+                }
+            }
+            csv.append('\n');
+        }
+
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "COPY " + STAGING_TABLE + " FROM STDIN WITH (FORMAT csv)", new StringReader(csv.toString()));
+        } catch (IOException ex) {
+            throw new SQLException("COPY into staging table failed", ex);
+        }
+    }
+
+    private <T> Set<T> queryAny(String sql, String arrayType, Collection<?> values, Class<T> type) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(sql);
+                    Array array = connection.createArrayOf(arrayType, values.toArray());
+                    statement.setArray(1, array);
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getObject(1, type)));
+    }
+
+    private record ImportSpec(String stagingColumns, String mergeSql) {
+    }
+}
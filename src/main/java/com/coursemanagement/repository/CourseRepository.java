@@ -1,12 +1,18 @@
 package com.coursemanagement.repository;
 
 import com.coursemanagement.entity.Course;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,13 +20,20 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods.
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, UUID> {
+public interface CourseRepository extends JpaRepository<Course, UUID>, CourseRepositoryCustom {
 
     /**
      * Find courses by instructor ID.
      */
     List<Course> findByInstructorId(UUID instructorId);
 
+    /**
+     * Find courses by instructor ID, checking that the instructor exists in the same statement.
+     * An unknown instructor yields an empty list and an instructor without courses a single {@code null} element.
+     */
+    @Query("SELECT c FROM Instructor i LEFT JOIN Course c ON c.instructor = i WHERE i.id = :instructorId")
+    List<Course> findByExistingInstructorId(@Param("instructorId") UUID instructorId);
+
     /**
      * Find courses by title containing keyword (case-insensitive).
      */
@@ -63,4 +76,39 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
      * Count courses by instructor ID.
      */
     long countByInstructorId(UUID instructorId);
-}
\ No newline at end of file
+
+    /**
+     * Find courses taught by any of the given instructors.
+     */
+    List<Course> findByInstructorIdIn(Collection<UUID> instructorIds);
+
+    /**
+     * Find the IDs of the courses with the most enrolled students, most first.
+     */
+    @Query("SELECT c.id FROM Course c LEFT JOIN c.students s GROUP BY c.id ORDER BY COUNT(s) DESC, c.id")
+    List<UUID> findMostEnrolledIds(Pageable pageable);
+
+    /**
+     * Find (student ID, course) pairs for courses any of the given students are enrolled in.
+     */
+    @Query("SELECT s.id, c FROM Course c JOIN c.students s WHERE s.id IN :studentIds")
+    List<Object[]> findCoursesByStudentIds(@Param("studentIds") Collection<UUID> studentIds);
+
+    /**
+     * Delete a course in a single statement, without loading it.
+     * Reviews and enrollments go with it through the ON DELETE CASCADE foreign keys.
+     *
+     * @return number of rows deleted (0 if the course does not exist)
+     */
+    @Modifying
+    @Query("DELETE FROM Course c WHERE c.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    /**
+     * Find a course and lock its row until the transaction ends. Writers that record an outbox
+     * event take this lock first, so events for the same course get IDs in commit order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findByIdForUpdate(@Param("id") UUID id);
+}
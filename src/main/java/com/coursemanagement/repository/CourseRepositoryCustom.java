@@ -0,0 +1,17 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for Course queries that cannot be derived by Spring Data.
+ */
+public interface CourseRepositoryCustom {
+
+    /**
+     * Find courses (with instructor) by IDs in one query, in request order with null for missing IDs.
+     */
+    List<Course> findAllByIdsInOrder(List<UUID> ids);
+}
@@ -0,0 +1,22 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link CourseRepositoryCustom}.
+ */
+public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Course> findAllByIdsInOrder(List<UUID> ids) {
+        return MultiIdLoader.load(entityManager, Course.class, ids, "instructor");
+    }
+}
@@ -0,0 +1,33 @@
+package com.coursemanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Which database the application is connected to, read once from the connection metadata.
+ * Repositories that use PostgreSQL-only features (COPY, materialized views, partitions,
+ * pg_stat_activity) check it and fall back to portable SQL elsewhere, such as on H2 in tests.
+ */
+@Component
+public class DatabasePlatform {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgreSql;
+
+    @Autowired
+    public DatabasePlatform(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql")));
+        }
+        return postgreSql;
+    }
+}
@@ -0,0 +1,71 @@
+package com.coursemanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC repository for database-side wait events, read from PostgreSQL's {@code pg_stat_activity}.
+ * Other databases (such as H2 in tests) have no equivalent, so nothing is reported for them.
+ */
+@Repository
+public class DatabaseWaitRepository {
+
+    // Waits that more connections cannot help with: they queue on the same locks, buffers or disks
+    private static final Set<String> CONTENDED_WAIT_TYPES = Set.of("Lock", "LWLock", "BufferPin", "IO");
+
+    /**
+     * Active sessions on this database (other than the sampling one), and how many of them are
+     * waiting on a lock, a buffer or I/O.
+     */
+    public record DatabaseWaits(int activeSessions, int contendedSessions) {
+
+        /**
+         * Share of active sessions that are waiting on contention, between 0 and 1.
+         */
+        public double contendedShare() {
+            return activeSessions == 0 ? 0 : (double) contendedSessions / activeSessions;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Autowired
+    public DatabaseWaitRepository(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    /**
+     * Whether the configured database reports wait events (i.e. is PostgreSQL).
+     */
+    public boolean isSupported() {
+        return databasePlatform.isPostgreSql();
+    }
+
+    /**
+     * Sample the wait events of active sessions; empty on databases without {@code pg_stat_activity}.
+     */
+    public Optional<DatabaseWaits> sampleWaits() {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        int[] counts = new int[2];
+        jdbcTemplate.query(
+                "SELECT wait_event_type, COUNT(*) AS sessions FROM pg_stat_activity "
+                        + "WHERE datname = current_database() AND state = 'active' AND pid <> pg_backend_pid() "
+                        + "GROUP BY wait_event_type",
+                rs -> {
+                    int sessions = rs.getInt("sessions");
+                    counts[0] += sessions;
+                    if (CONTENDED_WAIT_TYPES.contains(rs.getString("wait_event_type"))) {
+                        counts[1] += sessions;
+                    }
+                });
+        return Optional.of(new DatabaseWaits(counts[0], counts[1]));
+    }
+}
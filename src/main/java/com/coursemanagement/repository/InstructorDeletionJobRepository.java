@@ -0,0 +1,34 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.InstructorDeletionJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for InstructorDeletionJob entity.
+ */
+@Repository
+public interface InstructorDeletionJobRepository extends JpaRepository<InstructorDeletionJob, UUID> {
+
+    /**
+     * Find a job and lock its row, so only one worker processes a chunk of it at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM InstructorDeletionJob j WHERE j.instructorId = :instructorId")
+    Optional<InstructorDeletionJob> findByIdForUpdate(@Param("instructorId") UUID instructorId);
+
+    /**
+     * Find IDs of jobs in the given states, oldest request first.
+     */
+    @Query("SELECT j.instructorId FROM InstructorDeletionJob j WHERE j.status IN :statuses ORDER BY j.requestedAt")
+    List<UUID> findIdsByStatusIn(@Param("statuses") Collection<InstructorDeletionJob.Status> statuses);
+}
@@ -0,0 +1,70 @@
+package com.coursemanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for chunked instructor deletion.
+ * Each method deletes at most {@code limit} rows in one statement without loading anything,
+ * so a deletion job can work through large course trees in short transactions.
+ */
+@Repository
+public class InstructorDeletionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InstructorDeletionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Delete up to {@code limit} reviews of the instructor's courses.
+     */
+    public int deleteReviews(UUID instructorId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM reviews WHERE id IN (" +
+                        "SELECT r.id FROM reviews r JOIN course c ON c.id = r.course_id " +
+                        "WHERE c.instructor_id = ? LIMIT ?)",
+                instructorId, limit);
+    }
+
+    /**
+     * Delete up to {@code limit} enrollments in the instructor's courses.
+     */
+    public int deleteEnrollments(UUID instructorId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM course_student WHERE (course_id, student_id) IN (" +
+                        "SELECT cs.course_id, cs.student_id FROM course_student cs JOIN course c ON c.id = cs.course_id " +
+                        "WHERE c.instructor_id = ? LIMIT ?)",
+                instructorId, limit);
+    }
+
+    /**
+     * Delete up to {@code limit} of the instructor's courses.
+     */
+    public int deleteCourses(UUID instructorId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM course WHERE id IN (SELECT id FROM course WHERE instructor_id = ? LIMIT ?)",
+                instructorId, limit);
+    }
+
+    /**
+     * Delete the instructor and their details, once nothing references the instructor any more.
+     *
+     * @return whether the instructor row existed
+     */
+    public boolean deleteInstructor(UUID instructorId) {
+        List<UUID> detailsIds = jdbcTemplate.queryForList(
+                "SELECT instructor_details_id FROM instructor WHERE id = ?", UUID.class, instructorId);
+        int deleted = jdbcTemplate.update("DELETE FROM instructor WHERE id = ?", instructorId);
+        if (!detailsIds.isEmpty() && detailsIds.get(0) != null) {
+            jdbcTemplate.update("DELETE FROM instructor_details WHERE id = ?", detailsIds.get(0));
+        }
+        return deleted > 0;
+    }
+}
@@ -2,7 +2,9 @@ package com.coursemanagement.repository;
 
 import com.coursemanagement.entity.InstructorDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -30,4 +32,14 @@ public interface InstructorDetailsRepository extends JpaRepository<InstructorDet
      */
     @Query("SELECT id FROM InstructorDetails id WHERE id.instructor IS NULL")
     List<InstructorDetails> findOrphanedInstructorDetails();
-}
\ No newline at end of file
+
+    /**
+     * Delete instructor details in a single statement, without loading them.
+     * The owning instructor is kept, with instructor_details_id set to NULL by the foreign key.
+     *
+     * @return number of rows deleted (0 if the details do not exist)
+     */
+    @Modifying
+    @Query("DELETE FROM InstructorDetails d WHERE d.id = :id")
+    int removeById(@Param("id") UUID id);
+}
@@ -1,11 +1,14 @@
 package com.coursemanagement.repository;
 
 import com.coursemanagement.entity.Instructor;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,21 +18,37 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods.
  */
 @Repository
-public interface InstructorRepository extends JpaRepository<Instructor, UUID> {
+public interface InstructorRepository extends JpaRepository<Instructor, UUID>, InstructorRepositoryCustom {
 
     /**
      * Find instructor by email address.
      */
     Optional<Instructor> findByEmail(String email);
 
+    /**
+     * Find instructor by email address unless it is being deleted.
+     */
+    Optional<Instructor> findByEmailAndDeletionRequestedAtIsNull(String email);
+
+    /**
+     * Find instructor by ID unless it is being deleted.
+     */
+    Optional<Instructor> findByIdAndDeletionRequestedAtIsNull(UUID id);
+
+    /**
+     * Find all instructors that are not being deleted.
+     */
+    List<Instructor> findByDeletionRequestedAtIsNull();
+
     /**
      * Find instructors by full name (case-insensitive search in both first and last names).
      * Searches for the term in the full name, first name, or last name.
+     * Instructors being deleted are left out.
      */
-    @Query("SELECT i FROM Instructor i WHERE " +
+    @Query("SELECT i FROM Instructor i WHERE i.deletionRequestedAt IS NULL AND (" +
            "LOWER(CONCAT(i.firstName, ' ', i.lastName)) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
            "LOWER(i.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
-           "LOWER(i.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
+           "LOWER(i.lastName) LIKE LOWER(CONCAT('%', :name, '%')))")
     List<Instructor> findByFullNameContaining(@Param("name") String name);
 
     /**
@@ -38,14 +57,36 @@ public interface InstructorRepository extends JpaRepository<Instructor, UUID> {
     boolean existsByEmail(String email);
 
     /**
-     * Find all instructors with instructor details.
+     * Check if an instructor exists and is not being deleted.
      */
-    @Query("SELECT i FROM Instructor i WHERE i.instructorDetails IS NOT NULL")
+    boolean existsByIdAndDeletionRequestedAtIsNull(UUID id);
+
+    /**
+     * Find all instructors with instructor details, leaving out instructors being deleted.
+     */
+    @Query("SELECT i FROM Instructor i WHERE i.instructorDetails IS NOT NULL AND i.deletionRequestedAt IS NULL")
     List<Instructor> findInstructorsWithDetails();
 
     /**
-     * Find all instructors without instructor details.
+     * Find all instructors without instructor details, leaving out instructors being deleted.
      */
-    @Query("SELECT i FROM Instructor i WHERE i.instructorDetails IS NULL")
+    @Query("SELECT i FROM Instructor i WHERE i.instructorDetails IS NULL AND i.deletionRequestedAt IS NULL")
     List<Instructor> findInstructorsWithoutDetails();
-}
\ No newline at end of file
+
+    /**
+     * Find instructor details columns keyed by instructor ID for the given instructors.
+     * Selects scalars so the inverse one-to-one back to Instructor is not loaded per row.
+     */
+    @Query("SELECT i.id, d.id, d.youtubeChannel, d.hobby, d.createdAt, d.updatedAt " +
+           "FROM Instructor i JOIN i.instructorDetails d WHERE i.id IN :instructorIds")
+    List<Object[]> findInstructorDetailsByInstructorIds(@Param("instructorIds") Collection<UUID> instructorIds);
+
+    /**
+     * Find an instructor that is not being deleted and lock its row until the transaction ends.
+     * Writers that record an outbox event take this lock first, so events for the same
+     * instructor get IDs in commit order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Instructor i WHERE i.id = :id AND i.deletionRequestedAt IS NULL")
+    Optional<Instructor> findVisibleByIdForUpdate(@Param("id") UUID id);
+}
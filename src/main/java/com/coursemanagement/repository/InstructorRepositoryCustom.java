@@ -0,0 +1,17 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Instructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for Instructor queries that cannot be derived by Spring Data.
+ */
+public interface InstructorRepositoryCustom {
+
+    /**
+     * Find instructors (with details) by IDs in one query, in request order with null for missing IDs.
+     */
+    List<Instructor> findAllByIdsInOrder(List<UUID> ids);
+}
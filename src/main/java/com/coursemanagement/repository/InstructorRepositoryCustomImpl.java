@@ -0,0 +1,22 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Instructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link InstructorRepositoryCustom}.
+ */
+public class InstructorRepositoryCustomImpl implements InstructorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Instructor> findAllByIdsInOrder(List<UUID> ids) {
+        return MultiIdLoader.load(entityManager, Instructor.class, ids, "instructorDetails");
+    }
+}
@@ -0,0 +1,103 @@
+package com.coursemanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC repository for instructor student rosters.
+ * On PostgreSQL rosters are read from the {@code instructor_student_roster} materialized view
+ * (migration {@code V7}), which holds one row per instructor and student with the number of the
+ * instructor's courses the student takes. Other databases (such as H2 in tests) have no
+ * materialized views, so the same aggregate is computed inline on every read.
+ */
+@Repository
+public class InstructorRosterRepository {
+
+    public static final String VIEW_NAME = "instructor_student_roster";
+
+    private static final String INLINE_ROSTER =
+            "(SELECT c.instructor_id, cs.student_id, COUNT(*) AS course_count "
+                    + "FROM course c JOIN course_student cs ON cs.course_id = c.id "
+                    + "GROUP BY c.instructor_id, cs.student_id)";
+
+    /**
+     * One student on an instructor's roster.
+     */
+    public record RosterRow(UUID studentId, String firstName, String lastName, String email, long courseCount) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Autowired
+    public InstructorRosterRepository(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    /**
+     * Whether the configured database has the materialized view (i.e. is PostgreSQL).
+     */
+    public boolean isMaterializedViewSupported() {
+        return databasePlatform.isPostgreSql();
+    }
+
+    /**
+     * One page of the instructor's students in {@code student_id} order, which is the order of
+     * the view's unique index, so a page needs no sort.
+     */
+    public List<RosterRow> findStudents(UUID instructorId, int limit, long offset) {
+        return jdbcTemplate.query(
+                "SELECT s.id, s.first_name, s.last_name, s.email, r.course_count FROM " + roster() + " r "
+                        + "JOIN student s ON s.id = r.student_id "
+                        + "WHERE r.instructor_id = ? ORDER BY r.student_id LIMIT ? OFFSET ?",
+                (rs, rowNum) -> new RosterRow(rs.getObject("id", UUID.class), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getString("email"), rs.getLong("course_count")),
+                instructorId, limit, offset);
+    }
+
+    /**
+     * Count the students on the instructor's roster.
+     */
+    public long countStudents(UUID instructorId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + roster() + " r WHERE r.instructor_id = ?", Long.class, instructorId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * When the materialized view was last refreshed; empty when rosters are computed inline.
+     */
+    public Optional<LocalDateTime> findRefreshedAt() {
+        if (!isMaterializedViewSupported()) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT refreshed_at FROM materialized_view_refreshes WHERE view_name = ?",
+                LocalDateTime.class, VIEW_NAME).stream().findFirst();
+    }
+
+    /**
+     * Recompute the materialized view without blocking readers, and record the refresh time.
+     * Must run in a transaction so the view and its refresh time change together.
+     *
+     * @param refreshedAt the time the refresh started; the view reflects every change committed before it
+     */
+    public void refresh(LocalDateTime refreshedAt) {
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + VIEW_NAME);
+        jdbcTemplate.update(
+                "INSERT INTO materialized_view_refreshes (view_name, refreshed_at) VALUES (?, ?) "
+                        + "ON CONFLICT (view_name) DO UPDATE SET refreshed_at = EXCLUDED.refreshed_at",
+                VIEW_NAME, refreshedAt);
+    }
+
+    private String roster() {
+        return isMaterializedViewSupported() ? VIEW_NAME : INLINE_ROSTER;
+    }
+}
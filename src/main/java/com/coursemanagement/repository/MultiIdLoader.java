@@ -0,0 +1,33 @@
+package com.coursemanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.graph.RootGraph;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads entities by a list of IDs with Hibernate's multi-load.
+ * On PostgreSQL this is a single "id = any(?)" statement with one array-bound
+ * parameter, so the SQL text (and its cached plan) is the same no matter how
+ * many IDs are requested; other dialects (such as H2 in tests) fall back to IN lists.
+ * Results come back in request order, with null for IDs that do not exist.
+ */
+public final class MultiIdLoader {
+
+    private MultiIdLoader() {
+    }
+
+    public static <T> List<T> load(EntityManager entityManager, Class<T> entityType, List<UUID> ids,
+                                   String... fetchAttributes) {
+        Session session = entityManager.unwrap(Session.class);
+        RootGraph<T> graph = session.createEntityGraph(entityType);
+        graph.addAttributeNodes(fetchAttributes);
+        return session.byMultipleIds(entityType)
+                .enableOrderedReturn(true)
+                .enableReturnOfDeletedEntities(false)
+                .withLoadGraph(graph)
+                .multiLoad(ids);
+    }
+}
@@ -0,0 +1,89 @@
+package com.coursemanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC repository for write-behind review ingestion.
+ * Inserts reviews with one multi-row statement per batch instead of one insert per review.
+ */
+@Repository
+public class ReviewIngestionRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO reviews (id, comment, course_id, student_id, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ReviewIngestionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A review row to insert.
+     */
+    public record ReviewRow(UUID id, String comment, UUID courseId, UUID studentId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Check that the course and student exist in a single round trip.
+     *
+     * @return two flags: whether the course exists and whether the student exists
+     */
+    public boolean[] courseAndStudentExist(UUID courseId, UUID studentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM course WHERE id = ?), (SELECT COUNT(*) FROM student WHERE id = ?)",
+                (rs, rowNum) -> new boolean[]{rs.getLong(1) > 0, rs.getLong(2) > 0},
+                courseId, studentId);
+    }
+
+    /**
+     * Insert all rows with a single multi-row INSERT.
+     */
+    public int insertBatch(List<ReviewRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * 20).append(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(rows.size() * 6);
+        for (ReviewRow row : rows) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            args.add(row.id());
+            args.add(row.comment());
+            args.add(row.courseId());
+            args.add(row.studentId());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Find which of the given review IDs are already stored (used to make journal replay idempotent).
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM reviews WHERE id IN (" + placeholders + ")", UUID.class, ids.toArray()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.dto.ReviewResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JDBC repository for the monthly partitions of the reviews table (migration {@code V8}).
+ * Hot partitions are attached to {@code reviews}, so every other review query only ever sees
+ * them. Archived partitions are moved into the {@code archive} schema and attached to
+ * {@code archive.reviews}, which is only read when archived reviews are asked for.
+ * Requires a partitioned PostgreSQL table; callers should check {@link #isPartitioned()} first.
+ */
+@Repository
+public class ReviewPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "reviews_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String ARCHIVED_REVIEW_COLUMNS =
+            "SELECT r.id, r.comment, r.created_at, r.updated_at, c.id AS course_id, c.title, "
+                    + "i.first_name AS instructor_first_name, i.last_name AS instructor_last_name, "
+                    + "s.id AS student_id, s.first_name AS student_first_name, s.last_name AS student_last_name, s.email "
+                    + "FROM archive.reviews r "
+                    + "JOIN course c ON c.id = r.course_id "
+                    + "JOIN instructor i ON i.id = c.instructor_id "
+                    + "LEFT JOIN student s ON s.id = r.student_id ";
+
+    private static final RowMapper<ReviewResponse> ARCHIVED_REVIEW_MAPPER = (rs, rowNum) -> {
+        UUID studentId = rs.getObject("student_id", UUID.class);
+        return new ReviewResponse(
+                rs.getObject("id", UUID.class),
+                rs.getString("comment"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                new ReviewResponse.CourseInfo(rs.getObject("course_id", UUID.class), rs.getString("title"),
+                        rs.getString("instructor_first_name") + " " + rs.getString("instructor_last_name")),
+                studentId == null ? null : new ReviewResponse.StudentInfo(studentId,
+                        rs.getString("student_first_name") + " " + rs.getString("student_last_name"),
+                        rs.getString("email")));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+    private volatile Boolean partitioned;
+
+    @Autowired
+    public ReviewPartitionRepository(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    /**
+     * Whether the configured database is PostgreSQL and reviews is a partitioned table.
+     */
+    public boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = databasePlatform.isPostgreSql() && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('public.reviews'))",
+                    Boolean.class));
+        }
+        return partitioned;
+    }
+
+    /**
+     * Months that have a hot partition, oldest first. The default partition is not included.
+     */
+    public List<YearMonth> findHotPartitionMonths() {
+        return jdbcTemplate.queryForList(
+                        "SELECT child.relname FROM pg_inherits JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                                + "WHERE pg_inherits.inhparent = 'public.reviews'::regclass",
+                        String.class)
+                .stream()
+                .map(ReviewPartitionRepository::partitionMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Create the month's partition if it does not exist yet.
+     * Fails if the default partition already holds rows for that month.
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF reviews FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Detach the month's partition from reviews and attach it to archive.reviews.
+     * Detaching locks reviews briefly, so this runs in its own short transaction.
+     */
+    public void archivePartition(YearMonth month) {
+        String name = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE reviews DETACH PARTITION " + name);
+        for (String constraint : jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                String.class, "public." + name)) {
+            jdbcTemplate.execute("ALTER TABLE " + name + " DROP CONSTRAINT \"" + constraint.replace("\"", "\"\"") + "\"");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA archive");
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE archive.reviews ATTACH PARTITION archive.%s FOR VALUES FROM ('%s') TO ('%s')",
+                name, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Archived reviews of the course, newest first.
+     */
+    public List<ReviewResponse> findArchivedByCourseId(UUID courseId) {
+        return jdbcTemplate.query(ARCHIVED_REVIEW_COLUMNS + "WHERE r.course_id = ? ORDER BY r.created_at DESC",
+                ARCHIVED_REVIEW_MAPPER, courseId);
+    }
+
+    /**
+     * Archived reviews written by the student, newest first.
+     */
+    public List<ReviewResponse> findArchivedByStudentId(UUID studentId) {
+        return jdbcTemplate.query(ARCHIVED_REVIEW_COLUMNS + "WHERE r.student_id = ? ORDER BY r.created_at DESC",
+                ARCHIVED_REVIEW_MAPPER, studentId);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static YearMonth partitionMonth(String partitionName) {
+        if (!partitionName.matches(PARTITION_PREFIX + "\\d{4}_\\d{2}")) {
+            return null;
+        }
+        return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
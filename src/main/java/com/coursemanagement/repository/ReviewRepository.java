@@ -1,12 +1,18 @@
 package com.coursemanagement.repository;
 
 import com.coursemanagement.entity.Review;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,7 +20,7 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods.
  */
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, UUID> {
+public interface ReviewRepository extends JpaRepository<Review, UUID>, ReviewRepositoryCustom {
 
     /**
      * Find reviews by course ID.
@@ -26,6 +32,21 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      */
     List<Review> findByCourseIdOrderByCreatedAtDesc(UUID courseId);
 
+    /**
+     * Find reviews by course ID, checking that the course exists in the same statement.
+     * The course row drives the query: an unknown course yields an empty list and a course
+     * without reviews a single {@code null} element.
+     */
+    @Query("SELECT r FROM Course c LEFT JOIN Review r ON r.course = c WHERE c.id = :courseId")
+    List<Review> findByExistingCourseId(@Param("courseId") UUID courseId);
+
+    /**
+     * Same as {@link #findByExistingCourseId(UUID)}, ordered by creation date (newest first).
+     */
+    @Query("SELECT r FROM Course c LEFT JOIN Review r ON r.course = c WHERE c.id = :courseId " +
+            "ORDER BY r.createdAt DESC")
+    List<Review> findByExistingCourseIdOrderByCreatedAtDesc(@Param("courseId") UUID courseId);
+
     /**
      * Find reviews containing keyword in comment (case-insensitive).
      */
@@ -50,10 +71,18 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     long countByCourseId(UUID courseId);
 
     /**
-     * Find latest reviews (most recent first).
+     * Count reviews by course ID, or empty when the course does not exist.
      */
-    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC")
-    List<Review> findLatestReviews();
+    @Query("SELECT COUNT(r) FROM Course c LEFT JOIN Review r ON r.course = c WHERE c.id = :courseId GROUP BY c.id")
+    Optional<Long> countByExistingCourseId(@Param("courseId") UUID courseId);
+
+    /**
+     * Find the most recent reviews (newest first) with course, instructor, and student information.
+     * Only the requested page is read, walking the created_at index.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.course c JOIN FETCH c.instructor JOIN FETCH r.student " +
+            "ORDER BY r.createdAt DESC")
+    List<Review> findLatestWithCourseInstructorAndStudent(Pageable pageable);
 
     /**
      * Find reviews by student ID.
@@ -65,6 +94,20 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      */
     List<Review> findByStudentIdOrderByCreatedAtDesc(UUID studentId);
 
+    /**
+     * Find reviews by student ID, checking that the student exists in the same statement.
+     * An unknown student yields an empty list and a student without reviews a single {@code null} element.
+     */
+    @Query("SELECT r FROM Student s LEFT JOIN Review r ON r.student = s WHERE s.id = :studentId")
+    List<Review> findByExistingStudentId(@Param("studentId") UUID studentId);
+
+    /**
+     * Same as {@link #findByExistingStudentId(UUID)}, ordered by creation date (newest first).
+     */
+    @Query("SELECT r FROM Student s LEFT JOIN Review r ON r.student = s WHERE s.id = :studentId " +
+            "ORDER BY r.createdAt DESC")
+    List<Review> findByExistingStudentIdOrderByCreatedAtDesc(@Param("studentId") UUID studentId);
+
     /**
      * Find reviews by course ID and student ID.
      */
@@ -92,4 +135,38 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      */
     @Query("SELECT r FROM Review r JOIN FETCH r.course c JOIN FETCH c.instructor JOIN FETCH r.student")
     List<Review> findAllWithCourseInstructorAndStudent();
-}
\ No newline at end of file
+
+    /**
+     * Find the given reviews with course, instructor, and student information.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.course c JOIN FETCH c.instructor JOIN FETCH r.student " +
+            "WHERE r.id IN :ids")
+    List<Review> findAllWithCourseInstructorAndStudentByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find reviews for any of the given courses.
+     */
+    List<Review> findByCourseIdIn(Collection<UUID> courseIds);
+
+    /**
+     * Find reviews written by any of the given students.
+     */
+    List<Review> findByStudentIdIn(Collection<UUID> studentIds);
+
+    /**
+     * Delete a review in a single statement, without loading it.
+     *
+     * @return number of rows deleted (0 if the review does not exist)
+     */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    /**
+     * Find a review and lock its row until the transaction ends. Writers that record an outbox
+     * event take this lock first, so events for the same review get IDs in commit order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") UUID id);
+}
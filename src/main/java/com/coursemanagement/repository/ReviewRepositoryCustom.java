@@ -0,0 +1,37 @@
+package com.coursemanagement.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository fragment for Review queries that cannot be derived by Spring Data.
+ */
+public interface ReviewRepositoryCustom {
+
+    /**
+     * Fields that can be requested through a sparse fieldset.
+     * Course and student ids are read from the foreign key columns on reviews; the course,
+     * instructor and student tables are only joined when one of their columns is requested.
+     * The student filter keeps the same rows as findAllWithCourseInstructorAndStudent.
+     */
+    SparseFieldQuery SPARSE_FIELDS = new SparseFieldQuery("Review", "Review r", "r.student IS NOT NULL")
+            .join("c", "JOIN r.course c")
+            .join("i", "JOIN c.instructor i")
+            .join("s", "JOIN r.student s")
+            .field("id", "r.id")
+            .field("comment", "r.comment")
+            .field("createdAt", "r.createdAt")
+            .field("updatedAt", "r.updatedAt")
+            .field("course.id", "r.course.id")
+            .field("course.title", "c.title", "c")
+            .field("course.instructorName", List.of("i.firstName", "i.lastName"), SparseFieldQuery::fullName, "c", "i")
+            .field("student.id", "r.student.id")
+            .field("student.fullName", List.of("s.firstName", "s.lastName"), SparseFieldQuery::fullName, "s")
+            .field("student.email", "s.email", "s");
+
+    /**
+     * Find all reviews selecting only the columns and joins needed for the requested fields,
+     * which must already be resolved with {@link SparseFieldQuery#resolve}.
+     */
+    List<Map<String, Object>> findAllWithFields(List<String> fields);
+}
@@ -0,0 +1,21 @@
+package com.coursemanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link ReviewRepositoryCustom}.
+ */
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllWithFields(List<String> fields) {
+        return SPARSE_FIELDS.execute(entityManager, fields);
+    }
+}
@@ -0,0 +1,183 @@
+package com.coursemanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and runs a JPQL query that selects only the columns (and joins) needed
+ * for a requested set of response fields, returning one map per row.
+ * Nested fields use dot notation (for example "course.title") and a group name
+ * (for example "course") expands to all of its nested fields.
+ */
+public class SparseFieldQuery {
+
+    private final String resourceName;
+    private final String from;
+    private final String where;
+    private final Map<String, String> joins = new LinkedHashMap<>();
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+
+    public SparseFieldQuery(String resourceName, String from, String where) {
+        this.resourceName = resourceName;
+        this.from = from;
+        this.where = where;
+    }
+
+    /**
+     * Register a join clause that fields can depend on by its alias.
+     */
+    public SparseFieldQuery join(String alias, String clause) {
+        joins.put(alias, clause);
+        return this;
+    }
+
+    /**
+     * Register a field backed by a single selected path.
+     */
+    public SparseFieldQuery field(String name, String path, String... requiredJoins) {
+        return field(name, List.of(path), values -> values[0], requiredJoins);
+    }
+
+    /**
+     * Register a field computed from several selected paths.
+     */
+    public SparseFieldQuery field(String name, List<String> paths, Function<Object[], Object> composer,
+                                  String... requiredJoins) {
+        fields.put(name, new Field(name, paths, composer, List.of(requiredJoins)));
+        return this;
+    }
+
+    /**
+     * Parse a comma-separated "fields" parameter into an ordered set of field names.
+     */
+    public static List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolve requested names against the registered fields, expanding group names.
+     * Throws IllegalArgumentException for unknown names or when no name is given
+     * (for example "fields=," once empty entries are dropped).
+     */
+    public List<String> resolve(List<String> requested) {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String name : requested) {
+            if (fields.containsKey(name)) {
+                resolved.add(name);
+                continue;
+            }
+            List<String> nested = fields.keySet().stream()
+                    .filter(field -> field.startsWith(name + "."))
+                    .collect(Collectors.toList());
+            if (nested.isEmpty()) {
+                throw new IllegalArgumentException(String.format(
+                        "Unknown field '%s' for %s. Allowed fields: %s",
+                        name, resourceName, String.join(", ", fields.keySet())));
+            }
+            resolved.addAll(nested);
+        }
+        if (resolved.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "fields must name at least one field of %s. Allowed fields: %s",
+                    resourceName, String.join(", ", fields.keySet())));
+        }
+        return new ArrayList<>(resolved);
+    }
+
+    /**
+     * Build the JPQL for the given (already resolved) field names.
+     */
+    public String toJpql(List<String> resolvedFields) {
+        List<String> selects = new ArrayList<>();
+        Set<String> neededJoins = new LinkedHashSet<>();
+        int column = 0;
+        for (String name : resolvedFields) {
+            Field field = fields.get(name);
+            for (String path : field.paths()) {
+                selects.add(path + " AS c" + column++);
+            }
+            neededJoins.addAll(field.requiredJoins());
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT ")
+                .append(String.join(", ", selects))
+                .append(" FROM ").append(from);
+        // Keep registration order so a join can refer to an alias declared before it
+        joins.forEach((alias, clause) -> {
+            if (neededJoins.contains(alias)) {
+                jpql.append(' ').append(clause);
+            }
+        });
+        if (where != null) {
+            jpql.append(" WHERE ").append(where);
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Run the projection for the given (already resolved) field names and assemble one
+     * (possibly nested) map per row.
+     */
+    public List<Map<String, Object>> execute(EntityManager entityManager, List<String> resolvedFields) {
+        List<Tuple> rows = entityManager.createQuery(toJpql(resolvedFields), Tuple.class).getResultList();
+
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            int column = 0;
+            for (String name : resolvedFields) {
+                Field field = fields.get(name);
+                Object[] values = new Object[field.paths().size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = row.get(column++);
+                }
+                put(item, name, field.composer().apply(values));
+            }
+            result.add(item);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> target, String name, Object value) {
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            target.put(name, value);
+            return;
+        }
+        Map<String, Object> nested = (Map<String, Object>) target.computeIfAbsent(
+                name.substring(0, dot), key -> new LinkedHashMap<String, Object>());
+        put(nested, name.substring(dot + 1), value);
+    }
+
+    /**
+     * Helper to join first and last name columns into a full name.
+     */
+    public static Object fullName(Object[] values) {
+        if (values[0] == null && values[1] == null) {
+            return null;
+        }
+        return values[0] + " " + values[1];
+    }
+
+    private record Field(String name, List<String> paths, Function<Object[], Object> composer,
+                         List<String> requiredJoins) {
+    }
+}
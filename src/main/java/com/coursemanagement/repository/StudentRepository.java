@@ -1,11 +1,15 @@
 package com.coursemanagement.repository;
 
 import com.coursemanagement.entity.Student;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +19,7 @@ import java.util.UUID;
  * Provides CRUD operations and custom query methods.
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, UUID> {
+public interface StudentRepository extends JpaRepository<Student, UUID>, StudentRepositoryCustom {
 
     /**
      * Find student by email (since email is unique).
@@ -54,6 +58,13 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     @Query("SELECT s FROM Student s JOIN s.courses c WHERE c.id = :courseId")
     List<Student> findStudentsEnrolledInCourse(@Param("courseId") UUID courseId);
 
+    /**
+     * Find students enrolled in a course, checking that the course exists in the same statement.
+     * An unknown course yields an empty list and a course without students a single {@code null} element.
+     */
+    @Query("SELECT s FROM Course c LEFT JOIN c.students s WHERE c.id = :courseId")
+    List<Student> findStudentsEnrolledInExistingCourse(@Param("courseId") UUID courseId);
+
     /**
      * Find students not enrolled in a specific course.
      */
@@ -73,12 +84,6 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     @Query("SELECT COUNT(s) FROM Student s JOIN s.courses c WHERE c.id = :courseId")
     long countStudentsInCourse(@Param("courseId") UUID courseId);
 
-    /**
-     * Find students by instructor (students enrolled in courses taught by the instructor).
-     */
-    @Query("SELECT DISTINCT s FROM Student s JOIN s.courses c WHERE c.instructor.id = :instructorId")
-    List<Student> findStudentsByInstructor(@Param("instructorId") UUID instructorId);
-
     /**
      * Search students by email containing keyword (case-insensitive).
      */
@@ -96,4 +101,29 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
      */
     @Query("SELECT s FROM Student s WHERE SIZE(s.courses) > :minCourseCount")
     List<Student> findStudentsWithMoreThanNCourses(@Param("minCourseCount") int minCourseCount);
-}
\ No newline at end of file
+
+    /**
+     * Find (course ID, student) pairs for students enrolled in any of the given courses.
+     */
+    @Query("SELECT c.id, s FROM Student s JOIN s.courses c WHERE c.id IN :courseIds")
+    List<Object[]> findStudentsByCourseIds(@Param("courseIds") Collection<UUID> courseIds);
+
+    /**
+     * Delete a student in a single statement, without loading the student or its courses.
+     * Enrollments go with it through the ON DELETE CASCADE foreign key on course_student,
+     * and the student's reviews are kept with student_id set to NULL.
+     *
+     * @return number of rows deleted (0 if the student does not exist)
+     */
+    @Modifying
+    @Query("DELETE FROM Student s WHERE s.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    /**
+     * Find a student and lock its row until the transaction ends. Writers that record an outbox
+     * event take this lock first, so events for the same student get IDs in commit order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Student s WHERE s.id = :id")
+    Optional<Student> findByIdForUpdate(@Param("id") UUID id);
+}
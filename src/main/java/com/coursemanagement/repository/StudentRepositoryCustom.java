@@ -0,0 +1,37 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Student;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for Student queries that cannot be derived by Spring Data.
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * Fields that can be requested through a sparse fieldset.
+     * Student list fields map directly to student columns, so no joins are ever needed.
+     */
+    SparseFieldQuery SPARSE_FIELDS = new SparseFieldQuery("Student", "Student s", null)
+            .field("id", "s.id")
+            .field("firstName", "s.firstName")
+            .field("lastName", "s.lastName")
+            .field("fullName", List.of("s.firstName", "s.lastName"), SparseFieldQuery::fullName)
+            .field("email", "s.email")
+            .field("createdAt", "s.createdAt")
+            .field("updatedAt", "s.updatedAt");
+
+    /**
+     * Find all students selecting only the columns needed for the requested fields,
+     * which must already be resolved with {@link SparseFieldQuery#resolve}.
+     */
+    List<Map<String, Object>> findAllWithFields(List<String> fields);
+
+    /**
+     * Find students by IDs in one query, in request order with null for missing IDs.
+     */
+    List<Student> findAllByIdsInOrder(List<UUID> ids);
+}
@@ -0,0 +1,28 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link StudentRepositoryCustom}.
+ */
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllWithFields(List<String> fields) {
+        return SPARSE_FIELDS.execute(entityManager, fields);
+    }
+
+    @Override
+    public List<Student> findAllByIdsInOrder(List<UUID> ids) {
+        return MultiIdLoader.load(entityManager, Student.class, ids);
+    }
+}
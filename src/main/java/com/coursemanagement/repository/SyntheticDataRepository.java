@@ -0,0 +1,103 @@
+package com.coursemanagement.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+/**
+ * JDBC repository for loading synthetic scale-test data.
+ * Rows are streamed straight into the target tables with COPY, one stream per connection, with
+ * synchronous commit off for the session since a failed load is simply regenerated.
+ * Requires PostgreSQL; callers should check {@link #isCopySupported()} first.
+ */
+@Repository
+public class SyntheticDataRepository {
+
+    private static final String TABLES = "instructor_details, instructor, course, student, course_student, reviews";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Autowired
+    public SyntheticDataRepository(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+    }
+
+    /**
+     * Writes one COPY stream's rows in COPY text format.
+     */
+    @FunctionalInterface
+    public interface CopyBody {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Whether the configured database supports COPY (i.e. is PostgreSQL).
+     */
+    public boolean isCopySupported() {
+        return databasePlatform.isPostgreSql();
+    }
+
+    /**
+     * Whether the instructor, course and student tables are all empty.
+     */
+    public boolean isEmpty() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM instructor) AND NOT EXISTS (SELECT 1 FROM course) "
+                        + "AND NOT EXISTS (SELECT 1 FROM student)", Boolean.class));
+    }
+
+    /**
+     * Delete every instructor, course, student, enrollment and review, and whatever references them.
+     */
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE " + TABLES + " CASCADE");
+    }
+
+    /**
+     * COPY the body's rows into the table's columns. The rows are committed together when the
+     * body returns; if it fails the COPY is cancelled and nothing is loaded.
+     */
+    public void copyIn(String table, String columns, CopyBody body) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET synchronous_commit = off");
+            }
+            try {
+                PGCopyOutputStream out = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                        "COPY " + table + " (" + columns + ") FROM STDIN", 1 << 16);
+                try {
+                    body.write(out);
+                    out.endCopy();
+                } catch (IOException | RuntimeException ex) {
+                    if (out.isActive()) {
+                        out.cancelCopy();
+                    }
+                    throw ex;
+                }
+            } catch (IOException ex) {
+                throw new SQLException("COPY into " + table + " failed", ex);
+            } finally {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("RESET synchronous_commit");
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Refresh the planner statistics of the loaded tables.
+     */
+    public void analyze() {
+        jdbcTemplate.execute("ANALYZE " + TABLES);
+    }
+}
@@ -0,0 +1,67 @@
+package com.coursemanagement.roster;
+
+import com.coursemanagement.outbox.DomainChangeEvent;
+import com.coursemanagement.service.InstructorRosterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes instructor rosters on a schedule, but only after an outbox event reported a change
+ * that can move a student on or off a roster. Every run after startup refreshes once, because
+ * changes may have been made while the application was down.
+ */
+@Component
+public class InstructorRosterRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(InstructorRosterRefresher.class);
+
+    static final Set<String> ROSTER_EVENT_TYPES = Set.of(
+            "StudentEnrolled", "StudentUnenrolled", "StudentDeleted", "CourseUpdated", "CourseDeleted", "InstructorDeleted");
+
+    private final InstructorRosterService rosterService;
+    private final boolean enabled;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    @Autowired
+    public InstructorRosterRefresher(InstructorRosterService rosterService,
+                                     @Value("${course-management.instructor-roster.refresh-enabled:true}") boolean enabled) {
+        this.rosterService = rosterService;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onDomainChange(DomainChangeEvent event) {
+        if (ROSTER_EVENT_TYPES.contains(event.eventType())) {
+            stale.set(true);
+        }
+    }
+
+    /**
+     * Refresh the rosters if they may be stale.
+     */
+    @Scheduled(initialDelayString = "${course-management.instructor-roster.refresh-interval-ms:60000}",
+            fixedDelayString = "${course-management.instructor-roster.refresh-interval-ms:60000}")
+    public void run() {
+        if (!enabled || !stale.getAndSet(false)) {
+            return;
+        }
+        try {
+            rosterService.refreshRosters();
+        } catch (RuntimeException ex) {
+            stale.set(true);
+            log.warn("Instructor roster refresh failed, will retry", ex);
+        }
+    }
+
+    public boolean isStale() {
+        return stale.get();
+    }
+}
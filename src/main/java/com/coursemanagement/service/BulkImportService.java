@@ -0,0 +1,18 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.ImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk data imports.
+ */
+public interface BulkImportService {
+
+    /**
+     * Stream, validate and load rows of the given resource type ("students", "instructors",
+     * "courses" or "reviews") from a CSV or NDJSON body. Valid rows are committed chunk by chunk;
+     * invalid rows are skipped and reported with their row numbers.
+     */
+    ImportResponse importData(String resourceType, String contentType, InputStream body);
+}
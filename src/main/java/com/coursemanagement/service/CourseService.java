@@ -2,6 +2,7 @@ package com.coursemanagement.service;
 
 import com.coursemanagement.dto.CourseRequest;
 import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +22,11 @@ public interface CourseService {
      */
     CourseResponse getCourseById(UUID id);
 
+    /**
+     * Get courses by IDs in request order, marking IDs that were not found.
+     */
+    MultiGetResponse<CourseResponse> getCoursesByIds(List<UUID> ids);
+
     /**
      * Get course by ID with reviews.
      */
@@ -31,6 +37,11 @@ public interface CourseService {
      */
     List<CourseResponse> getAllCourses();
 
+    /**
+     * Get the courses with the most enrolled students, most first.
+     */
+    List<CourseResponse> getMostEnrolledCourses(int limit);
+
     /**
      * Get all courses with reviews.
      */
@@ -0,0 +1,22 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.InstructorDeletionResponse;
+
+import java.util.UUID;
+
+/**
+ * Service interface for asynchronous instructor deletion.
+ */
+public interface InstructorDeletionService {
+
+    /**
+     * Hide the instructor from reads and queue the deletion of their courses, reviews and
+     * enrollments. Requesting deletion again returns the existing job and restarts it if it failed.
+     */
+    InstructorDeletionResponse requestDeletion(UUID instructorId);
+
+    /**
+     * Get the progress of an instructor's deletion.
+     */
+    InstructorDeletionResponse getDeletionStatus(UUID instructorId);
+}
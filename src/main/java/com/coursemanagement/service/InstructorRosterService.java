@@ -0,0 +1,25 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.InstructorRosterResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for instructor student rosters.
+ */
+public interface InstructorRosterService {
+
+    /**
+     * Get one page of the students enrolled in courses taught by the instructor, ordered by
+     * student ID. The roster may lag behind recent enrollment changes; the response says how fresh it is.
+     */
+    InstructorRosterResponse getRoster(UUID instructorId, int page, int size);
+
+    /**
+     * Recompute every roster from the current enrollments.
+     *
+     * @return the time the refreshed rosters were computed
+     */
+    LocalDateTime refreshRosters();
+}
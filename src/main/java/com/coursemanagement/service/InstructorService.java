@@ -2,6 +2,7 @@ package com.coursemanagement.service;
 
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +22,11 @@ public interface InstructorService {
      */
     InstructorResponse getInstructorById(UUID id);
 
+    /**
+     * Get instructors by IDs in request order, marking IDs that were not found.
+     */
+    MultiGetResponse<InstructorResponse> getInstructorsByIds(List<UUID> ids);
+
     /**
      * Get all instructors.
      */
@@ -31,11 +37,6 @@ public interface InstructorService {
      */
     InstructorResponse updateInstructor(UUID id, InstructorRequest request);
 
-    /**
-     * Delete instructor.
-     */
-    void deleteInstructor(UUID id);
-
     /**
      * Get instructor by email.
      */
@@ -0,0 +1,26 @@
+package com.coursemanagement.service;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service interface for recording domain change events in the transactional outbox.
+ */
+public interface OutboxService {
+
+    String COURSE = "Course";
+    String STUDENT = "Student";
+    String REVIEW = "Review";
+    String INSTRUCTOR = "Instructor";
+
+    /**
+     * Record a change event. Must be called inside the transaction that makes the change,
+     * so the event is stored if and only if the change commits.
+     *
+     * @param aggregateType type of the changed entity (for example "Course")
+     * @param aggregateId   ID of the changed entity; events are delivered in order per aggregate
+     * @param eventType     what happened (for example "CourseCreated")
+     * @param payload       compact event data, serialized as JSON
+     */
+    void record(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload);
+}
@@ -0,0 +1,23 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.ReviewAcceptedResponse;
+import com.coursemanagement.dto.ReviewRequest;
+
+import java.util.UUID;
+
+/**
+ * Service interface for asynchronous (write-behind) review ingestion.
+ */
+public interface ReviewIngestionService {
+
+    /**
+     * Validate a review, journal it locally and queue it for a batched insert.
+     * The review becomes readable once the background writer has flushed it.
+     */
+    ReviewAcceptedResponse submitReview(UUID courseId, ReviewRequest request);
+
+    /**
+     * Number of accepted reviews not yet written to the database.
+     */
+    int getPendingCount();
+}
@@ -3,7 +3,9 @@ package com.coursemanagement.service;
 import com.coursemanagement.dto.ReviewRequest;
 import com.coursemanagement.dto.ReviewResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,6 +28,11 @@ public interface ReviewService {
      */
     List<ReviewResponse> getAllReviews();
 
+    /**
+     * Get all reviews limited to the requested comma-separated fields.
+     */
+    List<Map<String, Object>> getAllReviews(String fields);
+
     /**
      * Update review.
      */
@@ -46,6 +53,12 @@ public interface ReviewService {
      */
     List<ReviewResponse> getReviewsByCourseIdOrderedByDate(UUID courseId);
 
+    /**
+     * Get reviews by course ID ordered by creation date (newest first), optionally followed by
+     * the course's archived reviews, which are all older.
+     */
+    List<ReviewResponse> getReviewsByCourseIdOrderedByDate(UUID courseId, boolean includeArchived);
+
     /**
      * Search reviews by comment keyword.
      */
@@ -62,9 +75,14 @@ public interface ReviewService {
     List<ReviewResponse> searchReviewsByCourseTitle(String title);
 
     /**
-     * Get latest reviews (most recent first).
+     * Get the most recent reviews (newest first), at most {@code limit} of them.
      */
-    List<ReviewResponse> getLatestReviews();
+    List<ReviewResponse> getLatestReviews(int limit);
+
+    /**
+     * Get the given reviews; IDs that do not exist are skipped.
+     */
+    List<ReviewResponse> getReviewsByIds(Collection<UUID> ids);
 
     /**
      * Check if review exists by ID.
@@ -86,6 +104,12 @@ public interface ReviewService {
      */
     List<ReviewResponse> getReviewsByStudentIdOrderedByDate(UUID studentId);
 
+    /**
+     * Get reviews by student ID ordered by creation date (newest first), optionally followed by
+     * the student's archived reviews, which are all older.
+     */
+    List<ReviewResponse> getReviewsByStudentIdOrderedByDate(UUID studentId, boolean includeArchived);
+
     /**
      * Get reviews by course ID and student ID.
      */
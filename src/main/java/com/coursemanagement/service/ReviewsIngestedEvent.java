@@ -0,0 +1,11 @@
+package com.coursemanagement.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by write-behind ingestion after a batch of reviews has been stored.
+ * Ingested reviews are not written to the outbox, so in-process consumers listen for this instead.
+ */
+public record ReviewsIngestedEvent(List<UUID> reviewIds) {
+}
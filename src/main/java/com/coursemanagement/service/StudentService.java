@@ -2,11 +2,13 @@ package com.coursemanagement.service;
 
 import com.coursemanagement.dto.EnrollmentRequest;
 import com.coursemanagement.dto.EnrollmentResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.StudentRequest;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.dto.UnenrollmentResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -24,6 +26,11 @@ public interface StudentService {
      */
     StudentResponse getStudentById(UUID id);
 
+    /**
+     * Get students by IDs in request order, marking IDs that were not found.
+     */
+    MultiGetResponse<StudentResponse> getStudentsByIds(List<UUID> ids);
+
     /**
      * Get student by ID with enrolled courses.
      */
@@ -34,6 +41,11 @@ public interface StudentService {
      */
     List<StudentResponse> getAllStudents();
 
+    /**
+     * Get all students limited to the requested comma-separated fields.
+     */
+    List<Map<String, Object>> getAllStudents(String fields);
+
     /**
      * Get all students with their enrolled courses.
      */
@@ -89,11 +101,6 @@ public interface StudentService {
      */
     List<StudentResponse> getStudentsWithNoCourses();
 
-    /**
-     * Get students by instructor (students enrolled in courses taught by the instructor).
-     */
-    List<StudentResponse> getStudentsByInstructor(UUID instructorId);
-
     /**
      * Check if student exists by ID.
      */
@@ -0,0 +1,338 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadContext;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.dto.CourseRequest;
+import com.coursemanagement.dto.ImportEntity;
+import com.coursemanagement.dto.ImportResponse;
+import com.coursemanagement.dto.InstructorRequest;
+import com.coursemanagement.dto.ReviewRequest;
+import com.coursemanagement.dto.StudentRequest;
+import com.coursemanagement.repository.BulkImportRepository;
+import com.coursemanagement.service.BulkImportService;
+import com.coursemanagement.service.impl.ImportRecordReader.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for bulk imports.
+ * The request thread parses and validates rows while a single writer thread loads the
+ * previous chunk, so parsing and database work overlap with at most one chunk in flight.
+ * Each chunk is checked against existing data with set-based queries and written with
+ * COPY in its own transaction.
+ */
+@Service
+@Workload(WorkloadType.BULK)
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private final BulkImportRepository bulkImportRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public BulkImportServiceImpl(BulkImportRepository bulkImportRepository,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${course-management.import.chunk-size:5000}") int chunkSize,
+                                 @Value("${course-management.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.bulkImportRepository = bulkImportRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportResponse importData(String resourceType, String contentType, InputStream body) {
+        ImportEntity entity = ImportEntity.fromPath(resourceType);
+        ImportRecordReader reader = ImportRecordReader.forContentType(contentType, body, objectMapper);
+        if (!bulkImportRepository.isCopySupported()) {
+            throw new UnsupportedOperationException("Bulk import requires a PostgreSQL database");
+        }
+
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun();
+        // The writer's statements belong to the request's trace
+        ExecutorService writer = ContextExecutorService.wrap(
+                Executors.newSingleThreadExecutor(task -> new Thread(task, "bulk-import-writer")),
+                ContextSnapshotFactory.builder().build());
+        try (reader) {
+            Future<ChunkResult> pending = null;
+            List<StagedRow> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                run.totalRows++;
+                StagedRow row = toStagedRow(entity, record, run);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize) {
+                    run.collect(await(pending));
+                    List<StagedRow> toWrite = chunk;
+                    pending = writer.submit(() -> WorkloadContext.call(WorkloadType.BULK,
+                            () -> writeChunk(entity, toWrite)));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            run.collect(await(pending));
+            if (!chunk.isEmpty()) {
+                run.collect(writeChunk(entity, chunk));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import body", ex);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        long durationMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return run.toResponse(entity, durationMillis);
+    }
+
+    /**
+     * Parse and validate a record, returning null (and recording an error) when it is invalid.
+     */
+    private StagedRow toStagedRow(ImportEntity entity, ImportRecord record, ImportRun run) {
+        if (record.error() != null) {
+            run.reject(record.rowNumber(), record.error());
+            return null;
+        }
+        try {
+            StagedRow row = switch (entity) {
+                case STUDENTS -> {
+                    StudentRequest request = new StudentRequest(
+                            record.get("firstName"), record.get("lastName"), record.get("email"));
+                    validate(request);
+                    yield new StagedRow(record.rowNumber(), request.getEmail(), new Object[]{
+                            UUID.randomUUID(), request.getFirstName(), request.getLastName(), request.getEmail()});
+                }
+                case INSTRUCTORS -> {
+                    InstructorRequest request = new InstructorRequest(
+                            record.get("firstName"), record.get("lastName"), record.get("email"));
+                    validate(request);
+                    yield new StagedRow(record.rowNumber(), request.getEmail(), new Object[]{
+                            UUID.randomUUID(), request.getFirstName(), request.getLastName(), request.getEmail()});
+                }
+                case COURSES -> {
+                    CourseRequest request = new CourseRequest(
+                            record.get("title"), parseUuid(record, "instructorId"));
+                    validate(request);
+                    yield new StagedRow(record.rowNumber(),
+                            BulkImportRepository.courseKey(request.getInstructorId(), request.getTitle()),
+                            new Object[]{UUID.randomUUID(), request.getTitle(), request.getInstructorId()});
+                }
+                case REVIEWS -> {
+                    UUID courseId = parseUuid(record, "courseId");
+                    if (courseId == null) {
+                        throw new IllegalArgumentException("courseId: Course ID is required");
+                    }
+                    ReviewRequest request = new ReviewRequest(record.get("comment"), parseUuid(record, "studentId"));
+                    validate(request);
+                    yield new StagedRow(record.rowNumber(), null, new Object[]{
+                            UUID.randomUUID(), request.getComment(), courseId, request.getStudentId()});
+                }
+            };
+            if (row.key() != null) {
+                Long firstRow = run.seenKeys.putIfAbsent(row.key(), row.rowNumber());
+                if (firstRow != null) {
+                    run.reject(row.rowNumber(), String.format("Duplicate of row %d in this import", firstRow));
+                    return null;
+                }
+            }
+            return row;
+        } catch (IllegalArgumentException ex) {
+            run.reject(record.rowNumber(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private void validate(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static UUID parseUuid(ImportRecord record, String column) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(String.format("%s: Invalid UUID '%s'", column, value));
+        }
+    }
+
+    /**
+     * Drop rows that conflict with existing data, then COPY and merge the rest.
+     * Runs on the writer thread in its own transaction.
+     */
+    private ChunkResult writeChunk(ImportEntity entity, List<StagedRow> rows) {
+        return transactionTemplate.execute(status -> {
+            List<ImportResponse.RowError> errors = new ArrayList<>();
+            List<StagedRow> accepted = rejectConflicts(entity, rows, errors);
+            if (accepted.isEmpty()) {
+                return new ChunkResult(0, errors);
+            }
+
+            Set<UUID> inserted = bulkImportRepository.copyAndMerge(entity,
+                    accepted.stream().map(StagedRow::values).collect(Collectors.toList()));
+            for (StagedRow row : accepted) {
+                if (!inserted.contains((UUID) row.values()[0])) {
+                    errors.add(new ImportResponse.RowError(row.rowNumber(),
+                            "Row was skipped because of a conflicting concurrent change"));
+                }
+            }
+            return new ChunkResult(inserted.size(), errors);
+        });
+    }
+
+    private List<StagedRow> rejectConflicts(ImportEntity entity, List<StagedRow> rows,
+                                            List<ImportResponse.RowError> errors) {
+        List<StagedRow> accepted = new ArrayList<>(rows.size());
+        switch (entity) {
+            case STUDENTS, INSTRUCTORS -> {
+                String resourceName = entity == ImportEntity.STUDENTS ? "Student" : "Instructor";
+                Set<String> existing = bulkImportRepository.findExistingEmails(entity,
+                        rows.stream().map(StagedRow::key).collect(Collectors.toList()));
+                for (StagedRow row : rows) {
+                    if (existing.contains(row.key())) {
+                        errors.add(new ImportResponse.RowError(row.rowNumber(),
+                                String.format("%s already exists with email: %s", resourceName, row.key())));
+                    } else {
+                        accepted.add(row);
+                    }
+                }
+            }
+            case COURSES -> {
+                Set<UUID> instructorIds = rows.stream().map(row -> (UUID) row.values()[2]).collect(Collectors.toSet());
+                Set<UUID> existingInstructors = bulkImportRepository.findExistingIds(ImportEntity.INSTRUCTORS, instructorIds);
+                Set<String> existingCourses = bulkImportRepository.findExistingCourseKeys(existingInstructors);
+                for (StagedRow row : rows) {
+                    UUID instructorId = (UUID) row.values()[2];
+                    if (!existingInstructors.contains(instructorId)) {
+                        errors.add(new ImportResponse.RowError(row.rowNumber(),
+                                String.format("Instructor not found with id: %s", instructorId)));
+                    } else if (existingCourses.contains(row.key())) {
+                        errors.add(new ImportResponse.RowError(row.rowNumber(),
+                                String.format("Course already exists with title: %s", row.values()[1])));
+                    } else {
+                        accepted.add(row);
+                    }
+                }
+            }
+            case REVIEWS -> {
+                Set<UUID> existingCourses = bulkImportRepository.findExistingIds(ImportEntity.COURSES,
+                        rows.stream().map(row -> (UUID) row.values()[2]).collect(Collectors.toSet()));
+                Set<UUID> existingStudents = bulkImportRepository.findExistingIds(ImportEntity.STUDENTS,
+                        rows.stream().map(row -> (UUID) row.values()[3]).collect(Collectors.toSet()));
+                for (StagedRow row : rows) {
+                    UUID courseId = (UUID) row.values()[2];
+                    UUID studentId = (UUID) row.values()[3];
+                    if (!existingCourses.contains(courseId)) {
+                        errors.add(new ImportResponse.RowError(row.rowNumber(),
+                                String.format("Course not found with id: %s", courseId)));
+                    } else if (!existingStudents.contains(studentId)) {
+                        errors.add(new ImportResponse.RowError(row.rowNumber(),
+                                String.format("Student not found with id: %s", studentId)));
+                    } else {
+                        accepted.add(row);
+                    }
+                }
+            }
+        }
+        return accepted;
+    }
+
+    private static ChunkResult await(Future<ChunkResult> pending) {
+        if (pending == null) {
+            return null;
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import was interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Import chunk failed", ex.getCause());
+        }
+    }
+
+    /**
+     * A validated row ready for staging. The first value is always the new row's ID.
+     */
+    private record StagedRow(long rowNumber, String key, Object[] values) {
+    }
+
+    private record ChunkResult(long importedRows, List<ImportResponse.RowError> errors) {
+    }
+
+    /**
+     * Counters and errors for one import, only touched by the request thread.
+     */
+    private class ImportRun {
+        private final Map<String, Long> seenKeys = new HashMap<>();
+        private final List<ImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        void reject(long rowNumber, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportResponse.RowError(rowNumber, message));
+            }
+        }
+
+        void collect(ChunkResult result) {
+            if (result == null) {
+                return;
+            }
+            importedRows += result.importedRows();
+            result.errors().forEach(error -> reject(error.getRow(), error.getMessage()));
+        }
+
+        ImportResponse toResponse(ImportEntity entity, long durationMillis) {
+            errors.sort(Comparator.comparingLong(ImportResponse.RowError::getRow));
+            return new ImportResponse(entity.getPath(), totalRows, importedRows, failedRows, durationMillis,
+                    totalRows * 1000 / durationMillis, errors, failedRows > errors.size());
+        }
+    }
+}
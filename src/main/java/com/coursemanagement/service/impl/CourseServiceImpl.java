@@ -1,7 +1,11 @@
 package com.coursemanagement.service.impl;
 
+import com.coursemanagement.concurrency.RequestCoalescer;
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
 import com.coursemanagement.dto.CourseRequest;
 import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.ReviewResponse;
 import com.coursemanagement.entity.Course;
 import com.coursemanagement.entity.Instructor;
@@ -11,11 +15,16 @@ import com.coursemanagement.exception.ResourceNotFoundException;
 import com.coursemanagement.repository.CourseRepository;
 import com.coursemanagement.repository.InstructorRepository;
 import com.coursemanagement.service.CourseService;
+import com.coursemanagement.service.OutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,17 +37,22 @@ public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
     private final InstructorRepository instructorRepository;
+    private final OutboxService outboxService;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public CourseServiceImpl(CourseRepository courseRepository, InstructorRepository instructorRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository, InstructorRepository instructorRepository,
+                             OutboxService outboxService, RequestCoalescer requestCoalescer) {
         this.courseRepository = courseRepository;
         this.instructorRepository = instructorRepository;
+        this.outboxService = outboxService;
+        this.requestCoalescer = requestCoalescer;
     }
 
     @Override
     public CourseResponse createCourse(CourseRequest request) {
         // Validate instructor exists
-        Instructor instructor = instructorRepository.findById(request.getInstructorId())
+        Instructor instructor = instructorRepository.findByIdAndDeletionRequestedAtIsNull(request.getInstructorId())
                 .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", request.getInstructorId()));
 
         // Check if course with same title already exists for this instructor
@@ -48,31 +62,49 @@ public class CourseServiceImpl implements CourseService {
 
         Course course = new Course(request.getTitle(), instructor);
         Course savedCourse = courseRepository.save(course);
+        outboxService.record(OutboxService.COURSE, savedCourse.getId(), "CourseCreated", eventPayload(savedCourse));
         return mapToResponse(savedCourse, false);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CourseResponse getCourseById(UUID id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
-        
-        return mapToResponse(course, false);
+        // Concurrent reads of the same course share one query (the coalescer opens the transaction)
+        return requestCoalescer.read("course:" + id, () -> {
+            Course course = courseRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
+
+            return mapToResponse(course, false);
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
+    public MultiGetResponse<CourseResponse> getCoursesByIds(List<UUID> ids) {
+        MultiGetResponse.checkSize(ids);
+        List<CourseResponse> courses = courseRepository.findAllByIdsInOrder(ids)
+                .stream()
+                .map(course -> course != null ? mapToResponse(course, false) : null)
+                .collect(Collectors.toList());
+        return MultiGetResponse.of(ids, courses);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CourseResponse getCourseByIdWithReviews(UUID id) {
-        Course course = courseRepository.findByIdWithReviews(id);
-        if (course == null) {
-            throw new ResourceNotFoundException("Course", "id", id);
-        }
-        
-        return mapToResponse(course, true);
+        return requestCoalescer.read("course-with-reviews:" + id, () -> {
+            Course course = courseRepository.findByIdWithReviews(id);
+            if (course == null) {
+                throw new ResourceNotFoundException("Course", "id", id);
+            }
+
+            return mapToResponse(course, true);
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<CourseResponse> getAllCourses() {
         return courseRepository.findAll()
                 .stream()
@@ -82,6 +114,19 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public List<CourseResponse> getMostEnrolledCourses(int limit) {
+        List<UUID> ids = courseRepository.findMostEnrolledIds(PageRequest.of(0, limit));
+        return courseRepository.findAllByIdsInOrder(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .map(course -> mapToResponse(course, false))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<CourseResponse> getAllCoursesWithReviews() {
         return courseRepository.findAllWithReviews()
                 .stream()
@@ -91,11 +136,12 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public CourseResponse updateCourse(UUID id, CourseRequest request) {
-        Course course = courseRepository.findById(id)
+        // Locked so concurrent updates record their events in commit order
+        Course course = courseRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
 
         // Validate instructor exists
-        Instructor instructor = instructorRepository.findById(request.getInstructorId())
+        Instructor instructor = instructorRepository.findByIdAndDeletionRequestedAtIsNull(request.getInstructorId())
                 .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", request.getInstructorId()));
 
         // Check if title is being changed and if new title already exists for this instructor
@@ -108,27 +154,23 @@ public class CourseServiceImpl implements CourseService {
         course.setInstructor(instructor);
 
         Course updatedCourse = courseRepository.save(course);
+        outboxService.record(OutboxService.COURSE, updatedCourse.getId(), "CourseUpdated", eventPayload(updatedCourse));
         return mapToResponse(updatedCourse, false);
     }
 
     @Override
     public void deleteCourse(UUID id) {
-        if (!courseRepository.existsById(id)) {
+        if (courseRepository.removeById(id) == 0) {
             throw new ResourceNotFoundException("Course", "id", id);
         }
-        courseRepository.deleteById(id);
+        outboxService.record(OutboxService.COURSE, id, "CourseDeleted", Map.of("id", id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CourseResponse> getCoursesByInstructorId(UUID instructorId) {
-        // Validate instructor exists
-        if (!instructorRepository.existsById(instructorId)) {
-            throw new ResourceNotFoundException("Instructor", "id", instructorId);
-        }
-
-        return courseRepository.findByInstructorId(instructorId)
-                .stream()
+        return ParentScopedRows.children(courseRepository.findByExistingInstructorId(instructorId),
+                        "Instructor", instructorId)
                 .map(course -> mapToResponse(course, false))
                 .collect(Collectors.toList());
     }
@@ -210,6 +252,13 @@ public class CourseServiceImpl implements CourseService {
         );
     }
 
+    /**
+     * Payload of the Course events recorded in the outbox.
+     */
+    private static Map<String, Object> eventPayload(Course course) {
+        return Map.of("id", course.getId(), "title", course.getTitle(), "instructorId", course.getInstructor().getId());
+    }
+
     /**
      * Helper method to map Review entity to ReviewResponse DTO.
      */
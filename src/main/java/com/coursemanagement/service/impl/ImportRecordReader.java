@@ -0,0 +1,195 @@
+package com.coursemanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams import records one at a time from a CSV (with header row) or NDJSON body,
+ * so arbitrarily large uploads never have to be held in memory.
+ * Column names are matched case-insensitively and ignoring '_' and '-',
+ * so "firstName", "first_name" and "FIRST-NAME" are the same column.
+ */
+abstract class ImportRecordReader implements Closeable {
+
+    /**
+     * One parsed record. When {@code error} is set the record could not be parsed.
+     */
+    record ImportRecord(long rowNumber, Map<String, String> values, String error) {
+
+        String get(String column) {
+            String value = values.get(normalize(column));
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    protected final BufferedReader reader;
+    protected long rowNumber;
+
+    protected ImportRecordReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * Create a reader for the given content type ("text/csv" or "application/x-ndjson").
+     */
+    static ImportRecordReader forContentType(String contentType, InputStream input, ObjectMapper objectMapper) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return new Csv(input);
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return new NdJson(input, objectMapper);
+        }
+        throw new IllegalArgumentException(String.format(
+                "Unsupported content type '%s'. Use text/csv or application/x-ndjson", contentType));
+    }
+
+    /**
+     * Read the next record, or return null at end of input.
+     */
+    abstract ImportRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static String normalize(String column) {
+        return column.replace("_", "").replace("-", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * RFC 4180 style CSV: comma separated, double-quoted fields may contain commas,
+     * line breaks and doubled quotes.
+     */
+    static final class Csv extends ImportRecordReader {
+
+        private List<String> header;
+
+        Csv(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        ImportRecord next() throws IOException {
+            if (header == null) {
+                List<String> columns = readRow();
+                if (columns == null) {
+                    return null;
+                }
+                header = columns.stream().map(ImportRecordReader::normalize).toList();
+            }
+
+            List<String> row;
+            do {
+                row = readRow();
+                if (row == null) {
+                    return null;
+                }
+            } while (row.size() == 1 && row.get(0).isEmpty());
+
+            rowNumber++;
+            if (row.size() != header.size()) {
+                return new ImportRecord(rowNumber, Map.of(), String.format(
+                        "Expected %d columns but found %d", header.size(), row.size()));
+            }
+            Map<String, String> values = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i), row.get(i));
+            }
+            return new ImportRecord(rowNumber, values, null);
+        }
+
+        private List<String> readRow() throws IOException {
+            int ch = reader.read();
+            if (ch == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (ch != -1) {
+                if (quoted) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) ch);
+                    }
+                } else if (ch == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n') {
+                    break;
+                } else if (ch != '\r') {
+                    field.append((char) ch);
+                }
+                ch = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    /**
+     * Newline-delimited JSON: one flat JSON object per line.
+     */
+    static final class NdJson extends ImportRecordReader {
+
+        private final ObjectMapper objectMapper;
+
+        NdJson(InputStream input, ObjectMapper objectMapper) {
+            super(input);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        ImportRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            rowNumber++;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    return new ImportRecord(rowNumber, Map.of(), "Expected a JSON object");
+                }
+                Map<String, String> values = new HashMap<>();
+                for (Map.Entry<String, JsonNode> entry : node.properties()) {
+                    JsonNode value = entry.getValue();
+                    values.put(normalize(entry.getKey()), value.isNull() ? null : value.asText());
+                }
+                return new ImportRecord(rowNumber, values, null);
+            } catch (JsonProcessingException ex) {
+                return new ImportRecord(rowNumber, Map.of(), "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.dto.InstructorDeletionResponse;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.InstructorDeletionJob;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.InstructorDeletionJobRepository;
+import com.coursemanagement.repository.InstructorRepository;
+import com.coursemanagement.service.InstructorDeletionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service implementation for asynchronous instructor deletion.
+ * Requesting deletion only marks the instructor and records a job; the deletion worker then
+ * removes the instructor's reviews, enrollments and courses in bounded chunks.
+ */
+@Service
+@Transactional
+public class InstructorDeletionServiceImpl implements InstructorDeletionService {
+
+    private final InstructorRepository instructorRepository;
+    private final CourseRepository courseRepository;
+    private final InstructorDeletionJobRepository jobRepository;
+
+    @Autowired
+    public InstructorDeletionServiceImpl(InstructorRepository instructorRepository, CourseRepository courseRepository,
+                                         InstructorDeletionJobRepository jobRepository) {
+        this.instructorRepository = instructorRepository;
+        this.courseRepository = courseRepository;
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    public InstructorDeletionResponse requestDeletion(UUID instructorId) {
+        Instructor instructor = instructorRepository.findById(instructorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", instructorId));
+
+        if (!instructor.isDeletionRequested()) {
+            instructor.setDeletionRequestedAt(LocalDateTime.now());
+        }
+
+        InstructorDeletionJob job = jobRepository.findById(instructorId).orElse(null);
+        if (job == null) {
+            int totalCourses = (int) courseRepository.countByInstructorId(instructorId);
+            job = jobRepository.save(new InstructorDeletionJob(instructorId, totalCourses));
+        } else if (job.getStatus() == InstructorDeletionJob.Status.FAILED) {
+            // Retry a job that gave up; chunks already deleted stay deleted
+            job.setStatus(InstructorDeletionJob.Status.PENDING);
+            job.setFailures(0);
+            job.setLastError(null);
+            job.setCompletedAt(null);
+        }
+        return mapToResponse(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InstructorDeletionResponse getDeletionStatus(UUID instructorId) {
+        InstructorDeletionJob job = jobRepository.findById(instructorId)
+                .orElseThrow(() -> new ResourceNotFoundException("InstructorDeletion", "instructorId", instructorId));
+
+        return mapToResponse(job);
+    }
+
+    /**
+     * Helper method to map InstructorDeletionJob entity to InstructorDeletionResponse DTO.
+     */
+    private InstructorDeletionResponse mapToResponse(InstructorDeletionJob job) {
+        return new InstructorDeletionResponse(
+                job.getInstructorId(),
+                job.getStatus().name(),
+                job.getTotalCourses(),
+                job.getCoursesDeleted(),
+                job.getReviewsDeleted(),
+                job.getEnrollmentsDeleted(),
+                job.getLastError(),
+                job.getRequestedAt(),
+                job.getUpdatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
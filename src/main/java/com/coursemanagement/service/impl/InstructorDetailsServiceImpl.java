@@ -71,10 +71,9 @@ public class InstructorDetailsServiceImpl implements InstructorDetailsService {
 
     @Override
     public void deleteInstructorDetails(UUID id) {
-        if (!instructorDetailsRepository.existsById(id)) {
+        if (instructorDetailsRepository.removeById(id) == 0) {
             throw new ResourceNotFoundException("InstructorDetails", "id", id);
         }
-        instructorDetailsRepository.deleteById(id);
     }
 
     @Override
@@ -0,0 +1,76 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.dto.InstructorRosterResponse;
+import com.coursemanagement.repository.InstructorRosterRepository;
+import com.coursemanagement.service.InstructorRosterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for instructor student rosters, read from the
+ * {@code instructor_student_roster} materialized view.
+ */
+@Service
+@Transactional
+public class InstructorRosterServiceImpl implements InstructorRosterService {
+
+    private static final Logger log = LoggerFactory.getLogger(InstructorRosterServiceImpl.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final InstructorRosterRepository rosterRepository;
+
+    @Autowired
+    public InstructorRosterServiceImpl(InstructorRosterRepository rosterRepository) {
+        this.rosterRepository = rosterRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InstructorRosterResponse getRoster(UUID instructorId, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative, was " + page);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Page size must be between 1 and %d, was %d", MAX_PAGE_SIZE, size));
+        }
+
+        // Read the refresh time first: the rows read next are at least this fresh
+        LocalDateTime refreshedAt = rosterRepository.findRefreshedAt().orElseGet(LocalDateTime::now);
+        long totalStudents = rosterRepository.countStudents(instructorId);
+        List<InstructorRosterResponse.RosterStudent> students = totalStudents <= (long) page * size
+                ? List.of()
+                : rosterRepository.findStudents(instructorId, size, (long) page * size)
+                        .stream()
+                        .map(row -> new InstructorRosterResponse.RosterStudent(row.studentId(),
+                                row.firstName() + " " + row.lastName(), row.email(), row.courseCount()))
+                        .collect(Collectors.toList());
+
+        return new InstructorRosterResponse(instructorId, page, size, totalStudents, refreshedAt, students);
+    }
+
+    @Override
+    @Workload(WorkloadType.BULK)
+    public LocalDateTime refreshRosters() {
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        if (!rosterRepository.isMaterializedViewSupported()) {
+            // Rosters are computed on every read
+            return refreshedAt;
+        }
+        long started = System.nanoTime();
+        rosterRepository.refresh(refreshedAt);
+        log.debug("Refreshed {} in {} ms", InstructorRosterRepository.VIEW_NAME, (System.nanoTime() - started) / 1_000_000);
+        return refreshedAt;
+    }
+}
@@ -1,8 +1,11 @@
 package com.coursemanagement.service.impl;
 
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
 import com.coursemanagement.dto.InstructorDetailsResponse;
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.entity.Instructor;
 import com.coursemanagement.entity.InstructorDetails;
 import com.coursemanagement.exception.ResourceAlreadyExistsException;
@@ -10,11 +13,13 @@ import com.coursemanagement.exception.ResourceNotFoundException;
 import com.coursemanagement.repository.InstructorDetailsRepository;
 import com.coursemanagement.repository.InstructorRepository;
 import com.coursemanagement.service.InstructorService;
+import com.coursemanagement.service.OutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,12 +32,15 @@ public class InstructorServiceImpl implements InstructorService {
 
     private final InstructorRepository instructorRepository;
     private final InstructorDetailsRepository instructorDetailsRepository;
+    private final OutboxService outboxService;
 
     @Autowired
     public InstructorServiceImpl(InstructorRepository instructorRepository,
-                               InstructorDetailsRepository instructorDetailsRepository) {
+                               InstructorDetailsRepository instructorDetailsRepository,
+                               OutboxService outboxService) {
         this.instructorRepository = instructorRepository;
         this.instructorDetailsRepository = instructorDetailsRepository;
+        this.outboxService = outboxService;
     }
 
     @Override
@@ -58,22 +66,35 @@ public class InstructorServiceImpl implements InstructorService {
         }
 
         Instructor savedInstructor = instructorRepository.save(instructor);
+        outboxService.record(OutboxService.INSTRUCTOR, savedInstructor.getId(), "InstructorCreated",
+                eventPayload(savedInstructor));
         return mapToResponse(savedInstructor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public InstructorResponse getInstructorById(UUID id) {
-        Instructor instructor = instructorRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", id));
+        Instructor instructor = findVisibleInstructor(id);
         
         return mapToResponse(instructor);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public MultiGetResponse<InstructorResponse> getInstructorsByIds(List<UUID> ids) {
+        MultiGetResponse.checkSize(ids);
+        List<InstructorResponse> instructors = instructorRepository.findAllByIdsInOrder(ids)
+                .stream()
+                .map(instructor -> instructor != null && isVisible(instructor) ? mapToResponse(instructor) : null)
+                .collect(Collectors.toList());
+        return MultiGetResponse.of(ids, instructors);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<InstructorResponse> getAllInstructors() {
-        return instructorRepository.findAll()
+        return instructorRepository.findByDeletionRequestedAtIsNull()
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -81,7 +102,8 @@ public class InstructorServiceImpl implements InstructorService {
 
     @Override
     public InstructorResponse updateInstructor(UUID id, InstructorRequest request) {
-        Instructor instructor = instructorRepository.findById(id)
+        // Locked so concurrent updates record their events in commit order
+        Instructor instructor = instructorRepository.findVisibleByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", id));
 
         // Check if email is being changed and if new email already exists
@@ -114,21 +136,15 @@ public class InstructorServiceImpl implements InstructorService {
         }
 
         Instructor updatedInstructor = instructorRepository.save(instructor);
+        outboxService.record(OutboxService.INSTRUCTOR, updatedInstructor.getId(), "InstructorUpdated",
+                eventPayload(updatedInstructor));
         return mapToResponse(updatedInstructor);
     }
 
-    @Override
-    public void deleteInstructor(UUID id) {
-        if (!instructorRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Instructor", "id", id);
-        }
-        instructorRepository.deleteById(id);
-    }
-
     @Override
     @Transactional(readOnly = true)
     public InstructorResponse getInstructorByEmail(String email) {
-        Instructor instructor = instructorRepository.findByEmail(email)
+        Instructor instructor = instructorRepository.findByEmailAndDeletionRequestedAtIsNull(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Instructor", "email", email));
         
         return mapToResponse(instructor);
@@ -163,8 +179,7 @@ public class InstructorServiceImpl implements InstructorService {
 
     @Override
     public InstructorResponse addInstructorDetails(UUID instructorId, UUID instructorDetailsId) {
-        Instructor instructor = instructorRepository.findById(instructorId)
-                .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", instructorId));
+        Instructor instructor = findVisibleInstructor(instructorId);
 
         InstructorDetails instructorDetails = instructorDetailsRepository.findById(instructorDetailsId)
                 .orElseThrow(() -> new ResourceNotFoundException("InstructorDetails", "id", instructorDetailsId));
@@ -177,8 +192,7 @@ public class InstructorServiceImpl implements InstructorService {
 
     @Override
     public InstructorResponse removeInstructorDetails(UUID instructorId) {
-        Instructor instructor = instructorRepository.findById(instructorId)
-                .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", instructorId));
+        Instructor instructor = findVisibleInstructor(instructorId);
 
         instructor.setInstructorDetails(null);
         Instructor updatedInstructor = instructorRepository.save(instructor);
@@ -189,7 +203,7 @@ public class InstructorServiceImpl implements InstructorService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        return instructorRepository.existsById(id);
+        return instructorRepository.existsByIdAndDeletionRequestedAtIsNull(id);
     }
 
     @Override
@@ -198,6 +212,22 @@ public class InstructorServiceImpl implements InstructorService {
         return instructorRepository.existsByEmail(email);
     }
 
+    /**
+     * Find an instructor that is not being deleted.
+     */
+    private Instructor findVisibleInstructor(UUID id) {
+        return instructorRepository.findByIdAndDeletionRequestedAtIsNull(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Instructor", "id", id));
+    }
+
+    /**
+     * Instructors whose deletion has been requested are hidden from reads while the deletion job runs.
+     * The repository queries leave them out; multi-get loads by ID and checks each row here.
+     */
+    private static boolean isVisible(Instructor instructor) {
+        return !instructor.isDeletionRequested();
+    }
+
     /**
      * Helper method to map Instructor entity to InstructorResponse DTO.
      */
@@ -225,4 +255,12 @@ public class InstructorServiceImpl implements InstructorService {
                 instructorDetailsResponse
         );
     }
+
+    /**
+     * Payload of the Instructor events recorded in the outbox.
+     */
+    private static Map<String, Object> eventPayload(Instructor instructor) {
+        return Map.of("id", instructor.getId(), "firstName", instructor.getFirstName(),
+                "lastName", instructor.getLastName(), "email", instructor.getEmail());
+    }
 }
\ No newline at end of file
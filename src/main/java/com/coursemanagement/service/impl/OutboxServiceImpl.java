@@ -0,0 +1,41 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.entity.OutboxEvent;
+import com.coursemanagement.repository.OutboxEventRepository;
+import com.coursemanagement.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service implementation for the transactional outbox.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void record(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " event", ex);
+        }
+    }
+}
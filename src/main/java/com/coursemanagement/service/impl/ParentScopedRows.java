@@ -0,0 +1,30 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.exception.ResourceNotFoundException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Reads of a parent's children that check the parent exists in the same statement.
+ * The repository queries ({@code findByExisting...}) start from the parent row and left join
+ * the children, so an unknown parent returns no rows and a parent without children returns a
+ * single {@code null} row. This replaces a separate {@code existsById} round trip.
+ */
+final class ParentScopedRows {
+
+    private ParentScopedRows() {
+    }
+
+    /**
+     * The children in {@code rows}, or a {@link ResourceNotFoundException} for the parent when there are no rows.
+     */
+    static <T> Stream<T> children(List<T> rows, String parentResource, UUID parentId) {
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(parentResource, "id", parentId);
+        }
+        return rows.stream().filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,303 @@
+package com.coursemanagement.service.impl;
+
+import com.coursemanagement.datasource.WorkloadContext;
+import com.coursemanagement.datasource.WorkloadType;
+import com.coursemanagement.dto.ReviewAcceptedResponse;
+import com.coursemanagement.dto.ReviewRequest;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.repository.ReviewIngestionRepository;
+import com.coursemanagement.repository.ReviewIngestionRepository.ReviewRow;
+import com.coursemanagement.service.ReviewIngestionService;
+import com.coursemanagement.service.ReviewsIngestedEvent;
+import com.coursemanagement.service.impl.ReviewJournal.Entry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind review ingestion.
+ * Accepted reviews are validated with one existence query, appended to a local journal and
+ * queued. A background writer drains the queue in batches (bounded by size and by how long
+ * the oldest review may wait) and writes each batch with a single multi-row insert.
+ * On start, journaled reviews that were never checkpointed are replayed. The service is a
+ * {@link SmartLifecycle}, so it also stops (flushing the queue and closing the journal) and
+ * starts again around a CRaC checkpoint/restore.
+ * Disabled unless {@code course-management.review-ingestion.enabled=true}.
+ */
+@Service
+public class ReviewIngestionServiceImpl implements ReviewIngestionService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewIngestionServiceImpl.class);
+
+    // PostgreSQL allows at most 65535 bind parameters per statement; each review uses 6
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final long RETRY_DELAY_MILLIS = 1_000;
+    private static final long STOP_CHECK_MILLIS = 100;
+    // Start after the connection pool (phase 0) and stop only once the web server has drained
+    private static final int PHASE = 10;
+
+    private final ReviewIngestionRepository reviewIngestionRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxLatencyMillis;
+    private final Path journalDirectory;
+    private final boolean fsync;
+    private final BlockingQueue<Entry> queue;
+
+    private ReviewJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Autowired
+    public ReviewIngestionServiceImpl(ReviewIngestionRepository reviewIngestionRepository,
+                                      ObjectMapper objectMapper,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${course-management.review-ingestion.enabled:false}") boolean enabled,
+                                      @Value("${course-management.review-ingestion.batch-size:500}") int batchSize,
+                                      @Value("${course-management.review-ingestion.max-latency-ms:200}") long maxLatencyMillis,
+                                      @Value("${course-management.review-ingestion.queue-capacity:50000}") int queueCapacity,
+                                      @Value("${course-management.review-ingestion.journal-dir:data/review-journal}") String journalDirectory,
+                                      @Value("${course-management.review-ingestion.fsync:true}") boolean fsync) {
+        this.reviewIngestionRepository = reviewIngestionRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = Math.min(Math.max(1, batchSize), MAX_BATCH_SIZE);
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        try {
+            journal = ReviewJournal.open(journalDirectory, objectMapper, fsync);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open review journal in " + journalDirectory, ex);
+        }
+        replay(journal.pendingAtOpen());
+
+        running = true;
+        writer = new Thread(() -> WorkloadContext.run(WorkloadType.BULK, this::runWriter), "review-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close review journal", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public ReviewAcceptedResponse submitReview(UUID courseId, ReviewRequest request) {
+        if (!running) {
+            throw new UnsupportedOperationException("Asynchronous review ingestion is not enabled");
+        }
+
+        // Validate course and student exist with a single query
+        boolean[] exists = reviewIngestionRepository.courseAndStudentExist(courseId, request.getStudentId());
+        if (!exists[0]) {
+            throw new ResourceNotFoundException("Course", "id", courseId);
+        }
+        if (!exists[1]) {
+            throw new ResourceNotFoundException("Student", "id", request.getStudentId());
+        }
+
+        Entry entry;
+        // Journal order must match queue order so a checkpoint covers everything before it
+        synchronized (queue) {
+            if (queue.remainingCapacity() == 0) {
+                throw new RejectedExecutionException("Review ingestion queue is full, retry later");
+            }
+            try {
+                entry = journal.append(UUID.randomUUID(), courseId, request.getStudentId(),
+                        request.getComment(), LocalDateTime.now());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to journal review", ex);
+            }
+            queue.add(entry);
+        }
+
+        return new ReviewAcceptedResponse(entry.id(), courseId, request.getStudentId(), "PENDING", entry.acceptedAt());
+    }
+
+    @Override
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        // The writer is never interrupted (that would close the journal's FileChannel), so waits
+        // are sliced and the running flag is re-checked between slices
+        while (running) {
+            try {
+                Entry first = queue.poll(STOP_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+                while (batch.size() < batchSize && running) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Entry next = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(STOP_CHECK_MILLIS)),
+                            TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+                flushWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException ex) {
+                break;
+            }
+        }
+
+        // Shutting down: write whatever is already queued; anything left stays in the journal
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            try {
+                flush(batch.subList(from, Math.min(batch.size(), from + batchSize)));
+            } catch (RuntimeException ex) {
+                log.warn("Could not flush {} queued reviews on shutdown; they will be replayed from the journal",
+                        batch.size() - from, ex);
+                return;
+            }
+        }
+    }
+
+    private void flushWithRetry(List<Entry> batch) throws InterruptedException {
+        while (true) {
+            try {
+                flush(batch);
+                return;
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    throw new InterruptedException("Shutting down with unflushed reviews");
+                }
+                log.warn("Failed to write {} reviews, retrying", batch.size(), ex);
+                Thread.sleep(RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Insert a batch and checkpoint it. A constraint violation (for example a course deleted after
+     * the review was accepted) falls back to row-by-row inserts so one bad review does not block
+     * the rest; other failures are thrown so the batch is retried.
+     */
+    private void flush(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ReviewRow> rows = batch.stream().map(ReviewIngestionServiceImpl::toRow).collect(Collectors.toList());
+        List<UUID> inserted = new ArrayList<>(rows.size());
+        try {
+            reviewIngestionRepository.insertBatch(rows);
+            rows.forEach(row -> inserted.add(row.id()));
+        } catch (DataIntegrityViolationException ex) {
+            for (ReviewRow row : rows) {
+                try {
+                    reviewIngestionRepository.insertBatch(List.of(row));
+                    inserted.add(row.id());
+                } catch (DataIntegrityViolationException rowEx) {
+                    log.warn("Dropping review {} for course {}: {}", row.id(), row.courseId(),
+                            rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        try {
+            journal.checkpoint(batch.get(batch.size() - 1).seq());
+        } catch (IOException ex) {
+            // Reviews are stored; a stale checkpoint only means an idempotent replay on restart
+            log.warn("Failed to checkpoint review journal", ex);
+        }
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new ReviewsIngestedEvent(inserted));
+        }
+    }
+
+    private void replay(List<Entry> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} journaled reviews", pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Entry> chunk = pending.subList(from, Math.min(pending.size(), from + batchSize));
+            Set<UUID> stored = reviewIngestionRepository.findExistingIds(
+                    chunk.stream().map(Entry::id).collect(Collectors.toList()));
+            List<Entry> missing = chunk.stream()
+                    .filter(entry -> !stored.contains(entry.id()))
+                    .collect(Collectors.toList());
+            flush(missing);
+            checkpointQuietly(chunk.get(chunk.size() - 1).seq());
+        }
+    }
+
+    private void checkpointQuietly(long seq) {
+        try {
+            journal.checkpoint(seq);
+        } catch (IOException ex) {
+            log.warn("Failed to checkpoint review journal", ex);
+        }
+    }
+
+    private static ReviewRow toRow(Entry entry) {
+        return new ReviewRow(entry.id(), entry.comment(), entry.courseId(), entry.studentId(), entry.acceptedAt());
+    }
+}
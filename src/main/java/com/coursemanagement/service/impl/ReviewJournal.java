@@ -0,0 +1,219 @@
+package com.coursemanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal for reviews accepted but not yet written to the database.
+ * Each entry is one JSON line with an increasing sequence number. A separate checkpoint
+ * file records the highest sequence known to be in the database. Entries are appended to
+ * {@value #JOURNAL_FILE}; a checkpoint that leaves entries behind closes it as a segment named
+ * after its last sequence, so segments the checkpoint has passed can be deleted and the journal
+ * stays bounded under sustained ingestion. Once everything appended has been checkpointed the
+ * segments are deleted and the active file is truncated.
+ */
+class ReviewJournal implements Closeable {
+
+    static final String JOURNAL_FILE = "reviews.journal";
+    static final String CHECKPOINT_FILE = "reviews.checkpoint";
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile(Pattern.quote(JOURNAL_FILE) + "\\.(\\d{20})");
+
+    /**
+     * One journaled review.
+     */
+    record Entry(long seq, UUID id, UUID courseId, UUID studentId, String comment, LocalDateTime acceptedAt) {
+    }
+
+    /**
+     * A closed journal file and the last sequence it holds.
+     */
+    private record Segment(Path file, long lastSeq) {
+    }
+
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final List<Entry> pendingAtOpen;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private FileChannel channel;
+    private long lastSeq;
+    private long checkpointSeq;
+
+    private ReviewJournal(Path directory, ObjectMapper objectMapper, boolean fsync) throws IOException {
+        Files.createDirectories(directory);
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+
+        if (Files.exists(checkpointFile)) {
+            checkpointSeq = Long.parseLong(Files.readString(checkpointFile).trim());
+        }
+        lastSeq = checkpointSeq;
+        pendingAtOpen = new ArrayList<>();
+        for (Segment segment : findSegments(directory)) {
+            if (segment.lastSeq() <= checkpointSeq) {
+                Files.delete(segment.file());
+            } else {
+                read(segment.file());
+                segments.add(segment);
+            }
+        }
+        long validLength = Files.exists(journalFile) ? read(journalFile) : 0;
+
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // Drop a partially written last line left by a crash mid-append
+        channel.truncate(validLength);
+        channel.position(validLength);
+    }
+
+    /**
+     * Open (or create) the journal in the given directory.
+     */
+    static ReviewJournal open(Path directory, ObjectMapper objectMapper, boolean fsync) throws IOException {
+        return new ReviewJournal(directory, objectMapper, fsync);
+    }
+
+    /**
+     * Entries that were journaled but not checkpointed when the journal was opened.
+     */
+    List<Entry> pendingAtOpen() {
+        return pendingAtOpen;
+    }
+
+    /**
+     * Durably append a review and return it with its sequence number.
+     */
+    synchronized Entry append(UUID id, UUID courseId, UUID studentId, String comment, LocalDateTime acceptedAt)
+            throws IOException {
+        Entry entry = new Entry(lastSeq + 1, id, courseId, studentId, comment, acceptedAt);
+        ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        lastSeq = entry.seq();
+        return entry;
+    }
+
+    /**
+     * Record that every entry up to and including {@code seq} is stored in the database.
+     */
+    synchronized void checkpoint(long seq) throws IOException {
+        if (seq <= checkpointSeq) {
+            return;
+        }
+        Path temp = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(seq));
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSeq = seq;
+
+        if (checkpointSeq >= lastSeq) {
+            channel.truncate(0);
+            channel.position(0);
+        } else if (channel.position() > 0) {
+            rollActiveFile();
+        }
+        while (!segments.isEmpty() && segments.peekFirst().lastSeq() <= checkpointSeq) {
+            Files.deleteIfExists(segments.removeFirst().file());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Close the active file as a segment ending at {@link #lastSeq} and start a new one.
+     */
+    private void rollActiveFile() throws IOException {
+        channel.close();
+        Path segment = journalFile.resolveSibling(String.format("%s.%020d", JOURNAL_FILE, lastSeq));
+        Files.move(journalFile, segment, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(new Segment(segment, lastSeq));
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static List<Segment> findSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .flatMap(file -> {
+                        Matcher name = SEGMENT_FILE.matcher(file.getFileName().toString());
+                        return name.matches()
+                                ? Stream.of(new Segment(file, Long.parseLong(name.group(1))))
+                                : Stream.<Segment>empty();
+                    })
+                    .sorted(Comparator.comparingLong(Segment::lastSeq))
+                    .toList();
+        }
+    }
+
+    /**
+     * Stream a journal file line by line, collecting the entries after the checkpoint, and return
+     * the length of its complete, readable lines. Reading stops at the first line that is not.
+     */
+    private long read(Path file) throws IOException {
+        long validLength = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                Entry entry = parse(line.toString(StandardCharsets.UTF_8));
+                if (entry == null) {
+                    break;
+                }
+                lastSeq = Math.max(lastSeq, entry.seq());
+                if (entry.seq() > checkpointSeq) {
+                    pendingAtOpen.add(entry);
+                }
+                validLength += line.size() + 1;
+                line.reset();
+            }
+        }
+        return validLength;
+    }
+
+    private Entry parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, Entry.class);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.coursemanagement.service.impl;
 
+import com.coursemanagement.concurrency.RequestCoalescer;
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
 import com.coursemanagement.dto.ReviewRequest;
 import com.coursemanagement.dto.ReviewResponse;
 import com.coursemanagement.entity.Course;
@@ -7,14 +10,23 @@ import com.coursemanagement.entity.Review;
 import com.coursemanagement.entity.Student;
 import com.coursemanagement.exception.ResourceNotFoundException;
 import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.ReviewPartitionRepository;
 import com.coursemanagement.repository.ReviewRepository;
+import com.coursemanagement.repository.SparseFieldQuery;
 import com.coursemanagement.repository.StudentRepository;
+import com.coursemanagement.service.OutboxService;
 import com.coursemanagement.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,13 +40,20 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
+    private final OutboxService outboxService;
+    private final RequestCoalescer requestCoalescer;
+    private final ReviewPartitionRepository partitionRepository;
 
     @Autowired
     public ReviewServiceImpl(ReviewRepository reviewRepository, CourseRepository courseRepository, 
-                           StudentRepository studentRepository) {
+                           StudentRepository studentRepository, OutboxService outboxService,
+                           RequestCoalescer requestCoalescer, ReviewPartitionRepository partitionRepository) {
         this.reviewRepository = reviewRepository;
         this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
+        this.outboxService = outboxService;
+        this.requestCoalescer = requestCoalescer;
+        this.partitionRepository = partitionRepository;
     }
 
     @Override
@@ -49,6 +68,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         Review review = new Review(request.getComment(), course, student);
         Review savedReview = reviewRepository.save(review);
+        outboxService.record(OutboxService.REVIEW, savedReview.getId(), "ReviewCreated", eventPayload(savedReview));
         return mapToResponse(savedReview);
     }
 
@@ -63,6 +83,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<ReviewResponse> getAllReviews() {
         return reviewRepository.findAllWithCourseInstructorAndStudent()
                 .stream()
@@ -70,9 +91,18 @@ public class ReviewServiceImpl implements ReviewService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public List<Map<String, Object>> getAllReviews(String fields) {
+        return reviewRepository.findAllWithFields(
+                ReviewRepository.SPARSE_FIELDS.resolve(SparseFieldQuery.parseFields(fields)));
+    }
+
     @Override
     public ReviewResponse updateReview(UUID id, ReviewRequest request) {
-        Review review = reviewRepository.findById(id)
+        // Locked so concurrent updates record their events in commit order
+        Review review = reviewRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Review", "id", id));
 
         // Validate student exists if student is being changed
@@ -85,47 +115,50 @@ public class ReviewServiceImpl implements ReviewService {
         review.setComment(request.getComment());
 
         Review updatedReview = reviewRepository.save(review);
+        outboxService.record(OutboxService.REVIEW, updatedReview.getId(), "ReviewUpdated", eventPayload(updatedReview));
         return mapToResponse(updatedReview);
     }
 
     @Override
     public void deleteReview(UUID id) {
-        if (!reviewRepository.existsById(id)) {
+        if (reviewRepository.removeById(id) == 0) {
             throw new ResourceNotFoundException("Review", "id", id);
         }
-        reviewRepository.deleteById(id);
+        outboxService.record(OutboxService.REVIEW, id, "ReviewDeleted", Map.of("id", id));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ReviewResponse> getReviewsByCourseId(UUID courseId) {
-        // Validate course exists
-        if (!courseRepository.existsById(courseId)) {
-            throw new ResourceNotFoundException("Course", "id", courseId);
-        }
-
-        return reviewRepository.findByCourseId(courseId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return requestCoalescer.read("course-reviews:" + courseId, () ->
+                ParentScopedRows.children(reviewRepository.findByExistingCourseId(courseId), "Course", courseId)
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ReviewResponse> getReviewsByCourseIdOrderedByDate(UUID courseId) {
-        // Validate course exists
-        if (!courseRepository.existsById(courseId)) {
-            throw new ResourceNotFoundException("Course", "id", courseId);
-        }
+        return requestCoalescer.read("course-reviews-by-date:" + courseId, () ->
+                ParentScopedRows.children(reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(courseId),
+                                "Course", courseId)
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()));
+    }
 
-        return reviewRepository.findByCourseIdOrderByCreatedAtDesc(courseId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ReviewResponse> getReviewsByCourseIdOrderedByDate(UUID courseId, boolean includeArchived) {
+        List<ReviewResponse> reviews = getReviewsByCourseIdOrderedByDate(courseId);
+        if (!includeArchived || !partitionRepository.isPartitioned()) {
+            return reviews;
+        }
+        return withArchived(reviews, partitionRepository.findArchivedByCourseId(courseId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<ReviewResponse> searchReviewsByComment(String keyword) {
         return reviewRepository.findByCommentContainingIgnoreCase(keyword)
                 .stream()
@@ -153,8 +186,20 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewResponse> getLatestReviews() {
-        return reviewRepository.findLatestReviews()
+    public List<ReviewResponse> getLatestReviews(int limit) {
+        return reviewRepository.findLatestWithCourseInstructorAndStudent(PageRequest.of(0, limit))
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewResponse> getReviewsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return reviewRepository.findAllWithCourseInstructorAndStudentByIdIn(ids)
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -169,24 +214,14 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public long countReviewsByCourseId(UUID courseId) {
-        // Validate course exists
-        if (!courseRepository.existsById(courseId)) {
-            throw new ResourceNotFoundException("Course", "id", courseId);
-        }
-        
-        return reviewRepository.countByCourseId(courseId);
+        return reviewRepository.countByExistingCourseId(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course", "id", courseId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByStudentId(UUID studentId) {
-        // Validate student exists
-        if (!studentRepository.existsById(studentId)) {
-            throw new ResourceNotFoundException("Student", "id", studentId);
-        }
-
-        return reviewRepository.findByStudentId(studentId)
-                .stream()
+        return ParentScopedRows.children(reviewRepository.findByExistingStudentId(studentId), "Student", studentId)
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -194,17 +229,22 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByStudentIdOrderedByDate(UUID studentId) {
-        // Validate student exists
-        if (!studentRepository.existsById(studentId)) {
-            throw new ResourceNotFoundException("Student", "id", studentId);
-        }
-
-        return reviewRepository.findByStudentIdOrderByCreatedAtDesc(studentId)
-                .stream()
+        return ParentScopedRows.children(reviewRepository.findByExistingStudentIdOrderByCreatedAtDesc(studentId),
+                        "Student", studentId)
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewResponse> getReviewsByStudentIdOrderedByDate(UUID studentId, boolean includeArchived) {
+        List<ReviewResponse> reviews = getReviewsByStudentIdOrderedByDate(studentId);
+        if (!includeArchived || !partitionRepository.isPartitioned()) {
+            return reviews;
+        }
+        return withArchived(reviews, partitionRepository.findArchivedByStudentId(studentId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByCourseIdAndStudentId(UUID courseId, UUID studentId) {
@@ -246,6 +286,33 @@ public class ReviewServiceImpl implements ReviewService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Merge two newest-first lists into one. Archived partitions are older than every monthly
+     * partition, but {@code reviews_default} catches rows outside them (such as backdated
+     * imports), so hot reviews can be older than archived ones and the lists cannot just be
+     * appended.
+     */
+    private static List<ReviewResponse> withArchived(List<ReviewResponse> hot, List<ReviewResponse> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Comparator<ReviewResponse> newestFirst = Comparator.comparing(ReviewResponse::getCreatedAt,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        List<ReviewResponse> reviews = new ArrayList<>(hot.size() + archived.size());
+        int h = 0;
+        int a = 0;
+        while (h < hot.size() && a < archived.size()) {
+            if (newestFirst.compare(archived.get(a), hot.get(h)) < 0) {
+                reviews.add(archived.get(a++));
+            } else {
+                reviews.add(hot.get(h++));
+            }
+        }
+        reviews.addAll(hot.subList(h, hot.size()));
+        reviews.addAll(archived.subList(a, archived.size()));
+        return reviews;
+    }
+
     /**
      * Helper method to map Review entity to ReviewResponse DTO.
      */
@@ -271,4 +338,12 @@ public class ReviewServiceImpl implements ReviewService {
                 studentInfo
         );
     }
+
+    /**
+     * Payload of the Review events recorded in the outbox.
+     */
+    private static Map<String, Object> eventPayload(Review review) {
+        return Map.of("id", review.getId(), "courseId", review.getCourse().getId(),
+                "studentId", review.getStudent().getId());
+    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.coursemanagement.service.impl;
 
+import com.coursemanagement.datasource.Workload;
+import com.coursemanagement.datasource.WorkloadType;
 import com.coursemanagement.dto.EnrollmentRequest;
 import com.coursemanagement.dto.EnrollmentResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.StudentRequest;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.dto.UnenrollmentResponse;
@@ -10,7 +13,9 @@ import com.coursemanagement.entity.Student;
 import com.coursemanagement.exception.ResourceAlreadyExistsException;
 import com.coursemanagement.exception.ResourceNotFoundException;
 import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.SparseFieldQuery;
 import com.coursemanagement.repository.StudentRepository;
+import com.coursemanagement.service.OutboxService;
 import com.coursemanagement.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,11 +36,14 @@ public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final OutboxService outboxService;
 
     @Autowired
-    public StudentServiceImpl(StudentRepository studentRepository, CourseRepository courseRepository) {
+    public StudentServiceImpl(StudentRepository studentRepository, CourseRepository courseRepository,
+                              OutboxService outboxService) {
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.outboxService = outboxService;
     }
 
     @Override
@@ -46,6 +55,7 @@ public class StudentServiceImpl implements StudentService {
 
         Student student = new Student(request.getFirstName(), request.getLastName(), request.getEmail());
         Student savedStudent = studentRepository.save(student);
+        outboxService.record(OutboxService.STUDENT, savedStudent.getId(), "StudentCreated", eventPayload(savedStudent));
         return mapToResponse(savedStudent, false);
     }
 
@@ -58,6 +68,17 @@ public class StudentServiceImpl implements StudentService {
         return mapToResponse(student, false);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<StudentResponse> getStudentsByIds(List<UUID> ids) {
+        MultiGetResponse.checkSize(ids);
+        List<StudentResponse> students = studentRepository.findAllByIdsInOrder(ids)
+                .stream()
+                .map(student -> student != null ? mapToResponse(student, false) : null)
+                .collect(Collectors.toList());
+        return MultiGetResponse.of(ids, students);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public StudentResponse getStudentByIdWithCourses(UUID id) {
@@ -69,6 +90,7 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<StudentResponse> getAllStudents() {
         return studentRepository.findAll()
                 .stream()
@@ -78,6 +100,15 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
+    public List<Map<String, Object>> getAllStudents(String fields) {
+        return studentRepository.findAllWithFields(
+                StudentRepository.SPARSE_FIELDS.resolve(SparseFieldQuery.parseFields(fields)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<StudentResponse> getAllStudentsWithCourses() {
         return studentRepository.findAllWithCourses()
                 .stream()
@@ -87,7 +118,8 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public StudentResponse updateStudent(UUID id, StudentRequest request) {
-        Student student = studentRepository.findById(id)
+        // Locked so concurrent updates record their events in commit order
+        Student student = studentRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
 
         // Check if email is being changed and if new email already exists
@@ -101,25 +133,23 @@ public class StudentServiceImpl implements StudentService {
         student.setEmail(request.getEmail());
 
         Student savedStudent = studentRepository.save(student);
+        outboxService.record(OutboxService.STUDENT, savedStudent.getId(), "StudentUpdated", eventPayload(savedStudent));
         return mapToResponse(savedStudent, false);
     }
 
     @Override
     public void deleteStudent(UUID id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
-
-        // Remove student from all courses (clear join table entries)
-        student.getCourses().clear();
-        studentRepository.save(student);
-        
-        // Delete the student
-        studentRepository.delete(student);
+        // Enrollments are removed by the course_student foreign key (ON DELETE CASCADE)
+        if (studentRepository.removeById(id) == 0) {
+            throw new ResourceNotFoundException("Student", "id", id);
+        }
+        outboxService.record(OutboxService.STUDENT, id, "StudentDeleted", Map.of("id", id));
     }
 
     @Override
     public EnrollmentResponse enrollStudentInCourse(UUID studentId, EnrollmentRequest request) {
-        Student student = studentRepository.findById(studentId)
+        // Only course_student changes, so the student row lock is what orders the student's events
+        Student student = studentRepository.findByIdForUpdate(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
 
         Course course = courseRepository.findById(request.getCourseId())
@@ -133,6 +163,8 @@ public class StudentServiceImpl implements StudentService {
 
         student.enrollInCourse(course);
         Student savedStudent = studentRepository.save(student);
+        outboxService.record(OutboxService.STUDENT, studentId, "StudentEnrolled",
+                Map.of("studentId", studentId, "courseId", course.getId()));
         
         // Create enrollment response
         EnrollmentResponse.StudentInfo studentInfo = new EnrollmentResponse.StudentInfo(
@@ -155,7 +187,8 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public UnenrollmentResponse unenrollStudentFromCourse(UUID studentId, EnrollmentRequest request) {
-        Student student = studentRepository.findById(studentId)
+        // Only course_student changes, so the student row lock is what orders the student's events
+        Student student = studentRepository.findByIdForUpdate(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
 
         Course course = courseRepository.findById(request.getCourseId())
@@ -169,6 +202,8 @@ public class StudentServiceImpl implements StudentService {
 
         student.unenrollFromCourse(course);
         Student savedStudent = studentRepository.save(student);
+        outboxService.record(OutboxService.STUDENT, studentId, "StudentUnenrolled",
+                Map.of("studentId", studentId, "courseId", course.getId()));
         
         // Create unenrollment response
         UnenrollmentResponse.StudentInfo studentInfo = new UnenrollmentResponse.StudentInfo(
@@ -203,13 +238,8 @@ public class StudentServiceImpl implements StudentService {
     @Override
     @Transactional(readOnly = true)
     public List<StudentResponse> getStudentsEnrolledInCourse(UUID courseId) {
-        // Verify course exists
-        if (!courseRepository.existsById(courseId)) {
-            throw new ResourceNotFoundException("Course", "id", courseId);
-        }
-
-        return studentRepository.findStudentsEnrolledInCourse(courseId)
-                .stream()
+        return ParentScopedRows.children(studentRepository.findStudentsEnrolledInExistingCourse(courseId),
+                        "Course", courseId)
                 .map(student -> mapToResponse(student, false))
                 .collect(Collectors.toList());
     }
@@ -250,15 +280,6 @@ public class StudentServiceImpl implements StudentService {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<StudentResponse> getStudentsByInstructor(UUID instructorId) {
-        return studentRepository.findStudentsByInstructor(instructorId)
-                .stream()
-                .map(student -> mapToResponse(student, false))
-                .collect(Collectors.toList());
-    }
-
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
@@ -308,6 +329,14 @@ public class StudentServiceImpl implements StudentService {
         );
     }
 
+    /**
+     * Payload of the Student events recorded in the outbox.
+     */
+    private static Map<String, Object> eventPayload(Student student) {
+        return Map.of("id", student.getId(), "firstName", student.getFirstName(),
+                "lastName", student.getLastName(), "email", student.getEmail());
+    }
+
     /**
      * Map Course entity to CourseInfo DTO.
      */
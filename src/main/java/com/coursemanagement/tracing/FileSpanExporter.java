@@ -0,0 +1,120 @@
+package com.coursemanagement.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends finished spans as JSON lines to a local file, so traces can be read without a
+ * collector: one object per span with its trace, span and parent IDs, name, kind, start time,
+ * duration, status, attributes and events. Spans of one trace share a {@code traceId}; their
+ * {@code parentSpanId} links rebuild the tree.
+ * <p>
+ * The file is opened for each exported batch and closed again, so no handle stays open between
+ * batches (nor across a CRaC checkpoint).
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private volatile boolean shutdown;
+
+    public FileSpanExporter(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (SpanData span : spans) {
+                    writer.write(objectMapper.writeValueAsString(toJson(span)));
+                    writer.newLine();
+                }
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            log.warn("Could not write {} spans to {}", spans.size(), file, ex);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        shutdown = true;
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("start", instant(span.getStartEpochNanos()).toString());
+        json.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        json.put("status", span.getStatus().getStatusCode().name());
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR && !span.getStatus().getDescription().isEmpty()) {
+            json.put("statusDescription", span.getStatus().getDescription());
+        }
+        json.put("attributes", attributes(span.getAttributes().asMap()));
+        if (!span.getEvents().isEmpty()) {
+            List<Map<String, Object>> events = new ArrayList<>(span.getEvents().size());
+            for (EventData event : span.getEvents()) {
+                Map<String, Object> eventJson = new LinkedHashMap<>();
+                eventJson.put("name", event.getName());
+                eventJson.put("time", instant(event.getEpochNanos()).toString());
+                eventJson.put("attributes", attributes(event.getAttributes().asMap()));
+                events.add(eventJson);
+            }
+            json.put("events", events);
+        }
+        return json;
+    }
+
+    private static Map<String, Object> attributes(Map<AttributeKey<?>, Object> attributes) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        attributes.forEach((key, value) -> json.put(key.getKey(), value));
+        return json;
+    }
+
+    private static Instant instant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+}
@@ -0,0 +1,42 @@
+package com.coursemanagement.tracing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Wraps a connection pool in a proxy that reports {@code jdbc.connection}, {@code jdbc.query}
+ * and {@code jdbc.result-set} observations: one per borrowed connection, per executed statement
+ * (with the SQL and the rows it changed) and, if result sets are proxied, per result set (with
+ * the rows read). The proxy is named after the pool, so spans show which pool served them.
+ * The registry is looked up on the first statement, since the pools exist before it does.
+ */
+public class JdbcObservationDecorator implements UnaryOperator<DataSource> {
+
+    private final DataSourceObservationListener listener;
+    private final boolean resultSets;
+
+    public JdbcObservationDecorator(Supplier<ObservationRegistry> observationRegistry, boolean resultSets) {
+        this.listener = new DataSourceObservationListener(observationRegistry);
+        this.resultSets = resultSets;
+    }
+
+    @Override
+    public DataSource apply(DataSource pool) {
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(pool)
+                .listener(listener)
+                .methodListener(listener);
+        if (pool instanceof HikariDataSource hikari && hikari.getPoolName() != null) {
+            builder.name(hikari.getPoolName());
+        }
+        if (resultSets) {
+            builder.proxyResultSet();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.coursemanagement.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.observation.tracing.DataSourceBaseContext;
+
+/**
+ * Skips JDBC observations outside a recorded trace. Startup work and other background
+ * statements would otherwise each start a trace of their own, and unsampled requests (or every
+ * request, with tracing off) would still pay for the observations.
+ */
+public class JdbcObservationPredicate implements ObservationPredicate {
+
+    private final Tracer tracer;
+
+    public JdbcObservationPredicate(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public boolean test(String name, Observation.Context context) {
+        return !(context instanceof DataSourceBaseContext) || LayerTracingInterceptor.isRecording(tracer);
+    }
+}
@@ -0,0 +1,86 @@
+package com.coursemanagement.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps each call of a {@link TracedLayer} method in a span named {@code Type.method}, tagged
+ * with the layer and the code location, and marked with the exception if the call throws.
+ * Spans are only started inside a recorded trace (a sampled HTTP request or scheduled task), so
+ * background work does not start a trace per repository call and unsampled requests pay nothing.
+ * The tracer is looked up on first use, since advisors are created before it exists.
+ * <p>
+ * The span is started with the tracer rather than as an observation, so it does not add a timer
+ * next to {@code service.method} and {@code http.server.requests}.
+ */
+public class LayerTracingInterceptor implements MethodInterceptor {
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private record SpanName(String name, String namespace) {
+    }
+
+    private final TracedLayer layer;
+    private final ObjectProvider<Tracer> tracer;
+    private final Map<MethodKey, SpanName> names = new ConcurrentHashMap<>();
+
+    public LayerTracingInterceptor(TracedLayer layer, ObjectProvider<Tracer> tracer) {
+        this.layer = layer;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer current = tracer.getIfAvailable();
+        if (current == null || !isRecording(current)) {
+            return invocation.proceed();
+        }
+        SpanName name = spanName(invocation);
+        Span span = current.nextSpan()
+                .name(name.name())
+                .tag("layer", layer.getTagValue())
+                .tag("code.namespace", name.namespace())
+                .tag("code.function", invocation.getMethod().getName())
+                .start();
+        try (Tracer.SpanInScope scope = current.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Whether the current span is part of a trace that is being recorded.
+     */
+    static boolean isRecording(Tracer tracer) {
+        Span span = tracer.currentSpan();
+        return span != null && !span.isNoop();
+    }
+
+    private SpanName spanName(MethodInvocation invocation) {
+        // The target's own class, not AopUtils.getTargetClass: a Spring Data repository is itself
+        // a proxy, and only its proxy class implements the repository interface
+        Class<?> targetClass = invocation.getThis() != null
+                ? ClassUtils.getUserClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        return names.computeIfAbsent(new MethodKey(targetClass, invocation.getMethod()), key -> {
+            Class<?> type = layer.findType(key.method(), key.targetClass());
+            if (type == null) {
+                type = key.targetClass();
+            }
+            return new SpanName(type.getSimpleName() + "." + key.method().getName(), type.getName());
+        });
+    }
+}
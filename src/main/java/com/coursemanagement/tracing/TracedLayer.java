@@ -0,0 +1,90 @@
+package com.coursemanagement.tracing;
+
+import com.coursemanagement.metrics.ServiceInterfacePointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * The application layers that get a span per method call, and how each one recognizes its beans.
+ */
+public enum TracedLayer {
+
+    /**
+     * Public handler methods of {@code @Controller} and {@code @RestController} classes.
+     */
+    CONTROLLER("controller") {
+        @Override
+        Class<?> findType(Method method, Class<?> targetClass) {
+            if (AnnotatedElementUtils.hasAnnotation(targetClass, Controller.class)
+                    && Modifier.isPublic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class) {
+                return targetClass;
+            }
+            return null;
+        }
+    },
+
+    /**
+     * Methods a bean implements from an interface in {@code com.coursemanagement.service}.
+     */
+    SERVICE("service") {
+        @Override
+        Class<?> findType(Method method, Class<?> targetClass) {
+            return ServiceInterfacePointcut.findServiceInterface(method, targetClass);
+        }
+    },
+
+    /**
+     * Public methods of the {@code @Repository} types in {@code com.coursemanagement.repository}:
+     * the JDBC repository classes and the Spring Data interfaces, including what they inherit
+     * from {@code JpaRepository}. Custom fragment implementations are covered by the span of the
+     * repository interface that calls them.
+     */
+    REPOSITORY("repository") {
+        @Override
+        Class<?> findType(Method method, Class<?> targetClass) {
+            if (REPOSITORY_PACKAGE.equals(targetClass.getPackageName())
+                    && AnnotatedElementUtils.hasAnnotation(targetClass, Repository.class)) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class
+                        ? targetClass : null;
+            }
+            return findRepositoryInterface(method, targetClass);
+        }
+    };
+
+    static final String REPOSITORY_PACKAGE = "com.coursemanagement.repository";
+
+    private final String tagValue;
+
+    TracedLayer(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+    /**
+     * The type the span is named after, or {@code null} if the method is not part of this layer.
+     */
+    abstract Class<?> findType(Method method, Class<?> targetClass);
+
+    private static Class<?> findRepositoryInterface(Method method, Class<?> targetClass) {
+        if (method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (REPOSITORY_PACKAGE.equals(candidate.getPackageName())
+                    && candidate.isAnnotationPresent(Repository.class)
+                    && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
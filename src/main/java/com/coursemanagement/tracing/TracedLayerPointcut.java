@@ -0,0 +1,22 @@
+package com.coursemanagement.tracing;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+
+/**
+ * Matches the methods of one {@link TracedLayer}.
+ */
+public class TracedLayerPointcut extends StaticMethodMatcherPointcut {
+
+    private final TracedLayer layer;
+
+    public TracedLayerPointcut(TracedLayer layer) {
+        this.layer = layer;
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return layer.findType(method, targetClass != null ? targetClass : method.getDeclaringClass()) != null;
+    }
+}
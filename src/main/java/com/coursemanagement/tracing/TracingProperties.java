@@ -0,0 +1,59 @@
+package com.coursemanagement.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the application's spans under {@code course-management.tracing}. Sampling and
+ * the OTLP exporter are configured with Spring Boot's {@code management.tracing.*} and
+ * {@code management.otlp.tracing.*} properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = TracingProperties.PREFIX)
+public class TracingProperties {
+
+    public static final String PREFIX = "course-management.tracing";
+
+    private Layers layers = new Layers();
+    private Jdbc jdbc = new Jdbc();
+    private FileExporter fileExporter = new FileExporter();
+
+    /**
+     * A span per controller, service and repository method call.
+     */
+    @Getter
+    @Setter
+    public static class Layers {
+
+        private boolean enabled = true;
+    }
+
+    /**
+     * Connection, statement and result set spans from the workload pools.
+     */
+    @Getter
+    @Setter
+    public static class Jdbc {
+
+        private boolean enabled = true;
+
+        /**
+         * Proxy result sets too, which adds the row count of each query; every row read goes
+         * through the proxy.
+         */
+        private boolean resultSets = true;
+    }
+
+    /**
+     * Finished spans appended as JSON lines to a local file.
+     */
+    @Getter
+    @Setter
+    public static class FileExporter {
+
+        private boolean enabled = false;
+        private String path = "data/traces.ndjson";
+    }
+}
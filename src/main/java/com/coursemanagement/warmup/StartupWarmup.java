@@ -0,0 +1,337 @@
+package com.coursemanagement.warmup;
+
+import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.service.CourseService;
+import com.coursemanagement.service.InstructorService;
+import com.coursemanagement.service.ReviewService;
+import com.coursemanagement.service.StudentService;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Warms the application up after startup and before it reports ready.
+ * Primes the connection pool, then runs a weighted synthetic mix of read operations through the
+ * real service layer (inside transactions that are always rolled back) so the JIT, Hibernate's
+ * query plan cache, the driver's prepared statements and the database buffer cache are warm
+ * before traffic arrives. {@link WarmupHealthIndicator} keeps readiness DOWN until this finishes
+ * or times out.
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // Same query the latest-reviews feed runs when it seeds its ring
+    private static final int LATEST_REVIEWS_LIMIT = 100;
+
+    // The hottest courses: the working set the mix draws IDs and titles from, and one course-list page
+    private static final int HOT_COURSES_LIMIT = 100;
+
+    /**
+     * Warm-up progress as reported by the readiness probe.
+     */
+    public enum Phase {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED, DISABLED;
+
+        public boolean isFinished() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    private final CourseService courseService;
+    private final InstructorService instructorService;
+    private final StudentService studentService;
+    private final ReviewService reviewService;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Map<String, Integer> mix;
+    private final int iterations;
+    private final int threads;
+    private final int poolConnections;
+    private final long timeoutMillis;
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile long durationMillis;
+    private final AtomicInteger operationsRun = new AtomicInteger();
+
+    @Autowired
+    public StartupWarmup(CourseService courseService,
+                         InstructorService instructorService,
+                         StudentService studentService,
+                         ReviewService reviewService,
+                         DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${course-management.warmup.enabled:true}") boolean enabled,
+                         @Value("${course-management.warmup.mix:course-list:2,course-search:3,enrollment-check:3,instructor-list:1,latest-reviews:1}") String mix,
+                         @Value("${course-management.warmup.iterations:500}") int iterations,
+                         @Value("${course-management.warmup.threads:4}") int threads,
+                         @Value("${course-management.warmup.pool-connections:0}") int poolConnections,
+                         @Value("${course-management.warmup.timeout-ms:30000}") long timeoutMillis) {
+        this.courseService = courseService;
+        this.instructorService = instructorService;
+        this.studentService = studentService;
+        this.reviewService = reviewService;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.mix = parseMix(mix);
+        this.iterations = iterations;
+        this.threads = Math.max(1, threads);
+        this.poolConnections = poolConnections;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int getOperationsRun() {
+        return operationsRun.get();
+    }
+
+    /**
+     * Start warm-up in the background once the context is up, so liveness is not held back.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        if (!enabled) {
+            phase = Phase.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::run, "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Run warm-up to completion or timeout.
+     */
+    public void run() {
+        phase = Phase.RUNNING;
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "startup-warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            primePool(workers, deadline);
+            runMix(workers, deadline);
+            phase = Phase.COMPLETED;
+        } catch (TimeoutException ex) {
+            phase = Phase.TIMED_OUT;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            phase = Phase.FAILED;
+        } catch (Exception ex) {
+            log.warn("Startup warm-up failed, continuing without it", ex);
+            phase = Phase.FAILED;
+        } finally {
+            workers.shutdownNow();
+            durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        log.info("Startup warm-up {} after {} ms ({} operations)", phase, durationMillis, operationsRun);
+        eventPublisher.publishEvent(new WarmupFinishedEvent(phase, durationMillis));
+    }
+
+    /**
+     * Open the pool's connections up front (held concurrently so the pool has to create them).
+     */
+    private void primePool(ExecutorService workers, long deadline) throws Exception {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        int connections = poolConnections > 0 ? poolConnections : hikari != null ? hikari.getMinimumIdle() : threads;
+        Queue<Connection> opened = new ConcurrentLinkedQueue<>();
+        AtomicBoolean released = new AtomicBoolean();
+        List<Future<?>> pending = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                pending.add(workers.submit(() -> {
+                    Connection connection = dataSource.getConnection();
+                    opened.add(connection);
+                    // A task still inside getConnection when warm-up gave up hands its connection back itself
+                    if (released.get()) {
+                        close(opened);
+                        return null;
+                    }
+                    connection.isValid(1);
+                    return null;
+                }));
+            }
+            for (Future<?> future : pending) {
+                await(future, deadline);
+            }
+        } finally {
+            released.set(true);
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+            close(opened);
+        }
+    }
+
+    private static void close(Queue<Connection> connections) {
+        for (Connection connection = connections.poll(); connection != null; connection = connections.poll()) {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                log.debug("Failed to release warm-up connection", ex);
+            }
+        }
+    }
+
+    private void runMix(ExecutorService workers, long deadline) throws Exception {
+        List<Consumer<WarmupData>> schedule = buildSchedule();
+        if (schedule.isEmpty()) {
+            return;
+        }
+        WarmupData data = inRolledBackTransaction(() -> WarmupData.load(courseService));
+
+        List<Future<?>> futures = new ArrayList<>(threads);
+        int perThread = (iterations + threads - 1) / threads;
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(workers.submit(() -> {
+                for (int i = 0; i < perThread && !Thread.currentThread().isInterrupted(); i++) {
+                    Consumer<WarmupData> operation = schedule.get((offset + i * threads) % schedule.size());
+                    inRolledBackTransaction(() -> {
+                        operation.accept(data);
+                        return null;
+                    });
+                    operationsRun.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            await(future, deadline);
+        }
+    }
+
+    /**
+     * Expand the weighted mix into a round-robin schedule of operations.
+     */
+    private List<Consumer<WarmupData>> buildSchedule() {
+        Map<String, Consumer<WarmupData>> operations = Map.of(
+                "course-list", data -> courseService.getMostEnrolledCourses(HOT_COURSES_LIMIT),
+                "course-search", data -> courseService.searchCoursesByTitle(data.randomTitleFragment()),
+                "enrollment-check", data -> {
+                    UUID courseId = data.randomCourseId();
+                    studentService.isStudentEnrolledInCourse(UUID.randomUUID(), courseId);
+                    studentService.countStudentsInCourse(courseId);
+                },
+                "instructor-list", data -> instructorService.getAllInstructors(),
+                "latest-reviews", data -> reviewService.getLatestReviews(LATEST_REVIEWS_LIMIT));
+
+        List<Consumer<WarmupData>> schedule = new ArrayList<>();
+        mix.forEach((name, weight) -> {
+            Consumer<WarmupData> operation = operations.get(name);
+            if (operation == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Unknown warm-up operation '%s'. Allowed operations: %s", name, operations.keySet()));
+            }
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule;
+    }
+
+    private <T> T inRolledBackTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return work.get();
+        });
+    }
+
+    private static <T> T await(Future<T> future, long deadline) throws Exception {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof Exception cause ? cause : ex;
+        }
+    }
+
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.lastIndexOf(':');
+            String name = colon < 0 ? trimmed : trimmed.substring(0, colon).trim();
+            int weight = colon < 0 ? 1 : Integer.parseInt(trimmed.substring(colon + 1).trim());
+            weights.put(name, weight);
+        }
+        return weights;
+    }
+
+    /**
+     * Real IDs and titles used to parameterize the synthetic operations.
+     */
+    private record WarmupData(List<UUID> courseIds, List<String> titleFragments) {
+
+        static WarmupData load(CourseService courseService) {
+            List<UUID> ids = new ArrayList<>();
+            List<String> fragments = new ArrayList<>();
+            for (CourseResponse course : courseService.getMostEnrolledCourses(HOT_COURSES_LIMIT)) {
+                ids.add(course.getId());
+                String title = course.getTitle();
+                fragments.add(title.substring(0, Math.min(title.length(), 4)));
+            }
+            return new WarmupData(ids, fragments);
+        }
+
+        UUID randomCourseId() {
+            return courseIds.isEmpty() ? UUID.randomUUID()
+                    : courseIds.get(ThreadLocalRandom.current().nextInt(courseIds.size()));
+        }
+
+        String randomTitleFragment() {
+            return titleFragments.isEmpty() ? "a"
+                    : titleFragments.get(ThreadLocalRandom.current().nextInt(titleFragments.size()));
+        }
+    }
+}
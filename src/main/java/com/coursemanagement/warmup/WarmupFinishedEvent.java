@@ -0,0 +1,9 @@
+package com.coursemanagement.warmup;
+
+import com.coursemanagement.warmup.StartupWarmup.Phase;
+
+/**
+ * Published once startup warm-up has completed, timed out or failed.
+ */
+public record WarmupFinishedEvent(Phase phase, long durationMillis) {
+}
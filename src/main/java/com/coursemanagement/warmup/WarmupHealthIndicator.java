@@ -0,0 +1,34 @@
+package com.coursemanagement.warmup;
+
+import com.coursemanagement.warmup.StartupWarmup.Phase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health contributor ("warmup") that is DOWN while startup warm-up is still running.
+ * Included in the readiness group so the instance receives traffic only once warm-up has
+ * completed, timed out or failed; it never affects liveness.
+ */
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmup startupWarmup;
+
+    @Autowired
+    public WarmupHealthIndicator(StartupWarmup startupWarmup) {
+        this.startupWarmup = startupWarmup;
+    }
+
+    @Override
+    public Health health() {
+        Phase phase = startupWarmup.getPhase();
+        Health.Builder builder = phase.isFinished() ? Health.up() : Health.down();
+        return builder
+                .withDetail("phase", phase)
+                .withDetail("operations", startupWarmup.getOperationsRun())
+                .withDetail("durationMillis", startupWarmup.getDurationMillis())
+                .build();
+    }
+}
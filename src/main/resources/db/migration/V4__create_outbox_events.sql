@@ -0,0 +1,12 @@
+-- Migration script to create the transactional outbox table
+-- Version: V4
+-- Description: Domain change events written in the same transaction as the change and delivered by the outbox relay
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP
+);
@@ -0,0 +1,21 @@
+-- Migration script for asynchronous instructor deletion
+-- Version: V5
+-- Description: Mark instructors whose deletion was requested and track the chunked deletion job
+
+ALTER TABLE instructor ADD COLUMN IF NOT EXISTS deletion_requested_at TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS instructor_deletion_jobs (
+    instructor_id UUID PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    total_courses INTEGER NOT NULL,
+    courses_deleted INTEGER NOT NULL,
+    reviews_deleted BIGINT NOT NULL,
+    enrollments_deleted BIGINT NOT NULL,
+    failures INTEGER NOT NULL,
+    last_error VARCHAR(1000),
+    requested_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_instructor_deletion_jobs_status ON instructor_deletion_jobs(status, requested_at);
@@ -0,0 +1,5 @@
+-- Migration script for the latest reviews feed
+-- Version: V6
+-- Description: Index reviews by creation time so the newest reviews are read without sorting the table
+
+CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews(created_at DESC);
@@ -0,0 +1,21 @@
+-- Migration script for the instructor student roster
+-- Version: V7
+-- Description: Precompute which students each instructor teaches so rosters are read without a DISTINCT sort
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS instructor_student_roster AS
+SELECT c.instructor_id, cs.student_id, COUNT(*) AS course_count
+FROM course c
+JOIN course_student cs ON cs.course_id = c.id
+GROUP BY c.instructor_id, cs.student_id;
+
+-- Required by REFRESH MATERIALIZED VIEW CONCURRENTLY; also serves roster pages in student_id order
+CREATE UNIQUE INDEX IF NOT EXISTS idx_instructor_student_roster ON instructor_student_roster(instructor_id, student_id);
+
+CREATE TABLE IF NOT EXISTS materialized_view_refreshes (
+    view_name VARCHAR(100) PRIMARY KEY,
+    refreshed_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO materialized_view_refreshes (view_name, refreshed_at)
+VALUES ('instructor_student_roster', CURRENT_TIMESTAMP)
+ON CONFLICT (view_name) DO NOTHING;
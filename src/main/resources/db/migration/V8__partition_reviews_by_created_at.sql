@@ -0,0 +1,69 @@
+-- Migration script to partition reviews by creation time
+-- Version: V8
+-- Description: Convert reviews into a monthly created_at range-partitioned table and create the archive
+-- table that old partitions are moved into by ReviewPartitionMaintainer
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('public.reviews')) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE reviews RENAME TO reviews_unpartitioned;
+
+    -- The partition key must be part of the primary key
+    CREATE TABLE reviews (
+        id UUID NOT NULL,
+        comment TEXT NOT NULL,
+        created_at TIMESTAMP NOT NULL DEFAULT now(),
+        updated_at TIMESTAMP,
+        course_id UUID NOT NULL,
+        student_id UUID,
+        PRIMARY KEY (id, created_at),
+        CONSTRAINT fk_reviews_course FOREIGN KEY (course_id) REFERENCES course(id) ON DELETE CASCADE,
+        CONSTRAINT fk_reviews_student FOREIGN KEY (student_id) REFERENCES student(id) ON DELETE SET NULL
+    ) PARTITION BY RANGE (created_at);
+
+    -- Catches rows outside the monthly partitions, such as far-future timestamps
+    CREATE TABLE reviews_default PARTITION OF reviews DEFAULT;
+
+    SELECT date_trunc('month', COALESCE(MIN(created_at), now()))::date INTO month_start FROM reviews_unpartitioned;
+    last_month := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF reviews FOR VALUES FROM (%L) TO (%L)',
+                       'reviews_' || to_char(month_start, 'YYYY_MM'), month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+
+    INSERT INTO reviews (id, comment, created_at, updated_at, course_id, student_id)
+    SELECT id, comment, COALESCE(created_at, updated_at, now()), updated_at, course_id, student_id
+    FROM reviews_unpartitioned;
+
+    DROP TABLE reviews_unpartitioned;
+END $$;
+
+-- Created on the parent so every partition, including future ones, gets them
+CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_reviews_student_id ON reviews(student_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_course_student ON reviews(course_id, student_id);
+
+-- Archived partitions keep their rows but no foreign keys, so courses and students can still be deleted
+CREATE TABLE IF NOT EXISTS archive.reviews (
+    id UUID NOT NULL,
+    comment TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    course_id UUID NOT NULL,
+    student_id UUID,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_archived_reviews_created_at ON archive.reviews(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_archived_reviews_student_id ON archive.reviews(student_id);
+CREATE INDEX IF NOT EXISTS idx_archived_reviews_course_student ON archive.reviews(course_id, student_id);
@@ -0,0 +1,175 @@
+package com.coursemanagement.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ConcurrencyLimitFilter filter(int limit) {
+        return new ConcurrencyLimitFilter(objectMapper, true,
+                new GradientConcurrencyLimit(limit, limit, limit, 100), 3);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should shed low-priority requests with 503 and Retry-After while keeping capacity for enrollments")
+        void shouldShedLowPriorityFirst() throws Exception {
+            // Given - limit 4: LOW may use 2 slots, CRITICAL all 4
+            ConcurrencyLimitFilter filter = filter(4);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch admitted = new CountDownLatch(2);
+            FilterChain blocking = (req, res) -> {
+                admitted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> first = executor.submit(() -> {
+                    filter.doFilter(request("GET", "/api/v1/courses/with-reviews"), new MockHttpServletResponse(), blocking);
+                    return null;
+                });
+                Future<?> second = executor.submit(() -> {
+                    filter.doFilter(request("GET", "/api/v1/courses/search"), new MockHttpServletResponse(), blocking);
+                    return null;
+                });
+                assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                // When
+                MockHttpServletResponse rejected = new MockHttpServletResponse();
+                filter.doFilter(request("GET", "/api/v1/courses"), rejected, new MockFilterChain());
+                MockHttpServletResponse enrolled = new MockHttpServletResponse();
+                filter.doFilter(request("POST", "/api/v1/students/" + UUID.randomUUID() + "/enroll"),
+                        enrolled, new MockFilterChain());
+
+                // Then
+                assertThat(filter.getInFlight()).isEqualTo(2);
+                assertThat(rejected.getStatus()).isEqualTo(503);
+                assertThat(rejected.getHeader("Retry-After")).isEqualTo("3");
+                assertThat(rejected.getContentAsString())
+                        .contains("SERVICE_UNAVAILABLE")
+                        .contains("/api/v1/courses");
+                assertThat(enrolled.getStatus()).isEqualTo(200);
+
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+                second.get(5, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+            assertThat(filter.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should release the slot when the chain throws")
+        void shouldReleaseSlotOnException() {
+            // Given
+            ConcurrencyLimitFilter filter = filter(4);
+            FilterChain failing = (req, res) -> {
+                throw new IllegalStateException("boom");
+            };
+
+            // When / Then
+            assertThatThrownBy(() -> filter.doFilter(request("GET", "/api/v1/courses"),
+                    new MockHttpServletResponse(), failing))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(filter.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not limit requests outside the API")
+        void shouldSkipNonApiPaths() throws Exception {
+            // Given
+            ConcurrencyLimitFilter filter = filter(1);
+            MockHttpServletRequest request = request("GET", "/actuator/health");
+            MockFilterChain chain = new MockFilterChain();
+
+            // When
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // Then
+            assertThat(chain.getRequest()).isSameAs(request);
+            assertThat(filter.getInFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Classification Tests")
+    class ClassificationTests {
+
+        private final RequestPriorityClassifier classifier = new RequestPriorityClassifier();
+        private final String id = UUID.randomUUID().toString();
+
+        private RequestPriority classify(String method, String path) {
+            return classifier.classify(request(method, path));
+        }
+
+        @Test
+        @DisplayName("Should rank enrollment writes highest")
+        void shouldRankEnrollmentWritesCritical() {
+            assertThat(classify("POST", "/api/v1/students/" + id + "/enroll")).isEqualTo(RequestPriority.CRITICAL);
+            assertThat(classify("DELETE", "/api/v1/students/" + id + "/unenroll")).isEqualTo(RequestPriority.CRITICAL);
+        }
+
+        @Test
+        @DisplayName("Should rank other writes and single-entity reads high")
+        void shouldRankSingleEntityHigh() {
+            assertThat(classify("POST", "/api/v1/courses")).isEqualTo(RequestPriority.HIGH);
+            assertThat(classify("PUT", "/api/v1/courses/" + id)).isEqualTo(RequestPriority.HIGH);
+            assertThat(classify("GET", "/api/v1/courses/" + id)).isEqualTo(RequestPriority.HIGH);
+            assertThat(classify("GET", "/api/v1/students/" + id + "/exists")).isEqualTo(RequestPriority.HIGH);
+        }
+
+        @Test
+        @DisplayName("Should rank nested collections, counts and multi-gets normal")
+        void shouldRankNestedNormal() {
+            assertThat(classify("GET", "/api/v1/courses/" + id + "/students/count")).isEqualTo(RequestPriority.NORMAL);
+            assertThat(classify("GET", "/api/v1/courses/" + id + "/reviews")).isEqualTo(RequestPriority.NORMAL);
+            MockHttpServletRequest multiGet = request("GET", "/api/v1/courses");
+            multiGet.setParameter("ids", id);
+            assertThat(classifier.classify(multiGet)).isEqualTo(RequestPriority.NORMAL);
+        }
+
+        @Test
+        @DisplayName("Should rank listings, searches, imports and GraphQL low")
+        void shouldRankExpensiveLow() {
+            assertThat(classify("GET", "/api/v1/courses")).isEqualTo(RequestPriority.LOW);
+            assertThat(classify("GET", "/api/v1/courses/with-reviews")).isEqualTo(RequestPriority.LOW);
+            assertThat(classify("GET", "/api/v1/courses/search")).isEqualTo(RequestPriority.LOW);
+            assertThat(classify("GET", "/api/v1/instructors/search/advanced")).isEqualTo(RequestPriority.LOW);
+            assertThat(classify("POST", "/api/v1/import/courses")).isEqualTo(RequestPriority.LOW);
+            assertThat(classify("POST", "/graphql")).isEqualTo(RequestPriority.LOW);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.coursemanagement.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GradientConcurrencyLimit Tests")
+class GradientConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private GradientConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        limit = new GradientConcurrencyLimit(20, 5, 200, 100, clock::get);
+    }
+
+    /** Feed one full window of identical samples. */
+    private void window(long rttMillis, int inFlight, boolean dropped) {
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(rttMillis * MILLIS, inFlight, dropped);
+        }
+        clock.addAndGet(100 * MILLIS);
+        limit.onSample(rttMillis * MILLIS, inFlight, dropped);
+    }
+
+    @Test
+    @DisplayName("Should grow while latency stays at its baseline and the limit is in use")
+    void shouldGrowWhenLatencyIsStable() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            window(10, limit.getLimit(), false);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Should not grow while most of the limit is unused")
+    void shouldNotGrowWhenUnderused() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            window(10, 2, false);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should shrink when latency rises well above the baseline")
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            window(10, 20, false);
+        }
+        int before = limit.getLimit();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            window(100, limit.getLimit(), false);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("Should back off on drops without going below the minimum")
+    void shouldBackOffOnDropsToMinimum() {
+        // When
+        window(10, 20, true);
+        int afterOneDrop = limit.getLimit();
+        for (int i = 0; i < 50; i++) {
+            window(10, 20, true);
+        }
+
+        // Then
+        assertThat(afterOneDrop).isEqualTo(18);
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should wait for a full window before adjusting")
+    void shouldWaitForFullWindow() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(500 * MILLIS, 20, false);
+        }
+        clock.addAndGet(1_000 * MILLIS);
+        limit.onSample(500 * MILLIS, 20, false);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent bounds")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 0, 100, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 50, 20, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.coursemanagement.concurrency;
+
+import com.coursemanagement.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RequestCoalescer Tests")
+class RequestCoalescerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private RequestCoalescer coalescer(boolean enabled, long timeoutMillis) {
+        return new RequestCoalescer(TransactionOperations.withoutTransaction(), enabled, timeoutMillis);
+    }
+
+    /** Loader that blocks until released, then returns (or throws) {@code result}. */
+    private <T> Supplier<T> blockingLoader(Supplier<T> result) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private <T> List<Future<T>> submit(int callers, RequestCoalescer coalescer, String key, Supplier<T> loader)
+            throws InterruptedException {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> coalescer.read(key, loader)));
+        }
+        // Let every caller reach the coalescer before the loader finishes
+        Thread.sleep(200);
+        return futures;
+    }
+
+    @Test
+    @DisplayName("Should share one computation between concurrent callers of the same key")
+    void shouldCoalesceConcurrentReads() throws Exception {
+        // Given
+        RequestCoalescer coalescer = coalescer(true, 5_000);
+        List<Future<String>> futures = submit(6, coalescer, "course:1", blockingLoader(() -> "Java Fundamentals"));
+
+        // When
+        release.countDown();
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("Java Fundamentals");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce different keys or cache finished reads")
+    void shouldNotShareAcrossKeysOrTime() {
+        // Given
+        RequestCoalescer coalescer = coalescer(true, 5_000);
+        Supplier<Integer> loader = loads::incrementAndGet;
+
+        // When
+        coalescer.read("course:1", loader);
+        coalescer.read("course:1", loader);
+        coalescer.read("course:2", loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should propagate the loader's exception to every waiting caller")
+    void shouldPropagateErrors() throws Exception {
+        // Given
+        RequestCoalescer coalescer = coalescer(true, 5_000);
+        UUID id = UUID.randomUUID();
+        List<Future<String>> futures = submit(4, coalescer, "course:" + id, blockingLoader(() -> {
+            throw new ResourceNotFoundException("Course", "id", id);
+        }));
+
+        // When
+        release.countDown();
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail waiting callers with RejectedExecutionException after the timeout")
+    void shouldTimeOutWaitingCallers() throws Exception {
+        // Given
+        RequestCoalescer coalescer = coalescer(true, 100);
+        Future<String> leader = executor.submit(() -> coalescer.read("course:1", blockingLoader(() -> "late")));
+        Thread.sleep(100);
+
+        // When / Then
+        assertThatThrownBy(() -> coalescer.read("course:1", () -> "unused"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("course:1");
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+    }
+
+    @Test
+    @DisplayName("Should run every caller's loader when disabled")
+    void shouldPassThroughWhenDisabled() throws Exception {
+        // Given
+        RequestCoalescer coalescer = coalescer(false, 5_000);
+        List<Future<String>> futures = submit(3, coalescer, "course:1", blockingLoader(() -> "value"));
+
+        // When
+        release.countDown();
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,45 @@
+package com.coursemanagement.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FastStartConfig Tests")
+class FastStartConfigTest {
+
+    @Test
+    @DisplayName("Should start every bean with a scheduled method eagerly")
+    void shouldKeepScheduledBeansEager() {
+        // Given
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(true);
+        List<Class<?>> scheduled = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.coursemanagement")) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+            if (Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(type))
+                    .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class))) {
+                scheduled.add(type);
+            }
+        }
+
+        // When
+        LazyInitializationExcludeFilter filter = FastStartConfig.eagerBackgroundBeans();
+
+        // Then - lazily, nothing would create them and their schedules would never be registered
+        assertThat(scheduled).isNotEmpty()
+                .allSatisfy(type -> assertThat(filter.isExcluded(type.getSimpleName(), null, type))
+                        .as("%s is excluded from lazy initialization", type.getName())
+                        .isTrue());
+    }
+}
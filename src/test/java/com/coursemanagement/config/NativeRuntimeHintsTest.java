@@ -0,0 +1,62 @@
+package com.coursemanagement.config;
+
+import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.dto.ImportEntity;
+import com.coursemanagement.dto.ImportResponse;
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.OutboxEvent;
+import com.coursemanagement.exception.ErrorResponse;
+import com.coursemanagement.graphql.CourseNode;
+import com.coursemanagement.outbox.DomainChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NativeRuntimeHints Tests")
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register binding reflection for entities, DTOs and GraphQL nodes")
+    void shouldRegisterScannedPackages() {
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(Course.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OutboxEvent.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CourseNode.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ImportEntity.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CourseResponse.InstructorInfo.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ImportResponse.RowError.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register types serialized directly with the ObjectMapper")
+    void shouldRegisterDirectlySerializedTypes() {
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DomainChangeEvent.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.coursemanagement.service.impl.ReviewJournal$Entry"))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the Flyway migration scripts as resources")
+    void shouldRegisterMigrations() {
+        // Then
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V4__create_outbox_events.sql"))
+                .accepts(hints);
+    }
+}
@@ -2,6 +2,8 @@ package com.coursemanagement.controller;
 
 import com.coursemanagement.dto.CourseRequest;
 import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.dto.IdsRequest;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.service.CourseService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -374,4 +376,61 @@ class CourseControllerTest {
             verify(courseService).existsByTitleAndInstructorId(title, instructorId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should get courses by IDs from query parameter")
+        void shouldGetCoursesByIdsFromQueryParameter() throws Exception {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> ids = List.of(courseId, missingId);
+            when(courseService.getCoursesByIds(ids))
+                    .thenReturn(MultiGetResponse.of(ids, Arrays.asList(courseResponse, null)));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/courses").param("ids", courseId + "," + missingId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].id").value(courseId.toString()))
+                    .andExpect(jsonPath("$.items[0].found").value(true))
+                    .andExpect(jsonPath("$.items[0].data.title").value("Java Basics"))
+                    .andExpect(jsonPath("$.items[1].found").value(false))
+                    .andExpect(jsonPath("$.notFoundIds[0]").value(missingId.toString()));
+
+            verify(courseService).getCoursesByIds(ids);
+            verify(courseService, never()).getAllCourses();
+        }
+
+        @Test
+        @DisplayName("Should look up courses by IDs from request body")
+        void shouldLookUpCoursesByIdsFromRequestBody() throws Exception {
+            // Given
+            List<UUID> ids = List.of(courseId);
+            when(courseService.getCoursesByIds(ids)).thenReturn(MultiGetResponse.of(ids, List.of(courseResponse)));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/courses/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(ids))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.foundCount").value(1));
+
+            verify(courseService).getCoursesByIds(ids);
+        }
+
+        @Test
+        @DisplayName("Should return 400 when lookup body has no IDs")
+        void shouldReturn400WhenLookupBodyHasNoIds() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/v1/courses/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(courseService, never()).getCoursesByIds(any());
+        }
+    }
+}
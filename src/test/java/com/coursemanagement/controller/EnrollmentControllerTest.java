@@ -2,8 +2,10 @@ package com.coursemanagement.controller;
 
 import com.coursemanagement.dto.EnrollmentRequest;
 import com.coursemanagement.dto.EnrollmentResponse;
+import com.coursemanagement.dto.InstructorRosterResponse;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.dto.UnenrollmentResponse;
+import com.coursemanagement.service.InstructorRosterService;
 import com.coursemanagement.service.StudentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +40,9 @@ class EnrollmentControllerTest {
     @MockBean
     private StudentService studentService;
 
+    @MockBean
+    private InstructorRosterService instructorRosterService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -268,4 +273,72 @@ class EnrollmentControllerTest {
             verify(studentService).countStudentsInCourse(courseId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Instructor Roster Tests")
+    class InstructorRosterTests {
+
+        @Test
+        @DisplayName("Should get a page of an instructor's roster with its freshness")
+        void shouldGetRosterPage() throws Exception {
+            // Given
+            UUID instructorId = UUID.randomUUID();
+            LocalDateTime refreshedAt = LocalDateTime.of(2023, 12, 1, 10, 30);
+            InstructorRosterResponse roster = new InstructorRosterResponse(instructorId, 1, 10, 11, refreshedAt,
+                    List.of(new InstructorRosterResponse.RosterStudent(studentId, "John Doe", "john.doe@example.com", 2)));
+            when(instructorRosterService.getRoster(instructorId, 1, 10)).thenReturn(roster);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/instructors/{id}/students", instructorId)
+                            .param("page", "1")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalStudents").value(11))
+                    .andExpect(jsonPath("$.refreshedAt").value("2023-12-01T10:30:00"))
+                    .andExpect(jsonPath("$.students", hasSize(1)))
+                    .andExpect(jsonPath("$.students[0].fullName").value("John Doe"))
+                    .andExpect(jsonPath("$.students[0].courseCount").value(2));
+        }
+
+        @Test
+        @DisplayName("Should use the first page of 20 by default")
+        void shouldUseDefaultPage() throws Exception {
+            // Given
+            UUID instructorId = UUID.randomUUID();
+            when(instructorRosterService.getRoster(instructorId, 0, 20)).thenReturn(
+                    new InstructorRosterResponse(instructorId, 0, 20, 0, LocalDateTime.now(), Collections.emptyList()));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/instructors/{id}/students", instructorId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.students", hasSize(0)));
+
+            verify(instructorRosterService).getRoster(instructorId, 0, 20);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid page size")
+        void shouldRejectInvalidPageSize() throws Exception {
+            // Given
+            UUID instructorId = UUID.randomUUID();
+            when(instructorRosterService.getRoster(instructorId, 0, 500))
+                    .thenThrow(new IllegalArgumentException("Page size must be between 1 and 100, was 500"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/instructors/{id}/students", instructorId).param("size", "500"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should refresh rosters on demand")
+        void shouldRefreshRosters() throws Exception {
+            // Given
+            when(instructorRosterService.refreshRosters()).thenReturn(LocalDateTime.of(2023, 12, 1, 10, 30));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/instructors/rosters/refresh"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.refreshedAt").value("2023-12-01T10:30:00"));
+        }
+    }
+}
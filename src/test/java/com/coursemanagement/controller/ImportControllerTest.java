@@ -0,0 +1,77 @@
+package com.coursemanagement.controller;
+
+import com.coursemanagement.dto.ImportResponse;
+import com.coursemanagement.service.BulkImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@DisplayName("ImportController Tests")
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BulkImportService bulkImportService;
+
+    @Test
+    @DisplayName("Should import CSV body and return summary")
+    void shouldImportCsvBody() throws Exception {
+        // Given
+        ImportResponse response = new ImportResponse("students", 2, 1, 1, 5, 400,
+                List.of(new ImportResponse.RowError(2, "Student already exists with email: jane@example.com")), false);
+        when(bulkImportService.importData(eq("students"), ArgumentMatchers.startsWith("text/csv"), any())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/import/students")
+                        .contentType("text/csv")
+                        .content("firstName,lastName,email\nJohn,Doe,john@example.com\nJane,Doe,jane@example.com\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resourceType", is("students")))
+                .andExpect(jsonPath("$.importedRows", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown resource type")
+    void shouldReturnBadRequestForUnknownResourceType() throws Exception {
+        // Given
+        when(bulkImportService.importData(eq("teachers"), anyString(), any()))
+                .thenThrow(new IllegalArgumentException("Unsupported import type 'teachers'"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/import/teachers")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 501 when database does not support COPY")
+    void shouldReturnNotImplementedWithoutPostgres() throws Exception {
+        // Given
+        when(bulkImportService.importData(anyString(), anyString(), any()))
+                .thenThrow(new UnsupportedOperationException("Bulk import requires a PostgreSQL database"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/import/students")
+                        .contentType("text/csv")
+                        .content("email\n"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.message", is("Bulk import requires a PostgreSQL database")));
+    }
+}
@@ -1,7 +1,9 @@
 package com.coursemanagement.controller;
 
+import com.coursemanagement.dto.InstructorDeletionResponse;
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.service.InstructorDeletionService;
 import com.coursemanagement.service.InstructorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +43,9 @@ class InstructorControllerSimpleTest {
     @MockitoBean
     private InstructorService instructorService;
 
+    @MockitoBean
+    private InstructorDeletionService instructorDeletionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -143,13 +148,13 @@ class InstructorControllerSimpleTest {
     void shouldDeleteInstructorSuccessfully() throws Exception {
         // Given
         UUID instructorId = UUID.randomUUID();
-        // Mock service to not throw any exception (void method)
-        // when(instructorService.deleteInstructor(instructorId)).thenReturn(true);
+        when(instructorDeletionService.requestDeletion(instructorId)).thenReturn(new InstructorDeletionResponse(
+                instructorId, "PENDING", 0, 0, 0, 0, null, LocalDateTime.now(), LocalDateTime.now(), null));
 
         // When & Then
         mockMvc.perform(delete("/api/v1/instructors/{id}", instructorId))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.message").value("Instructor deleted successfully"));
+                .andExpect(jsonPath("$.status").value("PENDING"));
     }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.coursemanagement.controller;
 
+import com.coursemanagement.dto.InstructorDeletionResponse;
+import com.coursemanagement.dto.IdsRequest;
 import com.coursemanagement.dto.InstructorDetailsRequest;
 import com.coursemanagement.dto.InstructorDetailsResponse;
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.exception.ResourceAlreadyExistsException;
 import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.service.InstructorDeletionService;
 import com.coursemanagement.service.InstructorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -48,6 +53,9 @@ class InstructorControllerTest {
     @MockitoBean
     private InstructorService instructorService;
 
+    @MockitoBean
+    private InstructorDeletionService instructorDeletionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -349,27 +357,35 @@ class InstructorControllerTest {
     @DisplayName("Delete Instructor Endpoint Tests")
     class DeleteInstructorEndpointTests {
 
+        private InstructorDeletionResponse deletionResponse(String status) {
+            return new InstructorDeletionResponse(instructorId, status, 3, 0, 0, 0, null,
+                    LocalDateTime.now(), LocalDateTime.now(), null);
+        }
+
         @Test
-        @DisplayName("DELETE /api/v1/instructors/{id} - Should delete instructor successfully")
-        void shouldDeleteInstructorSuccessfully() throws Exception {
+        @DisplayName("DELETE /api/v1/instructors/{id} - Should accept deletion and point to its status")
+        void shouldAcceptInstructorDeletion() throws Exception {
             // Given
-            doNothing().when(instructorService).deleteInstructor(instructorId);
+            when(instructorDeletionService.requestDeletion(instructorId)).thenReturn(deletionResponse("PENDING"));
 
             // When & Then
             mockMvc.perform(delete("/api/v1/instructors/{id}", instructorId))
                     .andDo(print())
-                    .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.message").value("Instructor deleted successfully"));
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/api/v1/instructors/" + instructorId + "/deletion"))
+                    .andExpect(jsonPath("$.instructorId").value(instructorId.toString()))
+                    .andExpect(jsonPath("$.status").value("PENDING"))
+                    .andExpect(jsonPath("$.totalCourses").value(3));
 
-            verify(instructorService).deleteInstructor(instructorId);
+            verify(instructorDeletionService).requestDeletion(instructorId);
         }
 
         @Test
         @DisplayName("DELETE /api/v1/instructors/{id} - Should return 404 when deleting non-existent instructor")
         void shouldReturn404WhenDeletingNonExistentInstructor() throws Exception {
             // Given
-            doThrow(new ResourceNotFoundException("Instructor", "id", instructorId))
-                .when(instructorService).deleteInstructor(instructorId);
+            when(instructorDeletionService.requestDeletion(instructorId))
+                    .thenThrow(new ResourceNotFoundException("Instructor", "id", instructorId));
 
             // When & Then
             mockMvc.perform(delete("/api/v1/instructors/{id}", instructorId))
@@ -377,7 +393,22 @@ class InstructorControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.status").value(404));
 
-            verify(instructorService).deleteInstructor(instructorId);
+            verify(instructorDeletionService).requestDeletion(instructorId);
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/instructors/{id}/deletion - Should return deletion progress")
+        void shouldReturnDeletionStatus() throws Exception {
+            // Given
+            when(instructorDeletionService.getDeletionStatus(instructorId)).thenReturn(deletionResponse("RUNNING"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/instructors/{id}/deletion", instructorId))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("RUNNING"));
+
+            verify(instructorDeletionService).getDeletionStatus(instructorId);
         }
     }
 
@@ -588,4 +619,78 @@ class InstructorControllerTest {
             verify(instructorService, never()).createInstructor(any(InstructorRequest.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multi-Get Endpoint Tests")
+    class MultiGetEndpointTests {
+
+        @Test
+        @DisplayName("Should get instructors by IDs from query parameter")
+        void shouldGetInstructorsByIdsFromQueryParameter() throws Exception {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> ids = List.of(instructorId, missingId);
+            when(instructorService.getInstructorsByIds(ids))
+                    .thenReturn(MultiGetResponse.of(ids, Arrays.asList(instructorResponse, null)));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/instructors").param("ids", instructorId + "," + missingId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].id").value(instructorId.toString()))
+                    .andExpect(jsonPath("$.items[0].found").value(true))
+                    .andExpect(jsonPath("$.items[0].data.instructorDetails.youtubeChannel")
+                            .value("https://youtube.com/@johndoe"))
+                    .andExpect(jsonPath("$.items[1].found").value(false))
+                    .andExpect(jsonPath("$.notFoundIds[0]").value(missingId.toString()));
+
+            verify(instructorService).getInstructorsByIds(ids);
+            verify(instructorService, never()).getAllInstructors();
+        }
+
+        @Test
+        @DisplayName("Should look up instructors by IDs from request body")
+        void shouldLookUpInstructorsByIdsFromRequestBody() throws Exception {
+            // Given
+            List<UUID> ids = List.of(instructorId);
+            when(instructorService.getInstructorsByIds(ids))
+                    .thenReturn(MultiGetResponse.of(ids, List.of(instructorResponse)));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/instructors/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(ids))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.foundCount").value(1));
+
+            verify(instructorService).getInstructorsByIds(ids);
+        }
+
+        @Test
+        @DisplayName("Should return 400 when lookup body has no IDs")
+        void shouldReturn400WhenLookupBodyHasNoIds() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/v1/instructors/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(instructorService, never()).getInstructorsByIds(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when too many IDs are requested")
+        void shouldReturn400WhenTooManyIdsAreRequested() throws Exception {
+            // Given
+            List<UUID> ids = Collections.nCopies(MultiGetResponse.MAX_IDS + 1, instructorId);
+            when(instructorService.getInstructorsByIds(ids))
+                    .thenThrow(new IllegalArgumentException("Too many IDs requested"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/instructors/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(ids))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.coursemanagement.controller;
 
+import com.coursemanagement.dto.ReviewAcceptedResponse;
 import com.coursemanagement.dto.ReviewRequest;
 import com.coursemanagement.dto.ReviewResponse;
+import com.coursemanagement.feed.LatestReviewsFeed;
+import com.coursemanagement.service.ReviewIngestionService;
 import com.coursemanagement.service.ReviewService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,12 +16,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +43,12 @@ class ReviewControllerTest {
     @MockBean
     private ReviewService reviewService;
 
+    @MockBean
+    private ReviewIngestionService reviewIngestionService;
+
+    @MockBean
+    private LatestReviewsFeed latestReviewsFeed;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -109,6 +122,59 @@ class ReviewControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Async Review Ingestion Tests")
+    class AsyncReviewIngestionTests {
+
+        @Test
+        @DisplayName("Should accept review with 202 and location")
+        void shouldAcceptReviewWith202() throws Exception {
+            // Given
+            ReviewAcceptedResponse accepted = new ReviewAcceptedResponse(
+                    reviewId, courseId, studentId, "PENDING", LocalDateTime.now());
+            when(reviewIngestionService.submitReview(eq(courseId), any())).thenReturn(accepted);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/courses/{courseId}/reviews/async", courseId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(reviewRequest)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/api/v1/reviews/" + reviewId))
+                    .andExpect(jsonPath("$.id").value(reviewId.toString()))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+
+            verify(reviewService, never()).createReview(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return 501 when async ingestion is disabled")
+        void shouldReturn501WhenDisabled() throws Exception {
+            // Given
+            when(reviewIngestionService.submitReview(any(), any()))
+                    .thenThrow(new UnsupportedOperationException("Asynchronous review ingestion is not enabled"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/courses/{courseId}/reviews/async", courseId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(reviewRequest)))
+                    .andExpect(status().isNotImplemented());
+        }
+
+        @Test
+        @DisplayName("Should return 503 when ingestion queue is full")
+        void shouldReturn503WhenQueueFull() throws Exception {
+            // Given
+            when(reviewIngestionService.submitReview(any(), any()))
+                    .thenThrow(new RejectedExecutionException("Review ingestion queue is full, retry later"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/courses/{courseId}/reviews/async", courseId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(reviewRequest)))
+                    .andExpect(status().isServiceUnavailable());
+        }
+    }
+
     @Nested
     @DisplayName("Get Review Tests")
     class GetReviewTests {
@@ -144,19 +210,40 @@ class ReviewControllerTest {
             verify(reviewService).getAllReviews();
         }
 
+        @Test
+        @DisplayName("Should get all reviews limited to requested fields")
+        void shouldGetAllReviewsLimitedToRequestedFields() throws Exception {
+            // Given
+            Map<String, Object> review = new LinkedHashMap<>();
+            review.put("id", reviewId);
+            review.put("course", Map.of("title", "Java Basics"));
+            when(reviewService.getAllReviews("id,course.title")).thenReturn(List.of(review));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/reviews").param("fields", "id,course.title"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id").value(reviewId.toString()))
+                    .andExpect(jsonPath("$[0].course.title").value("Java Basics"))
+                    .andExpect(jsonPath("$[0].comment").doesNotExist());
+
+            verify(reviewService).getAllReviews("id,course.title");
+            verify(reviewService, never()).getAllReviews();
+        }
+
         @Test
         @DisplayName("Should get reviews by course ID successfully")
         void shouldGetReviewsByCourseIdSuccessfully() throws Exception {
             // Given
             List<ReviewResponse> reviews = Arrays.asList(reviewResponse);
-            when(reviewService.getReviewsByCourseIdOrderedByDate(courseId)).thenReturn(reviews);
+            when(reviewService.getReviewsByCourseIdOrderedByDate(courseId, false)).thenReturn(reviews);
 
             // When & Then
             mockMvc.perform(get("/api/v1/courses/{courseId}/reviews", courseId))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(reviewService).getReviewsByCourseIdOrderedByDate(courseId);
+            verify(reviewService).getReviewsByCourseIdOrderedByDate(courseId, false);
         }
 
         @Test
@@ -164,14 +251,29 @@ class ReviewControllerTest {
         void shouldGetReviewsByCourseIdOrderedByDateSuccessfully() throws Exception {
             // Given
             List<ReviewResponse> reviews = Arrays.asList(reviewResponse);
-            when(reviewService.getReviewsByCourseIdOrderedByDate(courseId)).thenReturn(reviews);
+            when(reviewService.getReviewsByCourseIdOrderedByDate(courseId, false)).thenReturn(reviews);
 
             // When & Then
             mockMvc.perform(get("/api/v1/courses/{courseId}/reviews", courseId))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(reviewService).getReviewsByCourseIdOrderedByDate(courseId);
+            verify(reviewService).getReviewsByCourseIdOrderedByDate(courseId, false);
+        }
+
+        @Test
+        @DisplayName("Should include archived reviews for a course when asked to")
+        void shouldIncludeArchivedReviewsForCourse() throws Exception {
+            // Given
+            List<ReviewResponse> reviews = Arrays.asList(reviewResponse, reviewResponse);
+            when(reviewService.getReviewsByCourseIdOrderedByDate(courseId, true)).thenReturn(reviews);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/courses/{courseId}/reviews", courseId).param("includeArchived", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            verify(reviewService).getReviewsByCourseIdOrderedByDate(courseId, true);
         }
     }
 
@@ -325,14 +427,40 @@ class ReviewControllerTest {
         void shouldGetLatestReviewsSuccessfully() throws Exception {
             // Given
             List<ReviewResponse> reviews = Arrays.asList(reviewResponse);
-            when(reviewService.getLatestReviews()).thenReturn(reviews);
+            when(latestReviewsFeed.getLatest(0, 20)).thenReturn(reviews);
 
             // When & Then
             mockMvc.perform(get("/api/v1/reviews/latest"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(reviewService).getLatestReviews();
+            verify(latestReviewsFeed).getLatest(0, 20);
+            verifyNoInteractions(reviewService);
+        }
+
+        @Test
+        @DisplayName("Should return bad request for an invalid latest reviews page")
+        void shouldReturnBadRequestForInvalidLatestReviewsPage() throws Exception {
+            // Given
+            when(latestReviewsFeed.getLatest(0, 500))
+                    .thenThrow(new IllegalArgumentException("Page size must be between 1 and 100, was 500"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/reviews/latest").param("size", "500"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should open the latest reviews stream")
+        void shouldOpenLatestReviewsStream() throws Exception {
+            // Given
+            when(latestReviewsFeed.subscribe()).thenReturn(new SseEmitter());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/reviews/latest/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(latestReviewsFeed).subscribe();
         }
 
         @Test
@@ -375,14 +503,14 @@ class ReviewControllerTest {
         void shouldGetReviewsByStudentIdSuccessfully() throws Exception {
             // Given
             List<ReviewResponse> reviews = Arrays.asList(reviewResponse);
-            when(reviewService.getReviewsByStudentIdOrderedByDate(studentId)).thenReturn(reviews);
+            when(reviewService.getReviewsByStudentIdOrderedByDate(studentId, false)).thenReturn(reviews);
 
             // When & Then
             mockMvc.perform(get("/api/v1/students/{studentId}/reviews", studentId))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(reviewService).getReviewsByStudentIdOrderedByDate(studentId);
+            verify(reviewService).getReviewsByStudentIdOrderedByDate(studentId, false);
         }
 
         @Test
@@ -390,14 +518,14 @@ class ReviewControllerTest {
         void shouldGetReviewsByStudentIdOrderedByDateSuccessfully() throws Exception {
             // Given
             List<ReviewResponse> reviews = Arrays.asList(reviewResponse);
-            when(reviewService.getReviewsByStudentIdOrderedByDate(studentId)).thenReturn(reviews);
+            when(reviewService.getReviewsByStudentIdOrderedByDate(studentId, false)).thenReturn(reviews);
 
             // When & Then
             mockMvc.perform(get("/api/v1/students/{studentId}/reviews", studentId))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(reviewService).getReviewsByStudentIdOrderedByDate(studentId);
+            verify(reviewService).getReviewsByStudentIdOrderedByDate(studentId, false);
         }
 
         @Test
@@ -1,5 +1,7 @@
 package com.coursemanagement.controller;
 
+import com.coursemanagement.dto.IdsRequest;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.StudentRequest;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.service.StudentService;
@@ -17,7 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
@@ -135,6 +139,39 @@ class StudentControllerTest {
             verify(studentService).getAllStudents();
         }
 
+        @Test
+        @DisplayName("Should get all students limited to requested fields")
+        void shouldGetAllStudentsLimitedToRequestedFields() throws Exception {
+            // Given
+            Map<String, Object> student = new LinkedHashMap<>();
+            student.put("id", studentId);
+            student.put("email", "john.doe@example.com");
+            when(studentService.getAllStudents("id,email")).thenReturn(List.of(student));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/students").param("fields", "id,email"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id").value(studentId.toString()))
+                    .andExpect(jsonPath("$[0].email").value("john.doe@example.com"))
+                    .andExpect(jsonPath("$[0].firstName").doesNotExist());
+
+            verify(studentService).getAllStudents("id,email");
+            verify(studentService, never()).getAllStudents();
+        }
+
+        @Test
+        @DisplayName("Should return 400 when unknown field is requested")
+        void shouldReturn400WhenUnknownFieldIsRequested() throws Exception {
+            // Given
+            when(studentService.getAllStudents("password"))
+                    .thenThrow(new IllegalArgumentException("Unknown field 'password' for Student"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/students").param("fields", "password"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should get student by email successfully")
         void shouldGetStudentByEmailSuccessfully() throws Exception {
@@ -315,4 +352,74 @@ class StudentControllerTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should get students by IDs from query parameter")
+        void shouldGetStudentsByIdsFromQueryParameter() throws Exception {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> ids = List.of(studentId, missingId);
+            when(studentService.getStudentsByIds(ids))
+                    .thenReturn(MultiGetResponse.of(ids, Arrays.asList(studentResponse, null)));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/students").param("ids", studentId + "," + missingId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].id").value(studentId.toString()))
+                    .andExpect(jsonPath("$.items[0].found").value(true))
+                    .andExpect(jsonPath("$.items[0].data.firstName").value("John"))
+                    .andExpect(jsonPath("$.items[1].found").value(false))
+                    .andExpect(jsonPath("$.notFoundIds[0]").value(missingId.toString()));
+
+            verify(studentService).getStudentsByIds(ids);
+            verify(studentService, never()).getAllStudents();
+        }
+
+        @Test
+        @DisplayName("Should look up students by IDs from request body")
+        void shouldLookUpStudentsByIdsFromRequestBody() throws Exception {
+            // Given
+            List<UUID> ids = List.of(studentId);
+            when(studentService.getStudentsByIds(ids)).thenReturn(MultiGetResponse.of(ids, List.of(studentResponse)));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/students/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(ids))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.foundCount").value(1));
+
+            verify(studentService).getStudentsByIds(ids);
+        }
+
+        @Test
+        @DisplayName("Should return 400 when lookup body has no IDs")
+        void shouldReturn400WhenLookupBodyHasNoIds() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/v1/students/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(studentService, never()).getStudentsByIds(any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when too many IDs are requested")
+        void shouldReturn400WhenTooManyIdsAreRequested() throws Exception {
+            // Given
+            List<UUID> ids = Collections.nCopies(MultiGetResponse.MAX_IDS + 1, studentId);
+            when(studentService.getStudentsByIds(ids)).thenThrow(new IllegalArgumentException("Too many IDs requested"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/students/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IdsRequest(ids))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.coursemanagement.crac;
+
+import com.coursemanagement.config.WorkloadDataSourceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Exercises the stop/start lifecycle that Spring runs around a CRaC checkpoint and restore
+ * (without an actual checkpoint, which needs a CRaC JDK; see scripts/crac-verify.sh).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.allow-pool-suspension=true",
+        // create-drop would need a connection after the pool is suspended on close
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+@DirtiesContext
+@DisplayName("Checkpoint/Restore Lifecycle Tests")
+class CheckpointRestoreTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HikariCheckpointRestoreLifecycle hikariLifecycle;
+
+    @Autowired
+    private FlywayRestoreLifecycle flywayRestoreLifecycle;
+
+    @Autowired
+    private WorkloadDataSourceConfig.WorkloadPoolsCheckpointRestoreLifecycle workloadPoolsLifecycle;
+
+    @Test
+    @DisplayName("Should close the pool on stop and serve requests again after restart")
+    void shouldServeAfterRestart() throws Exception {
+        // Given
+        String id = createInstructor("before.checkpoint@example.com");
+        // Listing runs on the reporting pool, so that pool is open at the checkpoint
+        mockMvc.perform(get("/api/v1/instructors")).andExpect(status().isOk());
+        assertThat(workloadPoolsLifecycle.isRunning()).isTrue();
+
+        // When - checkpoint
+        context.stop();
+
+        // Then
+        assertThat(hikariLifecycle.isRunning()).isFalse();
+        assertThat(flywayRestoreLifecycle.isRunning()).isFalse();
+        assertThat(workloadPoolsLifecycle.isRunning()).isFalse();
+
+        // When - restore
+        context.start();
+
+        // Then
+        assertThat(hikariLifecycle.isRunning()).isTrue();
+        assertThat(flywayRestoreLifecycle.isRunning()).isTrue();
+        assertThat(workloadPoolsLifecycle.isRunning()).isTrue();
+        mockMvc.perform(get("/api/v1/instructors/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("before.checkpoint@example.com"));
+        createInstructor("after.restore@example.com");
+        mockMvc.perform(get("/api/v1/instructors"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    private String createInstructor(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "firstName", "Restore",
+                "lastName", "Check",
+                "email", email));
+        String response = mockMvc.perform(post("/api/v1/instructors")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(response);
+        return json.get("id").asText();
+    }
+}
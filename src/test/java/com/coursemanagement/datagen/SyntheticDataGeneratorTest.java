@@ -0,0 +1,190 @@
+package com.coursemanagement.datagen;
+
+import com.coursemanagement.repository.ReviewPartitionRepository;
+import com.coursemanagement.repository.SyntheticDataRepository;
+import com.coursemanagement.service.InstructorRosterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyntheticDataGenerator Tests")
+class SyntheticDataGeneratorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private SyntheticDataRepository dataRepository;
+
+    @Mock
+    private ReviewPartitionRepository partitionRepository;
+
+    @Mock
+    private InstructorRosterService rosterService;
+
+    private static SyntheticDataProperties properties(int streams) {
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setInstructors(10);
+        properties.setCourses(50);
+        properties.setStudents(400);
+        properties.setEnrollmentsPerStudent(3);
+        properties.setReviews(1000);
+        properties.setHistoryMonths(3);
+        properties.setBlockRows(64);
+        properties.setStreams(streams);
+        return properties;
+    }
+
+    /**
+     * Run the generator with COPY captured in memory, returning every table's rows in load order.
+     */
+    private Map<String, List<String>> generate(SyntheticDataProperties properties, List<String> loadOrder) {
+        Map<String, List<String>> rows = new ConcurrentHashMap<>();
+        when(dataRepository.isCopySupported()).thenReturn(true);
+        when(dataRepository.isEmpty()).thenReturn(true);
+        doAnswer(invocation -> {
+            String table = invocation.getArgument(0);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            invocation.<SyntheticDataRepository.CopyBody>getArgument(2).write(out);
+            rows.computeIfAbsent(table, key -> Collections.synchronizedList(new ArrayList<>()))
+                    .addAll(out.toString(StandardCharsets.UTF_8).lines().toList());
+            synchronized (loadOrder) {
+                loadOrder.add(table);
+            }
+            return null;
+        }).when(dataRepository).copyIn(anyString(), anyString(), any());
+
+        SyntheticDataReport report = new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService,
+                properties, CLOCK).generate();
+
+        rows.forEach((table, tableRows) -> assertThat(report.rows()).containsEntry(table, (long) tableRows.size()));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Should load every table in foreign-key order, then analyze and refresh rosters")
+    void shouldLoadInOrder() {
+        // Given
+        List<String> loadOrder = new ArrayList<>();
+        when(partitionRepository.isPartitioned()).thenReturn(true);
+
+        // When
+        Map<String, List<String>> rows = generate(properties(3), loadOrder);
+
+        // Then
+        assertThat(rows.get("instructor")).hasSize(10);
+        assertThat(rows.get("course")).hasSize(50);
+        assertThat(rows.get("student")).hasSize(400);
+        assertThat(rows.get("reviews")).hasSize(1000);
+        assertThat(loadOrder.indexOf("instructor")).isGreaterThan(loadOrder.lastIndexOf("instructor_details"));
+        assertThat(loadOrder.indexOf("course")).isGreaterThan(loadOrder.lastIndexOf("instructor"));
+        assertThat(loadOrder.indexOf("reviews")).isGreaterThan(loadOrder.lastIndexOf("student"));
+        assertThat(loadOrder.indexOf("course_student")).isGreaterThan(loadOrder.lastIndexOf("course"));
+        verify(partitionRepository).createPartition(YearMonth.of(2025, 12));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 1));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 2));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 3));
+        verify(partitionRepository, times(4)).createPartition(any());
+        verify(dataRepository).analyze();
+        verify(rosterService).refreshRosters();
+        verify(dataRepository, never()).truncate();
+    }
+
+    @Test
+    @DisplayName("Should load the same rows whatever the number of streams")
+    void shouldNotDependOnStreams() {
+        // Given
+        SyntheticDataProperties single = properties(1);
+        SyntheticDataProperties parallel = properties(4);
+        single.setEndDate(LocalDate.of(2026, 1, 1));
+        parallel.setEndDate(LocalDate.of(2026, 1, 1));
+
+        // When
+        Map<String, List<String>> first = generate(single, new ArrayList<>());
+        Map<String, List<String>> second = generate(parallel, new ArrayList<>());
+
+        // Then
+        assertThat(second.keySet()).isEqualTo(first.keySet());
+        first.forEach((table, rows) -> assertThat(second.get(table)).containsExactlyInAnyOrderElementsOf(rows));
+    }
+
+    @Test
+    @DisplayName("Should refuse a database that already has data unless truncating")
+    void shouldRefuseNonEmptyDatabase() {
+        // Given
+        when(dataRepository.isCopySupported()).thenReturn(true);
+        when(dataRepository.isEmpty()).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService,
+                properties(2), CLOCK).generate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("truncate=true");
+        verify(dataRepository, never()).copyIn(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should truncate first when asked to")
+    void shouldTruncate() {
+        // Given
+        SyntheticDataProperties properties = properties(2);
+        properties.setTruncate(true);
+        when(dataRepository.isCopySupported()).thenReturn(true);
+
+        // When
+        new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService, properties, CLOCK).generate();
+
+        // Then
+        verify(dataRepository).truncate();
+        verify(dataRepository, never()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should require PostgreSQL")
+    void shouldRequirePostgres() {
+        // Given
+        when(dataRepository.isCopySupported()).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService,
+                properties(2), CLOCK).generate())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should report which table failed to load")
+    void shouldReportFailedTable() {
+        // Given
+        when(dataRepository.isCopySupported()).thenReturn(true);
+        when(dataRepository.isEmpty()).thenReturn(true);
+        doThrow(new IllegalStateException("disk full")).when(dataRepository)
+                .copyIn(eq("instructor_details"), anyString(), any());
+
+        // When / Then
+        assertThatThrownBy(() -> new SyntheticDataGenerator(dataRepository, partitionRepository, rosterService,
+                properties(2), CLOCK).generate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Loading instructor_details failed")
+                .hasRootCauseMessage("disk full");
+        verify(dataRepository, never()).copyIn(eq("instructor"), anyString(), any());
+    }
+}
@@ -0,0 +1,224 @@
+package com.coursemanagement.datagen;
+
+import com.coursemanagement.datagen.SyntheticDataModel.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SyntheticDataModel Tests")
+class SyntheticDataModelTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2026, 1, 1);
+
+    private static SyntheticDataProperties properties() {
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setInstructors(20);
+        properties.setCourses(200);
+        properties.setStudents(1000);
+        properties.setEnrollmentsPerStudent(5);
+        properties.setReviews(5000);
+        properties.setHistoryMonths(12);
+        properties.setBlockRows(300);
+        return properties;
+    }
+
+    /**
+     * Every row of the table, as COPY text lines.
+     */
+    private static List<String> rows(SyntheticDataModel model, Table table) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CopyRowWriter writer = new CopyRowWriter(out);
+        for (int block = 0; block < model.blocks(table); block++) {
+            model.writeBlock(table, block, writer);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static Set<String> ids(SyntheticDataModel model, Table table) {
+        return IntStream.range(0, (int) model.units(table))
+                .mapToObj(i -> model.id(table, i).toString())
+                .collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("Determinism Tests")
+    class DeterminismTests {
+
+        @Test
+        @DisplayName("Should produce the same rows for the same seed and different rows for another")
+        void shouldDependOnlyOnSeed() throws IOException {
+            // Given
+            SyntheticDataModel first = new SyntheticDataModel(properties(), END_DATE);
+            SyntheticDataModel second = new SyntheticDataModel(properties(), END_DATE);
+            SyntheticDataProperties reseeded = properties();
+            reseeded.setSeed(43);
+            SyntheticDataModel other = new SyntheticDataModel(reseeded, END_DATE);
+
+            // When / Then
+            for (Table table : Table.values()) {
+                assertThat(rows(first, table)).isEqualTo(rows(second, table));
+            }
+            assertThat(rows(other, Table.REVIEWS)).isNotEqualTo(rows(first, Table.REVIEWS));
+        }
+
+        @Test
+        @DisplayName("Should produce the same block regardless of what was generated before")
+        void shouldGenerateBlocksIndependently() throws IOException {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+            ByteArrayOutputStream alone = new ByteArrayOutputStream();
+            CopyRowWriter writer = new CopyRowWriter(alone);
+
+            // When
+            model.writeBlock(Table.COURSE_STUDENT, 2, writer);
+            writer.flush();
+
+            // Then
+            List<String> all = rows(model, Table.COURSE_STUDENT);
+            assertThat(String.join("\n", all)).contains(alone.toString(StandardCharsets.UTF_8).strip());
+        }
+
+        @Test
+        @DisplayName("Should generate version 4 UUIDs that differ between tables")
+        void shouldGenerateDistinctIds() {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+
+            // When / Then
+            assertThat(model.id(Table.STUDENT, 5).version()).isEqualTo(4);
+            assertThat(model.id(Table.STUDENT, 5)).isEqualTo(model.id(Table.STUDENT, 5));
+            assertThat(model.id(Table.STUDENT, 5)).isNotEqualTo(model.id(Table.COURSE, 5));
+            assertThat(ids(model, Table.STUDENT)).hasSize(1000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Entity Model Tests")
+    class EntityModelTests {
+
+        @Test
+        @DisplayName("Should reference only generated rows")
+        void shouldKeepForeignKeysConsistent() throws IOException {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+            Set<String> courses = ids(model, Table.COURSE);
+            Set<String> students = ids(model, Table.STUDENT);
+            Set<String> instructors = ids(model, Table.INSTRUCTOR);
+
+            // When
+            List<String> courseRows = rows(model, Table.COURSE);
+            List<String> reviewRows = rows(model, Table.REVIEWS);
+
+            // Then
+            assertThat(courseRows).hasSize(200)
+                    .allSatisfy(row -> assertThat(instructors).contains(row.split("\t")[2]));
+            assertThat(reviewRows).hasSize(5000).allSatisfy(row -> {
+                String[] columns = row.split("\t");
+                assertThat(courses).contains(columns[2]);
+                assertThat(students).contains(columns[3]);
+            });
+            assertThat(rows(model, Table.INSTRUCTOR)).allSatisfy(row -> assertThat(row.split("\t")[4])
+                    .isIn(ids(model, Table.INSTRUCTOR_DETAILS)));
+        }
+
+        @Test
+        @DisplayName("Should enroll each student at most once per course, close to the mean")
+        void shouldGenerateDistinctEnrollments() throws IOException {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+
+            // When
+            List<String> enrollments = rows(model, Table.COURSE_STUDENT);
+
+            // Then
+            assertThat(new HashSet<>(enrollments)).hasSameSizeAs(enrollments);
+            assertThat(enrollments.size() / 1000.0).isCloseTo(5, within(0.6));
+        }
+
+        @Test
+        @DisplayName("Should concentrate reviews on popular courses and prolific reviewers")
+        void shouldSkewPopularity() throws IOException {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+
+            // When
+            Map<String, Integer> perCourse = new HashMap<>();
+            Map<String, Integer> perStudent = new HashMap<>();
+            for (String row : rows(model, Table.REVIEWS)) {
+                String[] columns = row.split("\t");
+                perCourse.merge(columns[2], 1, Integer::sum);
+                perStudent.merge(columns[3], 1, Integer::sum);
+            }
+
+            // Then: the top 5% of courses and students take far more than 5% of the reviews
+            assertThat(topShare(perCourse, 10)).isGreaterThan(0.3);
+            assertThat(topShare(perStudent, 50)).isGreaterThan(0.3);
+        }
+
+        @Test
+        @DisplayName("Should date rows within the history, ending before the end date")
+        void shouldDateRowsWithinHistory() throws IOException {
+            // Given
+            SyntheticDataModel model = new SyntheticDataModel(properties(), END_DATE);
+
+            // When / Then
+            assertThat(model.firstMonth()).isEqualTo(YearMonth.of(2025, 1));
+            assertThat(model.lastMonth()).isEqualTo(YearMonth.of(2025, 12));
+            assertThat(rows(model, Table.REVIEWS)).allSatisfy(row ->
+                    assertThat(row.split("\t")[4]).startsWith("2025-"));
+        }
+
+        private double topShare(Map<String, Integer> counts, int top) {
+            int[] sorted = counts.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int total = Arrays.stream(sorted).sum();
+            int topTotal = Arrays.stream(sorted, Math.max(0, sorted.length - top), sorted.length).sum();
+            return topTotal / (double) total;
+        }
+    }
+
+    @Test
+    @DisplayName("Should write COPY text format with escapes and NULLs")
+    void shouldWriteCopyTextFormat() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CopyRowWriter writer = new CopyRowWriter(out);
+
+        // When
+        writer.row("tab\there", null, "back\\slash\nnext", 7);
+        writer.flush();
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("tab\\there\t\\N\tback\\\\slash\\nnext\t7\n");
+        assertThat(writer.getRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings")
+    void shouldRejectInvalidSettings() {
+        // Given
+        SyntheticDataProperties properties = properties();
+        properties.setCourseSkew(-1);
+
+        // When / Then
+        assertThatThrownBy(() -> new SyntheticDataModel(properties, END_DATE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Skew");
+    }
+}
@@ -0,0 +1,82 @@
+package com.coursemanagement.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ZipfSampler Tests")
+class ZipfSamplerTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static long[] histogram(ZipfSampler sampler, int n) {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] counts = new long[n + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[(int) sampler.sample(random)]++;
+        }
+        return counts;
+    }
+
+    @Test
+    @DisplayName("Should follow 1 / rank^exponent")
+    void shouldFollowZipfLaw() {
+        // Given
+        int n = 1000;
+        double exponent = 1.1;
+        double normalization = 0;
+        for (int k = 1; k <= n; k++) {
+            normalization += Math.pow(k, -exponent);
+        }
+
+        // When
+        long[] counts = histogram(new ZipfSampler(n, exponent), n);
+
+        // Then
+        assertThat(counts[0]).isZero();
+        for (int k : new int[]{1, 2, 10}) {
+            double expected = Math.pow(k, -exponent) / normalization;
+            assertThat(counts[k] / (double) SAMPLES).isCloseTo(expected, within(expected * 0.05));
+        }
+        assertThat(counts[1]).isGreaterThan(counts[2]).isGreaterThan(counts[10]);
+    }
+
+    @Test
+    @DisplayName("Should stay within 1..n, including for a single element")
+    void shouldStayInRange() {
+        // Given
+        SplittableRandom random = new SplittableRandom(1);
+        ZipfSampler sampler = new ZipfSampler(5, 2.5);
+        ZipfSampler single = new ZipfSampler(1, 1.2);
+
+        // When / Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(sampler.sample(random)).isBetween(1L, 5L);
+            assertThat(single.sample(random)).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should be uniform with exponent zero")
+    void shouldBeUniformWithoutSkew() {
+        // When
+        long[] counts = histogram(new ZipfSampler(4, 0), 4);
+
+        // Then
+        for (int k = 1; k <= 4; k++) {
+            assertThat(counts[k] / (double) SAMPLES).isCloseTo(0.25, within(0.01));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfSampler(10, -0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
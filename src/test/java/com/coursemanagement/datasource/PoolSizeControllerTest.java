@@ -0,0 +1,147 @@
+package com.coursemanagement.datasource;
+
+import com.coursemanagement.repository.DatabaseWaitRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PoolSizeController Tests")
+class PoolSizeControllerTest {
+
+    @Mock
+    private DatabaseWaitRepository waitRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<Connection> held = new ArrayList<>();
+    private HikariDataSource oltp;
+    private HikariDataSource reporting;
+    private PoolSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        oltp = pool("oltp", 6);
+        reporting = pool("reporting", 2);
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(oltp, Map.of(WorkloadType.REPORTING, reporting));
+        PoolSizingProperties properties = new PoolSizingProperties();
+        properties.getOltp().setMinSize(2);
+        properties.getOltp().setMaxSize(10);
+        controller = new PoolSizeController(routing, meterRegistry, waitRepository, properties,
+                Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC), nanoTime::get);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Connection connection : held) {
+            connection.close();
+        }
+        oltp.close();
+        reporting.close();
+    }
+
+    private HikariDataSource pool(String name, int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:pool-sizing-" + name);
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(size);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    private void hold(HikariDataSource pool, int connections) throws Exception {
+        for (int i = 0; i < connections; i++) {
+            held.add(pool.getConnection());
+        }
+    }
+
+    @Test
+    @DisplayName("Should set a baseline first, then resize started pools and record why")
+    void shouldResizeStartedPools() throws Exception {
+        // Given
+        when(waitRepository.sampleWaits()).thenReturn(Optional.empty());
+        hold(oltp, 6);
+        controller.tune();
+        assertThat(controller.getDecisions()).isEmpty();
+
+        // When - all six connections stay busy for another interval
+        nanoTime.addAndGet(15_000_000_000L);
+        controller.tune();
+
+        // Then
+        List<PoolSizingDecision> decisions = controller.getDecisions().get(WorkloadType.OLTP);
+        assertThat(decisions).hasSize(1);
+        PoolSizingDecision decision = decisions.get(0);
+        assertThat(decision.pool()).isEqualTo("oltp");
+        assertThat(decision.previousSize()).isEqualTo(6);
+        assertThat(decision.newSize()).isEqualTo(8);
+        assertThat(decision.active()).isEqualTo(6);
+        assertThat(decision.decidedAt()).isEqualTo(Instant.parse("2026-10-19T12:00:00Z"));
+        assertThat(oltp.getMaximumPoolSize()).isEqualTo(8);
+        // The reporting pool was never started
+        assertThat(controller.getDecisions()).doesNotContainKey(WorkloadType.REPORTING);
+        assertThat(reporting.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should shrink idle pools and lower minimum idle with them")
+    void shouldShrinkIdlePools() throws Exception {
+        // Given
+        when(waitRepository.sampleWaits()).thenReturn(Optional.of(new DatabaseWaitRepository.DatabaseWaits(4, 0)));
+        hold(oltp, 1);
+        controller.tune();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            nanoTime.addAndGet(15_000_000_000L);
+            controller.tune();
+        }
+
+        // Then
+        assertThat(oltp.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(oltp.getMinimumIdle()).isEqualTo(3);
+        assertThat(controller.getDecisions().get(WorkloadType.OLTP))
+                .extracting(PoolSizingDecision::newSize)
+                .containsExactly(3, 4, 5);
+        assertThat(controller.getDecisions().get(WorkloadType.OLTP).get(0).contendedShare()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep tuning when database wait events cannot be read")
+    void shouldSurviveWaitSamplingFailures() throws Exception {
+        // Given
+        when(waitRepository.sampleWaits()).thenThrow(new IllegalStateException("permission denied"));
+        hold(oltp, 1);
+        controller.tune();
+
+        // When
+        nanoTime.addAndGet(15_000_000_000L);
+        controller.tune();
+
+        // Then
+        PoolSizingDecision decision = controller.getDecisions().get(WorkloadType.OLTP).get(0);
+        assertThat(decision.contendedShare()).isNull();
+        assertThat(decision.newSize()).isEqualTo(5);
+    }
+}
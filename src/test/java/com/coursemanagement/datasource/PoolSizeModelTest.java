@@ -0,0 +1,182 @@
+package com.coursemanagement.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PoolSizeModel Tests")
+class PoolSizeModelTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long MILLI = 1_000_000L;
+
+    private final PoolSizeModel model = new PoolSizeModel(0.75, 2, 0.5, 10);
+
+    /**
+     * A sample of {@code rate} checkouts per second over ten seconds, each holding its connection
+     * for {@code usageMillis} and waiting {@code acquireMillis} for it.
+     */
+    private static PoolSample sample(int size, int active, int pending, long rate, long usageMillis,
+                                     long acquireMillis, Double contendedShare) {
+        long checkouts = rate * 10;
+        return new PoolSample(size, active, size - active, pending, checkouts, checkouts * usageMillis * MILLI,
+                checkouts * acquireMillis * MILLI, 10 * SECOND, contendedShare);
+    }
+
+    private PoolSizingDecision decide(PoolSample sample) {
+        return model.decide("oltp", sample, 5, 30, Instant.EPOCH);
+    }
+
+    @Nested
+    @DisplayName("Little's Law Tests")
+    class LittlesLawTests {
+
+        @Test
+        @DisplayName("Should grow by at most the max step when the offered load needs more connections")
+        void shouldGrowByMaxStep() {
+            // When - 200/s x 50 ms = 10 busy connections, 14 needed at 75%
+            PoolSizingDecision decision = decide(sample(10, 9, 0, 200, 50, 0, null));
+
+            // Then
+            assertThat(decision.offeredConnections()).isCloseTo(10.0, within(0.01));
+            assertThat(decision.throughputPerSecond()).isCloseTo(200.0, within(0.01));
+            assertThat(decision.meanUsageMillis()).isCloseTo(50.0, within(0.01));
+            assertThat(decision.newSize()).isEqualTo(12);
+            assertThat(decision.reason()).startsWith("grown:").contains("need 14");
+        }
+
+        @Test
+        @DisplayName("Should shrink by one when the load needs fewer connections")
+        void shouldShrinkByOne() {
+            // When - 20/s x 50 ms = 1 busy connection
+            PoolSizingDecision decision = decide(sample(10, 1, 0, 20, 50, 0, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(9);
+            assertThat(decision.isResize()).isTrue();
+            assertThat(decision.reason()).startsWith("shrunk:");
+        }
+
+        @Test
+        @DisplayName("Should keep the size when it matches the load")
+        void shouldKeepMatchingSize() {
+            // When - 6 busy connections need 8 at 75%
+            PoolSizingDecision decision = decide(sample(8, 6, 0, 120, 50, 0, null));
+
+            // Then
+            assertThat(decision.isResize()).isFalse();
+            assertThat(decision.reason()).startsWith("kept:");
+        }
+
+        @Test
+        @DisplayName("Should count connections that are still checked out")
+        void shouldCountActiveConnections() {
+            // When - nothing returned during the interval, but 9 connections are in use
+            PoolSizingDecision decision = decide(sample(10, 9, 0, 0, 0, 0, null));
+
+            // Then
+            assertThat(decision.offeredConnections()).isEqualTo(9.0);
+            assertThat(decision.newSize()).isEqualTo(12);
+        }
+    }
+
+    @Nested
+    @DisplayName("Queueing Tests")
+    class QueueingTests {
+
+        @Test
+        @DisplayName("Should grow when threads are waiting for a connection")
+        void shouldGrowForWaitingThreads() {
+            // When
+            PoolSizingDecision decision = decide(sample(10, 10, 6, 100, 50, 0, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(12);
+            assertThat(decision.reason()).isEqualTo("grown: 6 threads waiting for a connection");
+        }
+
+        @Test
+        @DisplayName("Should grow by one when acquiring a connection is slow")
+        void shouldGrowForSlowAcquire() {
+            // When
+            PoolSizingDecision decision = decide(sample(8, 6, 0, 120, 50, 25, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(9);
+            assertThat(decision.meanAcquireMillis()).isCloseTo(25.0, within(0.01));
+            assertThat(decision.reason()).contains("acquiring a connection took 25.0 ms");
+        }
+
+        @Test
+        @DisplayName("Should hold the size while database sessions mostly wait on contention")
+        void shouldHoldUnderContention() {
+            // When
+            PoolSizingDecision decision = decide(sample(10, 10, 4, 100, 50, 0, 0.8));
+
+            // Then
+            assertThat(decision.isResize()).isFalse();
+            assertThat(decision.contendedShare()).isEqualTo(0.8);
+            assertThat(decision.reason()).startsWith("held:").contains("80% of active sessions");
+        }
+
+        @Test
+        @DisplayName("Should still shrink under contention")
+        void shouldShrinkUnderContention() {
+            // When
+            PoolSizingDecision decision = decide(sample(10, 1, 0, 20, 50, 0, 0.9));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds Tests")
+    class BoundsTests {
+
+        @Test
+        @DisplayName("Should not grow past the maximum size")
+        void shouldStopAtMaximum() {
+            // When
+            PoolSizingDecision decision = decide(sample(30, 30, 10, 1000, 50, 50, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("Should not shrink below the minimum size")
+        void shouldStopAtMinimum() {
+            // When
+            PoolSizingDecision decision = decide(sample(5, 0, 0, 0, 0, 0, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should move a pool outside its bounds into them")
+        void shouldMoveIntoBounds() {
+            // When
+            PoolSizingDecision decision = decide(sample(40, 0, 0, 0, 0, 0, null));
+
+            // Then
+            assertThat(decision.newSize()).isEqualTo(30);
+            assertThat(decision.reason()).contains("bounds 5..30");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid settings")
+        void shouldRejectInvalidSettings() {
+            assertThatThrownBy(() -> new PoolSizeModel(0, 2, 0.5, 10)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new PoolSizeModel(0.75, 0, 0.5, 10)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> model.decide("oltp", sample(5, 0, 0, 0, 0, 0, null), 10, 5, Instant.EPOCH))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("min-size <= max-size");
+        }
+    }
+}
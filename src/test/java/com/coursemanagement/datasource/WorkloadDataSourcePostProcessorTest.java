@@ -0,0 +1,103 @@
+package com.coursemanagement.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WorkloadDataSourcePostProcessor Tests")
+class WorkloadDataSourcePostProcessorTest {
+
+    private WorkloadRoutingDataSource routing;
+
+    @AfterEach
+    void tearDown() {
+        if (routing != null) {
+            routing.close();
+        }
+    }
+
+    private static HikariDataSource primary(String jdbcUrl) {
+        HikariDataSource primary = new HikariDataSource();
+        primary.setJdbcUrl(jdbcUrl);
+        primary.setMaximumPoolSize(10);
+        primary.setMinimumIdle(5);
+        primary.setIdleTimeout(300_000);
+        primary.setLeakDetectionThreshold(60_000);
+        return primary;
+    }
+
+    private static HikariDataSource pool(WorkloadRoutingDataSource routing, WorkloadType workload) {
+        return (HikariDataSource) routing.getPool(workload);
+    }
+
+    @Test
+    @DisplayName("Should copy the primary pool's settings and apply each workload's overrides")
+    void shouldCopyAndOverride() {
+        // Given
+        HikariDataSource primary = primary("jdbc:postgresql://localhost:5432/course_management_db");
+
+        // When
+        routing = WorkloadDataSourcePostProcessor.route(primary, new WorkloadPoolProperties());
+
+        // Then
+        HikariDataSource oltp = pool(routing, WorkloadType.OLTP);
+        HikariDataSource reporting = pool(routing, WorkloadType.REPORTING);
+        HikariDataSource bulk = pool(routing, WorkloadType.BULK);
+        assertThat(oltp).isSameAs(primary);
+        assertThat(oltp.getPoolName()).isEqualTo("oltp");
+        assertThat(oltp.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(oltp.getLeakDetectionThreshold()).isEqualTo(60_000);
+        assertThat(oltp.getConnectionInitSql()).isEqualTo("SET statement_timeout = 30000; SET work_mem = '4MB'");
+
+        assertThat(reporting.getPoolName()).isEqualTo("reporting");
+        assertThat(reporting.getJdbcUrl()).isEqualTo(primary.getJdbcUrl());
+        assertThat(reporting.getIdleTimeout()).isEqualTo(300_000);
+        assertThat(reporting.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(reporting.getMinimumIdle()).isZero();
+        assertThat(reporting.getConnectionTimeout()).isEqualTo(60_000);
+        assertThat(reporting.getLeakDetectionThreshold()).isEqualTo(600_000);
+        assertThat(reporting.getConnectionInitSql()).isEqualTo("SET statement_timeout = 300000; SET work_mem = '64MB'");
+
+        assertThat(bulk.getPoolName()).isEqualTo("bulk");
+        assertThat(bulk.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(bulk.getLeakDetectionThreshold()).isZero();
+        assertThat(bulk.getConnectionInitSql()).isEqualTo("SET work_mem = '32MB'");
+    }
+
+    @Test
+    @DisplayName("Should keep existing init SQL and skip session settings on other databases")
+    void shouldSkipSessionSettingsOutsidePostgreSql() {
+        // Given
+        HikariDataSource primary = primary("jdbc:h2:mem:workloads");
+        primary.setConnectionInitSql("SELECT 1");
+
+        // When
+        routing = WorkloadDataSourcePostProcessor.route(primary, new WorkloadPoolProperties());
+
+        // Then
+        assertThat(pool(routing, WorkloadType.OLTP).getConnectionInitSql()).isEqualTo("SELECT 1");
+        assertThat(pool(routing, WorkloadType.REPORTING).getConnectionInitSql()).isEqualTo("SELECT 1");
+        assertThat(pool(routing, WorkloadType.REPORTING).getMaximumPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid session settings")
+    void shouldRejectInvalidSessionSettings() {
+        // Given
+        WorkloadPoolProperties properties = new WorkloadPoolProperties();
+        properties.getReporting().setWorkMem("64MB'; DROP TABLE reviews; --");
+        WorkloadPoolProperties negative = new WorkloadPoolProperties();
+        negative.getBulk().setStatementTimeoutMs(-1);
+
+        // When / Then
+        assertThatThrownBy(() -> properties.getReporting().sessionSql())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported work-mem");
+        assertThatThrownBy(() -> negative.getBulk().sessionSql())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new WorkloadPoolProperties().getBulk().sessionSql()).isEqualTo("SET work_mem = '32MB'");
+    }
+}
@@ -0,0 +1,176 @@
+package com.coursemanagement.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadRoutingDataSource Tests")
+class WorkloadRoutingDataSourceTest {
+
+    @Mock
+    private DataSource oltp;
+
+    @Mock
+    private DataSource reporting;
+
+    @Mock
+    private Connection oltpConnection;
+
+    @Mock
+    private Connection reportingConnection;
+
+    private WorkloadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new WorkloadRoutingDataSource(oltp, Map.of(WorkloadType.REPORTING, reporting));
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should use the OLTP pool unless a workload is set")
+        void shouldDefaultToOltp() throws Exception {
+            // Given
+            when(oltp.getConnection()).thenReturn(oltpConnection);
+            when(reporting.getConnection()).thenReturn(reportingConnection);
+
+            // When
+            Connection outside = dataSource.getConnection();
+            Connection inside = WorkloadContext.call(WorkloadType.REPORTING, () -> connection(dataSource));
+
+            // Then
+            assertThat(outside).isSameAs(oltpConnection);
+            assertThat(inside).isSameAs(reportingConnection);
+            assertThat(WorkloadContext.current()).isEqualTo(WorkloadType.OLTP);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the OLTP pool for workloads without a pool")
+        void shouldFallBackToOltp() throws Exception {
+            // Given
+            when(oltp.getConnection()).thenReturn(oltpConnection);
+
+            // When
+            Connection connection = WorkloadContext.call(WorkloadType.BULK, () -> connection(dataSource));
+
+            // Then
+            assertThat(connection).isSameAs(oltpConnection);
+            assertThat(dataSource.getPool(WorkloadType.BULK)).isSameAs(oltp);
+            assertThat(dataSource.getPool(WorkloadType.REPORTING)).isSameAs(reporting);
+        }
+
+        @Test
+        @DisplayName("Should restore the outer workload after a nested one")
+        void shouldRestoreOuterWorkload() {
+            // When
+            WorkloadType nested = WorkloadContext.call(WorkloadType.BULK,
+                    () -> WorkloadContext.call(WorkloadType.REPORTING, WorkloadContext::current));
+            WorkloadType afterNested = WorkloadContext.call(WorkloadType.BULK, () -> {
+                WorkloadContext.run(WorkloadType.REPORTING, () -> { });
+                return WorkloadContext.current();
+            });
+
+            // Then
+            assertThat(nested).isEqualTo(WorkloadType.REPORTING);
+            assertThat(afterNested).isEqualTo(WorkloadType.BULK);
+            assertThat(WorkloadContext.current()).isEqualTo(WorkloadType.OLTP);
+        }
+    }
+
+    @Nested
+    @DisplayName("Annotation Tests")
+    class AnnotationTests {
+
+        interface Reports {
+            WorkloadType report();
+
+            WorkloadType lookup();
+        }
+
+        @Workload(WorkloadType.BULK)
+        static class BulkReports implements Reports {
+            @Override
+            @Workload(WorkloadType.REPORTING)
+            public WorkloadType report() {
+                return WorkloadContext.current();
+            }
+
+            @Override
+            public WorkloadType lookup() {
+                return WorkloadContext.current();
+            }
+        }
+
+        static class PlainReports implements Reports {
+            @Override
+            @Workload(WorkloadType.REPORTING)
+            public WorkloadType report() {
+                return WorkloadContext.current();
+            }
+
+            @Override
+            public WorkloadType lookup() {
+                return WorkloadContext.current();
+            }
+        }
+
+        private Reports proxy(Reports target) {
+            ProxyFactory factory = new ProxyFactory(target);
+            factory.addAdvisor(new DefaultPointcutAdvisor(
+                    new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                            .union(new AnnotationMatchingPointcut(null, Workload.class, true)),
+                    new WorkloadInterceptor()));
+            return (Reports) factory.getProxy();
+        }
+
+        @Test
+        @DisplayName("Should prefer the method annotation over the class annotation")
+        void shouldPreferMethodAnnotation() {
+            // Given
+            Reports reports = proxy(new BulkReports());
+
+            // When / Then
+            assertThat(reports.report()).isEqualTo(WorkloadType.REPORTING);
+            assertThat(reports.lookup()).isEqualTo(WorkloadType.BULK);
+            assertThat(WorkloadContext.current()).isEqualTo(WorkloadType.OLTP);
+        }
+
+        @Test
+        @DisplayName("Should leave unannotated methods on the OLTP pool")
+        void shouldLeaveUnannotatedMethods() {
+            // Given
+            Reports reports = proxy(new PlainReports());
+
+            // When / Then
+            assertThat(reports.report()).isEqualTo(WorkloadType.REPORTING);
+            assertThat(reports.lookup()).isEqualTo(WorkloadType.OLTP);
+        }
+    }
+
+    private static Connection connection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
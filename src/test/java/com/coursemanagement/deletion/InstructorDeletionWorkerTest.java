@@ -0,0 +1,171 @@
+package com.coursemanagement.deletion;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.InstructorDeletionJob;
+import com.coursemanagement.entity.InstructorDeletionJob.Status;
+import com.coursemanagement.entity.InstructorDetails;
+import com.coursemanagement.entity.Review;
+import com.coursemanagement.entity.Student;
+import com.coursemanagement.repository.InstructorDeletionJobRepository;
+import com.coursemanagement.repository.InstructorDeletionRepository;
+import com.coursemanagement.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({InstructorDeletionRepository.class, InstructorDeletionWorker.class})
+@TestPropertySource(properties = {
+        "course-management.instructor-deletion.enabled=true",
+        "course-management.instructor-deletion.chunk-size=2",
+        "course-management.instructor-deletion.chunks-per-run=3",
+        "course-management.instructor-deletion.interval-ms=3600000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InstructorDeletionWorker Tests")
+class InstructorDeletionWorkerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InstructorDeletionWorker worker;
+
+    @Autowired
+    private InstructorDeletionJobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    private UUID instructorId;
+
+    @BeforeEach
+    void setUp() {
+        // The worker commits each chunk itself, so the fixture is committed rather than rolled back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> createFixture());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[] {"reviews", "course_student", "course", "student", "instructor",
+                "instructor_details", "instructor_deletion_jobs"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    private void createFixture() {
+        Instructor instructor = new Instructor("John", "Doe", "john.doe@example.com");
+        instructor.setInstructorDetails(new InstructorDetails("https://youtube.com/@johndoe", "Guitar"));
+        instructor.setDeletionRequestedAt(LocalDateTime.now());
+        entityManager.persist(instructor);
+        Instructor other = entityManager.persist(new Instructor("Jane", "Smith", "jane.smith@example.com"));
+
+        Student student = entityManager.persist(new Student("Sam", "Lee", "sam.lee@example.com"));
+        for (int i = 0; i < 3; i++) {
+            Course course = entityManager.persist(new Course("Course " + i, instructor));
+            student.enrollInCourse(course);
+            entityManager.persist(new Review("Review " + i, course, student));
+            entityManager.persist(new Review("Another review " + i, course, student));
+        }
+        Course otherCourse = entityManager.persist(new Course("Other", other));
+        student.enrollInCourse(otherCourse);
+        entityManager.persist(new Review("Keep me", otherCourse, student));
+
+        instructorId = instructor.getId();
+        jobRepository.save(new InstructorDeletionJob(instructorId, 3));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private InstructorDeletionJob job() {
+        return jobRepository.findById(instructorId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should delete in bounded chunks and record progress between runs")
+    void shouldDeleteInChunks() {
+        // When - one run of three chunks of two rows
+        worker.run();
+
+        // Then
+        InstructorDeletionJob job = job();
+        assertThat(job.getStatus()).isEqualTo(Status.RUNNING);
+        assertThat(job.getReviewsDeleted()).isEqualTo(6);
+        assertThat(job.getCoursesDeleted()).isZero();
+        assertThat(count("instructor")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should delete the whole tree and only that instructor's rows")
+    void shouldCompleteDeletion() {
+        // When
+        for (int i = 0; i < 10 && !job().getStatus().isFinished(); i++) {
+            worker.run();
+        }
+
+        // Then
+        InstructorDeletionJob job = job();
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getCompletedAt()).isNotNull();
+        assertThat(job.getReviewsDeleted()).isEqualTo(6);
+        assertThat(job.getEnrollmentsDeleted()).isEqualTo(3);
+        assertThat(job.getCoursesDeleted()).isEqualTo(3);
+        assertThat(count("instructor")).isEqualTo(1);
+        assertThat(count("instructor_details")).isZero();
+        assertThat(count("course")).isEqualTo(1);
+        assertThat(count("reviews")).isEqualTo(1);
+        assertThat(count("course_student")).isEqualTo(1);
+        verify(outboxService).record(OutboxService.INSTRUCTOR, instructorId, "InstructorDeleted",
+                Map.of("id", instructorId));
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed after repeated chunk failures")
+    void shouldFailAfterRepeatedFailures() {
+        // Given
+        doThrow(new IllegalStateException("outbox unavailable"))
+                .when(outboxService).record(anyString(), any(), anyString(), anyMap());
+
+        // When
+        for (int i = 0; i < 20 && !job().getStatus().isFinished(); i++) {
+            worker.run();
+        }
+
+        // Then
+        InstructorDeletionJob job = job();
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getFailures()).isEqualTo(InstructorDeletionWorker.MAX_FAILURES);
+        assertThat(job.getLastError()).contains("outbox unavailable");
+    }
+}
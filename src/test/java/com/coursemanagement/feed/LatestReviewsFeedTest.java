@@ -0,0 +1,261 @@
+package com.coursemanagement.feed;
+
+import com.coursemanagement.dto.ReviewResponse;
+import com.coursemanagement.outbox.DomainChangeEvent;
+import com.coursemanagement.service.ReviewService;
+import com.coursemanagement.service.ReviewsIngestedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LatestReviewsFeed Tests")
+class LatestReviewsFeedTest {
+
+    @Mock
+    private ReviewService reviewService;
+
+    private LatestReviewsFeed feed;
+    private final List<ReviewResponse> seed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            seed.add(review("seed " + i));
+        }
+        feed = new LatestReviewsFeed(reviewService, 5, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    private static ReviewResponse review(String comment) {
+        ReviewResponse review = new ReviewResponse();
+        review.setId(UUID.randomUUID());
+        review.setComment(comment);
+        review.setCreatedAt(LocalDateTime.now());
+        return review;
+    }
+
+    private static DomainChangeEvent event(String aggregateType, UUID aggregateId, String eventType) {
+        return new DomainChangeEvent(1L, aggregateType, aggregateId, eventType, "{}", LocalDateTime.now());
+    }
+
+    private List<String> comments() {
+        return feed.getLatest(0, 5).stream().map(ReviewResponse::getComment).toList();
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should seed once with a query bounded by the capacity and page from memory")
+        void shouldSeedOnceAndPage() {
+            // Given
+            when(reviewService.getLatestReviews(5)).thenReturn(seed);
+
+            // When
+            feed.onApplicationStarted();
+            List<ReviewResponse> firstPage = feed.getLatest(0, 2);
+            List<ReviewResponse> secondPage = feed.getLatest(1, 2);
+            List<ReviewResponse> pastTheEnd = feed.getLatest(5, 2);
+
+            // Then
+            assertThat(firstPage).extracting(ReviewResponse::getComment).containsExactly("seed 1", "seed 2");
+            assertThat(secondPage).extracting(ReviewResponse::getComment).containsExactly("seed 3");
+            assertThat(pastTheEnd).isEmpty();
+            verify(reviewService, times(1)).getLatestReviews(5);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid pages")
+        void shouldRejectInvalidPages() {
+            assertThatThrownBy(() -> feed.getLatest(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> feed.getLatest(0, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> feed.getLatest(0, 6))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("between 1 and 5");
+            verifyNoInteractions(reviewService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Event Tests")
+    class ChangeEventTests {
+
+        @BeforeEach
+        void seedFeed() {
+            when(reviewService.getLatestReviews(5)).thenReturn(seed);
+            feed.onApplicationStarted();
+        }
+
+        @Test
+        @DisplayName("Should add created reviews and replace updated ones in place")
+        void shouldApplyCreatedAndUpdatedReviews() {
+            // Given
+            ReviewResponse created = review("created");
+            ReviewResponse edited = review("seed 2, edited");
+            edited.setId(seed.get(1).getId());
+            when(reviewService.getReviewsByIds(List.of(created.getId()))).thenReturn(List.of(created));
+            when(reviewService.getReviewsByIds(List.of(edited.getId()))).thenReturn(List.of(edited));
+
+            // When
+            feed.onDomainChange(event("Review", created.getId(), "ReviewCreated"));
+            feed.onDomainChange(event("Review", edited.getId(), "ReviewUpdated"));
+
+            // Then
+            assertThat(comments()).containsExactly("created", "seed 1", "seed 2, edited", "seed 3");
+        }
+
+        @Test
+        @DisplayName("Should ignore updates to reviews that are not in the feed")
+        void shouldIgnoreUpdatesOutsideFeed() {
+            // Given
+            ReviewResponse older = review("older");
+            when(reviewService.getReviewsByIds(List.of(older.getId()))).thenReturn(List.of(older));
+
+            // When
+            feed.onDomainChange(event("Review", older.getId(), "ReviewUpdated"));
+
+            // Then
+            assertThat(comments()).containsExactly("seed 1", "seed 2", "seed 3");
+        }
+
+        @Test
+        @DisplayName("Should remove deleted reviews without a query")
+        void shouldRemoveDeletedReviews() {
+            // When
+            feed.onDomainChange(event("Review", seed.get(0).getId(), "ReviewDeleted"));
+
+            // Then
+            assertThat(comments()).containsExactly("seed 2", "seed 3");
+            verify(reviewService, never()).getReviewsByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should add ingested reviews and skip ones that no longer exist")
+        void shouldAddIngestedReviews() {
+            // Given
+            ReviewResponse ingested = review("ingested");
+            UUID gone = UUID.randomUUID();
+            when(reviewService.getReviewsByIds(List.of(ingested.getId(), gone))).thenReturn(List.of(ingested));
+
+            // When
+            feed.onReviewsIngested(new ReviewsIngestedEvent(List.of(ingested.getId(), gone)));
+
+            // Then
+            assertThat(comments()).containsExactly("ingested", "seed 1", "seed 2", "seed 3");
+        }
+
+        @Test
+        @DisplayName("Should reseed on course, student and instructor changes and ignore other events")
+        void shouldReseedOnRelatedChanges() {
+            // When
+            feed.onDomainChange(event("Course", UUID.randomUUID(), "CourseDeleted"));
+            feed.onDomainChange(event("Student", UUID.randomUUID(), "StudentEnrolled"));
+            feed.onDomainChange(event("Instructor", UUID.randomUUID(), "InstructorUpdated"));
+
+            // Then
+            verify(reviewService, times(3)).getLatestReviews(5);
+        }
+
+        @Test
+        @DisplayName("Should keep serving the feed when applying an event fails")
+        void shouldSurviveFailures() {
+            // Given
+            when(reviewService.getReviewsByIds(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+            // When
+            feed.onDomainChange(event("Review", UUID.randomUUID(), "ReviewCreated"));
+
+            // Then
+            assertThat(comments()).containsExactly("seed 1", "seed 2", "seed 3");
+        }
+    }
+
+    @Nested
+    @DisplayName("Sync Tests")
+    class SyncTests {
+
+        @Test
+        @DisplayName("Should not query before the feed is seeded")
+        void shouldSkipBeforeSeeding() {
+            // When
+            feed.sync();
+
+            // Then
+            verifyNoInteractions(reviewService);
+        }
+
+        @Test
+        @DisplayName("Should pick up reviews written through another node")
+        void shouldPickUpRemoteChanges() {
+            // Given
+            when(reviewService.getLatestReviews(5)).thenReturn(seed);
+            feed.onApplicationStarted();
+            ReviewResponse remote = review("remote");
+            ReviewResponse edited = review("seed 2, edited");
+            edited.setId(seed.get(1).getId());
+            when(reviewService.getLatestReviews(5)).thenReturn(List.of(remote, seed.get(0), edited));
+
+            // When
+            feed.sync();
+
+            // Then
+            assertThat(comments()).containsExactly("remote", "seed 1", "seed 2, edited");
+        }
+
+        @Test
+        @DisplayName("Should keep the feed when the sync query fails")
+        void shouldSurviveFailures() {
+            // Given
+            when(reviewService.getLatestReviews(5)).thenReturn(seed);
+            feed.onApplicationStarted();
+            when(reviewService.getLatestReviews(5)).thenThrow(new IllegalStateException("database down"));
+
+            // When
+            feed.sync();
+
+            // Then
+            assertThat(comments()).containsExactly("seed 1", "seed 2", "seed 3");
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream Tests")
+    class StreamTests {
+
+        @Test
+        @DisplayName("Should track subscribers until they complete")
+        void shouldTrackSubscribers() {
+            // Given
+            when(reviewService.getLatestReviews(5)).thenReturn(seed);
+
+            // When
+            feed.subscribe();
+            feed.subscribe();
+
+            // Then
+            assertThat(feed.getSubscriberCount()).isEqualTo(2);
+            feed.shutdown();
+            assertThat(feed.getSubscriberCount()).isZero();
+        }
+    }
+}
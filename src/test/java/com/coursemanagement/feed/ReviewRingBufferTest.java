@@ -0,0 +1,140 @@
+package com.coursemanagement.feed;
+
+import com.coursemanagement.dto.ReviewResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReviewRingBuffer Tests")
+class ReviewRingBufferTest {
+
+    private static ReviewResponse review(String comment) {
+        ReviewResponse review = new ReviewResponse();
+        review.setId(UUID.randomUUID());
+        review.setComment(comment);
+        review.setCreatedAt(LocalDateTime.now());
+        return review;
+    }
+
+    private static List<String> comments(ReviewRingBuffer buffer) {
+        return buffer.snapshot().stream().map(ReviewResponse::getComment).toList();
+    }
+
+    @Test
+    @DisplayName("Should keep the newest reviews and evict the oldest")
+    void shouldEvictOldest() {
+        // Given
+        ReviewRingBuffer buffer = new ReviewRingBuffer(3);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(review("r" + i));
+        }
+
+        // Then
+        assertThat(comments(buffer)).containsExactly("r5", "r4", "r3");
+    }
+
+    @Test
+    @DisplayName("Should replace and remove reviews in place")
+    void shouldReplaceAndRemove() {
+        // Given
+        ReviewRingBuffer buffer = new ReviewRingBuffer(3);
+        ReviewResponse first = review("first");
+        ReviewResponse second = review("second");
+        buffer.add(first);
+        buffer.add(second);
+
+        // When
+        ReviewResponse edited = review("first, edited");
+        edited.setId(first.getId());
+        boolean replaced = buffer.replace(edited);
+        buffer.add(edited);
+        boolean removed = buffer.remove(second.getId());
+
+        // Then
+        assertThat(replaced).isTrue();
+        assertThat(removed).isTrue();
+        assertThat(buffer.remove(second.getId())).isFalse();
+        assertThat(buffer.replace(review("unknown"))).isFalse();
+        assertThat(comments(buffer)).containsExactly("first, edited");
+    }
+
+    @Test
+    @DisplayName("Should reset to the given reviews, newest first")
+    void shouldReset() {
+        // Given
+        ReviewRingBuffer buffer = new ReviewRingBuffer(2);
+        buffer.add(review("old"));
+
+        // When
+        buffer.reset(List.of(review("newest"), review("newer"), review("dropped")));
+        buffer.add(review("added"));
+
+        // Then
+        assertThat(comments(buffer)).containsExactly("added", "newest");
+        assertThat(buffer.removeIf(review -> review.getComment().startsWith("new"))).isEqualTo(1);
+        assertThat(comments(buffer)).containsExactly("added");
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity below one")
+    void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> new ReviewRingBuffer(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should stay bounded and consistent under concurrent writers and readers")
+    void shouldHandleConcurrentAccess() throws Exception {
+        // Given
+        int capacity = 16;
+        ReviewRingBuffer buffer = new ReviewRingBuffer(capacity);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // When
+        try {
+            for (int writer = 0; writer < 4; writer++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        buffer.add(review("w"));
+                    }
+                    return null;
+                }));
+            }
+            for (int reader = 0; reader < 2; reader++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        List<ReviewResponse> snapshot = buffer.snapshot();
+                        assertThat(snapshot.size()).isLessThanOrEqualTo(capacity);
+                        assertThat(snapshot).doesNotHaveDuplicates();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(buffer.snapshot()).hasSize(capacity).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,141 @@
+package com.coursemanagement.graphql;
+
+import com.coursemanagement.config.GraphQlConfig;
+import com.coursemanagement.dto.InstructorDetailsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@GraphQlTest(GraphQlController.class)
+@Import(GraphQlConfig.class)
+@DisplayName("GraphQlController Tests")
+class GraphQlControllerTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockBean
+    private GraphQlDataService dataService;
+
+    private InstructorNode instructor;
+    private CourseNode javaCourse;
+    private CourseNode springCourse;
+    private StudentNode student;
+    private ReviewNode review;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        instructor = new InstructorNode(UUID.randomUUID(), "John", "Doe", "john.doe@example.com", now, now);
+        javaCourse = new CourseNode(UUID.randomUUID(), "Java Basics", now, now, instructor.id());
+        springCourse = new CourseNode(UUID.randomUUID(), "Spring Boot", now, now, instructor.id());
+        student = new StudentNode(UUID.randomUUID(), "Jane", "Smith", "jane.smith@example.com", now, now);
+        review = new ReviewNode(UUID.randomUUID(), "Great course!", now, now, javaCourse.id(), student.id());
+    }
+
+    @Nested
+    @DisplayName("Batch Loading Tests")
+    class BatchLoadingTests {
+
+        @Test
+        @DisplayName("Should resolve nested fields with one lookup per entity type per level")
+        void shouldResolveNestedFieldsWithOneLookupPerEntityTypePerLevel() {
+            // Given
+            when(dataService.findAllCourses()).thenReturn(List.of(javaCourse, springCourse));
+            when(dataService.findInstructorsByIds(any())).thenReturn(Map.of(instructor.id(), instructor));
+            when(dataService.findReviewsByCourseIds(any())).thenReturn(Map.of(javaCourse.id(), List.of(review)));
+            when(dataService.findStudentsByIds(any())).thenReturn(Map.of(student.id(), student));
+
+            // When & Then
+            graphQlTester.document("""
+                    {
+                      courses {
+                        title
+                        instructor { fullName }
+                        reviews { comment student { email } }
+                      }
+                    }
+                    """)
+                    .execute()
+                    .path("courses[0].instructor.fullName").entity(String.class).isEqualTo("John Doe")
+                    .path("courses[1].instructor.fullName").entity(String.class).isEqualTo("John Doe")
+                    .path("courses[0].reviews[0].student.email").entity(String.class).isEqualTo("jane.smith@example.com")
+                    .path("courses[1].reviews").entityList(ReviewNode.class).hasSize(0);
+
+            verify(dataService, times(1)).findInstructorsByIds(Set.of(instructor.id()));
+            verify(dataService, times(1)).findReviewsByCourseIds(Set.of(javaCourse.id(), springCourse.id()));
+            verify(dataService, times(1)).findStudentsByIds(Set.of(student.id()));
+        }
+
+        @Test
+        @DisplayName("Should resolve instructor details and courses")
+        void shouldResolveInstructorDetailsAndCourses() {
+            // Given
+            InstructorDetailsResponse details = new InstructorDetailsResponse(
+                    UUID.randomUUID(), "https://youtube.com/@johndoe", "Guitar", null, null);
+            when(dataService.findInstructor(instructor.id())).thenReturn(instructor);
+            when(dataService.findInstructorDetailsByInstructorIds(any())).thenReturn(Map.of(instructor.id(), details));
+            when(dataService.findCoursesByInstructorIds(any()))
+                    .thenReturn(Map.of(instructor.id(), List.of(javaCourse, springCourse)));
+
+            // When & Then
+            graphQlTester.document("query($id: ID!) { instructor(id: $id) { details { hobby } courses { title } } }")
+                    .variable("id", instructor.id())
+                    .execute()
+                    .path("instructor.details.hobby").entity(String.class).isEqualTo("Guitar")
+                    .path("instructor.courses[*].title").entityList(String.class)
+                    .containsExactly("Java Basics", "Spring Boot");
+        }
+
+        @Test
+        @DisplayName("Should return null for missing course")
+        void shouldReturnNullForMissingCourse() {
+            // Given
+            UUID id = UUID.randomUUID();
+            when(dataService.findCourse(id)).thenReturn(null);
+
+            // When & Then
+            graphQlTester.document("query($id: ID!) { course(id: $id) { title } }")
+                    .variable("id", id)
+                    .execute()
+                    .path("course").valueIsNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Limit Tests")
+    class QueryLimitTests {
+
+        @Test
+        @DisplayName("Should reject queries deeper than the configured limit")
+        void shouldRejectQueriesDeeperThanConfiguredLimit() {
+            graphQlTester.document("""
+                    {
+                      courses { instructor { courses { students { courses { reviews { student { courses { title } } } } } } } }
+                    }
+                    """)
+                    .execute()
+                    .errors()
+                    .satisfy(errors -> assertThat(errors).isNotEmpty()
+                            .anySatisfy(error -> assertThat(error.getMessage()).contains("depth")));
+
+            verifyNoInteractions(dataService);
+        }
+    }
+}
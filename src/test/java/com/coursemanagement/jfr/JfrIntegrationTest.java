@@ -0,0 +1,230 @@
+package com.coursemanagement.jfr;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Review;
+import com.coursemanagement.entity.Student;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("JFR Integration Tests")
+class JfrIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JfrRecordingEndpoint endpoint;
+
+    @TempDir
+    Path tempDir;
+
+    private UUID courseId;
+    private UUID instructorId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Instructor instructor = new Instructor("John", "Doe", "jfr.john.doe@example.com");
+            entityManager.persist(instructor);
+            Student student = new Student("Sam", "Lee", "jfr.sam.lee@example.com");
+            entityManager.persist(student);
+            Course course = new Course("Flight Recording", instructor);
+            entityManager.persist(course);
+            entityManager.persist(new Review("Great", course, student));
+            entityManager.persist(new Review("Good", course, student));
+            courseId = course.getId();
+            instructorId = instructor.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+        for (String table : new String[] {"reviews", "course_student", "course", "student", "instructor",
+                "instructor_details"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Hibernate Event Tests")
+    class HibernateEventTests {
+
+        @Test
+        @DisplayName("Should record lazy collection and proxy initializations with their owner")
+        void shouldRecordLazyInitializations() throws Exception {
+            // When
+            List<RecordedEvent> events = record("com.coursemanagement.LazyInitialization", () ->
+                    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        Course course = entityManager.find(Course.class, courseId);
+                        course.getReviews().size();
+                        course.getInstructor().getFirstName();
+                    }));
+
+            // Then
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.getString("kind")).isEqualTo("collection");
+                assertThat(event.getString("role")).isEqualTo("Course.reviews");
+                assertThat(event.getString("ownerId")).isEqualTo(courseId.toString());
+                assertThat(event.getInt("size")).isEqualTo(2);
+                assertThat(event.getStackTrace()).isNotNull();
+            });
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.getString("kind")).isEqualTo("proxy");
+                assertThat(event.getString("role")).isEqualTo("Instructor");
+                assertThat(event.getString("ownerId")).isEqualTo(instructorId.toString());
+                assertThat(event.getInt("size")).isEqualTo(-1);
+            });
+        }
+
+        @Test
+        @DisplayName("Should record entity loads but not lookups that only return a proxy")
+        void shouldRecordEntityLoads() throws Exception {
+            // When
+            List<RecordedEvent> events = record("com.coursemanagement.EntityLoad", () ->
+                    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        entityManager.find(Course.class, courseId);
+                        entityManager.getReference(Instructor.class, instructorId);
+                    }));
+
+            // Then
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("entityType")).isEqualTo("Course");
+                assertThat(event.getString("entityId")).isEqualTo(courseId.toString());
+                assertThat(event.getString("loadType")).isEqualTo("GET");
+            });
+        }
+
+        @Test
+        @DisplayName("Should record service calls made through the API")
+        void shouldRecordServiceCalls() throws Exception {
+            // When
+            List<RecordedEvent> events = record("com.coursemanagement.ServiceCall", () -> {
+                try {
+                    mockMvc.perform(get("/api/v1/courses/" + courseId)).andExpect(status().isOk());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+
+            // Then
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.getString("service")).isEqualTo("CourseService");
+                assertThat(event.getString("method")).isEqualTo("getCourseById");
+                assertThat(event.getString("entityType")).isEqualTo("Course");
+                assertThat(event.getString("entityIds")).isEqualTo(courseId.toString());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Endpoint Tests")
+    class EndpointTests {
+
+        @Test
+        @DisplayName("Should start, stop and download a recording containing the application's events")
+        void shouldRecordThroughEndpoint() throws Exception {
+            // Given
+            mockMvc.perform(get("/actuator/jfr")).andExpect(status().isNotFound());
+
+            // When
+            String started = mockMvc.perform(post("/actuator/jfr")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"settings\": \"default\", \"maxDuration\": \"1m\", \"maxSize\": \"10MB\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("RUNNING"))
+                    .andExpect(jsonPath("$.settings").value("default"))
+                    .andExpect(jsonPath("$.maxSizeBytes").value(10 * 1024 * 1024))
+                    .andReturn().getResponse().getContentAsString();
+            long id = objectMapper.readTree(started).get("id").asLong();
+            mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                    .andExpect(status().isConflict());
+            mockMvc.perform(get("/api/v1/courses/" + courseId)).andExpect(status().isOk());
+            mockMvc.perform(delete("/actuator/jfr"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("STOPPED"));
+            byte[] content = mockMvc.perform(get("/actuator/jfr/" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // Then
+            Path file = Files.write(tempDir.resolve("download.jfr"), content);
+            assertThat(RecordingFile.readAllEvents(file))
+                    .anySatisfy(event -> assertThat(event.getEventType().getName())
+                            .isEqualTo("com.coursemanagement.ServiceCall"));
+            JsonNode status = objectMapper.readTree(mockMvc.perform(get("/actuator/jfr"))
+                    .andReturn().getResponse().getContentAsString());
+            assertThat(status.get("id").asLong()).isEqualTo(id);
+            mockMvc.perform(get("/actuator/jfr/" + (id + 1))).andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown settings and a stop without a recording")
+        void shouldRejectInvalidRequests() throws Exception {
+            mockMvc.perform(delete("/actuator/jfr")).andExpect(status().isNotFound());
+            mockMvc.perform(post("/actuator/jfr")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"settings\": \"no-such-settings\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
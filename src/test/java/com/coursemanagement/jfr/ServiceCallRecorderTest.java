@@ -0,0 +1,161 @@
+package com.coursemanagement.jfr;
+
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.metrics.ServiceInterfacePointcut;
+import com.coursemanagement.service.OutboxService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ServiceCallRecorder Tests")
+class ServiceCallRecorderTest {
+
+    private final Recording recording = new Recording();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    /**
+     * An outbox service whose {@code record} fails with the given exception, or succeeds without one.
+     */
+    static class FakeOutboxService implements OutboxService {
+
+        private final RuntimeException failure;
+
+        FakeOutboxService(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void record(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private OutboxService proxy(RuntimeException failure) {
+        ProxyFactory factory = new ProxyFactory(new FakeOutboxService(failure));
+        factory.addAdvisor(new DefaultPointcutAdvisor(new ServiceInterfacePointcut(), new ServiceCallRecorder()));
+        return (OutboxService) factory.getProxy();
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        recording.enable(ServiceCallEvent.class);
+        recording.start();
+        action.run();
+        recording.stop();
+        Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.coursemanagement.ServiceCall"))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Event Tests")
+    class EventTests {
+
+        @Test
+        @DisplayName("Should record the service, entity type, IDs and outcome of a call")
+        void shouldRecordCall() throws Exception {
+            // Given
+            OutboxService service = proxy(null);
+            UUID id = UUID.randomUUID();
+
+            // When
+            List<RecordedEvent> events = record(() -> service.record("course", id, "created", Map.of()));
+
+            // Then
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("service")).isEqualTo("OutboxService");
+                assertThat(event.getString("method")).isEqualTo("record");
+                assertThat(event.getString("entityType")).isEqualTo("Outbox");
+                assertThat(event.getString("entityIds")).isEqualTo(id.toString());
+                assertThat(event.getString("outcome")).isEqualTo("success");
+                assertThat(event.getDuration().isNegative()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should record failed calls with their outcome and rethrow")
+        void shouldRecordFailure() throws Exception {
+            // Given
+            OutboxService service = proxy(new ResourceNotFoundException("Course", "id", "x"));
+
+            // When
+            List<RecordedEvent> events = record(() -> assertThatThrownBy(
+                    () -> service.record("course", UUID.randomUUID(), "created", Map.of()))
+                    .isInstanceOf(ResourceNotFoundException.class));
+
+            // Then
+            assertThat(events).singleElement()
+                    .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("not-found"));
+        }
+
+        @Test
+        @DisplayName("Should not record calls outside a recording")
+        void shouldNotRecordWhenDisabled() throws Exception {
+            // Given
+            OutboxService service = proxy(null);
+            service.record("course", UUID.randomUUID(), "created", Map.of());
+
+            // When
+            List<RecordedEvent> events = record(() -> {
+            });
+
+            // Then
+            assertThat(events).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Entity Tests")
+    class EntityTests {
+
+        @Test
+        @DisplayName("Should derive the entity type from the service name")
+        void shouldDeriveEntityType() {
+            assertThat(ServiceCallRecorder.entityType("CourseService")).isEqualTo("Course");
+            assertThat(ServiceCallRecorder.entityType("Service")).isEqualTo("Service");
+            assertThat(ServiceCallRecorder.entityType("LatestReviewsFeed")).isEqualTo("LatestReviewsFeed");
+        }
+
+        @Test
+        @DisplayName("Should collect UUID arguments and UUIDs in collections, capped")
+        void shouldCollectEntityIds() {
+            // Given
+            UUID first = UUID.randomUUID();
+            List<UUID> many = IntStream.range(0, 12).mapToObj(i -> UUID.randomUUID()).toList();
+
+            // Then
+            assertThat(ServiceCallRecorder.entityIds(new Object[]{"title", first, List.of(first, "x")}))
+                    .isEqualTo(first + "," + first);
+            assertThat(ServiceCallRecorder.entityIds(new Object[]{"title", 3})).isNull();
+            assertThat(ServiceCallRecorder.entityIds(new Object[]{many}))
+                    .startsWith(many.get(0).toString())
+                    .endsWith(",+2 more")
+                    .doesNotContain(many.get(10).toString());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.coursemanagement.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * IDs and search terms of the seeded data that scenarios pick their parameters from.
+ */
+public record Dataset(List<UUID> courseIds, List<UUID> studentIds, List<String> titleWords,
+                      List<Enrollment> enrollments) {
+
+    /**
+     * One seeded {@code course_student} row.
+     */
+    public record Enrollment(UUID courseId, UUID studentId) {
+    }
+
+    UUID randomCourseId(RandomGenerator random) {
+        return courseIds.get(random.nextInt(courseIds.size()));
+    }
+
+    UUID randomStudentId(RandomGenerator random) {
+        return studentIds.get(random.nextInt(studentIds.size()));
+    }
+
+    String randomTitleWord(RandomGenerator random) {
+        return titleWords.get(random.nextInt(titleWords.size()));
+    }
+
+    Enrollment randomEnrollment(RandomGenerator random) {
+        return enrollments.isEmpty()
+                ? new Enrollment(randomCourseId(random), randomStudentId(random))
+                : enrollments.get(random.nextInt(enrollments.size()));
+    }
+}
@@ -0,0 +1,168 @@
+package com.coursemanagement.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates the base schema on an empty database and seeds the load-test dataset into it. The
+ * same seed always produces the same rows, so runs against fresh databases are comparable.
+ */
+public class DatasetSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    static final List<String> TOPICS = List.of("Java", "Spring", "PostgreSQL", "Kotlin", "Python", "Cloud",
+            "Security", "Testing", "Design", "Algorithms", "Networks", "Databases", "Kubernetes", "React");
+    private static final List<String> LEVELS = List.of("Fundamentals", "in Practice", "Advanced", "Masterclass");
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Grace", "Linus", "Barbara", "Ken",
+            "Margaret", "Dennis", "Frances", "Edsger", "Radia", "Tim");
+    private static final List<String> LAST_NAMES = List.of("Lovelace", "Turing", "Hopper", "Torvalds", "Liskov",
+            "Thompson", "Hamilton", "Ritchie", "Allen", "Dijkstra", "Perlman", "Berners-Lee");
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    public DatasetSeeder(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Apply {@code db_schema.sql} unless the schema exists. Flyway migrations only start from
+     * that baseline, as with the docker-compose database.
+     */
+    public void createBaseSchema(Path schemaScript) throws SQLException {
+        try (Connection connection = connect()) {
+            try (ResultSet tables = connection.getMetaData().getTables(null, "public", "student", null)) {
+                if (tables.next()) {
+                    return;
+                }
+            }
+            if (!Files.exists(schemaScript)) {
+                throw new IllegalStateException("Base schema script not found: " + schemaScript.toAbsolutePath());
+            }
+            ScriptUtils.executeSqlScript(connection, new FileSystemResource(schemaScript));
+        }
+    }
+
+    public Dataset seed(LoadTestConfig config) throws SQLException {
+        long start = System.nanoTime();
+        Random random = new Random(config.seed());
+        List<UUID> instructorIds = ids(random, config.instructors());
+        List<UUID> courseIds = ids(random, config.courses());
+        List<UUID> studentIds = ids(random, config.students());
+        List<Dataset.Enrollment> enrollments = new ArrayList<>(config.students() * config.enrollmentsPerStudent());
+
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            batch(connection, "INSERT INTO instructor (id, first_name, last_name, email) VALUES (?, ?, ?, ?)",
+                    instructorIds.size(), (statement, i) -> {
+                        statement.setObject(1, instructorIds.get(i));
+                        statement.setString(2, pick(FIRST_NAMES, random));
+                        statement.setString(3, pick(LAST_NAMES, random));
+                        statement.setString(4, "instructor" + i + "@loadtest.example.com");
+                    });
+            batch(connection, "INSERT INTO course (id, title, instructor_id) VALUES (?, ?, ?)",
+                    courseIds.size(), (statement, i) -> {
+                        statement.setObject(1, courseIds.get(i));
+                        statement.setString(2, pick(TOPICS, random) + " " + pick(LEVELS, random) + " " + i);
+                        statement.setObject(3, instructorIds.get(random.nextInt(instructorIds.size())));
+                    });
+            batch(connection, "INSERT INTO student (id, first_name, last_name, email) VALUES (?, ?, ?, ?)",
+                    studentIds.size(), (statement, i) -> {
+                        statement.setObject(1, studentIds.get(i));
+                        statement.setString(2, pick(FIRST_NAMES, random));
+                        statement.setString(3, pick(LAST_NAMES, random));
+                        statement.setString(4, "student" + i + "@loadtest.example.com");
+                    });
+            for (UUID studentId : studentIds) {
+                Set<Integer> chosen = new HashSet<>();
+                while (chosen.size() < config.enrollmentsPerStudent()) {
+                    chosen.add(random.nextInt(courseIds.size()));
+                }
+                chosen.forEach(course -> enrollments.add(new Dataset.Enrollment(courseIds.get(course), studentId)));
+            }
+            batch(connection, "INSERT INTO course_student (course_id, student_id) VALUES (?, ?)",
+                    enrollments.size(), (statement, i) -> {
+                        statement.setObject(1, enrollments.get(i).courseId());
+                        statement.setObject(2, enrollments.get(i).studentId());
+                    });
+            LocalDateTime now = LocalDateTime.now();
+            batch(connection, "INSERT INTO reviews (id, comment, course_id, student_id, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)",
+                    courseIds.size() * config.reviewsPerCourse(), (statement, i) -> {
+                        Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 365)));
+                        statement.setObject(1, new UUID(random.nextLong(), random.nextLong()));
+                        statement.setString(2, "Seeded review " + i);
+                        statement.setObject(3, courseIds.get(i / Math.max(1, config.reviewsPerCourse())));
+                        statement.setObject(4, studentIds.get(random.nextInt(studentIds.size())));
+                        statement.setTimestamp(5, createdAt);
+                        statement.setTimestamp(6, createdAt);
+                    });
+            connection.commit();
+        }
+        log.info("Seeded {} instructors, {} courses, {} students, {} enrollments and {} reviews in {} ms",
+                instructorIds.size(), courseIds.size(), studentIds.size(), enrollments.size(),
+                courseIds.size() * config.reviewsPerCourse(), (System.nanoTime() - start) / 1_000_000);
+        return new Dataset(List.copyOf(courseIds), List.copyOf(studentIds), TOPICS, List.copyOf(enrollments));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, username, password);
+    }
+
+    private static List<UUID> ids(Random random, int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Version 4 layout from the seeded generator, so reruns produce the same IDs
+            long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            ids.add(new UUID(most, least));
+        }
+        return ids;
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int row) throws SQLException;
+    }
+
+    private static void batch(Connection connection, String sql, int rows, RowBinder binder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                binder.bind(statement, i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.coursemanagement.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop load: {@code concurrency} simulated users each send one request of a scenario
+ * drawn from the mix, wait for the response and immediately pick the next one. Requests that
+ * start during the warm-up are not recorded. Users run on virtual threads when the JVM has them
+ * (Java 21+) and on platform threads otherwise.
+ */
+public class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Dataset dataset;
+    private final ScenarioMix mix;
+    private final LoadTestConfig config;
+
+    public LoadGenerator(HttpClient client, URI baseUri, Dataset dataset, ScenarioMix mix, LoadTestConfig config) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.mix = mix;
+        this.config = config;
+    }
+
+    /**
+     * An HTTP client whose internal work also runs on virtual threads when they are available.
+     */
+    public static HttpClient newHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10));
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            builder.executor(virtualThreads);
+        }
+        return builder.build();
+    }
+
+    public LoadResult run() throws InterruptedException {
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        mix.getWeights().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats(scenario.getName())));
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        ExecutorService users = newUserExecutor(config.concurrency());
+        log.info("Running {} users for {} s after {} s of warm-up", config.concurrency(),
+                config.duration().toSeconds(), config.warmup().toSeconds());
+        try {
+            for (int user = 0; user < config.concurrency(); user++) {
+                SplittableRandom random = new SplittableRandom(config.seed() * 31 + user);
+                users.execute(() -> runUser(random, stats, measureFrom, end));
+            }
+        } finally {
+            users.shutdown();
+        }
+        long grace = Scenario.REQUEST_TIMEOUT.toNanos() + TimeUnit.SECONDS.toNanos(5);
+        if (!users.awaitTermination(end - System.nanoTime() + grace, TimeUnit.NANOSECONDS)) {
+            users.shutdownNow();
+        }
+        long measured = Math.min(System.nanoTime(), end) - measureFrom;
+        return new LoadResult(stats, measured);
+    }
+
+    private void runUser(SplittableRandom random, Map<Scenario, ScenarioStats> stats, long measureFrom, long end) {
+        while (!Thread.currentThread().isInterrupted()) {
+            long started = System.nanoTime();
+            if (started >= end) {
+                return;
+            }
+            Scenario scenario = mix.next(random);
+            HttpRequest request = scenario.newRequest(baseUri, dataset, random);
+            String outcome;
+            boolean error;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                outcome = String.valueOf(status);
+                error = !scenario.isExpected(status);
+            } catch (IOException ex) {
+                outcome = ex.getClass().getSimpleName();
+                error = true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (started >= measureFrom) {
+                stats.get(scenario).record(System.nanoTime() - started, outcome, error);
+            }
+        }
+    }
+
+    private static ExecutorService newUserExecutor(int concurrency) {
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, task -> {
+            Thread thread = new Thread(task, "loadtest-user-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} before Java 21.
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+}
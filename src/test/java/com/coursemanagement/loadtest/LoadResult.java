@@ -0,0 +1,18 @@
+package com.coursemanagement.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a load run recorded, per scenario, over {@code measuredNanos} after the warm-up.
+ */
+public record LoadResult(Map<Scenario, ScenarioStats> stats, long measuredNanos) {
+
+    public List<ScenarioSummary> scenarioSummaries() {
+        return stats.values().stream().map(scenario -> scenario.summarize(measuredNanos)).toList();
+    }
+
+    public ScenarioSummary totalSummary() {
+        return ScenarioStats.combine("all", stats.values()).summarize(measuredNanos);
+    }
+}
@@ -0,0 +1,79 @@
+package com.coursemanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Load-test settings, read from {@code loadtest.*} system properties (pass them as {@code -D}
+ * options to Maven). Without {@code loadtest.jdbc-url} a throwaway PostgreSQL cluster is created
+ * from the binaries in {@code loadtest.pg-bin} or on the {@code PATH}.
+ */
+public record LoadTestConfig(
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        long seed,
+        String mix,
+        int instructors,
+        int courses,
+        int students,
+        int enrollmentsPerStudent,
+        int reviewsPerCourse,
+        String jdbcUrl,
+        String username,
+        String password,
+        String pgBin,
+        Path outputDir) {
+
+    static final String DEFAULT_MIX = "browse-courses:50,search:15,enroll:12,unenroll:8,post-review:15";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return from(System.getProperties());
+    }
+
+    static LoadTestConfig from(Properties properties) {
+        LoadTestConfig config = new LoadTestConfig(
+                Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.duration-seconds", "60"))),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.warmup-seconds", "10"))),
+                Integer.parseInt(properties.getProperty("loadtest.concurrency", "64")),
+                Long.parseLong(properties.getProperty("loadtest.seed", "42")),
+                properties.getProperty("loadtest.mix", DEFAULT_MIX),
+                Integer.parseInt(properties.getProperty("loadtest.instructors", "50")),
+                Integer.parseInt(properties.getProperty("loadtest.courses", "500")),
+                Integer.parseInt(properties.getProperty("loadtest.students", "5000")),
+                Integer.parseInt(properties.getProperty("loadtest.enrollments-per-student", "4")),
+                Integer.parseInt(properties.getProperty("loadtest.reviews-per-course", "5")),
+                blankToNull(properties.getProperty("loadtest.jdbc-url")),
+                properties.getProperty("loadtest.username", "loadtest"),
+                properties.getProperty("loadtest.password", "loadtest"),
+                blankToNull(properties.getProperty("loadtest.pg-bin")),
+                Path.of(properties.getProperty("loadtest.output-dir", "target/loadtest")));
+        config.validate();
+        return config;
+    }
+
+    void validate() {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("loadtest.duration-seconds must be positive");
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("loadtest.warmup-seconds must not be negative");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("loadtest.concurrency must be at least 1, was " + concurrency);
+        }
+        if (instructors < 1 || courses < 1 || students < 1) {
+            throw new IllegalArgumentException("The dataset needs at least one instructor, course and student");
+        }
+        if (enrollmentsPerStudent < 0 || enrollmentsPerStudent > courses || reviewsPerCourse < 0) {
+            throw new IllegalArgumentException(
+                    "loadtest.enrollments-per-student must be between 0 and loadtest.courses, "
+                            + "loadtest.reviews-per-course must not be negative");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
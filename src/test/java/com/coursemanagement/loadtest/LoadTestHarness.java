@@ -0,0 +1,77 @@
+package com.coursemanagement.loadtest;
+
+import com.coursemanagement.CourseManagementApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * End-to-end load test: starts PostgreSQL (or uses {@code loadtest.jdbc-url}), boots the
+ * application against it, seeds the dataset, runs the scenario mix and writes the report to
+ * {@code loadtest.output-dir}. Run with {@code mvn -Ploadtest verify}; see docs/guides/testing.md.
+ */
+public final class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ScenarioMix mix = ScenarioMix.parse(config.mix());
+
+        LocalPostgres postgres = null;
+        String jdbcUrl = config.jdbcUrl();
+        String username = config.username();
+        String password = config.password();
+        try {
+            if (jdbcUrl == null) {
+                postgres = new LocalPostgres(config.pgBin(), config.username());
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                password = "";
+            }
+            DatasetSeeder seeder = new DatasetSeeder(jdbcUrl, username, password);
+            seeder.createBaseSchema(Path.of("db_schema.sql"));
+
+            // The application's own warm-up would only see an empty database; the generator warms up instead
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CourseManagementApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.datasource.url=" + jdbcUrl,
+                            "spring.datasource.username=" + username,
+                            "spring.datasource.password=" + password,
+                            "course-management.warmup.enabled=false")
+                    .run(args)) {
+                Dataset dataset = seeder.seed(config);
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                Instant startedAt = Instant.now();
+                HttpClient client = LoadGenerator.newHttpClient();
+                LoadResult result = new LoadGenerator(client, URI.create("http://localhost:" + port), dataset, mix,
+                        config).run();
+                LoadTestReport report = LoadTestReport.of(startedAt, config, result);
+                report.write(config.outputDir());
+
+                ScenarioSummary total = report.total();
+                log.info(String.format(Locale.ROOT,
+                        "%d requests, %.1f/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, %.2f%% errors; report in %s",
+                        total.requests(), total.throughputPerSecond(), total.p50Millis(), total.p99Millis(),
+                        total.p999Millis(), total.errorRate() * 100, config.outputDir().toAbsolutePath()));
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+}
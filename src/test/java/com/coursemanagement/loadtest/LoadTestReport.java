@@ -0,0 +1,98 @@
+package com.coursemanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a load run, written as {@code report.json} for tooling and {@code report.html}
+ * for people.
+ */
+public record LoadTestReport(Instant startedAt, Map<String, Object> settings, List<ScenarioSummary> scenarios,
+                             ScenarioSummary total) {
+
+    public static LoadTestReport of(Instant startedAt, LoadTestConfig config, LoadResult result) {
+        Map<String, Object> settings = Map.of(
+                "durationSeconds", config.duration().toSeconds(),
+                "warmupSeconds", config.warmup().toSeconds(),
+                "concurrency", config.concurrency(),
+                "seed", config.seed(),
+                "mix", config.mix(),
+                "dataset", String.format("%d instructors, %d courses, %d students, %d enrollments per student, "
+                                + "%d reviews per course", config.instructors(), config.courses(), config.students(),
+                        config.enrollmentsPerStudent(), config.reviewsPerCourse()));
+        return new LoadTestReport(startedAt, settings, result.scenarioSummaries(), result.totalSummary());
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        ObjectMapper mapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), toHtml());
+    }
+
+    String toHtml() {
+        StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n")
+                .append("<title>Course Management load test</title>\n<style>\n")
+                .append("body { font-family: sans-serif; margin: 2em; }\n")
+                .append("table { border-collapse: collapse; margin-bottom: 1.5em; }\n")
+                .append("th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }\n")
+                .append("th:first-child, td:first-child { text-align: left; }\n")
+                .append("tr.total { font-weight: bold; background: #f4f4f4; }\n")
+                .append("td.errors { color: #b00020; }\n")
+                .append("</style>\n</head>\n<body>\n")
+                .append("<h1>Course Management load test</h1>\n<p>Started ").append(escape(startedAt.toString()))
+                .append("</p>\n<table>\n");
+        settings.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(setting -> html
+                .append("<tr><th>").append(escape(setting.getKey())).append("</th><td>")
+                .append(escape(String.valueOf(setting.getValue()))).append("</td></tr>\n"));
+        html.append("</table>\n<table>\n<tr><th>Scenario</th><th>Requests</th><th>Throughput (/s)</th>")
+                .append("<th>p50 (ms)</th><th>p99 (ms)</th><th>p99.9 (ms)</th><th>Max (ms)</th>")
+                .append("<th>Errors</th><th>Error rate</th><th>Outcomes</th></tr>\n");
+        scenarios.forEach(scenario -> row(html, scenario, ""));
+        row(html, total, " class=\"total\"");
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static void row(StringBuilder html, ScenarioSummary summary, String attributes) {
+        String outcomes = summary.outcomes().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(outcome -> outcome.getKey() + ": " + outcome.getValue())
+                .collect(Collectors.joining(", "));
+        html.append("<tr").append(attributes).append("><td>").append(escape(summary.scenario())).append("</td>")
+                .append(cell(summary.requests()))
+                .append(cell(format(summary.throughputPerSecond())))
+                .append(cell(format(summary.p50Millis())))
+                .append(cell(format(summary.p99Millis())))
+                .append(cell(format(summary.p999Millis())))
+                .append(cell(format(summary.maxMillis())))
+                .append(summary.errors() > 0 ? "<td class=\"errors\">" + summary.errors() + "</td>" : cell(0))
+                .append(cell(String.format(Locale.ROOT, "%.2f%%", summary.errorRate() * 100)))
+                .append(cell(escape(outcomes)))
+                .append("</tr>\n");
+    }
+
+    private static String cell(Object value) {
+        return "<td>" + value + "</td>";
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
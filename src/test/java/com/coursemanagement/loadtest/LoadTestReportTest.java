@@ -0,0 +1,64 @@
+package com.coursemanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LoadTestReport Tests")
+class LoadTestReportTest {
+
+    @Test
+    @DisplayName("Should write the per-scenario and total figures as JSON and HTML")
+    void shouldWriteJsonAndHtml(@TempDir Path directory) throws Exception {
+        // Given
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        stats.put(Scenario.SEARCH, new ScenarioStats("search"));
+        stats.put(Scenario.ENROLL, new ScenarioStats("enroll"));
+        stats.get(Scenario.SEARCH).record(3_000_000L, "200", false);
+        stats.get(Scenario.ENROLL).record(9_000_000L, "500", true);
+        LoadTestConfig config = LoadTestConfig.from(new Properties());
+        LoadTestReport report = LoadTestReport.of(Instant.parse("2026-01-01T00:00:00Z"), config,
+                new LoadResult(stats, 1_000_000_000L));
+
+        // When
+        report.write(directory);
+
+        // Then
+        JsonNode json = new ObjectMapper().readTree(directory.resolve("report.json").toFile());
+        assertThat(json.get("startedAt").asText()).isEqualTo("2026-01-01T00:00:00Z");
+        assertThat(json.get("settings").get("concurrency").asInt()).isEqualTo(64);
+        assertThat(json.get("scenarios")).hasSize(2);
+        assertThat(json.get("scenarios").get(0).get("scenario").asText()).isEqualTo("search");
+        assertThat(json.get("total").get("requests").asLong()).isEqualTo(2);
+        assertThat(json.get("total").get("errorRate").asDouble()).isEqualTo(0.5);
+
+        String html = Files.readString(directory.resolve("report.html"));
+        assertThat(html).contains("<td>search</td>", "<td>enroll</td>", "<tr class=\"total\"><td>all</td>",
+                "<td class=\"errors\">1</td>", "500: 1");
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid configuration")
+    void shouldRejectInvalidConfig() {
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty("loadtest.enrollments-per-student", "20");
+        properties.setProperty("loadtest.courses", "10");
+
+        // When / Then
+        assertThatThrownBy(() -> LoadTestConfig.from(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("enrollments-per-student");
+    }
+}
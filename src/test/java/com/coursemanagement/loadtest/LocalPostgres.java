@@ -0,0 +1,105 @@
+package com.coursemanagement.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A throwaway PostgreSQL cluster run from the local binaries ({@code initdb}, {@code pg_ctl}).
+ * The cluster lives in a temporary directory, listens on a free port on the loopback interface,
+ * trusts local connections and is deleted on {@link #close()}.
+ */
+public class LocalPostgres implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalPostgres.class);
+
+    static final String DATABASE = "course_management_db";
+
+    private final Path binDir;
+    private final String username;
+    private Path baseDir;
+    private int port;
+
+    public LocalPostgres(String pgBin, String username) {
+        this.binDir = pgBin == null ? null : Path.of(pgBin);
+        this.username = username;
+    }
+
+    public void start() throws IOException, InterruptedException, SQLException {
+        baseDir = Files.createTempDirectory("course-management-loadtest-pg");
+        port = freePort();
+        Path dataDir = baseDir.resolve("data");
+        run(List.of(binary("initdb"), "-D", dataDir.toString(), "-U", username, "--auth=trust",
+                "--encoding=UTF8", "--no-sync"));
+        run(List.of(binary("pg_ctl"), "-D", dataDir.toString(), "-l", baseDir.resolve("postgres.log").toString(),
+                "-w", "-o", "-p " + port + " -h 127.0.0.1 -k " + baseDir + " -c fsync=off", "start"));
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:postgresql://127.0.0.1:" + port + "/postgres", username, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + DATABASE);
+        }
+        log.info("Started PostgreSQL on port {} in {}", port, baseDir);
+    }
+
+    public String getJdbcUrl() {
+        return "jdbc:postgresql://127.0.0.1:" + port + "/" + DATABASE;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        if (baseDir == null) {
+            return;
+        }
+        try {
+            run(List.of(binary("pg_ctl"), "-D", baseDir.resolve("data").toString(), "-m", "immediate", "stop"));
+        } finally {
+            try (Stream<Path> paths = Files.walk(baseDir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+            baseDir = null;
+        }
+    }
+
+    private String binary(String name) {
+        return binDir == null ? name : binDir.resolve(name).toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void run(List<String> command) throws IOException, InterruptedException {
+        Path output = baseDir.resolve("command.log");
+        Process process = new ProcessBuilder(new ArrayList<>(command))
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        if (!process.waitFor(2, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IOException(command.get(0) + " did not finish within 2 minutes");
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException(String.format("%s failed with exit code %d:%n%s", command.get(0),
+                    process.exitValue(), Files.readString(output)));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.coursemanagement.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * One kind of user action, sent as a single API request. Statuses a real user would also get
+ * (enrolling twice, unenrolling from a course one already left) are expected, not errors.
+ */
+public enum Scenario {
+
+    BROWSE_COURSES("browse-courses", Set.of(200)) {
+        @Override
+        HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random) {
+            return get(base, "/api/v1/courses/" + dataset.randomCourseId(random));
+        }
+    },
+
+    SEARCH("search", Set.of(200)) {
+        @Override
+        HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random) {
+            return get(base, "/api/v1/courses/search/title?title="
+                    + URLEncoder.encode(dataset.randomTitleWord(random), StandardCharsets.UTF_8));
+        }
+    },
+
+    ENROLL("enroll", Set.of(200, 409)) {
+        @Override
+        HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random) {
+            return json(base, "/api/v1/students/" + dataset.randomStudentId(random) + "/enroll", "POST",
+                    "{\"courseId\":\"" + dataset.randomCourseId(random) + "\"}");
+        }
+    },
+
+    UNENROLL("unenroll", Set.of(200, 404)) {
+        @Override
+        HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random) {
+            Dataset.Enrollment enrollment = dataset.randomEnrollment(random);
+            return json(base, "/api/v1/students/" + enrollment.studentId() + "/unenroll", "DELETE",
+                    "{\"courseId\":\"" + enrollment.courseId() + "\"}");
+        }
+    },
+
+    POST_REVIEW("post-review", Set.of(201)) {
+        @Override
+        HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random) {
+            return json(base, "/api/v1/courses/" + dataset.randomCourseId(random) + "/reviews", "POST",
+                    "{\"comment\":\"Load test review " + random.nextInt(1_000_000) + "\",\"studentId\":\""
+                            + dataset.randomStudentId(random) + "\"}");
+        }
+    };
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Set<Integer> expectedStatuses;
+
+    Scenario(String name, Set<Integer> expectedStatuses) {
+        this.name = name;
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isExpected(int status) {
+        return expectedStatuses.contains(status);
+    }
+
+    public HttpRequest newRequest(URI base, Dataset dataset, RandomGenerator random) {
+        return request(base, dataset, random).timeout(REQUEST_TIMEOUT).build();
+    }
+
+    abstract HttpRequest.Builder request(URI base, Dataset dataset, RandomGenerator random);
+
+    public static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown scenario '%s'. Allowed scenarios: %s", name,
+                Arrays.stream(values()).map(Scenario::getName).collect(Collectors.joining(", "))));
+    }
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+
+    private static HttpRequest.Builder json(URI base, String path, String method, String body) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,61 @@
+package com.coursemanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice between scenarios, parsed from {@code name:weight} pairs such as
+ * {@code browse-courses:50,search:15}.
+ */
+public class ScenarioMix {
+
+    private final Map<Scenario, Integer> weights;
+    private final Scenario[] cumulative;
+
+    ScenarioMix(Map<Scenario, Integer> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The scenario mix must name at least one scenario");
+        }
+        this.weights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        List<Scenario> slots = new ArrayList<>();
+        weights.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(scenario);
+            }
+        });
+        this.cumulative = slots.toArray(Scenario[]::new);
+    }
+
+    public static ScenarioMix parse(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.lastIndexOf(':');
+            Scenario scenario = Scenario.fromName(colon < 0 ? trimmed : trimmed.substring(0, colon).trim());
+            int weight = colon < 0 ? 1 : Integer.parseInt(trimmed.substring(colon + 1).trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Scenario weights must not be negative, " + scenario.getName()
+                        + " was " + weight);
+            }
+            if (weight > 0) {
+                weights.put(scenario, weight);
+            }
+        }
+        return new ScenarioMix(weights);
+    }
+
+    public Map<Scenario, Integer> getWeights() {
+        return weights;
+    }
+
+    public Scenario next(RandomGenerator random) {
+        return cumulative[random.nextInt(cumulative.length)];
+    }
+}
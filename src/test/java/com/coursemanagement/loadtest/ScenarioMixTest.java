@@ -0,0 +1,97 @@
+package com.coursemanagement.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ScenarioMix Tests")
+class ScenarioMixTest {
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should parse the default mix")
+        void shouldParseDefaultMix() {
+            // When
+            ScenarioMix mix = ScenarioMix.parse(LoadTestConfig.DEFAULT_MIX);
+
+            // Then
+            assertThat(mix.getWeights()).containsExactly(
+                    entry(Scenario.BROWSE_COURSES, 50), entry(Scenario.SEARCH, 15), entry(Scenario.ENROLL, 12),
+                    entry(Scenario.UNENROLL, 8), entry(Scenario.POST_REVIEW, 15));
+        }
+
+        @Test
+        @DisplayName("Should skip zero weights and default a missing weight to one")
+        void shouldSkipZeroWeights() {
+            // When
+            ScenarioMix mix = ScenarioMix.parse(" search , enroll:0, post-review:3 ");
+
+            // Then
+            assertThat(mix.getWeights()).containsExactly(entry(Scenario.SEARCH, 1), entry(Scenario.POST_REVIEW, 3));
+        }
+
+        @Test
+        @DisplayName("Should reject negative weights and an empty mix")
+        void shouldRejectInvalidMix() {
+            assertThatThrownBy(() -> ScenarioMix.parse("search:-1"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("must not be negative");
+            assertThatThrownBy(() -> ScenarioMix.parse("search:0"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at least one scenario");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown scenarios")
+        void shouldRejectUnknownScenario() {
+            assertThatThrownBy(() -> ScenarioMix.parse("checkout:5"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Selection Tests")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Should pick scenarios in proportion to their weights")
+        void shouldPickByWeight() {
+            // Given
+            ScenarioMix mix = ScenarioMix.parse("browse-courses:3,search:1");
+            SplittableRandom random = new SplittableRandom(42);
+            Map<Scenario, Integer> picks = new EnumMap<>(Scenario.class);
+
+            // When
+            for (int i = 0; i < 40_000; i++) {
+                picks.merge(mix.next(random), 1, Integer::sum);
+            }
+
+            // Then
+            assertThat(picks).containsOnlyKeys(Scenario.BROWSE_COURSES, Scenario.SEARCH);
+            assertThat(picks.get(Scenario.BROWSE_COURSES) / 40_000.0).isCloseTo(0.75, within(0.02));
+        }
+
+        @Test
+        @DisplayName("Should repeat the same sequence for the same seed")
+        void shouldBeDeterministic() {
+            // Given
+            ScenarioMix mix = ScenarioMix.parse(LoadTestConfig.DEFAULT_MIX);
+            SplittableRandom first = new SplittableRandom(7);
+            SplittableRandom second = new SplittableRandom(7);
+
+            // When / Then
+            for (int i = 0; i < 100; i++) {
+                assertThat(mix.next(first)).isEqualTo(mix.next(second));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.coursemanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes recorded for one scenario. Every latency is kept, so percentiles are
+ * exact rather than bucketed.
+ */
+public class ScenarioStats {
+
+    private final String name;
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> outcomes = new TreeMap<>();
+
+    public ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Everything recorded by the given stats, under one name.
+     */
+    public static ScenarioStats combine(String name, Iterable<ScenarioStats> all) {
+        ScenarioStats combined = new ScenarioStats(name);
+        for (ScenarioStats stats : all) {
+            synchronized (stats) {
+                for (int i = 0; i < stats.count; i++) {
+                    combined.record(stats.latenciesNanos[i], null, false);
+                }
+                combined.errors += stats.errors;
+                stats.outcomes.forEach((outcome, requests) -> combined.outcomes.merge(outcome, requests, Long::sum));
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Record one request.
+     *
+     * @param outcome the HTTP status, or the exception name if no response arrived
+     */
+    public synchronized void record(long latencyNanos, String outcome, boolean error) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+        if (outcome != null) {
+            outcomes.merge(outcome, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Summarize what was recorded over {@code elapsedNanos} of measurement.
+     */
+    public synchronized ScenarioSummary summarize(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+        return new ScenarioSummary(name, count, errors,
+                count == 0 ? 0 : (double) errors / count,
+                seconds > 0 ? count / seconds : 0,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)), millis(count == 0 ? 0 : sorted[count - 1]),
+                Map.copyOf(outcomes));
+    }
+
+    /**
+     * Nearest-rank percentile.
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,104 @@
+package com.coursemanagement.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ScenarioStats Tests")
+class ScenarioStatsTest {
+
+    private static final long MILLI = 1_000_000L;
+    private static final long SECOND = 1_000_000_000L;
+
+    @Nested
+    @DisplayName("Percentile Tests")
+    class PercentileTests {
+
+        @Test
+        @DisplayName("Should use the nearest rank")
+        void shouldUseNearestRank() {
+            // Given
+            long[] sorted = new long[1000];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = i + 1;
+            }
+
+            // When / Then
+            assertThat(ScenarioStats.percentile(sorted, 0.50)).isEqualTo(500);
+            assertThat(ScenarioStats.percentile(sorted, 0.99)).isEqualTo(990);
+            assertThat(ScenarioStats.percentile(sorted, 0.999)).isEqualTo(999);
+            assertThat(ScenarioStats.percentile(sorted, 1.0)).isEqualTo(1000);
+            assertThat(ScenarioStats.percentile(new long[]{7}, 0.999)).isEqualTo(7);
+            assertThat(ScenarioStats.percentile(new long[0], 0.5)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Summary Tests")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("Should summarize throughput, latency, errors and outcomes")
+        void shouldSummarize() {
+            // Given
+            ScenarioStats stats = new ScenarioStats("enroll");
+            for (int i = 1; i <= 100; i++) {
+                stats.record(i * MILLI, i <= 95 ? "200" : "409", false);
+            }
+            stats.record(500 * MILLI, "HttpTimeoutException", true);
+
+            // When
+            ScenarioSummary summary = stats.summarize(10 * SECOND);
+
+            // Then
+            assertThat(summary.scenario()).isEqualTo("enroll");
+            assertThat(summary.requests()).isEqualTo(101);
+            assertThat(summary.errors()).isEqualTo(1);
+            assertThat(summary.errorRate()).isCloseTo(1 / 101.0, within(1e-9));
+            assertThat(summary.throughputPerSecond()).isCloseTo(10.1, within(1e-9));
+            assertThat(summary.p50Millis()).isEqualTo(51.0);
+            assertThat(summary.p99Millis()).isEqualTo(100.0);
+            assertThat(summary.maxMillis()).isEqualTo(500.0);
+            assertThat(summary.outcomes()).containsOnly(entry("200", 95L), entry("409", 5L),
+                    entry("HttpTimeoutException", 1L));
+        }
+
+        @Test
+        @DisplayName("Should summarize nothing recorded as zeros")
+        void shouldSummarizeEmpty() {
+            // When
+            ScenarioSummary summary = new ScenarioStats("search").summarize(SECOND);
+
+            // Then
+            assertThat(summary.requests()).isZero();
+            assertThat(summary.errorRate()).isZero();
+            assertThat(summary.p999Millis()).isZero();
+            assertThat(summary.outcomes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should combine scenarios into one total")
+        void shouldCombine() {
+            // Given
+            ScenarioStats browse = new ScenarioStats("browse-courses");
+            browse.record(2 * MILLI, "200", false);
+            browse.record(4 * MILLI, "200", false);
+            ScenarioStats review = new ScenarioStats("post-review");
+            review.record(8 * MILLI, "500", true);
+
+            // When
+            ScenarioSummary total = ScenarioStats.combine("all", List.of(browse, review)).summarize(SECOND);
+
+            // Then
+            assertThat(total.scenario()).isEqualTo("all");
+            assertThat(total.requests()).isEqualTo(3);
+            assertThat(total.errors()).isEqualTo(1);
+            assertThat(total.maxMillis()).isEqualTo(8.0);
+            assertThat(total.outcomes()).containsOnly(entry("200", 2L), entry("500", 1L));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.coursemanagement.loadtest;
+
+import java.util.Map;
+
+/**
+ * Throughput, latency percentiles and error rate of one scenario (or of all of them).
+ *
+ * @param outcomes requests per HTTP status or exception name
+ */
+public record ScenarioSummary(String scenario, long requests, long errors, double errorRate,
+                              double throughputPerSecond, double p50Millis, double p99Millis, double p999Millis,
+                              double maxMillis, Map<String, Long> outcomes) {
+}
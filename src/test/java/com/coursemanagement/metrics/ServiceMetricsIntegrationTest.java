@@ -0,0 +1,60 @@
+package com.coursemanagement.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("Service Metrics Integration Tests")
+class ServiceMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private List<String> scrape() throws Exception {
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return body.lines().toList();
+    }
+
+    @Test
+    @DisplayName("Should export service timers and HTTP server requests with the same SLO buckets")
+    void shouldExportServiceTimersInPrometheusFormat() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v1/instructors")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/courses/" + UUID.randomUUID())).andExpect(status().isNotFound());
+
+        // When
+        List<String> lines = scrape();
+
+        // Then
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .startsWith("service_method_seconds_count{")
+                .contains("method=\"getAllInstructors\"", "outcome=\"success\"", "service=\"InstructorService\""));
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .startsWith("service_method_seconds_count{")
+                .contains("method=\"getCourseById\"", "outcome=\"not-found\"", "service=\"CourseService\""));
+        for (String le : List.of("0.005", "0.25", "2.5", "10.0")) {
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith("service_method_seconds_bucket{").contains("le=\"" + le + "\""));
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith("http_server_requests_seconds_bucket{").contains("le=\"" + le + "\""));
+        }
+    }
+}
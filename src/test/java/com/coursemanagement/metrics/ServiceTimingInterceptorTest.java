@@ -0,0 +1,126 @@
+package com.coursemanagement.metrics;
+
+import com.coursemanagement.dto.CountResponse;
+import com.coursemanagement.exception.ResourceAlreadyExistsException;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ServiceTimingInterceptor Tests")
+class ServiceTimingInterceptorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * An outbox service whose {@code record} fails with the given exception, or succeeds without one.
+     */
+    static class FakeOutboxService implements OutboxService {
+
+        private final RuntimeException failure;
+
+        FakeOutboxService(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void record(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        public CountResponse notOnTheInterface() {
+            return new CountResponse(0);
+        }
+    }
+
+    private FakeOutboxService proxy(RuntimeException failure) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        ProxyFactory factory = new ProxyFactory(new FakeOutboxService(failure));
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new ServiceInterfacePointcut(),
+                new ServiceTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class))));
+        return (FakeOutboxService) factory.getProxy();
+    }
+
+    private Timer timer(String outcome) {
+        return registry.find(ServiceTimingInterceptor.TIMER_NAME)
+                .tags("service", "OutboxService", "method", "record", "outcome", outcome)
+                .timer();
+    }
+
+    @Nested
+    @DisplayName("Timing Tests")
+    class TimingTests {
+
+        @Test
+        @DisplayName("Should time successful calls of service interface methods")
+        void shouldTimeSuccess() {
+            // Given
+            FakeOutboxService service = proxy(null);
+
+            // When
+            service.record("course", UUID.randomUUID(), "created", Map.of());
+            service.record("course", UUID.randomUUID(), "updated", Map.of());
+
+            // Then
+            assertThat(timer("success")).isNotNull();
+            assertThat(timer("success").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should tag failures with their outcome and rethrow them")
+        void shouldTagFailures() {
+            // Given
+            FakeOutboxService service = proxy(new ResourceNotFoundException("Course", "id", UUID.randomUUID()));
+
+            // When / Then
+            assertThatThrownBy(() -> service.record("course", UUID.randomUUID(), "deleted", Map.of()))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(timer("not-found").count()).isEqualTo(1);
+            assertThat(timer("success")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not time methods outside the service interfaces")
+        void shouldIgnoreOtherMethods() {
+            // Given
+            FakeOutboxService service = proxy(null);
+
+            // When
+            service.notOnTheInterface();
+
+            // Then
+            assertThat(registry.find(ServiceTimingInterceptor.TIMER_NAME).timers()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should map exceptions to the outcomes the API reports")
+    void shouldClassifyOutcomes() {
+        assertThat(ServiceOutcome.of(null)).isEqualTo(ServiceOutcome.SUCCESS);
+        assertThat(ServiceOutcome.of(new ResourceNotFoundException("Student", "id", 1)))
+                .isEqualTo(ServiceOutcome.NOT_FOUND);
+        assertThat(ServiceOutcome.of(new ResourceAlreadyExistsException("Student", "email", "a@b.c")))
+                .isEqualTo(ServiceOutcome.CONFLICT);
+        assertThat(ServiceOutcome.of(new DataIntegrityViolationException("duplicate")))
+                .isEqualTo(ServiceOutcome.CONFLICT);
+        assertThat(ServiceOutcome.of(new IllegalArgumentException("bad"))).isEqualTo(ServiceOutcome.INVALID);
+        assertThat(ServiceOutcome.of(new IllegalStateException("boom"))).isEqualTo(ServiceOutcome.ERROR);
+    }
+}
@@ -0,0 +1,112 @@
+package com.coursemanagement.outbox;
+
+import com.coursemanagement.dto.StudentRequest;
+import com.coursemanagement.entity.OutboxEvent;
+import com.coursemanagement.entity.Student;
+import com.coursemanagement.repository.OutboxEventRepository;
+import com.coursemanagement.repository.StudentRepository;
+import com.coursemanagement.service.StudentService;
+import com.coursemanagement.service.impl.OutboxServiceImpl;
+import com.coursemanagement.service.impl.StudentServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({StudentServiceImpl.class, OutboxServiceImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Outbox Ordering Tests")
+class OutboxOrderingTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID studentId;
+
+    @BeforeEach
+    void setUp() {
+        studentId = studentRepository.save(new Student("Sam", "Lee", "sam.lee@example.com")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM student");
+    }
+
+    @Test
+    @DisplayName("Should hold a second update of the same student until the first commits")
+    void shouldRecordConcurrentUpdatesInCommitOrder() throws Exception {
+        // Given - the first update has recorded its event but not committed yet
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    studentService.updateStudent(studentId, new StudentRequest("First", "Lee", "sam.lee@example.com"));
+                    firstRecorded.countDown();
+                    try {
+                        releaseFirst.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(firstRecorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+                studentService.updateStudent(studentId, new StudentRequest("Second", "Lee", "sam.lee@example.com")));
+
+        // Then - the second update waits on the student row, then commits last with the higher event ID
+        Thread.sleep(500);
+        assertThat(second).isNotDone();
+        releaseFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+                .filter(event -> studentId.equals(event.getAggregateId()))
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+        assertThat(events).extracting(OutboxEvent::getPayload)
+                .satisfiesExactly(
+                        payload -> assertThat(payload).contains("\"firstName\":\"First\""),
+                        payload -> assertThat(payload).contains("\"firstName\":\"Second\""));
+        assertThat(studentRepository.findById(studentId)).get()
+                .extracting(Student::getFirstName).isEqualTo("Second");
+    }
+}
@@ -0,0 +1,105 @@
+package com.coursemanagement.outbox;
+
+import com.coursemanagement.entity.OutboxEvent;
+import com.coursemanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<DomainChangeEvent> received = new ArrayList<>();
+    private OutboxEvent first;
+    private OutboxEvent second;
+    private OutboxEvent third;
+
+    @BeforeEach
+    void setUp() {
+        UUID courseId = UUID.randomUUID();
+        first = event(1L, courseId, "CourseCreated");
+        second = event(2L, courseId, "CourseUpdated");
+        third = event(3L, courseId, "CourseDeleted");
+    }
+
+    private static OutboxEvent event(long id, UUID aggregateId, String eventType) {
+        return new OutboxEvent(id, "Course", aggregateId, eventType, "{\"id\":\"" + aggregateId + "\"}", LocalDateTime.now());
+    }
+
+    private OutboxRelay relay(OutboxEventSink sink, int batchSize) {
+        return new OutboxRelay(outboxEventRepository, List.of(sink), transactionManager, true, batchSize);
+    }
+
+    @Test
+    @DisplayName("Should deliver events in order and delete them")
+    void shouldDeliverInOrderAndDelete() {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(Pageable.class))).thenReturn(List.of(first, second, third));
+
+        // When
+        relay(received::add, 10).relay();
+
+        // Then
+        assertThat(received).extracting(DomainChangeEvent::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).eventType()).isEqualTo("CourseCreated");
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first, second, third));
+    }
+
+    @Test
+    @DisplayName("Should stop at a failed event and keep it and later events for retry")
+    void shouldStopAtFailedEvent() {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(Pageable.class))).thenReturn(List.of(first, second, third));
+        OutboxEventSink failingSink = event -> {
+            if (event.sequence() == 2L) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            received.add(event);
+        };
+
+        // When
+        relay(failingSink, 10).relay();
+
+        // Then
+        assertThat(received).extracting(DomainChangeEvent::sequence).containsExactly(1L);
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first));
+        verify(outboxEventRepository, times(1)).findOldestForUpdate(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should keep relaying while batches are full")
+    void shouldKeepRelayingWhileBatchesAreFull() {
+        // Given
+        when(outboxEventRepository.findOldestForUpdate(any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        // When
+        relay(received::add, 2).relay();
+
+        // Then
+        assertThat(received).extracting(DomainChangeEvent::sequence).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository, times(2)).findOldestForUpdate(any(Pageable.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.coursemanagement.partition;
+
+import com.coursemanagement.repository.ReviewPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewPartitionMaintainer Tests")
+class ReviewPartitionMaintainerTest {
+
+    private static final YearMonth NOW = YearMonth.of(2025, 6);
+
+    @Mock
+    private ReviewPartitionRepository partitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewPartitionMaintainer maintainer(boolean enabled, int archiveAfterMonths) {
+        return new ReviewPartitionMaintainer(partitionRepository, transactionManager, enabled, 2, archiveAfterMonths);
+    }
+
+    @Test
+    @DisplayName("Should create upcoming partitions and archive only partitions past the hot window")
+    void shouldCreateAndArchive() {
+        // Given
+        when(partitionRepository.findHotPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2024, 4), YearMonth.of(2024, 5), YearMonth.of(2024, 6), YearMonth.of(2024, 7), NOW));
+
+        // When
+        maintainer(true, 12).maintain(NOW);
+
+        // Then
+        InOrder inOrder = inOrder(partitionRepository);
+        inOrder.verify(partitionRepository).createPartition(YearMonth.of(2025, 6));
+        inOrder.verify(partitionRepository).createPartition(YearMonth.of(2025, 7));
+        inOrder.verify(partitionRepository).createPartition(YearMonth.of(2025, 8));
+        inOrder.verify(partitionRepository).archivePartition(YearMonth.of(2024, 4));
+        inOrder.verify(partitionRepository).archivePartition(YearMonth.of(2024, 5));
+        verify(partitionRepository, times(3)).createPartition(any());
+        verify(partitionRepository, times(2)).archivePartition(any());
+    }
+
+    @Test
+    @DisplayName("Should keep going when a partition cannot be created or archived")
+    void shouldContinueAfterFailures() {
+        // Given
+        doThrow(new IllegalStateException("rows in default partition"))
+                .when(partitionRepository).createPartition(YearMonth.of(2025, 7));
+        doThrow(new IllegalStateException("lock timeout"))
+                .when(partitionRepository).archivePartition(YearMonth.of(2024, 1));
+        when(partitionRepository.findHotPartitionMonths())
+                .thenReturn(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2)));
+
+        // When
+        maintainer(true, 12).maintain(NOW);
+
+        // Then
+        verify(partitionRepository).createPartition(YearMonth.of(2025, 8));
+        verify(partitionRepository).archivePartition(YearMonth.of(2024, 2));
+    }
+
+    @Test
+    @DisplayName("Should not archive when archival is turned off")
+    void shouldNotArchiveWhenTurnedOff() {
+        // When
+        maintainer(true, 0).maintain(NOW);
+
+        // Then
+        verify(partitionRepository, times(3)).createPartition(any());
+        verify(partitionRepository, never()).findHotPartitionMonths();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled or when reviews are not partitioned")
+    void shouldDoNothingWhenNotApplicable() {
+        // Given
+        when(partitionRepository.isPartitioned()).thenReturn(false);
+
+        // When
+        maintainer(false, 12).run();
+        maintainer(true, 12).run();
+
+        // Then
+        verify(partitionRepository, times(1)).isPartitioned();
+        verifyNoMoreInteractions(partitionRepository);
+    }
+}
@@ -0,0 +1,156 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Review;
+import com.coursemanagement.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for CourseRepository.
+ * Tests actual database interactions using @DataJpaTest.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Course Repository Tests")
+class CourseRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    // Test data
+    private Instructor instructor;
+    private Course course;
+    private Student student;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        instructor = entityManager.persist(new Instructor("John", "Doe", "john.doe@example.com"));
+        course = entityManager.persist(new Course("Java Basics", instructor));
+        student = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        review = entityManager.persist(new Review("Great course!", course, student));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long enrollmentRows() {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM course_student")
+                .getSingleResult()).longValue();
+    }
+
+    @Nested
+    @DisplayName("Query-Based Delete Tests")
+    class QueryBasedDeleteTests {
+
+        @Test
+        @DisplayName("Should delete a course with its reviews and enrollments")
+        void shouldDeleteCourseWithReviewsAndEnrollments() {
+            // Given
+            Student managed = entityManager.find(Student.class, student.getId());
+            managed.enrollInCourse(entityManager.find(Course.class, course.getId()));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            int deleted = courseRepository.removeById(course.getId());
+            entityManager.clear();
+
+            // Then
+            assertEquals(1, deleted);
+            assertFalse(courseRepository.existsById(course.getId()));
+            assertNull(entityManager.find(Review.class, review.getId()));
+            assertEquals(0, enrollmentRows());
+            assertNotNull(entityManager.find(Student.class, student.getId()));
+        }
+
+        @Test
+        @DisplayName("Should report zero rows for a missing ID")
+        void shouldReportZeroRowsForMissingId() {
+            // When / Then
+            assertEquals(0, courseRepository.removeById(UUID.randomUUID()));
+            assertTrue(courseRepository.existsById(course.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parent-Scoped Query Tests")
+    class ParentScopedQueryTests {
+
+        @Test
+        @DisplayName("Should return the courses of an existing instructor")
+        void shouldReturnCoursesOfExistingInstructor() {
+            // When
+            List<Course> byInstructor = courseRepository.findByExistingInstructorId(instructor.getId());
+
+            // Then
+            assertEquals(List.of(course.getId()), byInstructor.stream().map(Course::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should return a single null row for an instructor without courses")
+        void shouldReturnNullRowForInstructorWithoutCourses() {
+            // Given
+            Instructor idle = entityManager.persistAndFlush(new Instructor("Bob", "Wilson", "bob.wilson@example.com"));
+            entityManager.clear();
+
+            // When
+            List<Course> byInstructor = courseRepository.findByExistingInstructorId(idle.getId());
+
+            // Then
+            assertEquals(1, byInstructor.size());
+            assertNull(byInstructor.get(0));
+        }
+
+        @Test
+        @DisplayName("Should return no rows for a missing instructor")
+        void shouldReturnNoRowsForMissingInstructor() {
+            // When / Then
+            assertTrue(courseRepository.findByExistingInstructorId(UUID.randomUUID()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Most Enrolled Course Tests")
+    class MostEnrolledCourseTests {
+
+        @Test
+        @DisplayName("Should return one page of course IDs ordered by enrollment")
+        void shouldReturnMostEnrolledCourseIds() {
+            // Given
+            Instructor managedInstructor = entityManager.find(Instructor.class, instructor.getId());
+            Course popular = entityManager.persist(new Course("Spring Boot", managedInstructor));
+            Course niche = entityManager.persist(new Course("COBOL", managedInstructor));
+            Student other = entityManager.persist(new Student("Sam", "Lee", "sam.lee@example.com"));
+            Student managed = entityManager.find(Student.class, student.getId());
+            managed.enrollInCourse(popular);
+            other.enrollInCourse(popular);
+            other.enrollInCourse(niche);
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<UUID> ids = courseRepository.findMostEnrolledIds(PageRequest.of(0, 2));
+
+            // Then
+            assertEquals(List.of(popular.getId(), niche.getId()), ids);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.InstructorDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for InstructorDetailsRepository.
+ * Tests actual database interactions using @DataJpaTest.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Instructor Details Repository Tests")
+class InstructorDetailsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InstructorDetailsRepository instructorDetailsRepository;
+
+    // Test data
+    private Instructor instructor;
+    private UUID detailsId;
+
+    @BeforeEach
+    void setUp() {
+        instructor = new Instructor("Ann", "Lee", "ann.lee@example.com");
+        instructor.setInstructorDetails(new InstructorDetails("https://youtube.com/@annlee", "Chess"));
+        entityManager.persistAndFlush(instructor);
+        detailsId = instructor.getInstructorDetails().getId();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("Query-Based Delete Tests")
+    class QueryBasedDeleteTests {
+
+        @Test
+        @DisplayName("Should delete instructor details and keep the instructor")
+        void shouldDeleteInstructorDetailsAndKeepInstructor() {
+            // When
+            int deleted = instructorDetailsRepository.removeById(detailsId);
+            entityManager.clear();
+
+            // Then
+            assertEquals(1, deleted);
+            assertFalse(instructorDetailsRepository.existsById(detailsId));
+            assertNull(entityManager.find(Instructor.class, instructor.getId()).getInstructorDetails());
+        }
+
+        @Test
+        @DisplayName("Should report zero rows for a missing ID")
+        void shouldReportZeroRowsForMissingId() {
+            // When / Then
+            assertEquals(0, instructorDetailsRepository.removeById(UUID.randomUUID()));
+            assertTrue(instructorDetailsRepository.existsById(detailsId));
+        }
+    }
+}
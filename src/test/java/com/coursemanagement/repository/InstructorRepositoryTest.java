@@ -11,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -232,6 +233,34 @@ class InstructorRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Deleting Instructor Query Tests")
+    class DeletingInstructorQueryTests {
+
+        @BeforeEach
+        void markDeleting() {
+            Instructor deleting = entityManager.find(Instructor.class, instructor1.getId());
+            deleting.setDeletionRequestedAt(LocalDateTime.now());
+            entityManager.persistAndFlush(deleting);
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should leave instructors being deleted out of reads")
+        void shouldLeaveDeletingInstructorsOut() {
+            // When & Then
+            assertEquals(List.of("Jane", "Bob"), instructorRepository.findByDeletionRequestedAtIsNull().stream()
+                    .map(Instructor::getFirstName).toList());
+            assertTrue(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructor1.getId()).isEmpty());
+            assertTrue(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructor2.getId()).isPresent());
+            assertTrue(instructorRepository.findByEmailAndDeletionRequestedAtIsNull("john.doe@example.com").isEmpty());
+            assertTrue(instructorRepository.findByFullNameContaining("John").isEmpty());
+            assertEquals(List.of("Jane"), instructorRepository.findInstructorsWithDetails().stream()
+                    .map(Instructor::getFirstName).toList());
+            assertEquals(1, instructorRepository.findInstructorsWithoutDetails().size());
+        }
+    }
+
     @Nested
     @DisplayName("Custom Query Methods")
     class CustomQueryMethods {
@@ -531,4 +560,30 @@ class InstructorRepositoryTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should load instructors in request order with null for missing IDs")
+        void shouldLoadInstructorsInRequestOrderWithNullForMissingIds() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+
+            // When
+            List<Instructor> results = instructorRepository.findAllByIdsInOrder(
+                    List.of(instructor3.getId(), missingId, instructor1.getId()));
+
+            // Then
+            assertAll("Multi-get results",
+                () -> assertEquals(3, results.size()),
+                () -> assertEquals(instructor3.getId(), results.get(0).getId()),
+                () -> assertNull(results.get(1)),
+                () -> assertEquals(instructor1.getId(), results.get(2).getId()),
+                () -> assertEquals("https://youtube.com/@johndoe",
+                        results.get(2).getInstructorDetails().getYoutubeChannel())
+            );
+        }
+    }
+}
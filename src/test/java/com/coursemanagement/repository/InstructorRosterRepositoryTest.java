@@ -0,0 +1,103 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Student;
+import com.coursemanagement.repository.InstructorRosterRepository.RosterRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({InstructorRosterRepository.class, DatabasePlatform.class})
+@DisplayName("InstructorRosterRepository Tests")
+class InstructorRosterRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InstructorRosterRepository rosterRepository;
+
+    private Instructor instructor;
+    private Instructor other;
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        instructor = entityManager.persist(new Instructor("John", "Doe", "john.doe@example.com"));
+        other = entityManager.persist(new Instructor("Jane", "Smith", "jane.smith@example.com"));
+        Course first = entityManager.persist(new Course("Java Basics", instructor));
+        Course second = entityManager.persist(new Course("Spring Boot", instructor));
+        Course otherCourse = entityManager.persist(new Course("Python", other));
+
+        for (int i = 0; i < 3; i++) {
+            Student student = entityManager.persist(new Student("Student", "No" + i, "student" + i + "@example.com"));
+            student.enrollInCourse(first);
+            students.add(student);
+        }
+        // Two courses with the same instructor count once on the roster
+        students.get(0).enrollInCourse(second);
+        Student elsewhere = entityManager.persist(new Student("Other", "Student", "other@example.com"));
+        elsewhere.enrollInCourse(otherCourse);
+        entityManager.flush();
+        // Databases order UUIDs by their bytes, which UUID.compareTo does not
+        students.sort(Comparator.comparing(student -> student.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should list each student once with the number of the instructor's courses they take")
+    void shouldListDistinctStudentsWithCourseCounts() {
+        // When
+        List<RosterRow> rows = rosterRepository.findStudents(instructor.getId(), 10, 0);
+
+        // Then
+        assertThat(rows).extracting(RosterRow::studentId)
+                .containsExactlyElementsOf(students.stream().map(Student::getId).toList());
+        assertThat(rows).filteredOn(row -> row.email().equals("student0@example.com"))
+                .singleElement().extracting(RosterRow::courseCount).isEqualTo(2L);
+        assertThat(rows).filteredOn(row -> row.email().equals("student1@example.com"))
+                .singleElement().satisfies(row -> {
+                    assertThat(row.courseCount()).isEqualTo(1L);
+                    assertThat(row.firstName()).isEqualTo("Student");
+                    assertThat(row.lastName()).isEqualTo("No1");
+                });
+        assertThat(rosterRepository.countStudents(instructor.getId())).isEqualTo(3);
+        assertThat(rosterRepository.countStudents(other.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should page in student ID order")
+    void shouldPageInStudentIdOrder() {
+        // When
+        List<RosterRow> firstPage = rosterRepository.findStudents(instructor.getId(), 2, 0);
+        List<RosterRow> secondPage = rosterRepository.findStudents(instructor.getId(), 2, 2);
+
+        // Then
+        assertThat(firstPage).extracting(RosterRow::studentId)
+                .containsExactly(students.get(0).getId(), students.get(1).getId());
+        assertThat(secondPage).extracting(RosterRow::studentId).containsExactly(students.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("Should compute rosters inline without a materialized view")
+    void shouldComputeInlineWithoutMaterializedView() {
+        assertThat(rosterRepository.isMaterializedViewSupported()).isFalse();
+        assertThat(rosterRepository.findRefreshedAt()).isEmpty();
+        assertThat(rosterRepository.findStudents(UUID.randomUUID(), 10, 0)).isEmpty();
+        assertThat(rosterRepository.countStudents(UUID.randomUUID())).isZero();
+    }
+}
@@ -0,0 +1,207 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Review;
+import com.coursemanagement.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ReviewRepository, StudentRepository and ReviewIngestionRepository custom queries.
+ * Tests actual database interactions using @DataJpaTest.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReviewIngestionRepository.class)
+@DisplayName("Review Repository Tests")
+class ReviewRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ReviewIngestionRepository reviewIngestionRepository;
+
+    private Course course;
+    private Student student;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        Instructor instructor = entityManager.persist(new Instructor("John", "Doe", "john.doe@example.com"));
+        course = entityManager.persist(new Course("Java Basics", instructor));
+        student = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        review = entityManager.persist(new Review("Great course!", course, student));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("Sparse Fieldset Tests")
+    class SparseFieldsetTests {
+
+        @Test
+        @DisplayName("Should return only requested student fields")
+        void shouldReturnOnlyRequestedStudentFields() {
+            List<Map<String, Object>> result = studentRepository.findAllWithFields(List.of("id", "fullName"));
+
+            assertEquals(1, result.size());
+            assertEquals(List.of("id", "fullName"), List.copyOf(result.get(0).keySet()));
+            assertEquals(student.getId(), result.get(0).get("id"));
+            assertEquals("Jane Smith", result.get(0).get("fullName"));
+        }
+
+        @Test
+        @DisplayName("Should nest requested review fields")
+        void shouldNestRequestedReviewFields() {
+            List<Map<String, Object>> result = reviewRepository.findAllWithFields(
+                    ReviewRepository.SPARSE_FIELDS.resolve(List.of("comment", "course.instructorName", "student")));
+
+            assertEquals(1, result.size());
+            Map<String, Object> row = result.get(0);
+            assertEquals("Great course!", row.get("comment"));
+            assertEquals(Map.of("instructorName", "John Doe"), row.get("course"));
+            assertEquals(Map.of("id", student.getId(), "fullName", "Jane Smith", "email", "jane.smith@example.com"),
+                    row.get("student"));
+            assertFalse(row.containsKey("id"));
+        }
+
+        @Test
+        @DisplayName("Should not join related tables when only review columns are requested")
+        void shouldNotJoinRelatedTablesWhenOnlyReviewColumnsAreRequested() {
+            String jpql = ReviewRepository.SPARSE_FIELDS.toJpql(List.of("id", "course.id", "student.id"));
+
+            assertFalse(jpql.contains("JOIN"));
+            assertEquals(review.getId(), reviewRepository.findAllWithFields(List.of("id")).get(0).get("id"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields")
+        void shouldRejectUnknownFields() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> ReviewRepository.SPARSE_FIELDS.resolve(List.of("id", "rating")));
+
+            assertTrue(exception.getMessage().contains("rating"));
+        }
+
+        @Test
+        @DisplayName("Should reject a fields parameter that names no field")
+        void shouldRejectEmptyFields() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> ReviewRepository.SPARSE_FIELDS.resolve(SparseFieldQuery.parseFields(" , ")));
+
+            assertTrue(exception.getMessage().contains("at least one field"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-Behind Ingestion Tests")
+    class WriteBehindIngestionTests {
+
+        @Test
+        @DisplayName("Should check course and student existence in one query")
+        void shouldCheckCourseAndStudentExistence() {
+            boolean[] exists = reviewIngestionRepository.courseAndStudentExist(course.getId(), UUID.randomUUID());
+
+            assertTrue(exists[0]);
+            assertFalse(exists[1]);
+        }
+
+        @Test
+        @DisplayName("Should insert a batch with one multi-row statement")
+        void shouldInsertBatch() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            LocalDateTime acceptedAt = LocalDateTime.now();
+
+            int inserted = reviewIngestionRepository.insertBatch(List.of(
+                    new ReviewIngestionRepository.ReviewRow(first, "Loved it", course.getId(), student.getId(), acceptedAt),
+                    new ReviewIngestionRepository.ReviewRow(second, "Too fast", course.getId(), student.getId(), acceptedAt)));
+
+            assertEquals(2, inserted);
+            assertEquals(Set.of(first, second, review.getId()),
+                    reviewIngestionRepository.findExistingIds(List.of(first, second, review.getId(), UUID.randomUUID())));
+            assertEquals("Loved it", reviewRepository.findById(first).orElseThrow().getComment());
+        }
+    }
+
+    @Nested
+    @DisplayName("Query-Based Delete Tests")
+    class QueryBasedDeleteTests {
+
+        @Test
+        @DisplayName("Should delete a review and report zero rows once it is gone")
+        void shouldDeleteReviewAndReportZeroRowsForMissingIds() {
+            // When / Then
+            assertEquals(0, reviewRepository.removeById(UUID.randomUUID()));
+            assertEquals(1, reviewRepository.removeById(review.getId()));
+            assertEquals(0, reviewRepository.removeById(review.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parent-Scoped Query Tests")
+    class ParentScopedQueryTests {
+
+        @Test
+        @DisplayName("Should return the children of an existing parent")
+        void shouldReturnChildrenOfExistingParent() {
+            // When
+            List<Review> byCourse = reviewRepository.findByExistingCourseId(course.getId());
+            List<Review> byStudent = reviewRepository.findByExistingStudentIdOrderByCreatedAtDesc(student.getId());
+
+            // Then
+            assertEquals(List.of(review.getId()), byCourse.stream().map(Review::getId).toList());
+            assertEquals(List.of(review.getId()), byStudent.stream().map(Review::getId).toList());
+            assertEquals(Optional.of(1L), reviewRepository.countByExistingCourseId(course.getId()));
+        }
+
+        @Test
+        @DisplayName("Should return a single null row for a parent without children")
+        void shouldReturnNullRowForParentWithoutChildren() {
+            // Given
+            reviewRepository.removeById(review.getId());
+
+            // When / Then
+            assertEquals(1, reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(course.getId()).size());
+            assertNull(reviewRepository.findByExistingCourseId(course.getId()).get(0));
+            assertNull(reviewRepository.findByExistingStudentId(student.getId()).get(0));
+            assertEquals(Optional.of(0L), reviewRepository.countByExistingCourseId(course.getId()));
+        }
+
+        @Test
+        @DisplayName("Should return no rows for a missing parent")
+        void shouldReturnNoRowsForMissingParent() {
+            // Given
+            UUID missing = UUID.randomUUID();
+
+            // When / Then
+            assertTrue(reviewRepository.findByExistingCourseId(missing).isEmpty());
+            assertTrue(reviewRepository.findByExistingStudentId(missing).isEmpty());
+            assertEquals(Optional.empty(), reviewRepository.countByExistingCourseId(missing));
+        }
+    }
+}
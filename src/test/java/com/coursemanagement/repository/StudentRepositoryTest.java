@@ -0,0 +1,131 @@
+package com.coursemanagement.repository;
+
+import com.coursemanagement.entity.Course;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.Review;
+import com.coursemanagement.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for StudentRepository.
+ * Tests actual database interactions using @DataJpaTest.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Student Repository Tests")
+class StudentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    // Test data
+    private Course course;
+    private Student student;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        Instructor instructor = entityManager.persist(new Instructor("John", "Doe", "john.doe@example.com"));
+        course = entityManager.persist(new Course("Java Basics", instructor));
+        student = entityManager.persist(new Student("Jane", "Smith", "jane.smith@example.com"));
+        review = entityManager.persist(new Review("Great course!", course, student));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long enrollmentRows() {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM course_student")
+                .getSingleResult()).longValue();
+    }
+
+    private void enroll() {
+        Student managed = entityManager.find(Student.class, student.getId());
+        managed.enrollInCourse(entityManager.find(Course.class, course.getId()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("Query-Based Delete Tests")
+    class QueryBasedDeleteTests {
+
+        @Test
+        @DisplayName("Should delete a student with its enrollments and keep its reviews")
+        void shouldDeleteStudentWithEnrollments() {
+            // Given
+            enroll();
+            assertEquals(1, enrollmentRows());
+
+            // When
+            int deleted = studentRepository.removeById(student.getId());
+            entityManager.clear();
+
+            // Then
+            assertEquals(1, deleted);
+            assertFalse(studentRepository.existsById(student.getId()));
+            assertEquals(0, enrollmentRows());
+            Review kept = entityManager.find(Review.class, review.getId());
+            assertNull(kept.getStudent());
+        }
+
+        @Test
+        @DisplayName("Should report zero rows for a missing ID")
+        void shouldReportZeroRowsForMissingId() {
+            // When / Then
+            assertEquals(0, studentRepository.removeById(UUID.randomUUID()));
+            assertTrue(studentRepository.existsById(student.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parent-Scoped Query Tests")
+    class ParentScopedQueryTests {
+
+        @Test
+        @DisplayName("Should return the students enrolled in an existing course")
+        void shouldReturnStudentsOfExistingCourse() {
+            // Given
+            enroll();
+
+            // When
+            List<Student> enrolled = studentRepository.findStudentsEnrolledInExistingCourse(course.getId());
+
+            // Then
+            assertEquals(List.of(student.getId()), enrolled.stream().map(Student::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should return a single null row for a course without students")
+        void shouldReturnNullRowForCourseWithoutStudents() {
+            // When
+            List<Student> enrolled = studentRepository.findStudentsEnrolledInExistingCourse(course.getId());
+
+            // Then
+            assertEquals(1, enrolled.size());
+            assertNull(enrolled.get(0));
+        }
+
+        @Test
+        @DisplayName("Should return no rows for a missing course")
+        void shouldReturnNoRowsForMissingCourse() {
+            // When / Then
+            assertTrue(studentRepository.findStudentsEnrolledInExistingCourse(UUID.randomUUID()).isEmpty());
+        }
+    }
+}
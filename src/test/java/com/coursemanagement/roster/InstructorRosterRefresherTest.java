@@ -0,0 +1,85 @@
+package com.coursemanagement.roster;
+
+import com.coursemanagement.outbox.DomainChangeEvent;
+import com.coursemanagement.service.InstructorRosterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstructorRosterRefresher Tests")
+class InstructorRosterRefresherTest {
+
+    @Mock
+    private InstructorRosterService rosterService;
+
+    private InstructorRosterRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new InstructorRosterRefresher(rosterService, true);
+    }
+
+    private static DomainChangeEvent event(String aggregateType, String eventType) {
+        return new DomainChangeEvent(1L, aggregateType, UUID.randomUUID(), eventType, "{}", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should refresh once at startup and then only after roster changes")
+    void shouldRefreshOnlyWhenStale() {
+        // When
+        refresher.run();
+        refresher.run();
+        refresher.onDomainChange(event("Student", "StudentUpdated"));
+        refresher.onDomainChange(event("Review", "ReviewCreated"));
+        refresher.run();
+        refresher.onDomainChange(event("Student", "StudentEnrolled"));
+        refresher.onDomainChange(event("Course", "CourseDeleted"));
+        refresher.run();
+
+        // Then
+        verify(rosterService, times(2)).refreshRosters();
+        assertThat(refresher.isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry on the next run after a failed refresh")
+    void shouldRetryAfterFailure() {
+        // Given
+        when(rosterService.refreshRosters())
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(LocalDateTime.now());
+
+        // When
+        refresher.run();
+        boolean staleAfterFailure = refresher.isStale();
+        refresher.run();
+
+        // Then
+        assertThat(staleAfterFailure).isTrue();
+        assertThat(refresher.isStale()).isFalse();
+        verify(rosterService, times(2)).refreshRosters();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        InstructorRosterRefresher disabled = new InstructorRosterRefresher(rosterService, false);
+
+        // When
+        disabled.run();
+
+        // Then
+        verifyNoInteractions(rosterService);
+    }
+}
@@ -0,0 +1,225 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.ImportEntity;
+import com.coursemanagement.dto.ImportResponse;
+import com.coursemanagement.repository.BulkImportRepository;
+import com.coursemanagement.service.impl.BulkImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkImportService Tests")
+class BulkImportServiceTest {
+
+    @Mock
+    private BulkImportRepository bulkImportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkImportServiceImpl bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        bulkImportService = new BulkImportServiceImpl(
+                bulkImportRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                transactionManager,
+                2,
+                10);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Make copyAndMerge report every staged row as inserted.
+     */
+    private void insertAllStagedRows() {
+        when(bulkImportRepository.copyAndMerge(any(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            Set<UUID> ids = new HashSet<>();
+            rows.forEach(row -> ids.add((UUID) row[0]));
+            return ids;
+        });
+    }
+
+    @Nested
+    @DisplayName("Student Import Tests")
+    class StudentImportTests {
+
+        @Test
+        @DisplayName("Should import valid CSV rows in chunks")
+        void shouldImportValidCsvRowsInChunks() {
+            // Given
+            when(bulkImportRepository.isCopySupported()).thenReturn(true);
+            when(bulkImportRepository.findExistingEmails(eq(ImportEntity.STUDENTS), anyCollection())).thenReturn(Set.of());
+            insertAllStagedRows();
+            String csv = "firstName,lastName,email\n"
+                    + "Jane,Smith,jane@example.com\n"
+                    + "\"O'Neil, Jr\",Doe,john@example.com\n"
+                    + "Ann,Lee,ann@example.com\n";
+
+            // When
+            ImportResponse result = bulkImportService.importData("students", "text/csv", body(csv));
+
+            // Then
+            assertThat(result.getResourceType()).isEqualTo("students");
+            assertThat(result.getTotalRows()).isEqualTo(3);
+            assertThat(result.getImportedRows()).isEqualTo(3);
+            assertThat(result.getFailedRows()).isZero();
+            assertThat(result.getErrors()).isEmpty();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+            verify(bulkImportRepository, times(2)).copyAndMerge(eq(ImportEntity.STUDENTS), rows.capture());
+            assertThat(rows.getAllValues().get(0)).hasSize(2);
+            assertThat(rows.getAllValues().get(0).get(1)[1]).isEqualTo("O'Neil, Jr");
+            assertThat(rows.getAllValues().get(1)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should report invalid, duplicate and existing rows")
+        void shouldReportInvalidDuplicateAndExistingRows() {
+            // Given
+            when(bulkImportRepository.isCopySupported()).thenReturn(true);
+            when(bulkImportRepository.findExistingEmails(eq(ImportEntity.STUDENTS), anyCollection()))
+                    .thenReturn(Set.of("taken@example.com"));
+            insertAllStagedRows();
+            String ndjson = "{\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"email\":\"jane@example.com\"}\n"
+                    + "{\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"email\":\"not-an-email\"}\n"
+                    + "{\"firstName\":\"Janet\",\"lastName\":\"Smith\",\"email\":\"jane@example.com\"}\n"
+                    + "{\"firstName\":\"Tom\",\"lastName\":\"Taken\",\"email\":\"taken@example.com\"}\n"
+                    + "{broken\n";
+
+            // When
+            ImportResponse result = bulkImportService.importData("students", "application/x-ndjson", body(ndjson));
+
+            // Then
+            assertThat(result.getTotalRows()).isEqualTo(5);
+            assertThat(result.getImportedRows()).isEqualTo(1);
+            assertThat(result.getFailedRows()).isEqualTo(4);
+            assertThat(result.getErrors()).extracting(ImportResponse.RowError::getRow).containsExactly(2L, 3L, 4L, 5L);
+            assertThat(result.getErrors().get(0).getMessage()).startsWith("email:");
+            assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Duplicate of row 1 in this import");
+            assertThat(result.getErrors().get(2).getMessage()).isEqualTo("Student already exists with email: taken@example.com");
+            assertThat(result.getErrors().get(3).getMessage()).startsWith("Malformed JSON");
+        }
+    }
+
+    @Nested
+    @DisplayName("Course and Review Import Tests")
+    class CourseAndReviewImportTests {
+
+        @Test
+        @DisplayName("Should reject courses for unknown instructors")
+        void shouldRejectCoursesForUnknownInstructors() {
+            // Given
+            UUID knownInstructor = UUID.randomUUID();
+            UUID unknownInstructor = UUID.randomUUID();
+            when(bulkImportRepository.isCopySupported()).thenReturn(true);
+            when(bulkImportRepository.findExistingIds(eq(ImportEntity.INSTRUCTORS), anyCollection()))
+                    .thenReturn(Set.of(knownInstructor));
+            when(bulkImportRepository.findExistingCourseKeys(anyCollection())).thenReturn(Set.of());
+            insertAllStagedRows();
+            String csv = "title,instructor_id\n"
+                    + "Spring Boot Basics," + knownInstructor + "\n"
+                    + "Advanced JPA," + unknownInstructor + "\n";
+
+            // When
+            ImportResponse result = bulkImportService.importData("courses", "text/csv", body(csv));
+
+            // Then
+            assertThat(result.getImportedRows()).isEqualTo(1);
+            assertThat(result.getErrors()).singleElement()
+                    .satisfies(error -> {
+                        assertThat(error.getRow()).isEqualTo(2);
+                        assertThat(error.getMessage()).isEqualTo("Instructor not found with id: " + unknownInstructor);
+                    });
+        }
+
+        @Test
+        @DisplayName("Should report rows skipped by the merge")
+        void shouldReportRowsSkippedByMerge() {
+            // Given
+            UUID courseId = UUID.randomUUID();
+            UUID studentId = UUID.randomUUID();
+            when(bulkImportRepository.isCopySupported()).thenReturn(true);
+            when(bulkImportRepository.findExistingIds(eq(ImportEntity.COURSES), anyCollection())).thenReturn(Set.of(courseId));
+            when(bulkImportRepository.findExistingIds(eq(ImportEntity.STUDENTS), anyCollection())).thenReturn(Set.of(studentId));
+            when(bulkImportRepository.copyAndMerge(eq(ImportEntity.REVIEWS), anyList())).thenReturn(Set.of());
+            String csv = "comment,courseId,studentId\n"
+                    + "Great course," + courseId + "," + studentId + "\n"
+                    + "Missing course,," + studentId + "\n";
+
+            // When
+            ImportResponse result = bulkImportService.importData("reviews", "text/csv", body(csv));
+
+            // Then
+            assertThat(result.getImportedRows()).isZero();
+            assertThat(result.getErrors()).extracting(ImportResponse.RowError::getMessage).containsExactly(
+                    "Row was skipped because of a conflicting concurrent change",
+                    "courseId: Course ID is required");
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Validation Tests")
+    class RequestValidationTests {
+
+        @Test
+        @DisplayName("Should reject unknown resource type")
+        void shouldRejectUnknownResourceType() {
+            // When & Then
+            assertThatThrownBy(() -> bulkImportService.importData("teachers", "text/csv", body("")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported import type 'teachers'");
+            verifyNoInteractions(bulkImportRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported content type")
+        void shouldRejectUnsupportedContentType() {
+            // When & Then
+            assertThatThrownBy(() -> bulkImportService.importData("students", "application/xml", body("")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported content type");
+            verifyNoInteractions(bulkImportRepository);
+        }
+
+        @Test
+        @DisplayName("Should fail when database does not support COPY")
+        void shouldFailWhenCopyNotSupported() {
+            // Given
+            when(bulkImportRepository.isCopySupported()).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> bulkImportService.importData("students", "text/csv", body("email\n")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            verify(bulkImportRepository, never()).copyAndMerge(any(), anyList());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.coursemanagement.service;
 
+import com.coursemanagement.concurrency.RequestCoalescer;
 import com.coursemanagement.dto.CourseRequest;
 import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.entity.Course;
 import com.coursemanagement.entity.Instructor;
 import com.coursemanagement.entity.Review;
@@ -18,12 +20,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,6 +47,12 @@ class CourseServiceTest {
     @Mock
     private InstructorRepository instructorRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(TransactionOperations.withoutTransaction(), true, 1_000);
+
     @InjectMocks
     private CourseServiceImpl courseService;
 
@@ -77,7 +89,7 @@ class CourseServiceTest {
         @DisplayName("Should create course successfully")
         void shouldCreateCourseSuccessfully() {
             // Given
-            when(instructorRepository.findById(courseRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
             when(courseRepository.existsByTitleAndInstructorId(courseRequest.getTitle(), courseRequest.getInstructorId())).thenReturn(false);
             when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> {
                 Course course = invocation.getArgument(0);
@@ -97,7 +109,7 @@ class CourseServiceTest {
             assertThat(result.getInstructor().getId()).isEqualTo(testInstructor.getId());
             assertThat(result.getReviews()).isNull();
 
-            verify(instructorRepository).findById(courseRequest.getInstructorId());
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId());
             verify(courseRepository).existsByTitleAndInstructorId(courseRequest.getTitle(), courseRequest.getInstructorId());
             verify(courseRepository).save(any(Course.class));
         }
@@ -106,7 +118,7 @@ class CourseServiceTest {
         @DisplayName("Should throw exception when instructor not found")
         void shouldThrowExceptionWhenInstructorNotFound() {
             // Given
-            when(instructorRepository.findById(courseRequest.getInstructorId())).thenReturn(Optional.empty());
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId())).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> courseService.createCourse(courseRequest))
@@ -115,7 +127,7 @@ class CourseServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(courseRequest.getInstructorId().toString());
 
-            verify(instructorRepository).findById(courseRequest.getInstructorId());
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId());
             verify(courseRepository, never()).existsByTitleAndInstructorId(any(), any());
             verify(courseRepository, never()).save(any());
         }
@@ -124,7 +136,7 @@ class CourseServiceTest {
         @DisplayName("Should throw exception when course title already exists for instructor")
         void shouldThrowExceptionWhenCourseTitleAlreadyExistsForInstructor() {
             // Given
-            when(instructorRepository.findById(courseRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
             when(courseRepository.existsByTitleAndInstructorId(courseRequest.getTitle(), courseRequest.getInstructorId())).thenReturn(true);
 
             // When & Then
@@ -135,7 +147,7 @@ class CourseServiceTest {
                     .hasMessageContaining(courseRequest.getTitle())
                     .hasMessageContaining(testInstructor.getFullName());
 
-            verify(instructorRepository).findById(courseRequest.getInstructorId());
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(courseRequest.getInstructorId());
             verify(courseRepository).existsByTitleAndInstructorId(courseRequest.getTitle(), courseRequest.getInstructorId());
             verify(courseRepository, never()).save(any());
         }
@@ -267,8 +279,8 @@ class CourseServiceTest {
             UUID courseId = testCourse.getId();
             CourseRequest updateRequest = new CourseRequest("Java Advanced", testInstructor.getId());
             
-            when(courseRepository.findById(courseId)).thenReturn(Optional.of(testCourse));
-            when(instructorRepository.findById(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
+            when(courseRepository.findByIdForUpdate(courseId)).thenReturn(Optional.of(testCourse));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
             when(courseRepository.existsByTitleAndInstructorId(updateRequest.getTitle(), updateRequest.getInstructorId())).thenReturn(false);
             when(courseRepository.save(testCourse)).thenReturn(testCourse);
 
@@ -277,8 +289,8 @@ class CourseServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(courseRepository).findById(courseId);
-            verify(instructorRepository).findById(updateRequest.getInstructorId());
+            verify(courseRepository).findByIdForUpdate(courseId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId());
             verify(courseRepository).existsByTitleAndInstructorId(updateRequest.getTitle(), updateRequest.getInstructorId());
             verify(courseRepository).save(testCourse);
         }
@@ -290,8 +302,8 @@ class CourseServiceTest {
             UUID courseId = testCourse.getId();
             CourseRequest updateRequest = new CourseRequest(testCourse.getTitle(), testInstructor.getId());
             
-            when(courseRepository.findById(courseId)).thenReturn(Optional.of(testCourse));
-            when(instructorRepository.findById(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
+            when(courseRepository.findByIdForUpdate(courseId)).thenReturn(Optional.of(testCourse));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
             when(courseRepository.save(testCourse)).thenReturn(testCourse);
 
             // When
@@ -299,8 +311,8 @@ class CourseServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(courseRepository).findById(courseId);
-            verify(instructorRepository).findById(updateRequest.getInstructorId());
+            verify(courseRepository).findByIdForUpdate(courseId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId());
             verify(courseRepository, never()).existsByTitleAndInstructorId(any(), any());
             verify(courseRepository).save(testCourse);
         }
@@ -312,7 +324,7 @@ class CourseServiceTest {
             UUID courseId = UUID.randomUUID();
             CourseRequest updateRequest = new CourseRequest("Java Advanced", testInstructor.getId());
             
-            when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+            when(courseRepository.findByIdForUpdate(courseId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> courseService.updateCourse(courseId, updateRequest))
@@ -321,8 +333,8 @@ class CourseServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(courseId.toString());
 
-            verify(courseRepository).findById(courseId);
-            verify(instructorRepository, never()).findById(any());
+            verify(courseRepository).findByIdForUpdate(courseId);
+            verify(instructorRepository, never()).findByIdAndDeletionRequestedAtIsNull(any());
             verify(courseRepository, never()).save(any());
         }
 
@@ -334,8 +346,8 @@ class CourseServiceTest {
             UUID newInstructorId = UUID.randomUUID();
             CourseRequest updateRequest = new CourseRequest("Java Advanced", newInstructorId);
             
-            when(courseRepository.findById(courseId)).thenReturn(Optional.of(testCourse));
-            when(instructorRepository.findById(newInstructorId)).thenReturn(Optional.empty());
+            when(courseRepository.findByIdForUpdate(courseId)).thenReturn(Optional.of(testCourse));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(newInstructorId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> courseService.updateCourse(courseId, updateRequest))
@@ -344,8 +356,8 @@ class CourseServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(newInstructorId.toString());
 
-            verify(courseRepository).findById(courseId);
-            verify(instructorRepository).findById(newInstructorId);
+            verify(courseRepository).findByIdForUpdate(courseId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(newInstructorId);
             verify(courseRepository, never()).save(any());
         }
 
@@ -356,8 +368,8 @@ class CourseServiceTest {
             UUID courseId = testCourse.getId();
             CourseRequest updateRequest = new CourseRequest("Existing Course", testInstructor.getId());
             
-            when(courseRepository.findById(courseId)).thenReturn(Optional.of(testCourse));
-            when(instructorRepository.findById(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
+            when(courseRepository.findByIdForUpdate(courseId)).thenReturn(Optional.of(testCourse));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId())).thenReturn(Optional.of(testInstructor));
             when(courseRepository.existsByTitleAndInstructorId(updateRequest.getTitle(), updateRequest.getInstructorId())).thenReturn(true);
 
             // When & Then
@@ -368,8 +380,8 @@ class CourseServiceTest {
                     .hasMessageContaining(updateRequest.getTitle())
                     .hasMessageContaining(testInstructor.getFullName());
 
-            verify(courseRepository).findById(courseId);
-            verify(instructorRepository).findById(updateRequest.getInstructorId());
+            verify(courseRepository).findByIdForUpdate(courseId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(updateRequest.getInstructorId());
             verify(courseRepository).existsByTitleAndInstructorId(updateRequest.getTitle(), updateRequest.getInstructorId());
             verify(courseRepository, never()).save(any());
         }
@@ -384,14 +396,15 @@ class CourseServiceTest {
         void shouldDeleteCourseSuccessfully() {
             // Given
             UUID courseId = testCourse.getId();
-            when(courseRepository.existsById(courseId)).thenReturn(true);
+            when(courseRepository.removeById(courseId)).thenReturn(1);
 
             // When
             courseService.deleteCourse(courseId);
 
             // Then
-            verify(courseRepository).existsById(courseId);
-            verify(courseRepository).deleteById(courseId);
+            verify(courseRepository).removeById(courseId);
+            verify(courseRepository, never()).findById(any());
+            verify(outboxService).record("Course", courseId, "CourseDeleted", Map.of("id", courseId));
         }
 
         @Test
@@ -399,7 +412,7 @@ class CourseServiceTest {
         void shouldThrowExceptionWhenCourseNotFoundForDeletion() {
             // Given
             UUID courseId = UUID.randomUUID();
-            when(courseRepository.existsById(courseId)).thenReturn(false);
+            when(courseRepository.removeById(courseId)).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> courseService.deleteCourse(courseId))
@@ -408,8 +421,7 @@ class CourseServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(courseId.toString());
 
-            verify(courseRepository).existsById(courseId);
-            verify(courseRepository, never()).deleteById(any());
+            verify(courseRepository).removeById(courseId);
         }
     }
 
@@ -423,8 +435,7 @@ class CourseServiceTest {
             // Given
             UUID instructorId = testInstructor.getId();
             List<Course> courses = Arrays.asList(testCourse);
-            when(instructorRepository.existsById(instructorId)).thenReturn(true);
-            when(courseRepository.findByInstructorId(instructorId)).thenReturn(courses);
+            when(courseRepository.findByExistingInstructorId(instructorId)).thenReturn(courses);
 
             // When
             List<CourseResponse> result = courseService.getCoursesByInstructorId(instructorId);
@@ -433,8 +444,22 @@ class CourseServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getId()).isEqualTo(testCourse.getId());
 
-            verify(instructorRepository).existsById(instructorId);
-            verify(courseRepository).findByInstructorId(instructorId);
+            verify(courseRepository).findByExistingInstructorId(instructorId);
+            verify(instructorRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should return an empty list for an instructor without courses")
+        void shouldReturnEmptyListForInstructorWithoutCourses() {
+            // Given
+            UUID instructorId = testInstructor.getId();
+            when(courseRepository.findByExistingInstructorId(instructorId)).thenReturn(Collections.singletonList(null));
+
+            // When
+            List<CourseResponse> result = courseService.getCoursesByInstructorId(instructorId);
+
+            // Then
+            assertThat(result).isEmpty();
         }
 
         @Test
@@ -442,7 +467,7 @@ class CourseServiceTest {
         void shouldThrowExceptionWhenInstructorNotFoundForGettingCourses() {
             // Given
             UUID instructorId = UUID.randomUUID();
-            when(instructorRepository.existsById(instructorId)).thenReturn(false);
+            when(courseRepository.findByExistingInstructorId(instructorId)).thenReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> courseService.getCoursesByInstructorId(instructorId))
@@ -451,8 +476,7 @@ class CourseServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(instructorId.toString());
 
-            verify(instructorRepository).existsById(instructorId);
-            verify(courseRepository, never()).findByInstructorId(any());
+            verify(instructorRepository, never()).existsById(any());
         }
 
         @Test
@@ -572,4 +596,67 @@ class CourseServiceTest {
             verify(courseRepository).countByInstructorId(instructorId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Most Enrolled Course Tests")
+    class MostEnrolledCourseTests {
+
+        @Test
+        @DisplayName("Should load one page of the most enrolled courses with their instructors")
+        void shouldGetMostEnrolledCourses() {
+            // Given
+            List<UUID> ids = List.of(testCourse.getId());
+            when(courseRepository.findMostEnrolledIds(PageRequest.of(0, 10))).thenReturn(ids);
+            when(courseRepository.findAllByIdsInOrder(ids)).thenReturn(List.of(testCourse));
+
+            // When
+            List<CourseResponse> result = courseService.getMostEnrolledCourses(10);
+
+            // Then
+            assertThat(result).extracting(CourseResponse::getId).containsExactly(testCourse.getId());
+            assertThat(result.get(0).getInstructor().getId()).isEqualTo(testInstructor.getId());
+            verify(courseRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should return courses in request order with missing IDs marked")
+        void shouldReturnCoursesInRequestOrderWithMissingIdsMarked() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> ids = Arrays.asList(missingId, testCourse.getId());
+            when(courseRepository.findAllByIdsInOrder(ids)).thenReturn(Arrays.asList(null, testCourse));
+
+            // When
+            MultiGetResponse<CourseResponse> result = courseService.getCoursesByIds(ids);
+
+            // Then
+            assertThat(result.getFoundCount()).isEqualTo(1);
+            assertThat(result.getNotFoundIds()).containsExactly(missingId);
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getItems().get(0).isFound()).isFalse();
+            assertThat(result.getItems().get(0).getData()).isNull();
+            assertThat(result.getItems().get(1).getData().getTitle()).isEqualTo(testCourse.getTitle());
+
+            verify(courseRepository).findAllByIdsInOrder(ids);
+        }
+
+        @Test
+        @DisplayName("Should reject too many IDs")
+        void shouldRejectTooManyIds() {
+            // Given
+            List<UUID> ids = Collections.nCopies(MultiGetResponse.MAX_IDS + 1, UUID.randomUUID());
+
+            // When & Then
+            assertThatThrownBy(() -> courseService.getCoursesByIds(ids))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Too many IDs");
+
+            verifyNoInteractions(courseRepository);
+        }
+    }
+}
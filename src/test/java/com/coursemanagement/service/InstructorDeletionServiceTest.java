@@ -0,0 +1,131 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.InstructorDeletionResponse;
+import com.coursemanagement.entity.Instructor;
+import com.coursemanagement.entity.InstructorDeletionJob;
+import com.coursemanagement.entity.InstructorDeletionJob.Status;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.InstructorDeletionJobRepository;
+import com.coursemanagement.repository.InstructorRepository;
+import com.coursemanagement.service.impl.InstructorDeletionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstructorDeletionService Tests")
+class InstructorDeletionServiceTest {
+
+    @Mock
+    private InstructorRepository instructorRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private InstructorDeletionJobRepository jobRepository;
+
+    @InjectMocks
+    private InstructorDeletionServiceImpl deletionService;
+
+    private UUID instructorId;
+    private Instructor instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructorId = UUID.randomUUID();
+        instructor = new Instructor("John", "Doe", "john.doe@example.com");
+        instructor.setId(instructorId);
+    }
+
+    @Test
+    @DisplayName("Should mark the instructor and record a pending job")
+    void shouldMarkInstructorAndCreateJob() {
+        // Given
+        when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+        when(jobRepository.findById(instructorId)).thenReturn(Optional.empty());
+        when(courseRepository.countByInstructorId(instructorId)).thenReturn(42L);
+        when(jobRepository.save(any(InstructorDeletionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        InstructorDeletionResponse response = deletionService.requestDeletion(instructorId);
+
+        // Then
+        assertThat(instructor.isDeletionRequested()).isTrue();
+        assertThat(response.getInstructorId()).isEqualTo(instructorId);
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(response.getTotalCourses()).isEqualTo(42);
+        verify(instructorRepository, never()).delete(any());
+        verify(instructorRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should return the existing job when deletion is requested again")
+    void shouldReturnExistingJob() {
+        // Given
+        instructor.setDeletionRequestedAt(LocalDateTime.now());
+        InstructorDeletionJob job = new InstructorDeletionJob(instructorId, 10);
+        job.setStatus(Status.RUNNING);
+        job.setCoursesDeleted(4);
+        when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+        when(jobRepository.findById(instructorId)).thenReturn(Optional.of(job));
+
+        // When
+        InstructorDeletionResponse response = deletionService.requestDeletion(instructorId);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        assertThat(response.getCoursesDeleted()).isEqualTo(4);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should restart a failed job")
+    void shouldRestartFailedJob() {
+        // Given
+        instructor.setDeletionRequestedAt(LocalDateTime.now());
+        InstructorDeletionJob job = new InstructorDeletionJob(instructorId, 10);
+        job.setStatus(Status.FAILED);
+        job.setFailures(5);
+        job.setLastError("lock timeout");
+        when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+        when(jobRepository.findById(instructorId)).thenReturn(Optional.of(job));
+
+        // When
+        InstructorDeletionResponse response = deletionService.requestDeletion(instructorId);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(response.getLastError()).isNull();
+        assertThat(job.getFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown instructors and jobs")
+    void shouldThrowWhenNotFound() {
+        // Given
+        when(instructorRepository.findById(instructorId)).thenReturn(Optional.empty());
+        when(jobRepository.findById(instructorId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> deletionService.requestDeletion(instructorId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Instructor");
+        assertThatThrownBy(() -> deletionService.getDeletionStatus(instructorId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(instructorId.toString());
+    }
+}
@@ -241,14 +241,14 @@ class InstructorDetailsServiceTest {
         void shouldDeleteInstructorDetailsSuccessfully() {
             // Given
             UUID detailsId = testInstructorDetails.getId();
-            when(instructorDetailsRepository.existsById(detailsId)).thenReturn(true);
+            when(instructorDetailsRepository.removeById(detailsId)).thenReturn(1);
 
             // When
             instructorDetailsService.deleteInstructorDetails(detailsId);
 
             // Then
-            verify(instructorDetailsRepository).existsById(detailsId);
-            verify(instructorDetailsRepository).deleteById(detailsId);
+            verify(instructorDetailsRepository).removeById(detailsId);
+            verify(instructorDetailsRepository, never()).findById(any());
         }
 
         @Test
@@ -256,7 +256,7 @@ class InstructorDetailsServiceTest {
         void shouldThrowExceptionWhenInstructorDetailsNotFoundForDeletion() {
             // Given
             UUID detailsId = UUID.randomUUID();
-            when(instructorDetailsRepository.existsById(detailsId)).thenReturn(false);
+            when(instructorDetailsRepository.removeById(detailsId)).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> instructorDetailsService.deleteInstructorDetails(detailsId))
@@ -265,8 +265,7 @@ class InstructorDetailsServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(detailsId.toString());
 
-            verify(instructorDetailsRepository).existsById(detailsId);
-            verify(instructorDetailsRepository, never()).deleteById(any());
+            verify(instructorDetailsRepository).removeById(detailsId);
         }
     }
 
@@ -0,0 +1,148 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.InstructorRosterResponse;
+import com.coursemanagement.repository.InstructorRosterRepository;
+import com.coursemanagement.repository.InstructorRosterRepository.RosterRow;
+import com.coursemanagement.service.impl.InstructorRosterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstructorRosterService Tests")
+class InstructorRosterServiceTest {
+
+    @Mock
+    private InstructorRosterRepository rosterRepository;
+
+    @InjectMocks
+    private InstructorRosterServiceImpl rosterService;
+
+    private UUID instructorId;
+    private LocalDateTime refreshedAt;
+
+    @BeforeEach
+    void setUp() {
+        instructorId = UUID.randomUUID();
+        refreshedAt = LocalDateTime.of(2023, 12, 1, 10, 30);
+    }
+
+    @Nested
+    @DisplayName("Get Roster Tests")
+    class GetRosterTests {
+
+        @Test
+        @DisplayName("Should return a page of the roster with its freshness")
+        void shouldReturnPage() {
+            // Given
+            UUID studentId = UUID.randomUUID();
+            when(rosterRepository.findRefreshedAt()).thenReturn(Optional.of(refreshedAt));
+            when(rosterRepository.countStudents(instructorId)).thenReturn(45L);
+            when(rosterRepository.findStudents(instructorId, 20, 40))
+                    .thenReturn(List.of(new RosterRow(studentId, "John", "Doe", "john.doe@example.com", 2)));
+
+            // When
+            InstructorRosterResponse result = rosterService.getRoster(instructorId, 2, 20);
+
+            // Then
+            assertThat(result.getInstructorId()).isEqualTo(instructorId);
+            assertThat(result.getPage()).isEqualTo(2);
+            assertThat(result.getSize()).isEqualTo(20);
+            assertThat(result.getTotalStudents()).isEqualTo(45);
+            assertThat(result.getRefreshedAt()).isEqualTo(refreshedAt);
+            assertThat(result.getStudents()).containsExactly(
+                    new InstructorRosterResponse.RosterStudent(studentId, "John Doe", "john.doe@example.com", 2));
+        }
+
+        @Test
+        @DisplayName("Should skip the page query past the end of the roster")
+        void shouldSkipQueryPastEnd() {
+            // Given
+            when(rosterRepository.findRefreshedAt()).thenReturn(Optional.of(refreshedAt));
+            when(rosterRepository.countStudents(instructorId)).thenReturn(40L);
+
+            // When
+            InstructorRosterResponse result = rosterService.getRoster(instructorId, 2, 20);
+
+            // Then
+            assertThat(result.getStudents()).isEmpty();
+            assertThat(result.getTotalStudents()).isEqualTo(40);
+            verify(rosterRepository, never()).findStudents(any(), anyInt(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should report rosters computed on read as current")
+        void shouldReportInlineRostersAsCurrent() {
+            // Given
+            LocalDateTime before = LocalDateTime.now();
+            when(rosterRepository.findRefreshedAt()).thenReturn(Optional.empty());
+            when(rosterRepository.countStudents(instructorId)).thenReturn(0L);
+
+            // When
+            InstructorRosterResponse result = rosterService.getRoster(instructorId, 0, 20);
+
+            // Then
+            assertThat(result.getRefreshedAt()).isAfterOrEqualTo(before);
+            assertThat(result.getStudents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject invalid pages")
+        void shouldRejectInvalidPages() {
+            assertThatThrownBy(() -> rosterService.getRoster(instructorId, -1, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> rosterService.getRoster(instructorId, 0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> rosterService.getRoster(instructorId, 0, 101))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("between 1 and 100");
+            verifyNoInteractions(rosterRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should refresh the materialized view and return its time")
+        void shouldRefreshView() {
+            // Given
+            when(rosterRepository.isMaterializedViewSupported()).thenReturn(true);
+
+            // When
+            LocalDateTime result = rosterService.refreshRosters();
+
+            // Then
+            verify(rosterRepository).refresh(result);
+        }
+
+        @Test
+        @DisplayName("Should not refresh when rosters are computed on read")
+        void shouldSkipWithoutView() {
+            // Given
+            when(rosterRepository.isMaterializedViewSupported()).thenReturn(false);
+
+            // When
+            LocalDateTime result = rosterService.refreshRosters();
+
+            // Then
+            assertThat(result).isNotNull();
+            verify(rosterRepository, never()).refresh(any());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.coursemanagement.service;
 import com.coursemanagement.dto.InstructorDetailsRequest;
 import com.coursemanagement.dto.InstructorRequest;
 import com.coursemanagement.dto.InstructorResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.entity.Instructor;
 import com.coursemanagement.entity.InstructorDetails;
 import com.coursemanagement.exception.ResourceAlreadyExistsException;
@@ -21,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,6 +46,9 @@ class InstructorServiceTest {
     @Mock
     private InstructorDetailsRepository instructorDetailsRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private InstructorServiceImpl instructorService;
 
@@ -164,7 +169,7 @@ class InstructorServiceTest {
         @DisplayName("Should get instructor by ID successfully")
         void shouldGetInstructorById() {
             // Given
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.of(instructor));
 
             // When
             InstructorResponse response = instructorService.getInstructorById(instructorId);
@@ -179,14 +184,14 @@ class InstructorServiceTest {
                 () -> assertNotNull(response.getInstructorDetails())
             );
             
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
         }
 
         @Test
         @DisplayName("Should throw exception when instructor not found by ID")
         void shouldThrowExceptionWhenInstructorNotFoundById() {
             // Given
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.empty());
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.empty());
 
             // When & Then
             ResourceNotFoundException exception = assertThrows(
@@ -195,14 +200,14 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("Instructor not found"));
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
         }
 
         @Test
         @DisplayName("Should get instructor by email successfully")
         void shouldGetInstructorByEmail() {
             // Given
-            when(instructorRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findByEmailAndDeletionRequestedAtIsNull("john.doe@example.com")).thenReturn(Optional.of(instructor));
 
             // When
             InstructorResponse response = instructorService.getInstructorByEmail("john.doe@example.com");
@@ -215,7 +220,7 @@ class InstructorServiceTest {
                 () -> assertEquals("Doe", response.getLastName())
             );
             
-            verify(instructorRepository).findByEmail("john.doe@example.com");
+            verify(instructorRepository).findByEmailAndDeletionRequestedAtIsNull("john.doe@example.com");
         }
 
         @Test
@@ -223,7 +228,7 @@ class InstructorServiceTest {
         void shouldThrowExceptionWhenInstructorNotFoundByEmail() {
             // Given
             String email = "nonexistent@example.com";
-            when(instructorRepository.findByEmail(email)).thenReturn(Optional.empty());
+            when(instructorRepository.findByEmailAndDeletionRequestedAtIsNull(email)).thenReturn(Optional.empty());
 
             // When & Then
             ResourceNotFoundException exception = assertThrows(
@@ -232,7 +237,7 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("Instructor not found"));
-            verify(instructorRepository).findByEmail(email);
+            verify(instructorRepository).findByEmailAndDeletionRequestedAtIsNull(email);
         }
 
         @Test
@@ -245,7 +250,7 @@ class InstructorServiceTest {
             instructor2.setUpdatedAt(LocalDateTime.now());
             
             List<Instructor> instructors = Arrays.asList(instructor, instructor2);
-            when(instructorRepository.findAll()).thenReturn(instructors);
+            when(instructorRepository.findByDeletionRequestedAtIsNull()).thenReturn(instructors);
 
             // When
             List<InstructorResponse> responses = instructorService.getAllInstructors();
@@ -258,7 +263,7 @@ class InstructorServiceTest {
                 () -> assertEquals("Jane", responses.get(1).getFirstName())
             );
             
-            verify(instructorRepository).findAll();
+            verify(instructorRepository).findByDeletionRequestedAtIsNull();
         }
     }
 
@@ -276,7 +281,7 @@ class InstructorServiceTest {
             updatedInstructor.setCreatedAt(instructor.getCreatedAt());
             updatedInstructor.setUpdatedAt(LocalDateTime.now());
             
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findVisibleByIdForUpdate(instructorId)).thenReturn(Optional.of(instructor));
             when(instructorRepository.existsByEmail("john.updated@example.com")).thenReturn(false);
             when(instructorRepository.save(any(Instructor.class))).thenReturn(updatedInstructor);
 
@@ -291,7 +296,7 @@ class InstructorServiceTest {
                 () -> assertEquals("john.updated@example.com", response.getEmail())
             );
             
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findVisibleByIdForUpdate(instructorId);
             verify(instructorRepository).existsByEmail("john.updated@example.com");
             verify(instructorRepository).save(any(Instructor.class));
         }
@@ -308,7 +313,7 @@ class InstructorServiceTest {
             InstructorDetailsRequest newDetailsRequest = new InstructorDetailsRequest("https://youtube.com/@newchannel", "New hobby");
             InstructorRequest updateRequest = new InstructorRequest("John", "Doe", "john.doe@example.com", newDetailsRequest);
             
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructorWithoutDetails));
+            when(instructorRepository.findVisibleByIdForUpdate(instructorId)).thenReturn(Optional.of(instructorWithoutDetails));
             when(instructorRepository.save(any(Instructor.class))).thenReturn(instructorWithoutDetails);
 
             // When
@@ -316,7 +321,7 @@ class InstructorServiceTest {
 
             // Then
             assertNotNull(response);
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findVisibleByIdForUpdate(instructorId);
             verify(instructorRepository).save(any(Instructor.class));
         }
 
@@ -326,7 +331,7 @@ class InstructorServiceTest {
             // Given
             InstructorRequest updateRequest = new InstructorRequest("John", "Doe", "existing@example.com");
             
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findVisibleByIdForUpdate(instructorId)).thenReturn(Optional.of(instructor));
             when(instructorRepository.existsByEmail("existing@example.com")).thenReturn(true);
 
             // When & Then
@@ -336,7 +341,7 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("Instructor already exists with email: existing@example.com"));
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findVisibleByIdForUpdate(instructorId);
             verify(instructorRepository).existsByEmail("existing@example.com");
             verify(instructorRepository, never()).save(any(Instructor.class));
         }
@@ -345,7 +350,7 @@ class InstructorServiceTest {
         @DisplayName("Should throw exception when updating non-existent instructor")
         void shouldThrowExceptionWhenUpdatingNonExistentInstructor() {
             // Given
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.empty());
+            when(instructorRepository.findVisibleByIdForUpdate(instructorId)).thenReturn(Optional.empty());
 
             // When & Then
             ResourceNotFoundException exception = assertThrows(
@@ -354,45 +359,56 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("Instructor not found"));
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findVisibleByIdForUpdate(instructorId);
             verify(instructorRepository, never()).save(any(Instructor.class));
         }
     }
 
     @Nested
-    @DisplayName("Delete Instructor Tests")
-    class DeleteInstructorTests {
+    @DisplayName("Deleting Instructor Visibility Tests")
+    class DeletingInstructorVisibilityTests {
 
         @Test
-        @DisplayName("Should delete instructor successfully")
-        void shouldDeleteInstructorSuccessfully() {
-            // Given
-            when(instructorRepository.existsById(instructorId)).thenReturn(true);
-            doNothing().when(instructorRepository).deleteById(instructorId);
+        @DisplayName("Should not find an instructor whose deletion was requested")
+        void shouldHideDeletingInstructorById() {
+            // Given - the query leaves out instructors being deleted
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.empty());
 
+            // When & Then
+            assertThrows(ResourceNotFoundException.class, () -> instructorService.getInstructorById(instructorId));
+            assertThrows(ResourceNotFoundException.class,
+                    () -> instructorService.updateInstructor(instructorId, instructorRequest));
+            verify(instructorRepository, never()).findById(any());
+            verify(instructorRepository, never()).save(any(Instructor.class));
+        }
+
+        @Test
+        @DisplayName("Should list instructors through queries that leave deleting instructors out")
+        void shouldHideDeletingInstructorFromListings() {
             // When
-            assertDoesNotThrow(() -> instructorService.deleteInstructor(instructorId));
+            instructorService.getAllInstructors();
+            instructorService.searchInstructorsByName("John");
+            instructorService.getInstructorsWithDetails();
+            instructorService.getInstructorsWithoutDetails();
 
             // Then
-            verify(instructorRepository).existsById(instructorId);
-            verify(instructorRepository).deleteById(instructorId);
+            verify(instructorRepository).findByDeletionRequestedAtIsNull();
+            verify(instructorRepository, never()).findAll();
         }
 
         @Test
-        @DisplayName("Should throw exception when deleting non-existent instructor")
-        void shouldThrowExceptionWhenDeletingNonExistentInstructor() {
+        @DisplayName("Should leave a deleting instructor out of a multi-get")
+        void shouldHideDeletingInstructorFromMultiGet() {
             // Given
-            when(instructorRepository.existsById(instructorId)).thenReturn(false);
+            instructor.setDeletionRequestedAt(LocalDateTime.now());
+            List<UUID> ids = List.of(instructorId);
+            when(instructorRepository.findAllByIdsInOrder(ids)).thenReturn(List.of(instructor));
 
-            // When & Then
-            ResourceNotFoundException exception = assertThrows(
-                ResourceNotFoundException.class,
-                () -> instructorService.deleteInstructor(instructorId)
-            );
+            // When
+            MultiGetResponse<InstructorResponse> response = instructorService.getInstructorsByIds(ids);
 
-            assertTrue(exception.getMessage().contains("Instructor not found"));
-            verify(instructorRepository).existsById(instructorId);
-            verify(instructorRepository, never()).deleteById(instructorId);
+            // Then
+            assertEquals(List.of(instructorId), response.getNotFoundIds());
         }
     }
 
@@ -479,7 +495,7 @@ class InstructorServiceTest {
             instructorWithoutDetails.setCreatedAt(LocalDateTime.now());
             instructorWithoutDetails.setUpdatedAt(LocalDateTime.now());
             
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructorWithoutDetails));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.of(instructorWithoutDetails));
             when(instructorDetailsRepository.findById(instructorDetailsId)).thenReturn(Optional.of(instructorDetails));
             when(instructorRepository.save(any(Instructor.class))).thenReturn(instructor);
 
@@ -493,7 +509,7 @@ class InstructorServiceTest {
                 () -> assertEquals("https://youtube.com/@johndoe", response.getInstructorDetails().getYoutubeChannel())
             );
             
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
             verify(instructorDetailsRepository).findById(instructorDetailsId);
             verify(instructorRepository).save(any(Instructor.class));
         }
@@ -507,7 +523,7 @@ class InstructorServiceTest {
             updatedInstructor.setCreatedAt(instructor.getCreatedAt());
             updatedInstructor.setUpdatedAt(LocalDateTime.now());
             
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.of(instructor));
             when(instructorRepository.save(any(Instructor.class))).thenReturn(updatedInstructor);
 
             // When
@@ -519,7 +535,7 @@ class InstructorServiceTest {
                 () -> assertNull(response.getInstructorDetails())
             );
             
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
             verify(instructorRepository).save(any(Instructor.class));
         }
 
@@ -527,7 +543,7 @@ class InstructorServiceTest {
         @DisplayName("Should throw exception when adding details to non-existent instructor")
         void shouldThrowExceptionWhenAddingDetailsToNonExistentInstructor() {
             // Given
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.empty());
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.empty());
 
             // When & Then
             ResourceNotFoundException exception = assertThrows(
@@ -536,7 +552,7 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("Instructor not found"));
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
             verify(instructorDetailsRepository, never()).findById(any());
         }
 
@@ -544,7 +560,7 @@ class InstructorServiceTest {
         @DisplayName("Should throw exception when adding non-existent details")
         void shouldThrowExceptionWhenAddingNonExistentDetails() {
             // Given
-            when(instructorRepository.findById(instructorId)).thenReturn(Optional.of(instructor));
+            when(instructorRepository.findByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(Optional.of(instructor));
             when(instructorDetailsRepository.findById(instructorDetailsId)).thenReturn(Optional.empty());
 
             // When & Then
@@ -554,7 +570,7 @@ class InstructorServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("InstructorDetails not found"));
-            verify(instructorRepository).findById(instructorId);
+            verify(instructorRepository).findByIdAndDeletionRequestedAtIsNull(instructorId);
             verify(instructorDetailsRepository).findById(instructorDetailsId);
         }
     }
@@ -567,28 +583,28 @@ class InstructorServiceTest {
         @DisplayName("Should return true when instructor exists by ID")
         void shouldReturnTrueWhenInstructorExistsById() {
             // Given
-            when(instructorRepository.existsById(instructorId)).thenReturn(true);
+            when(instructorRepository.existsByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(true);
 
             // When
             boolean exists = instructorService.existsById(instructorId);
 
             // Then
             assertTrue(exists);
-            verify(instructorRepository).existsById(instructorId);
+            verify(instructorRepository).existsByIdAndDeletionRequestedAtIsNull(instructorId);
         }
 
         @Test
         @DisplayName("Should return false when instructor does not exist by ID")
         void shouldReturnFalseWhenInstructorDoesNotExistById() {
             // Given
-            when(instructorRepository.existsById(instructorId)).thenReturn(false);
+            when(instructorRepository.existsByIdAndDeletionRequestedAtIsNull(instructorId)).thenReturn(false);
 
             // When
             boolean exists = instructorService.existsById(instructorId);
 
             // Then
             assertFalse(exists);
-            verify(instructorRepository).existsById(instructorId);
+            verify(instructorRepository).existsByIdAndDeletionRequestedAtIsNull(instructorId);
         }
 
         @Test
@@ -619,4 +635,54 @@ class InstructorServiceTest {
             verify(instructorRepository).existsByEmail("nonexistent@example.com");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should return instructors in request order with missing and deleting IDs marked")
+        void shouldReturnInstructorsInRequestOrderWithMissingAndDeletingIdsMarked() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            Instructor deleting = new Instructor("Jane", "Smith", "jane.smith@example.com");
+            deleting.setId(UUID.randomUUID());
+            deleting.setDeletionRequestedAt(LocalDateTime.now());
+            List<UUID> ids = List.of(missingId, instructorId, deleting.getId());
+            when(instructorRepository.findAllByIdsInOrder(ids)).thenReturn(Arrays.asList(null, instructor, deleting));
+
+            // When
+            MultiGetResponse<InstructorResponse> result = instructorService.getInstructorsByIds(ids);
+
+            // Then
+            assertAll("Multi-get response",
+                () -> assertEquals(1, result.getFoundCount()),
+                () -> assertEquals(List.of(missingId, deleting.getId()), result.getNotFoundIds()),
+                () -> assertEquals(3, result.getItems().size()),
+                () -> assertFalse(result.getItems().get(0).isFound()),
+                () -> assertNull(result.getItems().get(0).getData()),
+                () -> assertEquals("john.doe@example.com", result.getItems().get(1).getData().getEmail()),
+                () -> assertEquals("https://youtube.com/@johndoe",
+                        result.getItems().get(1).getData().getInstructorDetails().getYoutubeChannel()),
+                () -> assertFalse(result.getItems().get(2).isFound()),
+                () -> assertNull(result.getItems().get(2).getData())
+            );
+
+            verify(instructorRepository).findAllByIdsInOrder(ids);
+        }
+
+        @Test
+        @DisplayName("Should reject too many IDs")
+        void shouldRejectTooManyIds() {
+            // Given
+            List<UUID> ids = Collections.nCopies(MultiGetResponse.MAX_IDS + 1, UUID.randomUUID());
+
+            // When & Then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> instructorService.getInstructorsByIds(ids));
+            assertTrue(exception.getMessage().contains("Too many IDs"));
+
+            verifyNoInteractions(instructorRepository);
+        }
+    }
+}
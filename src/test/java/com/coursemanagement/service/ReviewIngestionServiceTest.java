@@ -0,0 +1,182 @@
+package com.coursemanagement.service;
+
+import com.coursemanagement.dto.ReviewAcceptedResponse;
+import com.coursemanagement.dto.ReviewRequest;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.repository.ReviewIngestionRepository;
+import com.coursemanagement.repository.ReviewIngestionRepository.ReviewRow;
+import com.coursemanagement.service.impl.ReviewIngestionServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewIngestionService Tests")
+class ReviewIngestionServiceTest {
+
+    @Mock
+    private ReviewIngestionRepository reviewIngestionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path journalDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<ReviewIngestionServiceImpl> started = new ArrayList<>();
+
+    private final UUID courseId = UUID.randomUUID();
+    private final UUID studentId = UUID.randomUUID();
+
+    private ReviewIngestionServiceImpl startService(ReviewIngestionRepository repository, boolean enabled) throws Exception {
+        return startService(repository, enabled, 10, 50);
+    }
+
+    private ReviewIngestionServiceImpl startService(ReviewIngestionRepository repository, boolean enabled,
+                                                    int batchSize, long maxLatencyMillis) throws Exception {
+        ReviewIngestionServiceImpl service = new ReviewIngestionServiceImpl(repository, objectMapper, eventPublisher,
+                enabled, batchSize, maxLatencyMillis, 100, journalDir.toString(), false);
+        service.start();
+        started.add(service);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (ReviewIngestionServiceImpl service : started) {
+            service.stop();
+        }
+    }
+
+    @Nested
+    @DisplayName("Submit Review Tests")
+    class SubmitReviewTests {
+
+        @Test
+        @DisplayName("Should reject submissions when ingestion is disabled")
+        void shouldRejectWhenDisabled() throws Exception {
+            // Given
+            ReviewIngestionServiceImpl service = startService(reviewIngestionRepository, false);
+
+            // When & Then
+            assertThatThrownBy(() -> service.submitReview(courseId, new ReviewRequest("Great", studentId)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            verifyNoInteractions(reviewIngestionRepository);
+        }
+
+        @Test
+        @DisplayName("Should accept reviews and write them in one batch")
+        void shouldAcceptAndBatchReviews() throws Exception {
+            // Given - a full batch is flushed without waiting for the latency bound
+            when(reviewIngestionRepository.courseAndStudentExist(courseId, studentId)).thenReturn(new boolean[]{true, true});
+            ReviewIngestionServiceImpl service = startService(reviewIngestionRepository, true, 3, 60_000);
+
+            // When
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                ReviewAcceptedResponse response = service.submitReview(courseId, new ReviewRequest("Review " + i, studentId));
+                assertThat(response.getStatus()).isEqualTo("PENDING");
+                ids.add(response.getId());
+            }
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ReviewRow>> rows = ArgumentCaptor.forClass(List.class);
+            verify(reviewIngestionRepository, timeout(2000)).insertBatch(rows.capture());
+            assertThat(rows.getValue()).extracting(ReviewRow::id).containsExactlyElementsOf(ids);
+            assertThat(service.getPendingCount()).isZero();
+            verify(eventPublisher, timeout(2000)).publishEvent((Object) new ReviewsIngestedEvent(ids));
+        }
+
+        @Test
+        @DisplayName("Should throw when course does not exist")
+        void shouldThrowWhenCourseMissing() throws Exception {
+            // Given
+            when(reviewIngestionRepository.courseAndStudentExist(courseId, studentId)).thenReturn(new boolean[]{false, true});
+            ReviewIngestionServiceImpl service = startService(reviewIngestionRepository, true);
+
+            // When & Then
+            assertThatThrownBy(() -> service.submitReview(courseId, new ReviewRequest("Great", studentId)))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Course not found with id: " + courseId);
+            verify(reviewIngestionRepository, never()).insertBatch(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal Replay Tests")
+    class JournalReplayTests {
+
+        @Test
+        @DisplayName("Should replay unflushed reviews on restart, skipping stored ones")
+        void shouldReplayUnflushedReviews() throws Exception {
+            // Given - a first run whose database writes all fail
+            ReviewIngestionRepository failingRepository = mock(ReviewIngestionRepository.class);
+            when(failingRepository.courseAndStudentExist(courseId, studentId)).thenReturn(new boolean[]{true, true});
+            when(failingRepository.insertBatch(anyList())).thenThrow(new IllegalStateException("database down"));
+            ReviewIngestionServiceImpl firstRun = startService(failingRepository, true);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                ids.add(firstRun.submitReview(courseId, new ReviewRequest("Review " + i, studentId)).getId());
+            }
+            verify(failingRepository, timeout(2000).atLeastOnce()).insertBatch(anyList());
+            firstRun.stop();
+            started.remove(firstRun);
+
+            // When - the next run finds the first review already stored
+            when(reviewIngestionRepository.findExistingIds(anyCollection())).thenReturn(Set.of(ids.get(0)));
+            startService(reviewIngestionRepository, true);
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ReviewRow>> rows = ArgumentCaptor.forClass(List.class);
+            verify(reviewIngestionRepository).insertBatch(rows.capture());
+            assertThat(rows.getValue()).extracting(ReviewRow::id).containsExactly(ids.get(1), ids.get(2));
+            assertThat(Files.size(journalDir.resolve("reviews.journal"))).isZero();
+        }
+
+        @Test
+        @DisplayName("Should flush on stop and accept reviews again after a lifecycle restart")
+        void shouldRestartAfterStop() throws Exception {
+            // Given - the batch never fills, so only the stop drains it
+            when(reviewIngestionRepository.courseAndStudentExist(courseId, studentId)).thenReturn(new boolean[]{true, true});
+            ReviewIngestionServiceImpl service = startService(reviewIngestionRepository, true, 10, 60_000);
+            UUID first = service.submitReview(courseId, new ReviewRequest("Before checkpoint", studentId)).getId();
+
+            // When
+            service.stop();
+            assertThat(service.isRunning()).isFalse();
+            service.start();
+            UUID second = service.submitReview(courseId, new ReviewRequest("After restore", studentId)).getId();
+            service.stop();
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ReviewRow>> rows = ArgumentCaptor.forClass(List.class);
+            verify(reviewIngestionRepository, times(2)).insertBatch(rows.capture());
+            assertThat(rows.getAllValues()).flatExtracting(batch -> batch.stream().map(ReviewRow::id).toList())
+                    .containsExactly(first, second);
+            assertThat(Files.size(journalDir.resolve("reviews.journal"))).isZero();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.coursemanagement.service;
 
+import com.coursemanagement.concurrency.RequestCoalescer;
 import com.coursemanagement.dto.ReviewRequest;
 import com.coursemanagement.dto.ReviewResponse;
 import com.coursemanagement.entity.Course;
@@ -8,6 +9,7 @@ import com.coursemanagement.entity.Review;
 import com.coursemanagement.entity.Student;
 import com.coursemanagement.exception.ResourceNotFoundException;
 import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.ReviewPartitionRepository;
 import com.coursemanagement.repository.ReviewRepository;
 import com.coursemanagement.repository.StudentRepository;
 import com.coursemanagement.service.impl.ReviewServiceImpl;
@@ -18,11 +20,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -43,6 +49,15 @@ class ReviewServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ReviewPartitionRepository partitionRepository;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(TransactionOperations.withoutTransaction(), true, 1_000);
+
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
@@ -195,6 +210,43 @@ class ReviewServiceTest {
             verify(reviewRepository).findAllWithCourseInstructorAndStudent();
         }
 
+        @Test
+        @DisplayName("Should get all reviews limited to requested fields")
+        void shouldGetAllReviewsLimitedToRequestedFields() {
+            // Given
+            Map<String, Object> row = Map.of("id", testReview.getId(), "comment", testReview.getComment());
+            when(reviewRepository.findAllWithFields(List.of("id", "comment"))).thenReturn(List.of(row));
+
+            // When
+            List<Map<String, Object>> result = reviewService.getAllReviews("id,comment");
+
+            // Then
+            assertThat(result).containsExactly(row);
+            verify(reviewRepository, never()).findAllWithCourseInstructorAndStudent();
+        }
+
+        @Test
+        @DisplayName("Should reject unknown review fields before querying")
+        void shouldRejectUnknownReviewFieldsBeforeQuerying() {
+            // When & Then
+            assertThatThrownBy(() -> reviewService.getAllReviews("id,rating"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rating");
+
+            verifyNoInteractions(reviewRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a fields parameter with only separators before querying")
+        void shouldRejectFieldsWithOnlySeparators() {
+            // When & Then
+            assertThatThrownBy(() -> reviewService.getAllReviews(" , "))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at least one field");
+
+            verifyNoInteractions(reviewRepository);
+        }
+
         @Test
         @DisplayName("Should return empty list when no reviews exist")
         void shouldReturnEmptyListWhenNoReviewsExist() {
@@ -221,7 +273,7 @@ class ReviewServiceTest {
             UUID reviewId = testReview.getId();
             ReviewRequest updateRequest = new ReviewRequest("Updated comment", testStudent.getId());
             
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
+            when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(testReview));
             when(reviewRepository.save(testReview)).thenReturn(testReview);
 
             // When
@@ -229,7 +281,7 @@ class ReviewServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(reviewRepository).findById(reviewId);
+            verify(reviewRepository).findByIdForUpdate(reviewId);
             verify(reviewRepository).save(testReview);
         }
 
@@ -242,7 +294,7 @@ class ReviewServiceTest {
             newStudent.setId(UUID.randomUUID());
             ReviewRequest updateRequest = new ReviewRequest("Updated comment", newStudent.getId());
             
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
+            when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(testReview));
             when(studentRepository.findById(newStudent.getId())).thenReturn(Optional.of(newStudent));
             when(reviewRepository.save(testReview)).thenReturn(testReview);
 
@@ -251,7 +303,7 @@ class ReviewServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(reviewRepository).findById(reviewId);
+            verify(reviewRepository).findByIdForUpdate(reviewId);
             verify(studentRepository).findById(newStudent.getId());
             verify(reviewRepository).save(testReview);
         }
@@ -263,7 +315,7 @@ class ReviewServiceTest {
             UUID reviewId = UUID.randomUUID();
             ReviewRequest updateRequest = new ReviewRequest("Updated comment", testStudent.getId());
             
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+            when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> reviewService.updateReview(reviewId, updateRequest))
@@ -272,7 +324,7 @@ class ReviewServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(reviewId.toString());
 
-            verify(reviewRepository).findById(reviewId);
+            verify(reviewRepository).findByIdForUpdate(reviewId);
             verify(reviewRepository, never()).save(any());
         }
 
@@ -284,7 +336,7 @@ class ReviewServiceTest {
             UUID newStudentId = UUID.randomUUID();
             ReviewRequest updateRequest = new ReviewRequest("Updated comment", newStudentId);
             
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
+            when(reviewRepository.findByIdForUpdate(reviewId)).thenReturn(Optional.of(testReview));
             when(studentRepository.findById(newStudentId)).thenReturn(Optional.empty());
 
             // When & Then
@@ -294,7 +346,7 @@ class ReviewServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(newStudentId.toString());
 
-            verify(reviewRepository).findById(reviewId);
+            verify(reviewRepository).findByIdForUpdate(reviewId);
             verify(studentRepository).findById(newStudentId);
             verify(reviewRepository, never()).save(any());
         }
@@ -309,14 +361,14 @@ class ReviewServiceTest {
         void shouldDeleteReviewSuccessfully() {
             // Given
             UUID reviewId = testReview.getId();
-            when(reviewRepository.existsById(reviewId)).thenReturn(true);
+            when(reviewRepository.removeById(reviewId)).thenReturn(1);
 
             // When
             reviewService.deleteReview(reviewId);
 
             // Then
-            verify(reviewRepository).existsById(reviewId);
-            verify(reviewRepository).deleteById(reviewId);
+            verify(reviewRepository).removeById(reviewId);
+            verify(reviewRepository, never()).findById(any());
         }
 
         @Test
@@ -324,7 +376,7 @@ class ReviewServiceTest {
         void shouldThrowExceptionWhenReviewNotFoundForDeletion() {
             // Given
             UUID reviewId = UUID.randomUUID();
-            when(reviewRepository.existsById(reviewId)).thenReturn(false);
+            when(reviewRepository.removeById(reviewId)).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> reviewService.deleteReview(reviewId))
@@ -333,8 +385,7 @@ class ReviewServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(reviewId.toString());
 
-            verify(reviewRepository).existsById(reviewId);
-            verify(reviewRepository, never()).deleteById(any());
+            verify(reviewRepository).removeById(reviewId);
         }
     }
 
@@ -348,8 +399,7 @@ class ReviewServiceTest {
             // Given
             UUID courseId = testCourse.getId();
             List<Review> reviews = Arrays.asList(testReview);
-            when(courseRepository.existsById(courseId)).thenReturn(true);
-            when(reviewRepository.findByCourseId(courseId)).thenReturn(reviews);
+            when(reviewRepository.findByExistingCourseId(courseId)).thenReturn(reviews);
 
             // When
             List<ReviewResponse> result = reviewService.getReviewsByCourseId(courseId);
@@ -358,8 +408,22 @@ class ReviewServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getId()).isEqualTo(testReview.getId());
 
-            verify(courseRepository).existsById(courseId);
-            verify(reviewRepository).findByCourseId(courseId);
+            verify(reviewRepository).findByExistingCourseId(courseId);
+            verify(courseRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should return an empty list for a course without reviews")
+        void shouldReturnEmptyListForCourseWithoutReviews() {
+            // Given
+            UUID courseId = testCourse.getId();
+            when(reviewRepository.findByExistingCourseId(courseId)).thenReturn(Collections.singletonList(null));
+
+            // When
+            List<ReviewResponse> result = reviewService.getReviewsByCourseId(courseId);
+
+            // Then
+            assertThat(result).isEmpty();
         }
 
         @Test
@@ -367,7 +431,7 @@ class ReviewServiceTest {
         void shouldThrowExceptionWhenCourseNotFoundForGettingReviews() {
             // Given
             UUID courseId = UUID.randomUUID();
-            when(courseRepository.existsById(courseId)).thenReturn(false);
+            when(reviewRepository.findByExistingCourseId(courseId)).thenReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> reviewService.getReviewsByCourseId(courseId))
@@ -376,8 +440,7 @@ class ReviewServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(courseId.toString());
 
-            verify(courseRepository).existsById(courseId);
-            verify(reviewRepository, never()).findByCourseId(any());
+            verify(courseRepository, never()).existsById(any());
         }
 
         @Test
@@ -386,8 +449,7 @@ class ReviewServiceTest {
             // Given
             UUID courseId = testCourse.getId();
             List<Review> reviews = Arrays.asList(testReview);
-            when(courseRepository.existsById(courseId)).thenReturn(true);
-            when(reviewRepository.findByCourseIdOrderByCreatedAtDesc(courseId)).thenReturn(reviews);
+            when(reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(courseId)).thenReturn(reviews);
 
             // When
             List<ReviewResponse> result = reviewService.getReviewsByCourseIdOrderedByDate(courseId);
@@ -396,8 +458,7 @@ class ReviewServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getId()).isEqualTo(testReview.getId());
 
-            verify(courseRepository).existsById(courseId);
-            verify(reviewRepository).findByCourseIdOrderByCreatedAtDesc(courseId);
+            verify(reviewRepository).findByExistingCourseIdOrderByCreatedAtDesc(courseId);
         }
 
         @Test
@@ -405,7 +466,7 @@ class ReviewServiceTest {
         void shouldThrowExceptionWhenCourseNotFoundForGettingOrderedReviews() {
             // Given
             UUID courseId = UUID.randomUUID();
-            when(courseRepository.existsById(courseId)).thenReturn(false);
+            when(reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(courseId)).thenReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> reviewService.getReviewsByCourseIdOrderedByDate(courseId))
@@ -413,9 +474,99 @@ class ReviewServiceTest {
                     .hasMessageContaining("Course")
                     .hasMessageContaining("id")
                     .hasMessageContaining(courseId.toString());
+        }
 
-            verify(courseRepository).existsById(courseId);
-            verify(reviewRepository, never()).findByCourseIdOrderByCreatedAtDesc(any());
+        @Test
+        @DisplayName("Should append archived reviews only when asked to")
+        void shouldAppendArchivedReviewsWhenAsked() {
+            // Given
+            UUID courseId = testCourse.getId();
+            ReviewResponse archived = new ReviewResponse();
+            archived.setId(UUID.randomUUID());
+            when(reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(courseId)).thenReturn(List.of(testReview));
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findArchivedByCourseId(courseId)).thenReturn(List.of(archived));
+
+            // When
+            List<ReviewResponse> hot = reviewService.getReviewsByCourseIdOrderedByDate(courseId, false);
+            List<ReviewResponse> all = reviewService.getReviewsByCourseIdOrderedByDate(courseId, true);
+
+            // Then
+            assertThat(hot).extracting(ReviewResponse::getId).containsExactly(testReview.getId());
+            assertThat(all).extracting(ReviewResponse::getId).containsExactly(testReview.getId(), archived.getId());
+            verify(partitionRepository, times(1)).findArchivedByCourseId(courseId);
+        }
+
+        @Test
+        @DisplayName("Should merge archived reviews by creation time with old rows from the default partition")
+        void shouldMergeArchivedReviewsByCreationTime() {
+            // Given
+            UUID studentId = testStudent.getId();
+            testReview.setCreatedAt(LocalDateTime.now());
+            Review backdated = new Review("Imported long ago", testCourse, testStudent);
+            backdated.setId(UUID.randomUUID());
+            backdated.setCreatedAt(LocalDateTime.now().minusYears(5));
+            ReviewResponse archived = new ReviewResponse();
+            archived.setId(UUID.randomUUID());
+            archived.setCreatedAt(LocalDateTime.now().minusYears(3));
+            when(reviewRepository.findByExistingStudentIdOrderByCreatedAtDesc(studentId))
+                    .thenReturn(List.of(testReview, backdated));
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findArchivedByStudentId(studentId)).thenReturn(List.of(archived));
+
+            // When
+            List<ReviewResponse> result = reviewService.getReviewsByStudentIdOrderedByDate(studentId, true);
+
+            // Then
+            assertThat(result).extracting(ReviewResponse::getId)
+                    .containsExactly(testReview.getId(), archived.getId(), backdated.getId());
+        }
+
+        @Test
+        @DisplayName("Should not query the archive when reviews are not partitioned")
+        void shouldSkipArchiveWhenNotPartitioned() {
+            // Given
+            UUID studentId = testStudent.getId();
+            when(reviewRepository.findByExistingStudentIdOrderByCreatedAtDesc(studentId)).thenReturn(List.of(testReview));
+            when(partitionRepository.isPartitioned()).thenReturn(false);
+
+            // When
+            List<ReviewResponse> result = reviewService.getReviewsByStudentIdOrderedByDate(studentId, true);
+
+            // Then
+            assertThat(result).hasSize(1);
+            verify(partitionRepository, never()).findArchivedByStudentId(any());
+        }
+
+        @Test
+        @DisplayName("Should not query the archive when the course does not exist")
+        void shouldNotQueryArchiveForMissingCourse() {
+            // Given
+            UUID courseId = UUID.randomUUID();
+            when(reviewRepository.findByExistingCourseIdOrderByCreatedAtDesc(courseId)).thenReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> reviewService.getReviewsByCourseIdOrderedByDate(courseId, true))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(partitionRepository);
+        }
+
+        @Test
+        @DisplayName("Should get reviews by student ID or throw when the student does not exist")
+        void shouldGetReviewsByStudentIdOrThrow() {
+            // Given
+            UUID studentId = testStudent.getId();
+            UUID missingId = UUID.randomUUID();
+            when(reviewRepository.findByExistingStudentId(studentId)).thenReturn(Arrays.asList(testReview));
+            when(reviewRepository.findByExistingStudentIdOrderByCreatedAtDesc(missingId)).thenReturn(List.of());
+
+            // When & Then
+            assertThat(reviewService.getReviewsByStudentId(studentId)).hasSize(1);
+            assertThatThrownBy(() -> reviewService.getReviewsByStudentIdOrderedByDate(missingId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("Student")
+                    .hasMessageContaining(missingId.toString());
+            verify(studentRepository, never()).existsById(any());
         }
     }
 
@@ -538,16 +689,28 @@ class ReviewServiceTest {
             // Given
             UUID courseId = testCourse.getId();
             long expectedCount = 5L;
-            when(courseRepository.existsById(courseId)).thenReturn(true);
-            when(reviewRepository.countByCourseId(courseId)).thenReturn(expectedCount);
+            when(reviewRepository.countByExistingCourseId(courseId)).thenReturn(Optional.of(expectedCount));
 
             // When
             long result = reviewService.countReviewsByCourseId(courseId);
 
             // Then
             assertThat(result).isEqualTo(expectedCount);
-            verify(courseRepository).existsById(courseId);
-            verify(reviewRepository).countByCourseId(courseId);
+            verify(reviewRepository).countByExistingCourseId(courseId);
+            verify(courseRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when counting reviews of a missing course")
+        void shouldThrowExceptionWhenCountingReviewsOfMissingCourse() {
+            // Given
+            UUID courseId = UUID.randomUUID();
+            when(reviewRepository.countByExistingCourseId(courseId)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> reviewService.countReviewsByCourseId(courseId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining(courseId.toString());
         }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.coursemanagement.service;
 
 import com.coursemanagement.dto.EnrollmentRequest;
 import com.coursemanagement.dto.EnrollmentResponse;
+import com.coursemanagement.dto.MultiGetResponse;
 import com.coursemanagement.dto.StudentRequest;
 import com.coursemanagement.dto.StudentResponse;
 import com.coursemanagement.dto.UnenrollmentResponse;
@@ -24,7 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,6 +45,9 @@ class StudentServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
@@ -214,6 +220,22 @@ class StudentServiceTest {
             verify(studentRepository).findAll();
         }
 
+        @Test
+        @DisplayName("Should get all students limited to requested fields")
+        void shouldGetAllStudentsLimitedToRequestedFields() {
+            // Given
+            Map<String, Object> row = Map.of("id", testStudent.getId(), "email", testStudent.getEmail());
+            when(studentRepository.findAllWithFields(List.of("id", "email"))).thenReturn(List.of(row));
+
+            // When
+            List<Map<String, Object>> result = studentService.getAllStudents(" id, email ,id");
+
+            // Then
+            assertThat(result).containsExactly(row);
+            verify(studentRepository).findAllWithFields(List.of("id", "email"));
+            verify(studentRepository, never()).findAll();
+        }
+
         @Test
         @DisplayName("Should get all students with courses successfully")
         void shouldGetAllStudentsWithCoursesSuccessfully() {
@@ -245,7 +267,7 @@ class StudentServiceTest {
             UUID studentId = testStudent.getId();
             StudentRequest updateRequest = new StudentRequest("Jane Updated", "Smith Updated", "jane.updated@example.com");
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(studentRepository.existsByEmail(updateRequest.getEmail())).thenReturn(false);
             when(studentRepository.save(testStudent)).thenReturn(testStudent);
 
@@ -254,7 +276,7 @@ class StudentServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(studentRepository).existsByEmail(updateRequest.getEmail());
             verify(studentRepository).save(testStudent);
         }
@@ -266,7 +288,7 @@ class StudentServiceTest {
             UUID studentId = testStudent.getId();
             StudentRequest updateRequest = new StudentRequest("Jane Updated", "Smith Updated", testStudent.getEmail());
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(studentRepository.save(testStudent)).thenReturn(testStudent);
 
             // When
@@ -274,7 +296,7 @@ class StudentServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(studentRepository, never()).existsByEmail(any());
             verify(studentRepository).save(testStudent);
         }
@@ -286,7 +308,7 @@ class StudentServiceTest {
             UUID studentId = testStudent.getId();
             StudentRequest updateRequest = new StudentRequest("Jane", "Smith", "existing@example.com");
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(studentRepository.existsByEmail(updateRequest.getEmail())).thenReturn(true);
 
             // When & Then
@@ -296,7 +318,7 @@ class StudentServiceTest {
                     .hasMessageContaining("email")
                     .hasMessageContaining(updateRequest.getEmail());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(studentRepository).existsByEmail(updateRequest.getEmail());
             verify(studentRepository, never()).save(any(Student.class));
         }
@@ -308,7 +330,7 @@ class StudentServiceTest {
             UUID studentId = UUID.randomUUID();
             StudentRequest updateRequest = new StudentRequest("Jane", "Smith", "jane@example.com");
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> studentService.updateStudent(studentId, updateRequest))
@@ -317,7 +339,7 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(studentId.toString());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(studentRepository, never()).save(any(Student.class));
         }
     }
@@ -331,17 +353,15 @@ class StudentServiceTest {
         void shouldDeleteStudentSuccessfully() {
             // Given
             UUID studentId = testStudent.getId();
-            testStudent.enrollInCourse(testCourse);
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.removeById(studentId)).thenReturn(1);
 
             // When
             studentService.deleteStudent(studentId);
 
             // Then
-            verify(studentRepository).findById(studentId);
-            verify(studentRepository).save(testStudent);
-            verify(studentRepository).delete(testStudent);
-            assertThat(testStudent.getCourses()).isEmpty();
+            verify(studentRepository).removeById(studentId);
+            verify(studentRepository, never()).findById(any());
+            verify(studentRepository, never()).save(any(Student.class));
         }
 
         @Test
@@ -349,7 +369,7 @@ class StudentServiceTest {
         void shouldThrowExceptionWhenStudentNotFoundForDeletion() {
             // Given
             UUID studentId = UUID.randomUUID();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+            when(studentRepository.removeById(studentId)).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> studentService.deleteStudent(studentId))
@@ -358,8 +378,8 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(studentId.toString());
 
-            verify(studentRepository).findById(studentId);
-            verify(studentRepository, never()).delete(any(Student.class));
+            verify(studentRepository).removeById(studentId);
+            verify(outboxService, never()).record(any(), any(), any(), any());
         }
     }
 
@@ -372,7 +392,7 @@ class StudentServiceTest {
         void shouldEnrollStudentInCourseSuccessfully() {
             // Given
             UUID studentId = testStudent.getId();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.of(testCourse));
             when(studentRepository.save(testStudent)).thenReturn(testStudent);
 
@@ -385,9 +405,11 @@ class StudentServiceTest {
             assertThat(result.getCourse().getId()).isEqualTo(testCourse.getId());
             assertThat(result.getMessage()).contains("successfully enrolled");
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
             verify(studentRepository).save(testStudent);
+            verify(outboxService).record("Student", studentId, "StudentEnrolled",
+                    Map.of("studentId", studentId, "courseId", testCourse.getId()));
         }
 
         @Test
@@ -395,7 +417,7 @@ class StudentServiceTest {
         void shouldThrowExceptionWhenStudentNotFoundForEnrollment() {
             // Given
             UUID studentId = UUID.randomUUID();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> studentService.enrollStudentInCourse(studentId, enrollmentRequest))
@@ -404,7 +426,7 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(studentId.toString());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository, never()).findById(any());
         }
 
@@ -413,7 +435,7 @@ class StudentServiceTest {
         void shouldThrowExceptionWhenCourseNotFoundForEnrollment() {
             // Given
             UUID studentId = testStudent.getId();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.empty());
 
             // When & Then
@@ -423,7 +445,7 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(testCourse.getId().toString());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
         }
 
@@ -434,7 +456,7 @@ class StudentServiceTest {
             UUID studentId = testStudent.getId();
             testStudent.enrollInCourse(testCourse);
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.of(testCourse));
 
             // When & Then
@@ -444,7 +466,7 @@ class StudentServiceTest {
                     .hasMessageContaining(testStudent.getFullName())
                     .hasMessageContaining(testCourse.getTitle());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
             verify(studentRepository, never()).save(any(Student.class));
         }
@@ -461,7 +483,7 @@ class StudentServiceTest {
             UUID studentId = testStudent.getId();
             testStudent.enrollInCourse(testCourse);
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.of(testCourse));
             when(studentRepository.save(testStudent)).thenReturn(testStudent);
 
@@ -474,7 +496,7 @@ class StudentServiceTest {
             assertThat(result.getCourse().getId()).isEqualTo(testCourse.getId());
             assertThat(result.getMessage()).contains("successfully unenrolled");
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
             verify(studentRepository).save(testStudent);
         }
@@ -484,7 +506,7 @@ class StudentServiceTest {
         void shouldThrowExceptionWhenStudentNotFoundForUnenrollment() {
             // Given
             UUID studentId = UUID.randomUUID();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> studentService.unenrollStudentFromCourse(studentId, new EnrollmentRequest(testCourse.getId())))
@@ -493,7 +515,7 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(studentId.toString());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository, never()).findById(any());
         }
 
@@ -502,7 +524,7 @@ class StudentServiceTest {
         void shouldThrowExceptionWhenCourseNotFoundForUnenrollment() {
             // Given
             UUID studentId = testStudent.getId();
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.empty());
 
             // When & Then
@@ -512,7 +534,7 @@ class StudentServiceTest {
                     .hasMessageContaining("id")
                     .hasMessageContaining(testCourse.getId().toString());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
         }
 
@@ -522,7 +544,7 @@ class StudentServiceTest {
             // Given
             UUID studentId = testStudent.getId();
             
-            when(studentRepository.findById(studentId)).thenReturn(Optional.of(testStudent));
+            when(studentRepository.findByIdForUpdate(studentId)).thenReturn(Optional.of(testStudent));
             when(courseRepository.findById(testCourse.getId())).thenReturn(Optional.of(testCourse));
 
             // When & Then
@@ -532,12 +554,46 @@ class StudentServiceTest {
                     .hasMessageContaining(testStudent.getFullName())
                     .hasMessageContaining(testCourse.getTitle());
 
-            verify(studentRepository).findById(studentId);
+            verify(studentRepository).findByIdForUpdate(studentId);
             verify(courseRepository).findById(testCourse.getId());
             verify(studentRepository, never()).save(any(Student.class));
         }
     }
 
+    @Nested
+    @DisplayName("Enrolled Students Tests")
+    class EnrolledStudentsTests {
+
+        @Test
+        @DisplayName("Should get enrolled students without a separate existence query")
+        void shouldGetEnrolledStudents() {
+            // Given
+            when(studentRepository.findStudentsEnrolledInExistingCourse(testCourse.getId()))
+                    .thenReturn(List.of(testStudent));
+
+            // When
+            List<StudentResponse> result = studentService.getStudentsEnrolledInCourse(testCourse.getId());
+
+            // Then
+            assertThat(result).extracting(StudentResponse::getId).containsExactly(testStudent.getId());
+            verify(courseRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when course not found")
+        void shouldThrowExceptionWhenCourseNotFound() {
+            // Given
+            UUID courseId = UUID.randomUUID();
+            when(studentRepository.findStudentsEnrolledInExistingCourse(courseId)).thenReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> studentService.getStudentsEnrolledInCourse(courseId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("Course")
+                    .hasMessageContaining(courseId.toString());
+        }
+    }
+
     @Nested
     @DisplayName("Existence Check Tests")
     class ExistenceCheckTests {
@@ -622,4 +678,45 @@ class StudentServiceTest {
             verify(studentRepository).countStudentsInCourse(testCourse.getId());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class MultiGetTests {
+
+        @Test
+        @DisplayName("Should return students in request order with missing IDs marked")
+        void shouldReturnStudentsInRequestOrderWithMissingIdsMarked() {
+            // Given
+            UUID missingId = UUID.randomUUID();
+            List<UUID> ids = Arrays.asList(missingId, testStudent.getId());
+            when(studentRepository.findAllByIdsInOrder(ids)).thenReturn(Arrays.asList(null, testStudent));
+
+            // When
+            MultiGetResponse<StudentResponse> result = studentService.getStudentsByIds(ids);
+
+            // Then
+            assertThat(result.getFoundCount()).isEqualTo(1);
+            assertThat(result.getNotFoundIds()).containsExactly(missingId);
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getItems().get(0).isFound()).isFalse();
+            assertThat(result.getItems().get(0).getData()).isNull();
+            assertThat(result.getItems().get(1).getData().getEmail()).isEqualTo(testStudent.getEmail());
+
+            verify(studentRepository).findAllByIdsInOrder(ids);
+        }
+
+        @Test
+        @DisplayName("Should reject too many IDs")
+        void shouldRejectTooManyIds() {
+            // Given
+            List<UUID> ids = Collections.nCopies(MultiGetResponse.MAX_IDS + 1, UUID.randomUUID());
+
+            // When & Then
+            assertThatThrownBy(() -> studentService.getStudentsByIds(ids))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Too many IDs");
+
+            verifyNoInteractions(studentRepository);
+        }
+    }
+}
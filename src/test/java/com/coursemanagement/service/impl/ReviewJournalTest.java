@@ -0,0 +1,94 @@
+package com.coursemanagement.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReviewJournal Tests")
+class ReviewJournalTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ReviewJournal.Entry append(ReviewJournal journal, String comment) throws IOException {
+        return journal.append(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), comment, LocalDateTime.now());
+    }
+
+    private List<String> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(ReviewJournal.JOURNAL_FILE))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay bounded when the queue is never fully drained at a checkpoint")
+    void shouldRotateWhileEntriesRemain() throws Exception {
+        // Given
+        try (ReviewJournal journal = ReviewJournal.open(journalDir, objectMapper, false)) {
+            long previous = append(journal, "first").seq();
+
+            // When - every checkpoint leaves the newest entry behind
+            for (int i = 0; i < 50; i++) {
+                long newest = append(journal, "review " + i).seq();
+                journal.checkpoint(previous);
+                previous = newest;
+            }
+
+            // Then - only the segment holding the unchecked entry and the active file are left
+            assertThat(journalFiles()).hasSizeLessThanOrEqualTo(2);
+        }
+
+        // And a restart replays just the entry after the checkpoint
+        try (ReviewJournal reopened = ReviewJournal.open(journalDir, objectMapper, false)) {
+            assertThat(reopened.pendingAtOpen()).extracting(ReviewJournal.Entry::comment).containsExactly("review 49");
+            assertThat(append(reopened, "after restart").seq()).isEqualTo(52);
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay closed segments and the active file in order and drop a torn last line")
+    void shouldReplaySegmentsInOrder() throws Exception {
+        // Given - a checkpoint closed a segment, then more entries and a crash mid-append
+        try (ReviewJournal journal = ReviewJournal.open(journalDir, objectMapper, false)) {
+            append(journal, "one");
+            append(journal, "two");
+            journal.checkpoint(1);
+            append(journal, "three");
+        }
+        Path active = journalDir.resolve(ReviewJournal.JOURNAL_FILE);
+        long completeLength = Files.size(active);
+        Files.writeString(active, "{\"seq\":4,\"id\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        try (ReviewJournal reopened = ReviewJournal.open(journalDir, objectMapper, false)) {
+
+            // Then
+            assertThat(reopened.pendingAtOpen()).extracting(ReviewJournal.Entry::comment)
+                    .containsExactly("two", "three");
+            assertThat(Files.size(active)).isEqualTo(completeLength);
+
+            // And a checkpoint past everything removes the segment and empties the active file
+            reopened.checkpoint(3);
+            assertThat(journalFiles()).containsExactly(ReviewJournal.JOURNAL_FILE);
+            assertThat(Files.size(active)).isZero();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.coursemanagement.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileSpanExporter Tests")
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private List<JsonNode> read(Path file) throws Exception {
+        List<JsonNode> spans = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            spans.add(objectMapper.readTree(line));
+        }
+        return spans;
+    }
+
+    @Test
+    @DisplayName("Should append one JSON line per span with its parent link and attributes")
+    void shouldWriteSpansAsJsonLines() throws Exception {
+        // Given
+        Path file = tempDir.resolve("traces/spans.ndjson");
+        FileSpanExporter exporter = new FileSpanExporter(objectMapper, file);
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = provider.get("test");
+
+            // When
+            Span parent = tracer.spanBuilder("http get /api/v1/courses").startSpan();
+            try (Scope scope = parent.makeCurrent()) {
+                Span child = tracer.spanBuilder("query").startSpan();
+                child.setAttribute("jdbc.row-count", 3L);
+                child.setStatus(StatusCode.ERROR, "timeout");
+                child.end();
+            } finally {
+                parent.end();
+            }
+        }
+
+        // Then
+        List<JsonNode> spans = read(file);
+        assertThat(spans).hasSize(2);
+        JsonNode child = spans.get(0);
+        JsonNode parent = spans.get(1);
+        assertThat(child.get("name").asText()).isEqualTo("query");
+        assertThat(child.get("traceId").asText()).isEqualTo(parent.get("traceId").asText());
+        assertThat(child.get("parentSpanId").asText()).isEqualTo(parent.get("spanId").asText());
+        assertThat(child.get("attributes").get("jdbc.row-count").asLong()).isEqualTo(3);
+        assertThat(child.get("status").asText()).isEqualTo("ERROR");
+        assertThat(child.get("statusDescription").asText()).isEqualTo("timeout");
+        assertThat(child.get("durationMicros").asLong()).isNotNegative();
+        assertThat(parent.get("parentSpanId").isNull()).isTrue();
+        assertThat(parent.get("kind").asText()).isEqualTo("INTERNAL");
+    }
+
+    @Test
+    @DisplayName("Should append to an existing file and refuse spans after shutdown")
+    void shouldAppendUntilShutdown() throws Exception {
+        // Given
+        Path file = tempDir.resolve("spans.ndjson");
+        Files.writeString(file, "{\"name\":\"earlier\"}\n");
+        FileSpanExporter exporter = new FileSpanExporter(objectMapper, file);
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+
+        // When
+        provider.get("test").spanBuilder("later").startSpan().end();
+        provider.close();
+
+        // Then
+        assertThat(read(file)).extracting(span -> span.get("name").asText()).containsExactly("earlier", "later");
+        assertThat(exporter.export(List.of()).isSuccess()).isFalse();
+    }
+}
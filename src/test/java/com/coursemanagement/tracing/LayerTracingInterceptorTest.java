@@ -0,0 +1,223 @@
+package com.coursemanagement.tracing;
+
+import com.coursemanagement.controller.CourseController;
+import com.coursemanagement.exception.ResourceNotFoundException;
+import com.coursemanagement.repository.CourseRepository;
+import com.coursemanagement.repository.CourseRepositoryCustom;
+import com.coursemanagement.repository.CourseRepositoryCustomImpl;
+import com.coursemanagement.repository.DatabaseWaitRepository;
+import com.coursemanagement.service.CourseService;
+import com.coursemanagement.service.OutboxService;
+import com.coursemanagement.service.impl.CourseServiceImpl;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.contextpropagation.ObservationAwareSpanThreadLocalAccessor;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LayerTracingInterceptor Tests")
+class LayerTracingInterceptorTest {
+
+    private final TracingIntegrationTest.CollectingSpanExporter exporter = new TracingIntegrationTest.CollectingSpanExporter();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+    private final Tracer tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> {
+    });
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    /**
+     * An outbox service whose {@code record} fails with the given exception, or succeeds without one.
+     */
+    static class FakeOutboxService implements OutboxService {
+
+        private final RuntimeException failure;
+
+        FakeOutboxService(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void record(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private OutboxService proxy(RuntimeException failure) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("tracer", tracer);
+        ProxyFactory factory = new ProxyFactory(new FakeOutboxService(failure));
+        factory.addAdvisor(new DefaultPointcutAdvisor(new TracedLayerPointcut(TracedLayer.SERVICE),
+                new LayerTracingInterceptor(TracedLayer.SERVICE, beanFactory.getBeanProvider(Tracer.class))));
+        return (OutboxService) factory.getProxy();
+    }
+
+    private void inSpan(Runnable action) {
+        Span parent = tracer.nextSpan().name("request").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+            action.run();
+        } finally {
+            parent.end();
+        }
+    }
+
+    private SpanData span(String name) {
+        return exporter.spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Span Tests")
+    class SpanTests {
+
+        @Test
+        @DisplayName("Should start a child span named after the interface and method")
+        void shouldStartChildSpan() {
+            // Given
+            OutboxService service = proxy(null);
+
+            // When
+            inSpan(() -> service.record("course", UUID.randomUUID(), "created", Map.of()));
+
+            // Then
+            SpanData span = span("OutboxService.record");
+            assertThat(span.getParentSpanId()).isEqualTo(span("request").getSpanId());
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("layer"))).isEqualTo("service");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("code.namespace")))
+                    .isEqualTo(OutboxService.class.getName());
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("code.function"))).isEqualTo("record");
+        }
+
+        @Test
+        @DisplayName("Should mark the span with the exception and rethrow it")
+        void shouldRecordError() {
+            // Given
+            OutboxService service = proxy(new ResourceNotFoundException("Course", "id", "x"));
+
+            // When
+            inSpan(() -> assertThatThrownBy(() -> service.record("course", UUID.randomUUID(), "created", Map.of()))
+                    .isInstanceOf(ResourceNotFoundException.class));
+
+            // Then
+            SpanData span = span("OutboxService.record");
+            assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+            assertThat(span.getEvents()).anySatisfy(event -> assertThat(event.getName()).isEqualTo("exception"));
+        }
+
+        @Test
+        @DisplayName("Should not start a trace outside one")
+        void shouldNotStartTrace() {
+            // Given
+            OutboxService service = proxy(null);
+
+            // When
+            service.record("course", UUID.randomUUID(), "created", Map.of());
+
+            // Then
+            assertThat(exporter.spans).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Layer Tests")
+    class LayerTests {
+
+        @Test
+        @DisplayName("Should name repository spans after the Spring Data interface, not the fragment")
+        void shouldMatchRepositoryInterfaces() throws Exception {
+            // Given
+            Class<?> repositoryProxy = Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{CourseRepository.class}, (proxy, method, args) -> null).getClass();
+
+            // Then
+            assertThat(TracedLayer.REPOSITORY.findType(CourseRepository.class.getMethod("findAllWithReviews"),
+                    repositoryProxy)).isEqualTo(CourseRepository.class);
+            assertThat(TracedLayer.REPOSITORY.findType(CourseRepository.class.getMethod("count"),
+                    repositoryProxy)).isEqualTo(CourseRepository.class);
+            assertThat(TracedLayer.REPOSITORY.findType(CourseRepositoryCustom.class.getMethods()[0],
+                    CourseRepositoryCustomImpl.class)).isNull();
+            assertThat(TracedLayer.REPOSITORY.findType(Object.class.getMethod("toString"), repositoryProxy)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should match JDBC repositories, services and controllers")
+        void shouldMatchOtherLayers() throws Exception {
+            assertThat(TracedLayer.REPOSITORY.findType(DatabaseWaitRepository.class.getMethod("sampleWaits"),
+                    DatabaseWaitRepository.class)).isEqualTo(DatabaseWaitRepository.class);
+            assertThat(TracedLayer.SERVICE.findType(CourseServiceImpl.class.getMethod("getAllCoursesWithReviews"),
+                    CourseServiceImpl.class)).isEqualTo(CourseService.class);
+            assertThat(TracedLayer.CONTROLLER.findType(CourseController.class.getMethod("getAllCoursesWithReviews"),
+                    CourseController.class)).isEqualTo(CourseController.class);
+            assertThat(TracedLayer.SERVICE.findType(CourseController.class.getMethod("getAllCoursesWithReviews"),
+                    CourseController.class)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Propagation Tests")
+    class PropagationTests {
+
+        @AfterEach
+        void tearDown() {
+            ContextRegistry.getInstance().removeThreadLocalAccessor(ObservationAwareSpanThreadLocalAccessor.KEY);
+        }
+
+        @Test
+        @DisplayName("Should carry the current span to a context-propagating executor")
+        void shouldPropagateToExecutor() throws Exception {
+            // Given
+            ContextRegistry.getInstance().registerThreadLocalAccessor(new ObservationAwareSpanThreadLocalAccessor(tracer));
+            OutboxService service = proxy(null);
+            ExecutorService executor = ContextExecutorService.wrap(Executors.newSingleThreadExecutor(),
+                    ContextSnapshotFactory.builder().build());
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            // When
+            try {
+                inSpan(() -> {
+                    try {
+                        executor.submit(() -> service.record("course", UUID.randomUUID(), "created", Map.of())).get();
+                    } catch (Exception ex) {
+                        failure.set(ex);
+                    }
+                });
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            assertThat(failure.get()).isNull();
+            assertThat(span("OutboxService.record").getParentSpanId()).isEqualTo(span("request").getSpanId());
+            assertThat(exporter.spans).extracting(SpanData::getTraceId).containsOnly(span("request").getTraceId());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.coursemanagement.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+@DisplayName("Tracing Integration Tests")
+class TracingIntegrationTest {
+
+    /**
+     * Keeps every exported span in memory.
+     */
+    static class CollectingSpanExporter implements SpanExporter {
+
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    @TestConfiguration
+    static class ExporterConfig {
+
+        @Bean
+        CollectingSpanExporter collectingSpanExporter() {
+            return new CollectingSpanExporter();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private CollectingSpanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        exporter.spans.clear();
+    }
+
+    private List<SpanData> traceOf(String serverSpanName) {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        SpanData server = exporter.spans.stream()
+                .filter(span -> span.getName().equals(serverSpanName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + serverSpanName + " in " + exporter.spans));
+        return exporter.spans.stream().filter(span -> span.getTraceId().equals(server.getTraceId())).toList();
+    }
+
+    private static List<String> ancestors(List<SpanData> trace, SpanData span) {
+        Map<String, SpanData> byId = trace.stream().collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+        List<String> names = new ArrayList<>();
+        for (SpanData parent = byId.get(span.getParentSpanId()); parent != null;
+             parent = byId.get(parent.getParentSpanId())) {
+            names.add(parent.getName());
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("Should trace a request through controller, service, repository and JDBC spans")
+    void shouldTraceEveryLayer() throws Exception {
+        // When
+        mockMvc.perform(get("/api/v1/courses/with-reviews")).andExpect(status().isOk());
+
+        // Then
+        List<SpanData> trace = traceOf("http get /api/v1/courses/with-reviews");
+        Map<String, SpanData> byName = trace.stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity(), (first, second) -> first));
+        SpanData server = byName.get("http get /api/v1/courses/with-reviews");
+        SpanData controller = byName.get("CourseController.getAllCoursesWithReviews");
+        SpanData service = byName.get("CourseService.getAllCoursesWithReviews");
+        SpanData repository = byName.get("CourseRepository.findAllWithReviews");
+        assertThat(controller).isNotNull();
+        assertThat(service).isNotNull();
+        assertThat(repository).isNotNull();
+        assertThat(controller.getParentSpanId()).isEqualTo(server.getSpanId());
+        assertThat(service.getParentSpanId()).isEqualTo(controller.getSpanId());
+        // The transaction's connection span sits between the service and its repository calls
+        assertThat(ancestors(trace, repository)).contains(service.getName());
+        assertThat(service.getAttributes().get(AttributeKey.stringKey("layer"))).isEqualTo("service");
+
+        assertThat(trace).anySatisfy(span -> {
+            assertThat(span.getName()).isEqualTo("query");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("jdbc.query[0]")))
+                    .containsIgnoringCase("select");
+        });
+        assertThat(trace).anySatisfy(span -> {
+            assertThat(span.getName()).isEqualTo("result-set");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("jdbc.row-count"))).isNotNull();
+        });
+        // The listing is a reporting workload
+        assertThat(trace).anySatisfy(span -> {
+            assertThat(span.getName()).isEqualTo("connection");
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("jdbc.datasource.name"))).isEqualTo("reporting");
+        });
+    }
+
+    @Test
+    @DisplayName("Should mark the service span with the exception when the call fails")
+    void shouldRecordServiceErrors() throws Exception {
+        // When
+        mockMvc.perform(get("/api/v1/courses/00000000-0000-4000-8000-000000000000"))
+                .andExpect(status().isNotFound());
+
+        // Then
+        List<SpanData> trace = traceOf("http get /api/v1/courses/{id}");
+        assertThat(trace).anySatisfy(span -> {
+            assertThat(span.getName()).isEqualTo("CourseService.getCourseById");
+            assertThat(span.getStatus().getStatusCode().name()).isEqualTo("ERROR");
+        });
+    }
+}
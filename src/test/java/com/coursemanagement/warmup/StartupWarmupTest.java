@@ -0,0 +1,177 @@
+package com.coursemanagement.warmup;
+
+import com.coursemanagement.dto.CourseResponse;
+import com.coursemanagement.service.CourseService;
+import com.coursemanagement.service.InstructorService;
+import com.coursemanagement.service.ReviewService;
+import com.coursemanagement.service.StudentService;
+import com.coursemanagement.warmup.StartupWarmup.Phase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StartupWarmup Tests")
+class StartupWarmupTest {
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private InstructorService instructorService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<TransactionStatus> transactions = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CourseResponse course = new CourseResponse();
+        course.setId(UUID.randomUUID());
+        course.setTitle("Java Fundamentals");
+        when(courseService.getMostEnrolledCourses(anyInt())).thenReturn(List.of(course));
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return status;
+        });
+    }
+
+    private StartupWarmup warmup(boolean enabled, String mix, long timeoutMillis) {
+        return new StartupWarmup(courseService, instructorService, studentService, reviewService,
+                dataSource, transactionManager, eventPublisher, enabled, mix, 20, 2, 3, timeoutMillis);
+    }
+
+    @Test
+    @DisplayName("Should prime the pool, run the mix in rolled-back transactions and report ready")
+    void shouldRunMixAndReportReady() throws Exception {
+        // Given
+        StartupWarmup warmup = warmup(true, "course-search:1,enrollment-check:1", 10_000);
+        WarmupHealthIndicator health = new WarmupHealthIndicator(warmup);
+        assertThat(health.health().getStatus()).isEqualTo(Status.DOWN);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertThat(warmup.getPhase()).isEqualTo(Phase.COMPLETED);
+        assertThat(warmup.getOperationsRun()).isEqualTo(20);
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(courseService, times(10)).searchCoursesByTitle("Java");
+        verify(studentService, times(10)).countStudentsInCourse(any(UUID.class));
+        assertThat(transactions).isNotEmpty().allMatch(TransactionStatus::isRollbackOnly);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        verify(eventPublisher).publishEvent(new WarmupFinishedEvent(Phase.COMPLETED, warmup.getDurationMillis()));
+    }
+
+    @Test
+    @DisplayName("Should stop at the timeout and report ready")
+    void shouldStopAtTimeout() {
+        // Given
+        when(instructorService.getAllInstructors()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        StartupWarmup warmup = warmup(true, "instructor-list:1", 200);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertThat(warmup.getPhase()).isEqualTo(Phase.TIMED_OUT);
+        assertThat(warmup.getDurationMillis()).isLessThan(5_000);
+        assertThat(new WarmupHealthIndicator(warmup).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("Should close a connection the pool hands out after the timeout")
+    void shouldCloseConnectionArrivingAfterTimeout() throws Exception {
+        // Given - getConnection ignores the interrupt, as the pool does while it opens a connection
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            long end = System.nanoTime() + 500_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return connection;
+        });
+        StartupWarmup warmup = warmup(true, "course-search:1", 100);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertThat(warmup.getPhase()).isEqualTo(Phase.TIMED_OUT);
+        // Two workers were inside getConnection; the third task was cancelled before it started
+        verify(connection, timeout(5_000).times(2)).close();
+        verify(connection, never()).isValid(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should report ready and skip work when disabled")
+    void shouldSkipWhenDisabled() throws Exception {
+        // Given
+        StartupWarmup warmup = warmup(false, "course-list:1", 10_000);
+
+        // When
+        warmup.onApplicationStarted();
+
+        // Then
+        assertThat(warmup.getPhase()).isEqualTo(Phase.DISABLED);
+        assertThat(new WarmupHealthIndicator(warmup).health().getStatus()).isEqualTo(Status.UP);
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fail without blocking readiness when the mix names an unknown operation")
+    void shouldFailOnUnknownOperation() {
+        // Given
+        StartupWarmup warmup = warmup(true, "course-list:1,delete-everything:1", 10_000);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertThat(warmup.getPhase()).isEqualTo(Phase.FAILED);
+        assertThat(new WarmupHealthIndicator(warmup).health().getStatus()).isEqualTo(Status.UP);
+        verifyNoInteractions(courseService);
+    }
+}